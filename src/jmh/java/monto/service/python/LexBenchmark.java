@@ -0,0 +1,61 @@
+package monto.service.python;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Lexes a document of about a MiB made of the files bundled under {@code /warmup} over and over,
+ * with the generated or the hand-written lexer. Running it with {@code -prof gc} shows what lexing
+ * allocates per document once the lexer is warmed up.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class LexBenchmark {
+
+  private static final int SIZE = 1024 * 1024;
+
+  @Param({"ANTLR", "FAST"})
+  public String lexer;
+
+  private PythonTokenSource tokens;
+  private String contents;
+
+  @Setup
+  public void readCorpus() throws IOException {
+    tokens = LexerEngine.valueOf(lexer).create();
+    StringBuilder document = new StringBuilder();
+    while (document.length() < SIZE) {
+      for (String file : ParseBenchmark.CORPUS) {
+        document.append(ParseBenchmark.read(file));
+      }
+    }
+    contents = document.toString();
+  }
+
+  @Benchmark
+  public void lex(Blackhole blackhole) {
+    tokens.setInputStream(new CharSequenceStream(contents));
+    Token token;
+    do {
+      token = tokens.nextToken();
+      blackhole.consume(token);
+    } while (token.getType() != Token.EOF);
+  }
+}
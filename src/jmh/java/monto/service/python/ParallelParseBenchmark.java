@@ -0,0 +1,70 @@
+package monto.service.python;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import monto.service.types.Source;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses a document of about 256 KiB made of the files bundled under {@code /warmup} as a whole,
+ * with its top-level statements split among pools of different sizes (see {@link
+ * IncrementalParser#enableParallelParsing}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ParallelParseBenchmark {
+
+  private static final int SIZE = 256 * 1024;
+
+  @Param({"1", "2", "4", "8"})
+  public int poolSize;
+
+  private final Source source = new Source("large.py");
+  private ExecutorService pool;
+  private IncrementalParser parser;
+  private String contents;
+
+  @Setup
+  public void createParser() throws IOException {
+    pool = Executors.newFixedThreadPool(poolSize);
+    parser = new IncrementalParser(false, false);
+    parser.enableParallelParsing(pool, poolSize, 0);
+
+    StringBuilder document = new StringBuilder();
+    while (document.length() < SIZE) {
+      for (String file : ParseBenchmark.CORPUS) {
+        document.append(ParseBenchmark.read(file));
+      }
+    }
+    contents = document.toString();
+  }
+
+  @TearDown
+  public void shutDownPool() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public ParsedDocument parse() {
+    // Parses the document as a whole every time instead of reusing the last version.
+    parser.forget(source);
+    return parser.parseDocument(source, contents);
+  }
+}
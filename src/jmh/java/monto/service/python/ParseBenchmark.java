@@ -0,0 +1,76 @@
+package monto.service.python;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Builds the ASTs of the files bundled under {@code /warmup}, from a parse tree or while parsing,
+ * and with or without the legacy shape of expressions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+  static final String[] CORPUS = {
+    "inventory.py", "geometry.py", "textutil.py", "workers.py",
+  };
+
+  @Param({"false", "true"})
+  public boolean directAst;
+
+  @Param({"false", "true"})
+  public boolean legacyExpressions;
+
+  private final List<String> corpus = new ArrayList<>();
+
+  @Setup
+  public void readCorpus() throws IOException {
+    Recognizers.buildAstWhileParsing(directAst);
+    Recognizers.useLegacyExpressions(legacyExpressions);
+    for (String name : CORPUS) {
+      corpus.add(read(name));
+    }
+  }
+
+  /** Returns the contents of the file bundled under {@code /warmup} with the given name. */
+  static String read(String name) throws IOException {
+    InputStream in = ParseBenchmark.class.getResourceAsStream("/warmup/" + name);
+    try (Scanner scanner = new Scanner(in, "UTF-8")) {
+      return scanner.useDelimiter("\\A").next();
+    }
+  }
+
+  @Benchmark
+  public void buildAsts(Blackhole blackhole) {
+    Recognizers recognizers = Recognizers.get();
+    try {
+      for (String contents : corpus) {
+        AstBuilder ast =
+            recognizers.buildFile(recognizers.lexer(new CharSequenceStream(contents)), false);
+        blackhole.consume(ast.getRoot());
+      }
+    } finally {
+      recognizers.release();
+    }
+  }
+}
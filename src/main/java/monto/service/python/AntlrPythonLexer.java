@@ -0,0 +1,80 @@
+package monto.service.python;
+
+import monto.service.python.antlr.Python3Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+
+/** The lexer generated from the grammar, which all other lexers have to agree with. */
+class AntlrPythonLexer implements PythonTokenSource {
+
+  private final Python3Lexer lexer = new Python3Lexer(null);
+  private DfaCache caches;
+
+  AntlrPythonLexer() {
+    useCurrentCaches();
+  }
+
+  @Override
+  public Token nextToken() {
+    return lexer.nextToken();
+  }
+
+  @Override
+  public int getLine() {
+    return lexer.getLine();
+  }
+
+  @Override
+  public void setLine(int line) {
+    lexer.setLine(line);
+  }
+
+  @Override
+  public int getCharPositionInLine() {
+    return lexer.getCharPositionInLine();
+  }
+
+  @Override
+  public CharStream getInputStream() {
+    return lexer.getInputStream();
+  }
+
+  @Override
+  public void setInputStream(CharStream input) {
+    useCurrentCaches();
+    lexer.setInputStream(input);
+  }
+
+  @Override
+  public String getSourceName() {
+    return lexer.getSourceName();
+  }
+
+  @Override
+  public TokenFactory<?> getTokenFactory() {
+    return lexer.getTokenFactory();
+  }
+
+  @Override
+  public void setTokenFactory(TokenFactory<?> factory) {
+    lexer.setTokenFactory(factory);
+  }
+
+  @Override
+  public Python3Lexer.State saveState() {
+    return lexer.saveState();
+  }
+
+  @Override
+  public void restoreState(Python3Lexer.State state) {
+    lexer.restoreState(state);
+  }
+
+  private void useCurrentCaches() {
+    if (caches != DfaCache.current()) {
+      caches = DfaCache.current();
+      lexer.setInterpreter(caches.lexerSimulator(lexer));
+    }
+  }
+}
@@ -0,0 +1,374 @@
+package monto.service.python;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import monto.service.ast.AST;
+import monto.service.ast.NonTerminal;
+import monto.service.ast.Terminal;
+import monto.service.python.antlr.Python3Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * Builds the AST of the {@link monto.service.product.Products#AST} product from the events of a
+ * parse. It can listen to a parser that builds no parse tree at all, or walk a parse tree after the
+ * fact, and produces the same AST either way: a node for every rule invocation that has children,
+ * and a leaf for every token.
+ *
+ * <p>It also remembers the range of tokens each child of the root covers.
+ *
+ * <p>The expressions of the grammar are left-recursive rules. When such a rule finds an operator
+ * behind the operand it parsed so far, the parser exits the rule invocation of the operand and then
+ * enters a new one, which becomes the parent of the operand.
+ *
+ * <p>The suites of functions that {@link SkeletonTokens} left out become a single node, whatever
+ * the parser made of them.
+ */
+final class AstBuilder implements ParseTreeListener {
+
+  // The rules the outliner and identifier finder look for, which a compact AST keeps.
+  private static final boolean[] KEPT_RULES = new boolean[Python3Parser.ruleNames.length];
+
+  static {
+    KEPT_RULES[Python3Parser.RULE_file_input] = true;
+    KEPT_RULES[Python3Parser.RULE_funcdef] = true;
+    KEPT_RULES[Python3Parser.RULE_classdef] = true;
+    KEPT_RULES[Python3Parser.RULE_global_stmt] = true;
+    KEPT_RULES[Python3Parser.RULE_expr_stmt] = true;
+  }
+
+  // The rules of the grammar before its expression rules were made left-recursive, from the
+  // loosest to the tightest binding operators. Each of them but the last one had the next one as
+  // its operands, the last one star_expr or atom.
+  private static final String[] LEGACY_TESTS = {"or_test", "and_test", "not_test", "comparison"};
+  private static final String[] LEGACY_EXPRS = {
+    "expr", "xor_expr", "and_expr", "shift_expr", "arith_expr", "term", "factor", "power"
+  };
+
+  // The level of those rules each alternative of the new rules stands for. The operand of or_test
+  // is a star_expr, which is below all of them.
+  private static final Map<Class<?>, Integer> LEGACY_LEVELS = new HashMap<>();
+
+  static {
+    LEGACY_LEVELS.put(Python3Parser.DisjunctionContext.class, 0);
+    LEGACY_LEVELS.put(Python3Parser.And_testContext.class, 1);
+    LEGACY_LEVELS.put(Python3Parser.Not_testContext.class, 2);
+    LEGACY_LEVELS.put(Python3Parser.ComparisonContext.class, 3);
+    LEGACY_LEVELS.put(Python3Parser.OperandContext.class, 4);
+    LEGACY_LEVELS.put(Python3Parser.Bitwise_orContext.class, 0);
+    LEGACY_LEVELS.put(Python3Parser.Xor_exprContext.class, 1);
+    LEGACY_LEVELS.put(Python3Parser.And_exprContext.class, 2);
+    LEGACY_LEVELS.put(Python3Parser.Shift_exprContext.class, 3);
+    LEGACY_LEVELS.put(Python3Parser.Arith_exprContext.class, 4);
+    LEGACY_LEVELS.put(Python3Parser.TermContext.class, 5);
+    LEGACY_LEVELS.put(Python3Parser.FactorContext.class, 6);
+    LEGACY_LEVELS.put(Python3Parser.ExponentiationContext.class, 7);
+    LEGACY_LEVELS.put(Python3Parser.PowerContext.class, 7);
+  }
+
+  private boolean compact = false;
+  private boolean legacyShape = false;
+
+  // The nodes of or_test and expr invocations whose outermost invocation has not been exited yet,
+  // with the alternative they matched, when building the legacy shape.
+  private final Map<AST, Class<?>> expressions = new IdentityHashMap<>();
+
+  // The children of the rule invocations currently open, one reused list per depth, and whether
+  // they have children in the parse tree, which includes rule invocations without any.
+  private final List<List<AST>> children = new ArrayList<>();
+  private boolean[] nonEmpty = new boolean[16];
+  private int depth = 0;
+
+  // The rule invocation whose node was added last, unless anything else happened since.
+  private ParserRuleContext exited = null;
+
+  private AST root;
+  // The children of the roots of parses that error recovery gave up, which the next root starts
+  // with.
+  private final List<AST> resumed = new ArrayList<>();
+  private int[] firstTokens = new int[64];
+  private int[] lastTokens = new int[64];
+  private int rootChildren = 0;
+
+  /**
+   * Makes this builder leave out the nodes of rule invocations with a single child, such as the
+   * chain from {@code test} down to {@code atom} around every expression, unless the outliner or
+   * identifier finder look for the rule. The innermost node of such a chain is kept, so that every
+   * token is still the child of the rule that matched it.
+   */
+  public void setCompact(boolean compact) {
+    this.compact = compact;
+  }
+
+  /**
+   * Makes this builder build expressions the way the grammar did before its expression rules were
+   * made left-recursive: a chain of nodes from {@code or_test} down to {@code comparison} around
+   * every star_expr, and from {@code expr} down to {@code power} around every atom with its
+   * trailers, where a node with operators has all operands of the same level as its children. So
+   * {@code a + b - c} becomes an {@code arith_expr} with three {@code term} children, instead of an
+   * {@code expr} whose left operand is another {@code expr}.
+   */
+  public void setLegacyShape(boolean legacyShape) {
+    this.legacyShape = legacyShape;
+  }
+
+  /** Forgets everything built so far. */
+  public void reset() {
+    for (int i = 0; i < depth; i++) {
+      children.get(i).clear();
+    }
+    depth = 0;
+    exited = null;
+    root = null;
+    resumed.clear();
+    rootChildren = 0;
+    expressions.clear();
+  }
+
+  public AST getRoot() {
+    return root;
+  }
+
+  /**
+   * Keeps the children of the root built so far, followed by an error node for {@code skipped} if
+   * it is not null, for the root of the next parse, which continues the same file after error
+   * recovery gave up (see {@link BoundedErrorStrategy}). The ranges of tokens of the children of
+   * the root are only kept for files without syntax errors, so these are left out.
+   */
+  public void resume(Token skipped) {
+    if (root instanceof NonTerminal) {
+      resumed.addAll(((NonTerminal) root).getChildren());
+    }
+    if (skipped != null) {
+      resumed.add(error(skipped));
+    }
+    root = null;
+    exited = null;
+  }
+
+  /** Returns the number of children of the root. */
+  public int getChildCount() {
+    return rootChildren;
+  }
+
+  public AST getChild(int i) {
+    return ((NonTerminal) root).getChildren().get(i);
+  }
+
+  /** Returns the index of the first token of the {@code i}th child of the root. */
+  public int getFirstToken(int i) {
+    return firstTokens[i];
+  }
+
+  /** Returns the index of the last token of the {@code i}th child of the root. */
+  public int getLastToken(int i) {
+    return lastTokens[i];
+  }
+
+  @Override
+  public void enterEveryRule(ParserRuleContext context) {
+    if (depth > 0) {
+      nonEmpty[depth - 1] = true;
+    }
+    if (depth == children.size()) {
+      children.add(new ArrayList<>());
+      if (depth == nonEmpty.length) {
+        nonEmpty = Arrays.copyOf(nonEmpty, depth * 2);
+      }
+    }
+    nonEmpty[depth] = false;
+    if (exited != null && exited.getParent() == context) {
+      // The operand of a left-recursive rule, which has to move into the new rule invocation.
+      List<AST> siblings = children.get(depth - 1);
+      children.get(depth).add(siblings.remove(siblings.size() - 1));
+      nonEmpty[depth] = true;
+    }
+    exited = null;
+    depth++;
+  }
+
+  @Override
+  public void exitEveryRule(ParserRuleContext context) {
+    depth--;
+    exited = null;
+    if (depth == 0 && !resumed.isEmpty()) {
+      children.get(0).addAll(0, resumed);
+      nonEmpty[0] = true;
+      resumed.clear();
+    }
+    if (!nonEmpty[depth]) {
+      return;
+    }
+    List<AST> nodes = children.get(depth);
+    int rule = context.getRuleIndex();
+    boolean expression = rule == Python3Parser.RULE_or_test || rule == Python3Parser.RULE_expr;
+    if (legacyShape && !expression && !expressions.isEmpty()) {
+      for (int i = 0; i < nodes.size(); i++) {
+        nodes.set(i, legacy(nodes.get(i)));
+      }
+    }
+    AST node;
+    if (rule == Python3Parser.RULE_suite && SkeletonTokens.isSkippedSuite(context.getStart())) {
+      // The parser took the suite for a pass statement, which only stands for its span.
+      Token skipped = context.getStart();
+      node =
+          new NonTerminal(
+              SkeletonTokens.SKIPPED_SUITE,
+              new Terminal(
+                  skipped.getStartIndex(), skipped.getStopIndex() - skipped.getStartIndex() + 1));
+    } else if (compact
+        && nodes.size() == 1
+        && !KEPT_RULES[rule]
+        && nodes.get(0) instanceof NonTerminal) {
+      node = nodes.get(0);
+    } else {
+      node = new NonTerminal(Python3Parser.ruleNames[rule], new ArrayList<>(nodes));
+      if (legacyShape && expression) {
+        expressions.put(node, context.getClass());
+      }
+    }
+    nodes.clear();
+    if (depth == 0) {
+      root = node;
+    } else {
+      add(node, context.getStart(), context.getStop());
+      exited = context;
+    }
+  }
+
+  @Override
+  public void visitTerminal(TerminalNode terminal) {
+    exited = null;
+    Token symbol = terminal.getSymbol();
+    Terminal token =
+        new Terminal(symbol.getStartIndex(), symbol.getStopIndex() - symbol.getStartIndex() + 1);
+    if (depth == 0) {
+      root = token;
+    } else {
+      add(token, symbol, symbol);
+    }
+  }
+
+  @Override
+  public void visitErrorNode(ErrorNode error) {
+    exited = null;
+    Token symbol = error.getSymbol();
+    if (depth > 0) {
+      add(error(symbol), symbol, symbol);
+    }
+  }
+
+  // Returns the legacy shape of the node of an outermost or_test or expr invocation, or the node
+  // itself if it is none.
+  private AST legacy(AST node) {
+    Class<?> alternative = expressions.get(node);
+    if (alternative == null) {
+      return node;
+    }
+    boolean test = Python3Parser.Or_testContext.class.isAssignableFrom(alternative);
+    return legacy(test ? LEGACY_TESTS : LEGACY_EXPRS, 0, node);
+  }
+
+  // Returns node in the shape of the legacy rule rules[level].
+  private AST legacy(String[] rules, int level, AST node) {
+    Class<?> alternative = expressions.get(node);
+    if (alternative == null) {
+      // An invocation without operators, which a compact AST leaves out.
+      return node;
+    }
+    int at = LEGACY_LEVELS.get(alternative);
+    if (at > level) {
+      return chain(rules[level], legacy(rules, level + 1, node));
+    } else if (at < level) {
+      // An operator the old rules did not allow here, such as 'not' behind a comparison operator.
+      return legacy(rules, at, node);
+    }
+    expressions.remove(node);
+    List<AST> children = ((NonTerminal) node).getChildren();
+    boolean prefix =
+        alternative == Python3Parser.Not_testContext.class
+            || alternative == Python3Parser.FactorContext.class;
+    if (alternative == Python3Parser.OperandContext.class) {
+      return children.get(0);
+    } else if (alternative == Python3Parser.PowerContext.class) {
+      return new NonTerminal(rules[level], children);
+    } else if (children.size() != (prefix ? 2 : 3)) {
+      // Error recovery left out an operand.
+      return node;
+    }
+    List<AST> legacy = new ArrayList<>();
+    if (prefix) {
+      // The operand of a prefix operator is of the same level again.
+      legacy.add(children.get(0));
+      legacy.add(legacy(rules, level, children.get(1)));
+    } else if (alternative == Python3Parser.ExponentiationContext.class) {
+      // An atom with trailers, '**' and a factor.
+      AST base = children.get(0);
+      if (expressions.get(base) == Python3Parser.PowerContext.class) {
+        expressions.remove(base);
+        legacy.addAll(((NonTerminal) base).getChildren());
+      } else {
+        legacy.add(base);
+      }
+      legacy.add(children.get(1));
+      legacy.add(legacy(rules, level - 1, children.get(2)));
+    } else {
+      flatten(rules, level, alternative, node, legacy);
+    }
+    return new NonTerminal(rules[level], legacy);
+  }
+
+  // Adds the operands and operators of a chain of left-associative operators of the same level to
+  // legacy.
+  private void flatten(
+      String[] rules, int level, Class<?> alternative, AST node, List<AST> legacy) {
+    List<AST> children = ((NonTerminal) node).getChildren();
+    AST left = children.get(0);
+    if (expressions.get(left) == alternative && ((NonTerminal) left).getChildren().size() == 3) {
+      expressions.remove(left);
+      flatten(rules, level, alternative, left, legacy);
+    } else {
+      legacy.add(legacy(rules, level + 1, left));
+    }
+    legacy.add(children.get(1));
+    legacy.add(legacy(rules, level + 1, children.get(2)));
+  }
+
+  // Returns a node of rule with the single child node, which a compact AST leaves out.
+  private AST chain(String rule, AST node) {
+    if (compact && node instanceof NonTerminal) {
+      return node;
+    }
+    List<AST> child = new ArrayList<>(1);
+    child.add(node);
+    return new NonTerminal(rule, child);
+  }
+
+  private static AST error(Token symbol) {
+    return new NonTerminal(
+        "error",
+        new Terminal(symbol.getStartIndex(), symbol.getStopIndex() - symbol.getStartIndex() + 1));
+  }
+
+  private void add(AST node, Token first, Token last) {
+    children.get(depth - 1).add(node);
+    nonEmpty[depth - 1] = true;
+    if (depth == 1) {
+      if (rootChildren == firstTokens.length) {
+        firstTokens = Arrays.copyOf(firstTokens, rootChildren * 2);
+        lastTokens = Arrays.copyOf(lastTokens, rootChildren * 2);
+      }
+      // A rule invocation that failed right away has no last token.
+      firstTokens[rootChildren] = first.getTokenIndex();
+      lastTokens[rootChildren] = last == null ? first.getTokenIndex() - 1 : last.getTokenIndex();
+      rootChildren++;
+    }
+  }
+}
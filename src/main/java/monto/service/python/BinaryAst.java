@@ -0,0 +1,198 @@
+package monto.service.python;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import monto.service.ast.AST;
+import monto.service.ast.NonTerminal;
+import monto.service.ast.Terminal;
+import monto.service.python.antlr.Python3Parser;
+
+/**
+ * Encodes an AST into the compact form of the {@link PythonProducts#BINARY_AST} and {@link
+ * PythonProducts#BINARY_COMPACT_AST} products, and decodes it again:
+ *
+ * <pre>
+ * {
+ *   "names": [name of rule 0, name of rule 1, ...],
+ *   "nodes": base64 encoded varints
+ * }
+ * </pre>
+ *
+ * The nodes are encoded in preorder as varints like the tokens of {@link PackedTokens}. A node
+ * starts with 0 if it is a token, followed by the difference between its offset and the offset of
+ * the previous token (zigzag encoded) and its length. Otherwise it starts with the index of its
+ * name in the name table plus one, followed by its number of children. The range of a rule
+ * invocation is not encoded, as it follows from its children.
+ */
+class BinaryAst {
+
+  private final Map<String, Integer> names = new HashMap<>();
+  private final JsonArray nameTable = new JsonArray();
+  private byte[] buffer = new byte[4096];
+  private int length = 0;
+  private int previous = 0;
+
+  // The name of the root whose children are added one at a time, and how many there are.
+  private int root = -1;
+  private int rootChildren = 0;
+
+  private BinaryAst() {}
+
+  public static JsonObject encode(AST root) {
+    BinaryAst binary = new BinaryAst();
+    binary.write(root, 0);
+    return binary.product();
+  }
+
+  /**
+   * Encodes the AST of {@code document} like {@link #encode(AST)}, moving the children of the root
+   * to their offsets in the document while writing them instead of copying them (see {@link
+   * ParsedDocument}).
+   */
+  public static JsonObject encode(ParsedDocument document) {
+    if (!document.isValid()) {
+      return encode(document.getRoot());
+    }
+    BinaryAst binary = forRoot(Python3Parser.ruleNames[Python3Parser.RULE_file_input]);
+    for (int i = 0; i < document.getChildCount(); i++) {
+      binary.write(document.getChild(i), document.getShift(i));
+      binary.rootChildren++;
+    }
+    return binary.finish();
+  }
+
+  /**
+   * Returns an encoder for a root named {@code name} whose children are added one at a time with
+   * {@link #addChild}, so that none of them has to be kept once it is encoded. {@link #finish}
+   * returns the same product as {@link #encode} would for the whole AST.
+   */
+  public static BinaryAst forRoot(String name) {
+    BinaryAst binary = new BinaryAst();
+    binary.root = binary.name(name);
+    return binary;
+  }
+
+  public void addChild(AST child) {
+    write(child, 0);
+    rootChildren++;
+  }
+
+  public JsonObject finish() {
+    // The root has to come first, but its number of children is only known now.
+    byte[] children = buffer;
+    int childrenLength = length;
+    buffer = new byte[childrenLength + 10];
+    length = 0;
+    writeVarint(root + 1);
+    writeVarint(rootChildren);
+    System.arraycopy(children, 0, buffer, length, childrenLength);
+    length += childrenLength;
+    return product();
+  }
+
+  private JsonObject product() {
+    JsonObject product = new JsonObject();
+    product.add("names", nameTable);
+    product.addProperty("nodes", Base64.getEncoder().encodeToString(Arrays.copyOf(buffer, length)));
+    return product;
+  }
+
+  public static AST decode(JsonElement product) {
+    JsonObject object = product.getAsJsonObject();
+    JsonArray nameTable = object.getAsJsonArray("names");
+    String[] names = new String[nameTable.size()];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = nameTable.get(i).getAsString();
+    }
+    return new Reader(names, Base64.getDecoder().decode(object.get("nodes").getAsString())).read();
+  }
+
+  // Writes node with all offsets moved by shift.
+  private void write(AST node, int shift) {
+    if (node instanceof NonTerminal) {
+      NonTerminal nonTerminal = (NonTerminal) node;
+      List<AST> children = nonTerminal.getChildren();
+      writeVarint(name(nonTerminal.getName()) + 1);
+      writeVarint(children.size());
+      for (AST child : children) {
+        write(child, shift);
+      }
+    } else {
+      int offset = node.getStartOffset() + shift;
+      int delta = offset - previous;
+      writeVarint(0);
+      writeVarint((delta << 1) ^ (delta >> 31));
+      writeVarint(node.getLength());
+      previous = offset;
+    }
+  }
+
+  private int name(String name) {
+    Integer index = names.get(name);
+    if (index == null) {
+      index = names.size();
+      names.put(name, index);
+      nameTable.add(name);
+    }
+    return index;
+  }
+
+  private void writeVarint(int value) {
+    if (length + 5 > buffer.length) {
+      buffer = Arrays.copyOf(buffer, buffer.length * 2);
+    }
+    while ((value & ~0x7f) != 0) {
+      buffer[length++] = (byte) ((value & 0x7f) | 0x80);
+      value >>>= 7;
+    }
+    buffer[length++] = (byte) value;
+  }
+
+  private static class Reader {
+
+    private final String[] names;
+    private final byte[] buffer;
+    private int position = 0;
+    private int previous = 0;
+
+    Reader(String[] names, byte[] buffer) {
+      this.names = names;
+      this.buffer = buffer;
+    }
+
+    AST read() {
+      int tag = readVarint();
+      if (tag == 0) {
+        int delta = readVarint();
+        int offset = previous + ((delta >>> 1) ^ -(delta & 1));
+        previous = offset;
+        return new Terminal(offset, readVarint());
+      }
+      int count = readVarint();
+      List<AST> children = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        children.add(read());
+      }
+      return new NonTerminal(names[tag - 1], children);
+    }
+
+    private int readVarint() {
+      int value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = buffer[position++];
+        value |= (b & 0x7f) << shift;
+        shift += 7;
+      } while (b < 0);
+      return value;
+    }
+  }
+}
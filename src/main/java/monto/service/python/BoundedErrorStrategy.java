@@ -0,0 +1,164 @@
+package monto.service.python;
+
+import monto.service.python.antlr.Python3Parser;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.InputMismatchException;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.misc.IntervalSet;
+
+/**
+ * The error recovery of ANTLR with a budget. Recovering from every error of a badly broken file,
+ * such as one with an unclosed bracket near the top, can take seconds and turn most of its tokens
+ * into error nodes. Once the parser reported more than a maximum number of syntax errors in a file,
+ * or recovery skipped more than a maximum number of tokens, every further error makes the parser
+ * skip to the next line that starts a statement at indentation 0 and give up the current parse with
+ * a {@link Resync}, from which the caller can parse the rest of the file.
+ */
+class BoundedErrorStrategy extends DefaultErrorStrategy {
+
+  private static final IntervalSet STATEMENT_STARTS;
+
+  static {
+    ATN atn = Python3Parser._ATN;
+    STATEMENT_STARTS = atn.nextTokens(atn.ruleToStartState[Python3Parser.RULE_stmt]);
+  }
+
+  private final int maxErrors;
+  private final int maxResyncTokens;
+
+  private int resyncTokens = 0;
+  // The index of the token the parse after the last resynchronization started with.
+  private int lastResync = -1;
+
+  /**
+   * @param maxErrors the number of syntax errors after which the parser skips to the next top-level
+   *     statement on every error
+   * @param maxResyncTokens the number of tokens recovery may skip before that
+   */
+  public BoundedErrorStrategy(int maxErrors, int maxResyncTokens) {
+    this.maxErrors = maxErrors;
+    this.maxResyncTokens = maxResyncTokens;
+  }
+
+  @Override
+  public void reset(Parser recognizer) {
+    super.reset(recognizer);
+    resyncTokens = 0;
+    lastResync = -1;
+  }
+
+  /**
+   * Leaves error recovery mode, but keeps the budget used up so far, for continuing the parse of
+   * the same file after a {@link Resync}.
+   */
+  public void resume(Parser recognizer) {
+    endErrorCondition(recognizer);
+  }
+
+  @Override
+  public void recover(Parser recognizer, RecognitionException e) {
+    if (overBudget(recognizer)) {
+      resync(recognizer);
+    }
+    int index = recognizer.getInputStream().index();
+    super.recover(recognizer, e);
+    resyncTokens += recognizer.getInputStream().index() - index;
+  }
+
+  @Override
+  public Token recoverInline(Parser recognizer) throws RecognitionException {
+    if (overBudget(recognizer)) {
+      // The rule reports the error and calls recover.
+      throw new InputMismatchException(recognizer);
+    }
+    int index = recognizer.getInputStream().index();
+    Token token = super.recoverInline(recognizer);
+    resyncTokens += recognizer.getInputStream().index() - index;
+    return token;
+  }
+
+  @Override
+  public void sync(Parser recognizer) throws RecognitionException {
+    int index = recognizer.getInputStream().index();
+    super.sync(recognizer);
+    resyncTokens += recognizer.getInputStream().index() - index;
+  }
+
+  private boolean overBudget(Parser recognizer) {
+    return recognizer.getNumberOfSyntaxErrors() > maxErrors || resyncTokens > maxResyncTokens;
+  }
+
+  /**
+   * Skips the tokens up to the next statement at indentation 0, or up to EOF, without adding them
+   * to the parse tree, and gives up the parse. At least one token is skipped if the parse started
+   * at the current one, so that every parse makes progress.
+   */
+  private void resync(Parser recognizer) {
+    TokenStream input = recognizer.getInputStream();
+    int start = input.index();
+    Token first = input.LT(1);
+    if (start == lastResync && first.getType() != Token.EOF) {
+      input.consume();
+    }
+    while (!startsTopLevelStatement(input)) {
+      input.consume();
+    }
+    CommonToken skipped = null;
+    if (input.index() > start) {
+      skipped = new CommonToken(first);
+      skipped.setStopIndex(input.LT(-1).getStopIndex());
+    }
+    lastResync = input.index();
+
+    ParserRuleContext root = recognizer.getContext();
+    while (root.getParent() != null) {
+      root = root.getParent();
+    }
+    throw new Resync(root, skipped);
+  }
+
+  // Unclosed brackets make the lexer leave out the NEWLINE and INDENT tokens of all lines that
+  // follow, so only the position of tokens tells where lines start.
+  private static boolean startsTopLevelStatement(TokenStream input) {
+    Token token = input.LT(1);
+    if (token.getType() == Token.EOF) {
+      return true;
+    }
+    Token previous = input.LT(-1);
+    return token.getCharPositionInLine() == 0
+        && (previous == null || previous.getLine() < token.getLine())
+        && STATEMENT_STARTS.contains(token.getType());
+  }
+
+  /**
+   * Thrown when error recovery used up its budget and skipped to the next top-level statement. By
+   * the time it leaves the parser, all rule invocations have been exited.
+   */
+  public static final class Resync extends RuntimeException {
+
+    private final ParserRuleContext root;
+    private final Token skipped;
+
+    Resync(ParserRuleContext root, Token skipped) {
+      super(null, null, false, false);
+      this.root = root;
+      this.skipped = skipped;
+    }
+
+    /** Returns the context of the outermost rule invocation of the parse that was given up. */
+    public ParserRuleContext getRoot() {
+      return root;
+    }
+
+    /** Returns a token that spans the tokens that were skipped, or null if there were none. */
+    public Token getSkipped() {
+      return skipped;
+    }
+  }
+}
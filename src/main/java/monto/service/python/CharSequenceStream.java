@@ -0,0 +1,106 @@
+package monto.service.python;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * A char stream that reads directly from a {@link CharSequence}, such as the contents of a source
+ * message or a {@link java.nio.CharBuffer} over a shared buffer, instead of copying it like {@link
+ * org.antlr.v4.runtime.ANTLRInputStream}.
+ *
+ * <p>The stream also remembers the furthest character a lexer has looked at, so that callers know
+ * which part of the input the tokens produced so far depend on.
+ */
+class CharSequenceStream implements CharStream {
+
+  private final CharSequence contents;
+  private final int n;
+  private int p = 0;
+  private int furthest = -1;
+
+  public CharSequenceStream(CharSequence contents) {
+    this.contents = contents;
+    this.n = contents.length();
+  }
+
+  /** Returns the characters of this stream, which must not be changed while it is in use. */
+  public CharSequence getContents() {
+    return contents;
+  }
+
+  public int getFurthestIndex() {
+    return furthest;
+  }
+
+  @Override
+  public void consume() {
+    if (p >= n) {
+      throw new IllegalStateException("cannot consume EOF");
+    }
+    p++;
+  }
+
+  @Override
+  public int LA(int i) {
+    if (i > 0) {
+      int at = p + i - 1;
+      if (at >= n) {
+        furthest = Math.max(furthest, n);
+        return IntStream.EOF;
+      }
+      furthest = Math.max(furthest, at);
+      return contents.charAt(at);
+    }
+    if (i < 0 && p + i >= 0) {
+      return contents.charAt(p + i);
+    }
+    // LA(0) is undefined, and so is looking back past the start.
+    return i == 0 ? 0 : IntStream.EOF;
+  }
+
+  @Override
+  public int mark() {
+    return -1;
+  }
+
+  @Override
+  public void release(int marker) {}
+
+  @Override
+  public int index() {
+    return p;
+  }
+
+  @Override
+  public void seek(int index) {
+    // Jumps to the index instead of consuming one character at a time.
+    p = Math.min(index, n);
+  }
+
+  @Override
+  public int size() {
+    return n;
+  }
+
+  @Override
+  public String getText(Interval interval) {
+    // The tokens the lexer makes up at the end of the input can start in front of it.
+    int start = Math.max(interval.a, 0);
+    int stop = Math.min(interval.b, n - 1);
+    if (start >= n || stop < start) {
+      return "";
+    }
+    return contents.subSequence(start, stop + 1).toString();
+  }
+
+  @Override
+  public String getSourceName() {
+    return IntStream.UNKNOWN_SOURCE_NAME;
+  }
+
+  @Override
+  public String toString() {
+    return contents.toString();
+  }
+}
@@ -0,0 +1,184 @@
+package monto.service.python;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import monto.service.python.antlr.Python3Parser;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.DecisionInfo;
+
+/**
+ * The prediction statistics of the decisions of the parser, summed up over a sample of the parses
+ * of all threads. A sampled parse runs with ANTLR's {@link
+ * org.antlr.v4.runtime.atn.ProfilingATNSimulator}, which times every prediction and records how far
+ * it looked ahead, whether SLL prediction had to fall back to full LL, and the ambiguities it
+ * found, which tells which decisions of the grammar make particular files slow.
+ */
+final class DecisionProfile {
+
+  private static final int HOTTEST_DECISIONS = 10;
+
+  private static final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "decision-profile");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private static volatile double sampleRate = 0;
+
+  private static final int DECISIONS = Python3Parser._ATN.getNumberOfDecisions();
+  private static long parses = 0;
+  private static final long[] invocations = new long[DECISIONS];
+  private static final long[] nanos = new long[DECISIONS];
+  private static final long[] sllLookahead = new long[DECISIONS];
+  private static final long[] maxLookahead = new long[DECISIONS];
+  private static final long[] llFallbacks = new long[DECISIONS];
+  private static final long[] llLookahead = new long[DECISIONS];
+  private static final long[] contextSensitivities = new long[DECISIONS];
+  private static final long[] ambiguities = new long[DECISIONS];
+  private static final long[] errors = new long[DECISIONS];
+
+  private DecisionProfile() {}
+
+  /**
+   * Profiles the given fraction of the parses that start from now on, from 0 for none to 1 for all
+   * of them. Can be changed at any time; the statistics gathered so far are kept.
+   */
+  public static void sample(double rate) {
+    sampleRate = rate;
+  }
+
+  /** Returns whether the parse that is about to start should be profiled. */
+  public static boolean sampleNext() {
+    double rate = sampleRate;
+    return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+  }
+
+  /** Adds the statistics of a profiled parse. */
+  public static synchronized void add(DecisionInfo[] decisions) {
+    parses++;
+    for (DecisionInfo info : decisions) {
+      int d = info.decision;
+      invocations[d] += info.invocations;
+      nanos[d] += info.timeInPrediction;
+      sllLookahead[d] += info.SLL_TotalLook;
+      maxLookahead[d] = Math.max(maxLookahead[d], Math.max(info.SLL_MaxLook, info.LL_MaxLook));
+      llFallbacks[d] += info.LL_Fallback;
+      llLookahead[d] += info.LL_TotalLook;
+      contextSensitivities[d] += info.contextSensitivities.size();
+      ambiguities[d] += info.ambiguities.size();
+      errors[d] += info.errors.size();
+    }
+  }
+
+  /**
+   * Returns the statistics as a JSON object, with the decisions that were invoked ordered by the
+   * time spent predicting them, the slowest first.
+   */
+  public static synchronized JsonObject toJson() {
+    JsonArray decisions = new JsonArray();
+    for (int d : byTime()) {
+      JsonObject decision = new JsonObject();
+      decision.addProperty("decision", d);
+      decision.addProperty("rule", ruleName(d));
+      decision.addProperty("invocations", invocations[d]);
+      decision.addProperty("nanos", nanos[d]);
+      decision.addProperty("sllLookahead", sllLookahead[d]);
+      decision.addProperty("maxLookahead", maxLookahead[d]);
+      decision.addProperty("llFallbacks", llFallbacks[d]);
+      decision.addProperty("llLookahead", llLookahead[d]);
+      decision.addProperty("contextSensitivities", contextSensitivities[d]);
+      decision.addProperty("ambiguities", ambiguities[d]);
+      decision.addProperty("errors", errors[d]);
+      decisions.add(decision);
+    }
+    JsonObject profile = new JsonObject();
+    profile.addProperty("sampleRate", sampleRate);
+    profile.addProperty("parses", parses);
+    profile.add("decisions", decisions);
+    return profile;
+  }
+
+  /** Returns the number of profiled parses and their slowest decisions, one per line. */
+  public static synchronized String report() {
+    long total = 0;
+    for (long time : nanos) {
+      total += time;
+    }
+    StringBuilder report =
+        new StringBuilder(
+            String.format("%d parses, %d ms in prediction", parses, total / 1_000_000));
+    List<Integer> order = byTime();
+    for (int d : order.subList(0, Math.min(HOTTEST_DECISIONS, order.size()))) {
+      report.append(
+          String.format(
+              "%n  decision %d in %s: %d invocations, %d ms, %d LL fallbacks, %d ambiguities",
+              d,
+              ruleName(d),
+              invocations[d],
+              nanos[d] / 1_000_000,
+              llFallbacks[d],
+              ambiguities[d]));
+    }
+    return report.toString();
+  }
+
+  /** Writes the {@link #toJson() statistics} to {@code file} every minute in the background. */
+  public static void writeEveryMinute(Path file) {
+    scheduler.scheduleWithFixedDelay(
+        () -> {
+          try {
+            write(file);
+          } catch (Exception e) {
+            e.printStackTrace();
+          }
+        },
+        1,
+        1,
+        TimeUnit.MINUTES);
+  }
+
+  /**
+   * Writes the {@link #toJson() statistics} to {@code file}. The file is replaced only once the new
+   * one is complete, so that it can be served while it is updated.
+   */
+  public static void write(Path file) throws IOException {
+    Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+    try (Writer out = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+      out.write(toJson().toString());
+    }
+    Files.move(
+        temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private static List<Integer> byTime() {
+    List<Integer> order = new ArrayList<>();
+    for (int d = 0; d < DECISIONS; d++) {
+      if (invocations[d] > 0) {
+        order.add(d);
+      }
+    }
+    order.sort(Comparator.comparingLong((Integer d) -> nanos[d]).reversed());
+    return order;
+  }
+
+  private static String ruleName(int decision) {
+    ATN atn = Python3Parser._ATN;
+    int rule = atn.getDecisionState(decision).ruleIndex;
+    return rule >= 0 && rule < Python3Parser.ruleNames.length ? Python3Parser.ruleNames[rule] : "?";
+  }
+}
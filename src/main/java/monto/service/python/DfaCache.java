@@ -0,0 +1,303 @@
+package monto.service.python;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import monto.service.python.antlr.Python3Lexer;
+import monto.service.python.antlr.Python3Parser;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.LexerATNSimulator;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+/**
+ * The DFA and prediction context caches the lexers and parsers of all threads share, which grow
+ * with every new kind of input they see. The generated recognizers keep them in static fields for
+ * the lifetime of the process; here they can be measured and replaced by empty ones once they grow
+ * too large or old (see {@link #resetWhen}).
+ *
+ * <p>Replacing the caches is safe while requests are in flight: a recognizer switches to the new
+ * caches only when it is reset for its next input, and the old caches are garbage collected once
+ * the recognizers of all threads moved on from them.
+ */
+final class DfaCache {
+
+  // Rough sizes of the objects that make up a cache on a 64-bit VM with compressed references,
+  // used to estimate its memory footprint without walking the heap.
+  private static final int STATE_BYTES = 48;
+  private static final int ARRAY_BYTES = 16;
+  private static final int REFERENCE_BYTES = 4;
+  private static final int CONFIG_BYTES = 40;
+  private static final int MAP_ENTRY_BYTES = 48;
+  private static final int CONTEXT_BYTES = 48;
+
+  private static final int LARGEST_DECISIONS = 10;
+  private static final long CHECK_SECONDS = 10;
+  private static final int SNAPSHOT_MAGIC = 0x4d444641;
+  private static final int SNAPSHOT_VERSION = 2;
+
+  private static final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "dfa-cache");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private static final DfaSnapshot LEXER_SNAPSHOT =
+      new DfaSnapshot(Python3Lexer._ATN, Python3Lexer._serializedATN, true);
+  private static final DfaSnapshot PARSER_SNAPSHOT =
+      new DfaSnapshot(Python3Parser._ATN, Python3Parser._serializedATN, false);
+
+  private static volatile DfaCache current = new DfaCache();
+
+  private final DFA[] lexerDfa = dfas(Python3Lexer._ATN);
+  private final PredictionContextCache lexerContexts = new PredictionContextCache();
+  private final DFA[] parserDfa = dfas(Python3Parser._ATN);
+  private final PredictionContextCache parserContexts = new PredictionContextCache();
+  private final long created = System.nanoTime();
+
+  private DfaCache() {}
+
+  /** Returns the caches recognizers should use for their next input. */
+  public static DfaCache current() {
+    return current;
+  }
+
+  // Makes all recognizers start over with empty caches once they are reset for their next input.
+  private static void reset(String reason) {
+    DfaCache old = current;
+    current = new DfaCache();
+    System.out.printf("reset DFA caches (%s): %s%n", reason, old.summary());
+  }
+
+  /**
+   * Checks the caches in the background and resets them once their estimated size exceeds {@code
+   * maxBytes}, or once they are older than {@code maxMinutes}. Either limit is ignored if it is not
+   * positive.
+   */
+  public static void resetWhen(long maxBytes, long maxMinutes) {
+    if (maxBytes <= 0 && maxMinutes <= 0) {
+      return;
+    }
+    scheduler.scheduleWithFixedDelay(
+        () -> {
+          try {
+            DfaCache caches = current;
+            long age = TimeUnit.NANOSECONDS.toMinutes(System.nanoTime() - caches.created);
+            if (maxMinutes > 0 && age >= maxMinutes) {
+              reset(String.format("older than %d minutes", maxMinutes));
+            } else if (maxBytes > 0 && caches.estimateBytes() > maxBytes) {
+              reset(String.format("larger than %d KiB", maxBytes / 1024));
+            }
+          } catch (Exception e) {
+            e.printStackTrace();
+          }
+        },
+        CHECK_SECONDS,
+        CHECK_SECONDS,
+        TimeUnit.SECONDS);
+  }
+
+  /**
+   * Replaces the caches by the ones saved in {@code file} by {@link #save(Path)}, unless they were
+   * taken from a different grammar or cannot be read. Must be called before any recognizer is used.
+   */
+  public static void restore(Path file) {
+    if (!Files.exists(file)) {
+      return;
+    }
+    long start = System.nanoTime();
+    DfaCache caches = new DfaCache();
+    try (DataInputStream in =
+        new DataInputStream(
+            new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+      if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+        throw new IOException("not a DFA snapshot of this version");
+      }
+      LEXER_SNAPSHOT.read(in, caches.lexerDfa, caches.lexerContexts);
+      PARSER_SNAPSHOT.read(in, caches.parserDfa, caches.parserContexts);
+    } catch (IOException | RuntimeException e) {
+      System.err.printf("ignoring DFA snapshot %s: %s%n", file, e);
+      return;
+    }
+    current = caches;
+    System.out.printf(
+        "restored DFA caches from %s in %d ms: %s%n",
+        file, (System.nanoTime() - start) / 1_000_000, caches.summary());
+  }
+
+  /** Saves the current caches to {@code file} every {@code minutes} minutes in the background. */
+  public static void saveEvery(Path file, long minutes) {
+    scheduler.scheduleWithFixedDelay(
+        () -> {
+          try {
+            current.save(file);
+          } catch (Exception e) {
+            e.printStackTrace();
+          }
+        },
+        minutes,
+        minutes,
+        TimeUnit.MINUTES);
+  }
+
+  /**
+   * Saves these caches to {@code file}, so that they can be restored after a restart. The file is
+   * replaced only once the new one is complete.
+   */
+  public void save(Path file) throws IOException {
+    Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+    try (DataOutputStream out =
+        new DataOutputStream(
+            new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporary))))) {
+      out.writeInt(SNAPSHOT_MAGIC);
+      out.writeInt(SNAPSHOT_VERSION);
+      LEXER_SNAPSHOT.write(out, lexerDfa);
+      PARSER_SNAPSHOT.write(out, parserDfa);
+    }
+    Files.move(
+        temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /** Returns a simulator for {@code lexer} that uses these caches. */
+  public LexerATNSimulator lexerSimulator(Lexer lexer) {
+    return new LexerATNSimulator(lexer, Python3Lexer._ATN, lexerDfa, lexerContexts);
+  }
+
+  /** Returns a simulator for {@code parser} that uses these caches. */
+  public ParserATNSimulator parserSimulator(Parser parser) {
+    return new ParserATNSimulator(parser, Python3Parser._ATN, parserDfa, parserContexts);
+  }
+
+  public int getLexerStates() {
+    return states(lexerDfa);
+  }
+
+  public int getParserStates() {
+    return states(parserDfa);
+  }
+
+  /** Returns an estimate of the memory these caches take up, in bytes. */
+  public long estimateBytes() {
+    long bytes = contextBytes(lexerContexts) + contextBytes(parserContexts);
+    for (DFA dfa : lexerDfa) {
+      bytes += estimateBytes(dfa);
+    }
+    for (DFA dfa : parserDfa) {
+      bytes += estimateBytes(dfa);
+    }
+    return bytes;
+  }
+
+  /** Returns the number of states and estimated size of the caches in one line. */
+  public String summary() {
+    return String.format(
+        "lexer %d states, parser %d states, %d contexts, about %d KiB",
+        getLexerStates(),
+        getParserStates(),
+        lexerContexts.size() + parserContexts.size(),
+        estimateBytes() / 1024);
+  }
+
+  /**
+   * Returns the {@link #summary()} followed by the states and estimated size of the largest
+   * decisions, one per line.
+   */
+  public String report() {
+    List<String> labels = new ArrayList<>();
+    List<DFA> decisions = new ArrayList<>();
+    for (DFA dfa : lexerDfa) {
+      labels.add("lexer mode " + dfa.decision);
+      decisions.add(dfa);
+    }
+    for (DFA dfa : parserDfa) {
+      labels.add("parser decision " + dfa.decision + " in " + ruleName(dfa));
+      decisions.add(dfa);
+    }
+
+    long[] bytes = new long[decisions.size()];
+    List<Integer> order = new ArrayList<>();
+    for (int i = 0; i < decisions.size(); i++) {
+      bytes[i] = estimateBytes(decisions.get(i));
+      order.add(i);
+    }
+    order.sort(Comparator.comparingLong((Integer i) -> bytes[i]).reversed());
+
+    StringBuilder report = new StringBuilder(summary());
+    for (int i : order.subList(0, Math.min(LARGEST_DECISIONS, order.size()))) {
+      if (bytes[i] == 0) {
+        break;
+      }
+      report.append(
+          String.format(
+              "%n  %s: %d states, about %d KiB",
+              labels.get(i), decisions.get(i).states.size(), bytes[i] / 1024));
+    }
+    return report.toString();
+  }
+
+  private static DFA[] dfas(ATN atn) {
+    DFA[] dfas = new DFA[atn.getNumberOfDecisions()];
+    for (int i = 0; i < dfas.length; i++) {
+      dfas[i] = new DFA(atn.getDecisionState(i), i);
+    }
+    return dfas;
+  }
+
+  private static int states(DFA[] dfas) {
+    int states = 0;
+    for (DFA dfa : dfas) {
+      synchronized (dfa.states) {
+        states += dfa.states.size();
+      }
+    }
+    return states;
+  }
+
+  private static long estimateBytes(DFA dfa) {
+    long bytes = 0;
+    // The simulators add states while holding this lock.
+    synchronized (dfa.states) {
+      for (DFAState state : dfa.states.keySet()) {
+        bytes += MAP_ENTRY_BYTES + STATE_BYTES;
+        DFAState[] edges = state.edges;
+        if (edges != null) {
+          bytes += ARRAY_BYTES + REFERENCE_BYTES * edges.length;
+        }
+        if (state.configs != null) {
+          bytes += ARRAY_BYTES + (REFERENCE_BYTES + CONFIG_BYTES) * state.configs.size();
+        }
+      }
+    }
+    return bytes;
+  }
+
+  private static long contextBytes(PredictionContextCache contexts) {
+    synchronized (contexts) {
+      return (long) (MAP_ENTRY_BYTES + CONTEXT_BYTES) * contexts.size();
+    }
+  }
+
+  private static String ruleName(DFA dfa) {
+    int rule = dfa.atnStartState.ruleIndex;
+    return rule >= 0 && rule < Python3Parser.ruleNames.length ? Python3Parser.ruleNames[rule] : "?";
+  }
+}
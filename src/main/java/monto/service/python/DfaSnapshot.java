@@ -0,0 +1,601 @@
+package monto.service.python;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ATNConfig;
+import org.antlr.v4.runtime.atn.ATNConfigSet;
+import org.antlr.v4.runtime.atn.ATNSimulator;
+import org.antlr.v4.runtime.atn.ATNState;
+import org.antlr.v4.runtime.atn.ArrayPredictionContext;
+import org.antlr.v4.runtime.atn.DecisionState;
+import org.antlr.v4.runtime.atn.LexerATNConfig;
+import org.antlr.v4.runtime.atn.LexerAction;
+import org.antlr.v4.runtime.atn.LexerActionExecutor;
+import org.antlr.v4.runtime.atn.LexerIndexedCustomAction;
+import org.antlr.v4.runtime.atn.OrderedATNConfigSet;
+import org.antlr.v4.runtime.atn.PredictionContext;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.atn.SemanticContext;
+import org.antlr.v4.runtime.atn.SingletonPredictionContext;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+/**
+ * Writes the DFA states of one recognizer to a stream and reads them back, together with the ATN
+ * configurations and prediction contexts the simulators need to extend them. A snapshot starts with
+ * a digest of the serialized ATN it was taken from and is only read back into DFAs of the same ATN.
+ *
+ * <p>The left-recursive rules of the parser have precedence predicates. Their decisions have one
+ * start state per precedence, and their states carry the predicates that choose between
+ * alternatives, which are written along with the states.
+ */
+final class DfaSnapshot {
+
+  private static final int NO_CONTEXT = -1;
+  private static final int NO_STATE = -1;
+  private static final int ERROR_STATE = -2;
+  private static final int NO_EXECUTOR = -1;
+
+  private static final byte EMPTY_CONTEXT = 0;
+  private static final byte SINGLETON_CONTEXT = 1;
+  private static final byte ARRAY_CONTEXT = 2;
+
+  private static final byte NO_PREDICATE = 0;
+  private static final byte PREDICATE = 1;
+  private static final byte PRECEDENCE_PREDICATE = 2;
+  private static final byte AND_PREDICATE = 3;
+  private static final byte OR_PREDICATE = 4;
+
+  private final ATN atn;
+  private final byte[] digest;
+  private final boolean lexer;
+
+  /**
+   * @param atn the deserialized ATN of the recognizer
+   * @param serializedAtn the serialized ATN of the recognizer, which identifies its grammar
+   * @param lexer whether the DFAs belong to a lexer
+   */
+  public DfaSnapshot(ATN atn, String serializedAtn, boolean lexer) {
+    this.atn = atn;
+    this.digest = digest(serializedAtn);
+    this.lexer = lexer;
+  }
+
+  /** Writes the states of {@code dfas}, which may be extended concurrently, to {@code out}. */
+  public void write(DataOutputStream out, DFA[] dfas) throws IOException {
+    out.write(digest);
+
+    // Only states that are already in a DFA when it is copied are written, so that edges added
+    // concurrently to states added later can simply be left out.
+    List<List<DFAState>> states = new ArrayList<>();
+    for (DFA dfa : dfas) {
+      synchronized (dfa.states) {
+        states.add(new ArrayList<>(dfa.states.keySet()));
+      }
+    }
+
+    // The contexts are written in front of the states, but are only known after walking them.
+    Map<PredictionContext, Integer> contexts = new IdentityHashMap<>();
+    ByteArrayOutputStream contextBytes = new ByteArrayOutputStream();
+    DataOutputStream contextData = new DataOutputStream(contextBytes);
+    Map<LexerActionExecutor, Integer> executors = new IdentityHashMap<>();
+    List<LexerActionExecutor> executorList = new ArrayList<>();
+    for (List<DFAState> decision : states) {
+      for (DFAState state : decision) {
+        for (ATNConfig config : state.configs) {
+          writeContext(contextData, config.context, contexts);
+          if (lexer) {
+            addExecutor(
+                ((LexerATNConfig) config).getLexerActionExecutor(), executors, executorList);
+          }
+        }
+        addExecutor(state.lexerActionExecutor, executors, executorList);
+      }
+    }
+
+    out.writeInt(contexts.size());
+    contextData.flush();
+    contextBytes.writeTo(out);
+    out.writeInt(executorList.size());
+    for (LexerActionExecutor executor : executorList) {
+      writeExecutor(out, executor);
+    }
+
+    out.writeInt(dfas.length);
+    for (int d = 0; d < dfas.length; d++) {
+      List<DFAState> decision = states.get(d);
+      Map<DFAState, Boolean> written = new IdentityHashMap<>();
+      for (DFAState state : decision) {
+        written.put(state, true);
+      }
+      DFA dfa = dfas[d];
+      out.writeBoolean(dfa.isPrecedenceDfa());
+      if (dfa.isPrecedenceDfa()) {
+        // The start state of a precedence DFA is not a state of its own, but holds the start state
+        // of each precedence as its edges.
+        DFAState[] starts;
+        synchronized (dfa.s0) {
+          starts = dfa.s0.edges.clone();
+        }
+        int count = 0;
+        for (DFAState start : starts) {
+          if (start != null && written.containsKey(start)) {
+            count++;
+          }
+        }
+        out.writeInt(count);
+        for (int precedence = 0; precedence < starts.length; precedence++) {
+          if (starts[precedence] != null && written.containsKey(starts[precedence])) {
+            out.writeInt(precedence);
+            out.writeInt(starts[precedence].stateNumber);
+          }
+        }
+      } else {
+        DFAState s0 = dfa.s0;
+        out.writeInt(s0 != null && written.containsKey(s0) ? s0.stateNumber : NO_STATE);
+      }
+      out.writeInt(decision.size());
+      for (DFAState state : decision) {
+        writeState(out, state, written, contexts, executors);
+      }
+    }
+  }
+
+  /**
+   * Reads states written by {@link #write} into {@code dfas}, which must be empty and unused, and
+   * their prediction contexts into {@code contextCache}.
+   *
+   * @throws IOException if the snapshot cannot be read or was taken from a different ATN
+   */
+  public void read(DataInputStream in, DFA[] dfas, PredictionContextCache contextCache)
+      throws IOException {
+    byte[] stored = new byte[digest.length];
+    in.readFully(stored);
+    if (!Arrays.equals(stored, digest)) {
+      throw new IOException("snapshot was taken from a different grammar");
+    }
+
+    PredictionContext[] contexts = new PredictionContext[in.readInt()];
+    for (int i = 0; i < contexts.length; i++) {
+      contexts[i] = contextCache.add(readContext(in, contexts));
+    }
+    LexerActionExecutor[] executors = new LexerActionExecutor[in.readInt()];
+    for (int i = 0; i < executors.length; i++) {
+      executors[i] = readExecutor(in);
+    }
+
+    if (in.readInt() != dfas.length) {
+      throw new IOException("snapshot has a different number of decisions");
+    }
+    for (DFA dfa : dfas) {
+      if (in.readBoolean() != dfa.isPrecedenceDfa()) {
+        throw new IOException("snapshot has a different kind of decision");
+      }
+      int[] starts;
+      if (dfa.isPrecedenceDfa()) {
+        starts = new int[2 * in.readInt()];
+        for (int i = 0; i < starts.length; i++) {
+          starts[i] = in.readInt();
+        }
+      } else {
+        starts = new int[] {in.readInt()};
+      }
+      int count = in.readInt();
+      Map<Integer, DFAState> byNumber = new HashMap<>();
+      int[][] edges = new int[count][];
+      DFAState[] states = new DFAState[count];
+      for (int i = 0; i < count; i++) {
+        states[i] = readState(in, contexts, executors);
+        edges[i] = readEdges(in);
+        byNumber.put(states[i].stateNumber, states[i]);
+      }
+      for (int i = 0; i < count; i++) {
+        if (edges[i] == null) {
+          continue;
+        }
+        states[i].edges = new DFAState[edges[i][0]];
+        for (int e = 1; e < edges[i].length; e += 2) {
+          DFAState target =
+              edges[i][e + 1] == ERROR_STATE ? ATNSimulator.ERROR : byNumber.get(edges[i][e + 1]);
+          if (target == null) {
+            throw new IOException("edge to a missing state");
+          }
+          states[i].edges[edges[i][e]] = target;
+        }
+      }
+      for (int i = 0; i < count; i++) {
+        dfa.states.put(states[i], states[i]);
+      }
+      if (dfa.isPrecedenceDfa()) {
+        for (int i = 0; i < starts.length; i += 2) {
+          DFAState start = byNumber.get(starts[i + 1]);
+          if (starts[i] < 0 || start == null) {
+            throw new IOException("start state out of range");
+          }
+          dfa.setPrecedenceStartState(starts[i], start);
+        }
+      } else if (starts[0] != NO_STATE) {
+        dfa.s0 = byNumber.get(starts[0]);
+      }
+    }
+  }
+
+  private void writeState(
+      DataOutputStream out,
+      DFAState state,
+      Map<DFAState, Boolean> written,
+      Map<PredictionContext, Integer> contexts,
+      Map<LexerActionExecutor, Integer> executors)
+      throws IOException {
+    out.writeInt(state.stateNumber);
+    out.writeBoolean(state.isAcceptState);
+    out.writeInt(state.prediction);
+    out.writeBoolean(state.requiresFullContext);
+    out.writeInt(executorId(state.lexerActionExecutor, executors));
+    if (state.predicates == null) {
+      out.writeInt(NO_STATE);
+    } else {
+      out.writeInt(state.predicates.length);
+      for (DFAState.PredPrediction prediction : state.predicates) {
+        out.writeInt(prediction.alt);
+        writeSemanticContext(out, prediction.pred);
+      }
+    }
+
+    ATNConfigSet configs = state.configs;
+    out.writeBoolean(configs.fullCtx);
+    out.writeInt(configs.uniqueAlt);
+    out.writeBoolean(configs.dipsIntoOuterContext);
+    out.writeInt(configs.size());
+    for (ATNConfig config : configs) {
+      out.writeInt(config.state.stateNumber);
+      out.writeInt(config.alt);
+      out.writeInt(contexts.get(config.context));
+      out.writeInt(config.reachesIntoOuterContext);
+      if (lexer) {
+        if (config.semanticContext != SemanticContext.NONE) {
+          throw new IOException("cannot write lexer configurations with predicates");
+        }
+        LexerATNConfig lexerConfig = (LexerATNConfig) config;
+        out.writeBoolean(lexerConfig.hasPassedThroughNonGreedyDecision());
+        out.writeInt(executorId(lexerConfig.getLexerActionExecutor(), executors));
+      } else {
+        writeSemanticContext(out, config.semanticContext);
+      }
+    }
+
+    DFAState[] edges;
+    synchronized (state) {
+      edges = state.edges == null ? null : state.edges.clone();
+    }
+    if (edges == null) {
+      out.writeInt(NO_STATE);
+      return;
+    }
+    out.writeInt(edges.length);
+    int count = 0;
+    for (DFAState target : edges) {
+      if (target == ATNSimulator.ERROR || target != null && written.containsKey(target)) {
+        count++;
+      }
+    }
+    out.writeInt(count);
+    for (int i = 0; i < edges.length; i++) {
+      if (edges[i] == ATNSimulator.ERROR) {
+        out.writeInt(i);
+        out.writeInt(ERROR_STATE);
+      } else if (edges[i] != null && written.containsKey(edges[i])) {
+        out.writeInt(i);
+        out.writeInt(edges[i].stateNumber);
+      }
+    }
+  }
+
+  private DFAState readState(
+      DataInputStream in, PredictionContext[] contexts, LexerActionExecutor[] executors)
+      throws IOException {
+    int number = in.readInt();
+    boolean accept = in.readBoolean();
+    int prediction = in.readInt();
+    boolean requiresFullContext = in.readBoolean();
+    LexerActionExecutor executor = executor(in.readInt(), executors);
+    DFAState.PredPrediction[] predicates = null;
+    int predicateCount = in.readInt();
+    if (predicateCount != NO_STATE) {
+      predicates = new DFAState.PredPrediction[predicateCount];
+      for (int i = 0; i < predicateCount; i++) {
+        int alt = in.readInt();
+        predicates[i] = new DFAState.PredPrediction(readSemanticContext(in), alt);
+      }
+    }
+
+    boolean fullCtx = in.readBoolean();
+    ATNConfigSet configs = lexer ? new OrderedATNConfigSet() : new ATNConfigSet(fullCtx);
+    int uniqueAlt = in.readInt();
+    boolean dipsIntoOuterContext = in.readBoolean();
+    int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      ATNState atnState = atnState(in.readInt());
+      int alt = in.readInt();
+      PredictionContext context = context(in.readInt(), contexts);
+      int reachesIntoOuterContext = in.readInt();
+      ATNConfig config;
+      if (lexer) {
+        boolean nonGreedy = in.readBoolean();
+        config = lexerConfig(atnState, alt, context, executor(in.readInt(), executors), nonGreedy);
+      } else {
+        config = new ATNConfig(atnState, alt, context, readSemanticContext(in));
+      }
+      config.reachesIntoOuterContext = reachesIntoOuterContext;
+      configs.add(config);
+    }
+    // The conflicting alternatives are only passed on to error listeners, and states that have them
+    // never equal new ones anyway.
+    configs.uniqueAlt = uniqueAlt;
+    configs.dipsIntoOuterContext = dipsIntoOuterContext;
+    configs.setReadonly(true);
+
+    DFAState state = new DFAState(configs);
+    state.stateNumber = number;
+    state.isAcceptState = accept;
+    state.prediction = prediction;
+    state.requiresFullContext = requiresFullContext;
+    state.lexerActionExecutor = executor;
+    state.predicates = predicates;
+    return state;
+  }
+
+  // Returns the length of the edge array followed by the index and target of each edge, or null.
+  private static int[] readEdges(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length == NO_STATE) {
+      return null;
+    }
+    int[] edges = new int[1 + 2 * in.readInt()];
+    edges[0] = length;
+    for (int e = 1; e < edges.length; e += 2) {
+      edges[e] = in.readInt();
+      edges[e + 1] = in.readInt();
+      if (edges[e] < 0 || edges[e] >= length) {
+        throw new IOException("edge out of range");
+      }
+    }
+    return edges;
+  }
+
+  private LexerATNConfig lexerConfig(
+      ATNState state,
+      int alt,
+      PredictionContext context,
+      LexerActionExecutor executor,
+      boolean nonGreedy)
+      throws IOException {
+    LexerATNConfig config = new LexerATNConfig(state, alt, context, executor);
+    if (!nonGreedy) {
+      return config;
+    }
+    // The runtime only sets this flag when a configuration moves through a non-greedy decision, so
+    // take a detour through one.
+    for (ATNState candidate : atn.states) {
+      if (candidate instanceof DecisionState && ((DecisionState) candidate).nonGreedy) {
+        LexerATNConfig passed =
+            new LexerATNConfig(new LexerATNConfig(candidate, alt, context, executor), candidate);
+        return new LexerATNConfig(passed, state, context);
+      }
+    }
+    throw new IOException("no non-greedy decision in the ATN");
+  }
+
+  private static void writeContext(
+      DataOutputStream out, PredictionContext context, Map<PredictionContext, Integer> ids)
+      throws IOException {
+    if (context == null || ids.containsKey(context)) {
+      return;
+    }
+    for (int i = 0; i < context.size(); i++) {
+      writeContext(out, context.getParent(i), ids);
+    }
+    if (context == PredictionContext.EMPTY) {
+      out.writeByte(EMPTY_CONTEXT);
+    } else if (context instanceof SingletonPredictionContext) {
+      out.writeByte(SINGLETON_CONTEXT);
+      out.writeInt(contextId(context.getParent(0), ids));
+      out.writeInt(context.getReturnState(0));
+    } else {
+      out.writeByte(ARRAY_CONTEXT);
+      out.writeInt(context.size());
+      for (int i = 0; i < context.size(); i++) {
+        out.writeInt(contextId(context.getParent(i), ids));
+        out.writeInt(context.getReturnState(i));
+      }
+    }
+    ids.put(context, ids.size());
+  }
+
+  private static PredictionContext readContext(DataInputStream in, PredictionContext[] contexts)
+      throws IOException {
+    switch (in.readByte()) {
+      case EMPTY_CONTEXT:
+        return PredictionContext.EMPTY;
+      case SINGLETON_CONTEXT:
+        PredictionContext parent = context(in.readInt(), contexts);
+        return SingletonPredictionContext.create(parent, in.readInt());
+      case ARRAY_CONTEXT:
+        PredictionContext[] parents = new PredictionContext[in.readInt()];
+        int[] returnStates = new int[parents.length];
+        for (int i = 0; i < parents.length; i++) {
+          parents[i] = context(in.readInt(), contexts);
+          returnStates[i] = in.readInt();
+        }
+        return new ArrayPredictionContext(parents, returnStates);
+      default:
+        throw new IOException("unknown kind of prediction context");
+    }
+  }
+
+  private static int contextId(PredictionContext context, Map<PredictionContext, Integer> ids) {
+    return context == null ? NO_CONTEXT : ids.get(context);
+  }
+
+  private static PredictionContext context(int id, PredictionContext[] contexts)
+      throws IOException {
+    if (id == NO_CONTEXT) {
+      return null;
+    }
+    if (id < 0 || id >= contexts.length || contexts[id] == null) {
+      throw new IOException("reference to an unknown prediction context");
+    }
+    return contexts[id];
+  }
+
+  private static void writeSemanticContext(DataOutputStream out, SemanticContext context)
+      throws IOException {
+    if (context == SemanticContext.NONE) {
+      out.writeByte(NO_PREDICATE);
+    } else if (context instanceof SemanticContext.Predicate) {
+      SemanticContext.Predicate predicate = (SemanticContext.Predicate) context;
+      out.writeByte(PREDICATE);
+      out.writeInt(predicate.ruleIndex);
+      out.writeInt(predicate.predIndex);
+      out.writeBoolean(predicate.isCtxDependent);
+    } else if (context instanceof SemanticContext.PrecedencePredicate) {
+      out.writeByte(PRECEDENCE_PREDICATE);
+      out.writeInt(((SemanticContext.PrecedencePredicate) context).precedence);
+    } else if (context instanceof SemanticContext.AND || context instanceof SemanticContext.OR) {
+      boolean and = context instanceof SemanticContext.AND;
+      SemanticContext[] operands =
+          and ? ((SemanticContext.AND) context).opnds : ((SemanticContext.OR) context).opnds;
+      out.writeByte(and ? AND_PREDICATE : OR_PREDICATE);
+      out.writeInt(operands.length);
+      for (SemanticContext operand : operands) {
+        writeSemanticContext(out, operand);
+      }
+    } else {
+      throw new IOException("cannot write semantic context " + context);
+    }
+  }
+
+  // Combinations of predicates are rebuilt from their operands, which the runtime simplifies the
+  // same way as when they were first combined.
+  private static SemanticContext readSemanticContext(DataInputStream in) throws IOException {
+    byte kind = in.readByte();
+    switch (kind) {
+      case NO_PREDICATE:
+        return SemanticContext.NONE;
+      case PREDICATE:
+        int ruleIndex = in.readInt();
+        int predIndex = in.readInt();
+        return new SemanticContext.Predicate(ruleIndex, predIndex, in.readBoolean());
+      case PRECEDENCE_PREDICATE:
+        return new SemanticContext.PrecedencePredicate(in.readInt());
+      case AND_PREDICATE:
+      case OR_PREDICATE:
+        int count = in.readInt();
+        if (count < 1) {
+          throw new IOException("semantic context without operands");
+        }
+        SemanticContext context = readSemanticContext(in);
+        for (int i = 1; i < count; i++) {
+          SemanticContext operand = readSemanticContext(in);
+          context =
+              kind == AND_PREDICATE
+                  ? new SemanticContext.AND(context, operand)
+                  : new SemanticContext.OR(context, operand);
+        }
+        return context;
+      default:
+        throw new IOException("unknown kind of semantic context");
+    }
+  }
+
+  private static void addExecutor(
+      LexerActionExecutor executor,
+      Map<LexerActionExecutor, Integer> ids,
+      List<LexerActionExecutor> executors) {
+    if (executor != null && !ids.containsKey(executor)) {
+      ids.put(executor, executors.size());
+      executors.add(executor);
+    }
+  }
+
+  private static int executorId(
+      LexerActionExecutor executor, Map<LexerActionExecutor, Integer> ids) {
+    return executor == null ? NO_EXECUTOR : ids.get(executor);
+  }
+
+  private static LexerActionExecutor executor(int id, LexerActionExecutor[] executors)
+      throws IOException {
+    if (id == NO_EXECUTOR) {
+      return null;
+    }
+    if (id < 0 || id >= executors.length) {
+      throw new IOException("reference to an unknown lexer action");
+    }
+    return executors[id];
+  }
+
+  // Lexer actions are written as their index in the ATN, with the offset of those that were moved
+  // to a position in the token.
+  private void writeExecutor(DataOutputStream out, LexerActionExecutor executor)
+      throws IOException {
+    LexerAction[] actions = executor.getLexerActions();
+    out.writeInt(actions.length);
+    for (LexerAction action : actions) {
+      int offset = -1;
+      if (action instanceof LexerIndexedCustomAction) {
+        offset = ((LexerIndexedCustomAction) action).getOffset();
+        action = ((LexerIndexedCustomAction) action).getAction();
+      }
+      int index = Arrays.asList(atn.lexerActions).indexOf(action);
+      if (index < 0) {
+        throw new IOException("lexer action " + action + " is not part of the ATN");
+      }
+      out.writeInt(offset);
+      out.writeInt(index);
+    }
+  }
+
+  private LexerActionExecutor readExecutor(DataInputStream in) throws IOException {
+    LexerAction[] actions = new LexerAction[in.readInt()];
+    for (int i = 0; i < actions.length; i++) {
+      int offset = in.readInt();
+      int index = in.readInt();
+      if (atn.lexerActions == null || index < 0 || index >= atn.lexerActions.length) {
+        throw new IOException("lexer action out of range");
+      }
+      actions[i] =
+          offset < 0
+              ? atn.lexerActions[index]
+              : new LexerIndexedCustomAction(offset, atn.lexerActions[index]);
+    }
+    return new LexerActionExecutor(actions);
+  }
+
+  private ATNState atnState(int number) throws IOException {
+    if (number < 0 || number >= atn.states.size() || atn.states.get(number) == null) {
+      throw new IOException("ATN state out of range");
+    }
+    return atn.states.get(number);
+  }
+
+  private static byte[] digest(String serializedAtn) {
+    try {
+      return MessageDigest.getInstance("SHA-256")
+          .digest(serializedAtn.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,929 @@
+package monto.service.python;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import monto.service.python.antlr.Python3Lexer;
+import monto.service.python.antlr.Python3Parser;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.atn.ATNState;
+import org.antlr.v4.runtime.atn.RuleStopState;
+import org.antlr.v4.runtime.atn.Transition;
+import org.antlr.v4.runtime.misc.IntegerStack;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.IntervalSet;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * A hand-written lexer that produces exactly the tokens of {@link Python3Lexer}, including their
+ * offsets and lines, without running the ANTLR lexer simulator. The lexer rules of the grammar are
+ * matched directly: the longest match wins, and the rule that comes first in the grammar wins among
+ * matches of the same length.
+ *
+ * <p>Everything around the rules, like the token queue and the handling of indentation, follows the
+ * members of the grammar one to one. Changes to the lexer part of the grammar have to be made here
+ * as well.
+ */
+class FastPythonLexer implements PythonTokenSource {
+
+  private static final int SKIP = Lexer.SKIP;
+  private static final int EOF = IntStream.EOF;
+
+  // The flags of the characters that may start and continue a name.
+  private static final byte ID_START = 1;
+  private static final byte ID_CONTINUE = 2;
+  private static final byte[] CHARACTERS = characterClasses();
+
+  // The keyword token types indexed by their first character.
+  private static final int[][] KEYWORDS = keywords();
+
+  private CharStream input;
+  // The characters of the input, which are read directly instead of through
+  // the stream, and the position of the lexer in them.
+  private CharSequence data;
+  private int size;
+  private int index;
+  // The furthest position any rule has looked at, and the one the input
+  // stream knows about.
+  private int furthest = -1;
+  private int reported = -1;
+  private Pair<TokenSource, CharStream> source = new Pair<>(this, null);
+  private TokenFactory<?> factory = CommonTokenFactory.DEFAULT;
+
+  private int line = 1;
+  private int charPositionInLine = 0;
+  private boolean hitEOF = false;
+
+  // Where the current token started.
+  private int tokenStart;
+  private int tokenLine;
+  private int tokenCharPositionInLine;
+
+  // The last token emitted by the current rule, if any.
+  private Token token;
+
+  // The same fields as in the members of the grammar.
+  private Token[] tokens = new Token[16];
+  private int head = 0;
+  private int queued = 0;
+  private final IntegerStack indents = new IntegerStack();
+  private int opened = 0;
+  private Token lastToken = null;
+
+  @Override
+  public Token nextToken() {
+    if (queued > 0) {
+      return poll();
+    }
+
+    if (line == 1 && charPositionInLine == 0) {
+      indentStartOfInput();
+    }
+
+    // Check if the end-of-file is ahead and there are still some DEDENTS expected.
+    if (la(1) == EOF && !indents.isEmpty()) {
+
+      // First emit an extra line break that serves as the end of the statement.
+      emit(commonToken(Python3Lexer.NEWLINE, 1));
+
+      // Now emit as much DEDENT tokens as needed.
+      while (!indents.isEmpty()) {
+        emit(createDedent());
+        indents.pop();
+      }
+
+      // Put the EOF back on the token stream.
+      emit(commonToken(Python3Lexer.EOF, "<EOF>".length()));
+    }
+
+    if (queued == 0) {
+      Token next = lexToken();
+      lastToken = next;
+
+      if (next.getType() == EOF && !indents.isEmpty()) {
+        // Remove the trailing EOF tokens from our buffer, the DEDENTS that
+        // are still expected come first.
+        while (queued > 0) {
+          int last = (head + queued - 1) & (tokens.length - 1);
+          if (tokens[last].getType() != EOF) {
+            break;
+          }
+          tokens[last] = null;
+          queued--;
+        }
+        return nextToken();
+      }
+    }
+
+    if (furthest > reported) {
+      // Let streams that keep track of the lookahead of the lexer (see
+      // CharSequenceStream) know how far it has looked.
+      input.LA(furthest - input.index() + 1);
+      reported = furthest;
+    }
+
+    return poll();
+  }
+
+  // Returns the character at lookahead position i, like CharStream.LA.
+  private int la(int i) {
+    int at = index + i - 1;
+    lookedAt(at);
+    return at < size ? data.charAt(at) : EOF;
+  }
+
+  // Has to be called for the furthest position a loop that reads the
+  // characters directly has looked at.
+  private void lookedAt(int at) {
+    if (at > furthest) {
+      furthest = Math.min(at, size);
+    }
+  }
+
+  // Does what Lexer.nextToken does for the generated lexer: matches rules
+  // until one of them emits a token.
+  private Token lexToken() {
+    while (true) {
+      if (hitEOF) {
+        return emitEOF();
+      }
+
+      token = null;
+      tokenStart = index;
+      tokenLine = line;
+      tokenCharPositionInLine = charPositionInLine;
+
+      int type = match();
+
+      if (la(1) == EOF) {
+        hitEOF = true;
+      }
+      if (type == SKIP) {
+        continue;
+      }
+      if (token == null) {
+        emit(
+            factory.create(
+                source,
+                type,
+                null,
+                Token.DEFAULT_CHANNEL,
+                tokenStart,
+                index - 1,
+                tokenLine,
+                tokenCharPositionInLine));
+      }
+      return token;
+    }
+  }
+
+  private Token emitEOF() {
+    Token eof =
+        factory.create(
+            source,
+            Token.EOF,
+            null,
+            Token.DEFAULT_CHANNEL,
+            index,
+            index - 1,
+            line,
+            charPositionInLine);
+    emit(eof);
+    return eof;
+  }
+
+  // Matches the next rule at the current position, consumes its characters
+  // and returns its token type, or SKIP if no token should be emitted.
+  private int match() {
+    int c = la(1);
+    switch (c) {
+      case EOF:
+        hitEOF = true;
+        emitEOF();
+        return EOF;
+
+      case '\r':
+      case '\n':
+        return newLine();
+
+      case ' ':
+      case '\t':
+        return skip(spaces(index) - index);
+
+      case '#':
+        {
+          int end = index + 1;
+          while (end < size && data.charAt(end) != '\r' && data.charAt(end) != '\n') {
+            end++;
+          }
+          lookedAt(end);
+          return skip(end - index);
+        }
+
+      case '\\':
+        {
+          int length = spaces(index + 1) - index;
+          int next = la(length + 1);
+          if (next == '\r') {
+            length += la(length + 2) == '\n' ? 2 : 1;
+          } else if (next == '\n') {
+            length++;
+          } else {
+            return token(Python3Lexer.UNKNOWN_CHAR, 1);
+          }
+          consumeLines(length);
+          return SKIP;
+        }
+
+      case '\'':
+      case '"':
+        {
+          int length = string(1, false);
+          if (length == 0) {
+            return token(Python3Lexer.UNKNOWN_CHAR, 1);
+          }
+          consumeLines(length);
+          return Python3Lexer.STRING_LITERAL;
+        }
+
+      case '0':
+      case '1':
+      case '2':
+      case '3':
+      case '4':
+      case '5':
+      case '6':
+      case '7':
+      case '8':
+      case '9':
+        return number();
+
+      case '.':
+        if (isDigit(la(2))) {
+          return number();
+        }
+        if (la(2) == '.' && la(3) == '.') {
+          return token(Python3Lexer.ELLIPSIS, 3);
+        }
+        return token(Python3Lexer.DOT, 1);
+
+      case '*':
+        if (la(2) == '*') {
+          return la(3) == '=' ? token(Python3Lexer.POWER_ASSIGN, 3) : token(Python3Lexer.POWER, 2);
+        }
+        return assignment(Python3Lexer.STAR, Python3Lexer.MULT_ASSIGN);
+
+      case '(':
+        opened++;
+        return token(Python3Lexer.OPEN_PAREN, 1);
+      case ')':
+        opened--;
+        return token(Python3Lexer.CLOSE_PAREN, 1);
+      case '[':
+        opened++;
+        return token(Python3Lexer.OPEN_BRACK, 1);
+      case ']':
+        opened--;
+        return token(Python3Lexer.CLOSE_BRACK, 1);
+      case '{':
+        opened++;
+        return token(Python3Lexer.OPEN_BRACE, 1);
+      case '}':
+        opened--;
+        return token(Python3Lexer.CLOSE_BRACE, 1);
+
+      case ',':
+        return token(Python3Lexer.COMMA, 1);
+      case ':':
+        return token(Python3Lexer.COLON, 1);
+      case ';':
+        return token(Python3Lexer.SEMI_COLON, 1);
+      case '~':
+        return token(Python3Lexer.NOT_OP, 1);
+
+      case '=':
+        return assignment(Python3Lexer.ASSIGN, Python3Lexer.EQUALS);
+      case '|':
+        return assignment(Python3Lexer.OR_OP, Python3Lexer.OR_ASSIGN);
+      case '^':
+        return assignment(Python3Lexer.XOR, Python3Lexer.XOR_ASSIGN);
+      case '&':
+        return assignment(Python3Lexer.AND_OP, Python3Lexer.AND_ASSIGN);
+      case '+':
+        return assignment(Python3Lexer.ADD, Python3Lexer.ADD_ASSIGN);
+      case '%':
+        return assignment(Python3Lexer.MOD, Python3Lexer.MOD_ASSIGN);
+      case '@':
+        return assignment(Python3Lexer.AT, Python3Lexer.AT_ASSIGN);
+
+      case '-':
+        if (la(2) == '>') {
+          return token(Python3Lexer.ARROW, 2);
+        }
+        return assignment(Python3Lexer.MINUS, Python3Lexer.SUB_ASSIGN);
+
+      case '/':
+        if (la(2) == '/') {
+          return la(3) == '=' ? token(Python3Lexer.IDIV_ASSIGN, 3) : token(Python3Lexer.IDIV, 2);
+        }
+        return assignment(Python3Lexer.DIV, Python3Lexer.DIV_ASSIGN);
+
+      case '<':
+        switch (la(2)) {
+          case '<':
+            return la(3) == '='
+                ? token(Python3Lexer.LEFT_SHIFT_ASSIGN, 3)
+                : token(Python3Lexer.LEFT_SHIFT, 2);
+          case '=':
+            return token(Python3Lexer.LT_EQ, 2);
+          case '>':
+            return token(Python3Lexer.NOT_EQ_1, 2);
+          default:
+            return token(Python3Lexer.LESS_THAN, 1);
+        }
+
+      case '>':
+        switch (la(2)) {
+          case '>':
+            return la(3) == '='
+                ? token(Python3Lexer.RIGHT_SHIFT_ASSIGN, 3)
+                : token(Python3Lexer.RIGHT_SHIFT, 2);
+          case '=':
+            return token(Python3Lexer.GT_EQ, 2);
+          default:
+            return token(Python3Lexer.GREATER_THAN, 1);
+        }
+
+      case '!':
+        return la(2) == '=' ? token(Python3Lexer.NOT_EQ_2, 2) : token(Python3Lexer.UNKNOWN_CHAR, 1);
+
+      default:
+        if (isIdStart(c)) {
+          return name();
+        }
+        return token(Python3Lexer.UNKNOWN_CHAR, 1);
+    }
+  }
+
+  // The NEWLINE rule and its action.
+  private int newLine() {
+    int newLine = la(1) == '\r' && la(2) == '\n' ? 2 : 1;
+    int spaces = spaces(index + newLine) - index - newLine;
+    consumeLines(newLine + spaces);
+
+    int next = la(1);
+
+    if (opened > 0 || next == '\r' || next == '\n' || next == '#') {
+      // If we're inside a list or on a blank line, ignore all indents,
+      // dedents and line breaks.
+      return SKIP;
+    }
+
+    emit(commonToken(Python3Lexer.NEWLINE, newLine));
+
+    int indent = getIndentationCount(tokenStart + newLine, index);
+    int previous = indents.isEmpty() ? 0 : indents.peek();
+
+    if (indent == previous) {
+      // skip indents of the same size as the present indent-size
+      return SKIP;
+    } else if (indent > previous) {
+      indents.push(indent);
+      emit(commonToken(Python3Parser.INDENT, spaces));
+    } else {
+      // Possibly emit more than 1 DEDENT token.
+      while (!indents.isEmpty() && indents.peek() > indent) {
+        emit(createDedent());
+        indents.pop();
+      }
+    }
+    return Python3Lexer.NEWLINE;
+  }
+
+  // The rules NAME, STRING_LITERAL and BYTES_LITERAL, which all may start
+  // with a letter, as well as the keywords.
+  private int name() {
+    int end = index + 1;
+    while (end < size && isIdContinue(data.charAt(end))) {
+      end++;
+    }
+    lookedAt(end);
+    int length = end - index;
+
+    int quote = la(length + 1);
+    if ((quote == '\'' || quote == '"') && length <= 2) {
+      int first = la(1);
+      int last = la(length);
+      boolean bytes = first == 'b' || first == 'B';
+      boolean unicode = first == 'u' || first == 'U';
+      boolean raw = last == 'r' || last == 'R';
+      if (length == 1 ? bytes || unicode || raw : raw && (bytes || unicode)) {
+        int string = string(length + 1, bytes);
+        if (string > 0) {
+          consumeLines(string);
+          return bytes ? Python3Lexer.BYTES_LITERAL : Python3Lexer.STRING_LITERAL;
+        }
+      }
+    }
+
+    return token(keyword(length), length);
+  }
+
+  // Returns the keyword type of the name of the given length at the current
+  // position, or NAME if it is no keyword.
+  private int keyword(int length) {
+    int first = la(1);
+    if (first >= KEYWORDS.length) {
+      return Python3Lexer.NAME;
+    }
+    for (int type : KEYWORDS[first]) {
+      String keyword = Python3Lexer.VOCABULARY.getLiteralName(type);
+      if (keyword.length() - 2 != length) {
+        continue;
+      }
+      int i = 1;
+      while (i < length && la(i + 1) == keyword.charAt(i + 1)) {
+        i++;
+      }
+      if (i == length) {
+        return type;
+      }
+    }
+    return Python3Lexer.NAME;
+  }
+
+  // Returns the length of the string that starts with a quote at lookahead
+  // position `quote`, including everything in front of it, or 0 if there is
+  // no complete string.
+  private int string(int quote, boolean bytes) {
+    int start = index + quote - 1;
+    char q = data.charAt(start);
+    int length = size;
+
+    if (start + 2 < length && data.charAt(start + 1) == q && data.charAt(start + 2) == q) {
+      int i = start + 3;
+      while (i < length) {
+        char c = data.charAt(i);
+        if (c == '\\') {
+          if (i + 1 == length || !isStringCharacter(data.charAt(i + 1), bytes)) {
+            i++;
+            break;
+          }
+          i += 2;
+        } else if (c == q && i + 2 < length && data.charAt(i + 1) == q && data.charAt(i + 2) == q) {
+          lookedAt(i + 2);
+          return i + 3 - index;
+        } else if (isStringCharacter(c, bytes)) {
+          i++;
+        } else {
+          break;
+        }
+      }
+      lookedAt(i);
+      // Without its end the long string is an empty short string.
+      return quote + 1;
+    }
+
+    int i = start + 1;
+    while (i < length) {
+      char c = data.charAt(i);
+      if (c == q) {
+        lookedAt(i);
+        return i + 1 - index;
+      } else if (c == '\\') {
+        if (i + 1 == length || !isStringCharacter(data.charAt(i + 1), bytes)) {
+          lookedAt(i + 1);
+          return 0;
+        }
+        i += 2;
+      } else if (c == '\r' || c == '\n' || !isStringCharacter(c, bytes)) {
+        break;
+      } else {
+        i++;
+      }
+    }
+    lookedAt(i);
+    return 0;
+  }
+
+  // The rules DECIMAL_INTEGER, OCT_INTEGER, HEX_INTEGER, BIN_INTEGER,
+  // FLOAT_NUMBER and IMAG_NUMBER.
+  private int number() {
+    int first = la(1);
+    int digits = 0;
+    while (isDigit(la(digits + 1))) {
+      digits++;
+    }
+
+    int type = 0;
+    int length = 0;
+
+    if (first == '0') {
+      int zeros = 1;
+      while (la(zeros + 1) == '0') {
+        zeros++;
+      }
+      type = Python3Lexer.DECIMAL_INTEGER;
+      length = zeros;
+
+      int prefixed = 0;
+      switch (la(2)) {
+        case 'o':
+        case 'O':
+          while (isOctDigit(la(prefixed + 3))) {
+            prefixed++;
+          }
+          type = prefixed > 0 ? Python3Lexer.OCT_INTEGER : type;
+          break;
+        case 'x':
+        case 'X':
+          while (isHexDigit(la(prefixed + 3))) {
+            prefixed++;
+          }
+          type = prefixed > 0 ? Python3Lexer.HEX_INTEGER : type;
+          break;
+        case 'b':
+        case 'B':
+          while (isBinDigit(la(prefixed + 3))) {
+            prefixed++;
+          }
+          type = prefixed > 0 ? Python3Lexer.BIN_INTEGER : type;
+          break;
+      }
+      if (prefixed > 0) {
+        length = prefixed + 2;
+      }
+    } else if (first != '.') {
+      type = Python3Lexer.DECIMAL_INTEGER;
+      length = digits;
+    }
+
+    // The longest prefix that is an integer part or a floating point number.
+    int end = digits;
+    boolean isFloat = false;
+    if (la(end + 1) == '.') {
+      int fraction = 0;
+      while (isDigit(la(end + fraction + 2))) {
+        fraction++;
+      }
+      if (fraction > 0 || digits > 0) {
+        end += fraction + 1;
+        isFloat = true;
+      }
+    }
+    int exponent = la(end + 1);
+    if (end > 0 && (exponent == 'e' || exponent == 'E')) {
+      int sign = la(end + 2) == '+' || la(end + 2) == '-' ? 1 : 0;
+      int exponentDigits = 0;
+      while (isDigit(la(end + sign + exponentDigits + 2))) {
+        exponentDigits++;
+      }
+      if (exponentDigits > 0) {
+        end += sign + exponentDigits + 1;
+        isFloat = true;
+      }
+    }
+
+    if (isFloat && end > length) {
+      type = Python3Lexer.FLOAT_NUMBER;
+      length = end;
+    }
+    int imaginary = la(end + 1);
+    if (end > 0 && (imaginary == 'j' || imaginary == 'J') && end + 1 > length) {
+      type = Python3Lexer.IMAG_NUMBER;
+      length = end + 1;
+    }
+
+    return token(type, length);
+  }
+
+  // An operator that can be followed by '=' to make it an assignment.
+  private int assignment(int operator, int assignment) {
+    return la(2) == '=' ? token(assignment, 2) : token(operator, 1);
+  }
+
+  // Returns the position of the first character at or after position `from`
+  // that is neither a space nor a tab.
+  private int spaces(int from) {
+    int end = from;
+    while (end < size && (data.charAt(end) == ' ' || data.charAt(end) == '\t')) {
+      end++;
+    }
+    lookedAt(end);
+    return end;
+  }
+
+  // Consumes a token of the given type and length that contains no line
+  // breaks and returns its type.
+  private int token(int type, int length) {
+    index += length;
+    charPositionInLine += length;
+    return type;
+  }
+
+  private int skip(int length) {
+    token(SKIP, length);
+    return SKIP;
+  }
+
+  // Consumes the given amount of characters, which may contain line breaks.
+  private void consumeLines(int length) {
+    for (int end = index + length; index < end; index++) {
+      if (data.charAt(index) == '\n') {
+        line++;
+        charPositionInLine = 0;
+      } else {
+        charPositionInLine++;
+      }
+    }
+  }
+
+  // The same as in the members of the grammar.
+
+  private void emit(Token t) {
+    token = t;
+    offer(t);
+  }
+
+  private void offer(Token t) {
+    if (queued == tokens.length) {
+      Token[] grown = new Token[tokens.length * 2];
+      for (int i = 0; i < queued; i++) {
+        grown[i] = tokens[(head + i) & (tokens.length - 1)];
+      }
+      tokens = grown;
+      head = 0;
+    }
+    tokens[(head + queued) & (tokens.length - 1)] = t;
+    queued++;
+  }
+
+  private Token poll() {
+    Token t = tokens[head];
+    tokens[head] = null;
+    head = (head + 1) & (tokens.length - 1);
+    queued--;
+    return t;
+  }
+
+  private Token createDedent() {
+    CommonToken dedent = commonToken(Python3Parser.DEDENT, 0);
+    dedent.setLine(lastToken.getLine());
+    return dedent;
+  }
+
+  private CommonToken commonToken(int type, int length) {
+    int stop = index - 1;
+    int start = length == 0 ? stop : stop - length + 1;
+    return new CommonToken(source, type, Token.DEFAULT_CHANNEL, start, stop);
+  }
+
+  private int getIndentationCount(int start, int end) {
+    int count = 0;
+    for (int i = start; i < end; i++) {
+      if (data.charAt(i) == '\t') {
+        count += 8 - (count % 8);
+      } else {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private void indentStartOfInput() {
+    int next = la(1);
+    if (next != ' ' && next != '\t') {
+      return;
+    }
+
+    while (next == ' ' || next == '\t') {
+      token(SKIP, 1);
+      next = la(1);
+    }
+
+    if (next == '\r' || next == '\n' || next == '#') {
+      // A blank line, ignore the indentation.
+      return;
+    }
+
+    int spaces = index;
+    emit(commonToken(Python3Lexer.NEWLINE, 0));
+    indents.push(getIndentationCount(0, spaces));
+    Token indent = commonToken(Python3Parser.INDENT, spaces);
+    emit(indent);
+    lastToken = indent;
+  }
+
+  private void reset() {
+    if (input != null) {
+      input.seek(0);
+    }
+    index = 0;
+    furthest = -1;
+    reported = -1;
+    line = 1;
+    charPositionInLine = 0;
+    hitEOF = false;
+    token = null;
+    Arrays.fill(tokens, null);
+    head = 0;
+    queued = 0;
+    indents.clear();
+    opened = 0;
+    lastToken = null;
+  }
+
+  @Override
+  public void setInputStream(CharStream input) {
+    this.input = null;
+    reset();
+    this.input = input;
+    source = new Pair<>(this, input);
+    index = input == null ? 0 : input.index();
+    if (input instanceof CharSequenceStream) {
+      data = ((CharSequenceStream) input).getContents();
+    } else {
+      data = input == null ? null : input.getText(Interval.of(0, input.size() - 1));
+    }
+    size = data == null ? 0 : data.length();
+  }
+
+  @Override
+  public Python3Lexer.State saveState() {
+    int[] pending = new int[queued * 5];
+    for (int i = 0; i < queued; i++) {
+      Token token = tokens[(head + i) & (tokens.length - 1)];
+      pending[i * 5] = token.getType();
+      pending[i * 5 + 1] = token.getStartIndex();
+      pending[i * 5 + 2] = token.getStopIndex();
+      pending[i * 5 + 3] = token.getLine();
+      pending[i * 5 + 4] = token.getCharPositionInLine();
+    }
+
+    return new Python3Lexer.State(
+        index,
+        line,
+        charPositionInLine,
+        indents.toArray(),
+        opened,
+        pending,
+        lastToken == null ? -1 : lastToken.getLine());
+  }
+
+  @Override
+  public void restoreState(Python3Lexer.State state) {
+    reset();
+    input.seek(state.getIndex());
+    index = state.getIndex();
+    line = state.getLine();
+    charPositionInLine = state.getCharPositionInLine();
+
+    for (int indent : state.getIndents()) {
+      indents.push(indent);
+    }
+
+    opened = state.getOpened();
+
+    int[] pending = state.getPending();
+    for (int i = 0; i < pending.length; i += 5) {
+      CommonToken token =
+          new CommonToken(
+              source, pending[i], Token.DEFAULT_CHANNEL, pending[i + 1], pending[i + 2]);
+      token.setLine(pending[i + 3]);
+      token.setCharPositionInLine(pending[i + 4]);
+      offer(token);
+    }
+
+    if (state.getLastTokenLine() >= 0) {
+      CommonToken last = new CommonToken(Token.INVALID_TYPE);
+      last.setLine(state.getLastTokenLine());
+      lastToken = last;
+    }
+  }
+
+  @Override
+  public int getLine() {
+    return line;
+  }
+
+  @Override
+  public void setLine(int line) {
+    this.line = line;
+  }
+
+  @Override
+  public int getCharPositionInLine() {
+    return charPositionInLine;
+  }
+
+  @Override
+  public CharStream getInputStream() {
+    return input;
+  }
+
+  @Override
+  public String getSourceName() {
+    return input.getSourceName();
+  }
+
+  @Override
+  public TokenFactory<?> getTokenFactory() {
+    return factory;
+  }
+
+  @Override
+  public void setTokenFactory(TokenFactory<?> factory) {
+    this.factory = factory;
+  }
+
+  private static boolean isDigit(int c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isOctDigit(int c) {
+    return c >= '0' && c <= '7';
+  }
+
+  private static boolean isHexDigit(int c) {
+    return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+  }
+
+  private static boolean isBinDigit(int c) {
+    return c == '0' || c == '1';
+  }
+
+  private static boolean isIdStart(int c) {
+    return c >= 0 && (CHARACTERS[c] & ID_START) != 0;
+  }
+
+  private static boolean isIdContinue(char c) {
+    return (CHARACTERS[c] & ID_CONTINUE) != 0;
+  }
+
+  // Whether the character may appear in a string, or follow a backslash in
+  // it. Bytes only allow ASCII characters.
+  private static boolean isStringCharacter(char c, boolean bytes) {
+    return !bytes || c <= 0x7F;
+  }
+
+  // Takes the characters of the fragments ID_START and ID_CONTINUE from the
+  // generated lexer, so that they cannot get out of sync with the grammar.
+  // Both fragments consist of alternatives that match a single character.
+  private static byte[] characterClasses() {
+    byte[] classes = new byte[Character.MAX_VALUE + 1];
+    for (Interval interval : charactersOf("ID_START").getIntervals()) {
+      for (int c = interval.a; c <= interval.b; c++) {
+        classes[c] |= ID_START;
+      }
+    }
+    for (Interval interval : charactersOf("ID_CONTINUE").getIntervals()) {
+      for (int c = interval.a; c <= interval.b; c++) {
+        classes[c] |= ID_CONTINUE;
+      }
+    }
+    return classes;
+  }
+
+  private static IntervalSet charactersOf(String rule) {
+    int index = Arrays.asList(Python3Lexer.ruleNames).indexOf(rule);
+    IntervalSet characters = new IntervalSet();
+    collectCharacters(Python3Lexer._ATN.ruleToStartState[index], characters, new HashSet<>());
+    return characters;
+  }
+
+  private static void collectCharacters(
+      ATNState state, IntervalSet characters, Set<ATNState> visited) {
+    if (state instanceof RuleStopState || !visited.add(state)) {
+      return;
+    }
+    for (int i = 0; i < state.getNumberOfTransitions(); i++) {
+      Transition transition = state.transition(i);
+      if (transition.isEpsilon()) {
+        // Also enters fragments used by this one.
+        collectCharacters(transition.target, characters, visited);
+      } else {
+        characters.addAll(transition.label());
+      }
+    }
+  }
+
+  private static int[][] keywords() {
+    int[][] keywords = new int[128][0];
+    for (int type = 1; type <= Python3Lexer.VOCABULARY.getMaxTokenType(); type++) {
+      String literal = Python3Lexer.VOCABULARY.getLiteralName(type);
+      if (literal != null && Character.isLetter(literal.charAt(1))) {
+        int first = literal.charAt(1);
+        keywords[first] = Arrays.copyOf(keywords[first], keywords[first].length + 1);
+        keywords[first][keywords[first].length - 1] = type;
+      }
+    }
+    return keywords;
+  }
+}
@@ -0,0 +1,84 @@
+package monto.service.python;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import monto.service.ast.AST;
+import monto.service.ast.NonTerminal;
+import monto.service.python.antlr.Python3Parser;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * Parses the suites of functions that the skeleton AST of a version of a document left out (see
+ * {@link SkeletonTokens}), each one only once it is asked for. The document is lexed again when the
+ * first of them is.
+ */
+final class FunctionBodies {
+
+  private final String contents;
+  private final boolean compact;
+
+  private List<Token> tokens = null;
+  // The index of the first statement of every suite on lines of its own, by its offset.
+  private final Map<Integer, Integer> suites = new HashMap<>();
+
+  /**
+   * @param contents the version of the document the skeleton AST was built from
+   * @param compact whether to build compact ASTs (see {@link AstBuilder#setCompact})
+   */
+  public FunctionBodies(String contents, boolean compact) {
+    this.contents = contents;
+    this.compact = compact;
+  }
+
+  /**
+   * Returns the AST of the suite that {@code skipped} stands for, as a full parse of the document
+   * would have built it.
+   *
+   * @throws IllegalArgumentException if {@code skipped} is not a suite left out of this document
+   */
+  public AST parse(AST skipped) {
+    if (!(skipped instanceof NonTerminal)
+        || !((NonTerminal) skipped).getName().equals(SkeletonTokens.SKIPPED_SUITE)) {
+      throw new IllegalArgumentException("not a skipped suite: " + skipped);
+    }
+    if (tokens == null) {
+      lex();
+    }
+    Integer first = suites.get(skipped.getStartOffset());
+    if (first == null) {
+      throw new IllegalArgumentException("no suite starts at " + skipped.getStartOffset());
+    }
+    int dedent = SkeletonTokens.matchingDedent(tokens, first - 1);
+    if (dedent < 0) {
+      throw new IllegalArgumentException("suite at " + skipped.getStartOffset() + " has no end");
+    }
+
+    Recognizers recognizers = Recognizers.get();
+    try {
+      return recognizers
+          .buildSuite(new ListTokenSource(tokens.subList(first - 2, dedent + 1)), compact)
+          .getRoot();
+    } finally {
+      recognizers.release();
+    }
+  }
+
+  private void lex() {
+    PythonTokenSource lexer = Recognizers.get().lexer(new CharSequenceStream(contents));
+    tokens = new ArrayList<>();
+    Token token;
+    do {
+      token = lexer.nextToken();
+      int size = tokens.size();
+      if (size >= 2
+          && tokens.get(size - 1).getType() == Python3Parser.INDENT
+          && tokens.get(size - 2).getType() == Python3Parser.NEWLINE) {
+        suites.put(token.getStartIndex(), size);
+      }
+      tokens.add(token);
+    } while (token.getType() != Token.EOF);
+  }
+}
@@ -0,0 +1,241 @@
+package monto.service.python;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import monto.service.python.LexedDocument.Checkpoint;
+import monto.service.python.antlr.Python3Lexer;
+import monto.service.types.Source;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * Lexes successive versions of a document. A new version is lexed from the last line checkpoint in
+ * front of the first changed character, and lexing stops as soon as the lexer reaches a checkpoint
+ * behind the changed region in the same state as in the previous version. The rest of the tokens
+ * are then taken over from the previous version.
+ *
+ * <p>The visible part of a document can also be lexed on its own first, starting at a line in front
+ * of it that does not depend on what comes before (see {@link #lexUntil}).
+ *
+ * <p>Different sources, as well as different versions of the same source, may be lexed
+ * concurrently. Lexing then starts from whichever version of the source was stored last, which only
+ * affects how much has to be lexed, not the result.
+ */
+class IncrementalLexer {
+
+  private static final int MAX_DOCUMENTS = 64;
+
+  private final Map<Source, LexedDocument> documents =
+      Collections.synchronizedMap(
+          new LinkedHashMap<Source, LexedDocument>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Source, LexedDocument> eldest) {
+              return size() > MAX_DOCUMENTS;
+            }
+          });
+
+  private volatile boolean verify = false;
+
+  /** Compares every incremental result with a full lex of the document. */
+  public void enableVerification() {
+    verify = true;
+  }
+
+  public LexedDocument lex(Source source, String contents) {
+    LexedDocument previous = documents.get(source);
+    LexedDocument document;
+    try {
+      document =
+          previous == null
+              ? lex(contents, Recognizers.get().lexer(), null, 0, 0, 0, 0, Integer.MAX_VALUE)
+              : relex(previous, contents);
+    } finally {
+      Recognizers.get().release();
+    }
+    return store(source, document);
+  }
+
+  /** Returns true if a version of {@code source} has been lexed before. */
+  public boolean contains(Source source) {
+    return documents.containsKey(source);
+  }
+
+  /**
+   * Lexes {@code contents} from {@code start} up to the first line that starts at or after {@code
+   * offset}. {@code start} has to be a line that {@link SafeLines} found, so that the tokens are
+   * those of a full lex, apart from the DEDENTs in front of it. The result is not stored as a
+   * version of any source.
+   */
+  public LexedDocument lexUntil(String contents, int start, int offset) {
+    LexedDocument first = null;
+    if (start > 0) {
+      // A fresh lexer at the start of the line, which is not the first one so that the lexer does
+      // not treat it as the start of the input.
+      first = new LexedDocument(contents);
+      first.addCheckpoint(
+          new Checkpoint(
+              new Python3Lexer.State(start, 2, 0, new int[0], 0, new int[0], -1), 0, start));
+    }
+    try {
+      return lex(contents, Recognizers.get().lexer(), first, 0, Integer.MAX_VALUE, 0, 0, offset);
+    } finally {
+      Recognizers.get().release();
+    }
+  }
+
+  private LexedDocument store(Source source, LexedDocument document) {
+    if (verify) {
+      LexedDocument full =
+          lex(document.getContents(), new AntlrPythonLexer(), null, 0, 0, 0, 0, Integer.MAX_VALUE);
+      if (!full.sameTokens(document)) {
+        System.err.printf(
+            "lexing of %s differs from a full lex with the generated lexer, using the latter%n",
+            source);
+        document = full;
+      }
+    }
+
+    documents.put(source, document);
+    return document;
+  }
+
+  private LexedDocument relex(LexedDocument previous, String contents) {
+    String old = previous.getContents();
+    if (old.equals(contents)) {
+      return previous;
+    }
+
+    int prefix = 0;
+    int maxPrefix = Math.min(old.length(), contents.length());
+    while (prefix < maxPrefix && old.charAt(prefix) == contents.charAt(prefix)) {
+      prefix++;
+    }
+    int suffix = 0;
+    int maxSuffix = maxPrefix - prefix;
+    while (suffix < maxSuffix
+        && old.charAt(old.length() - suffix - 1)
+            == contents.charAt(contents.length() - suffix - 1)) {
+      suffix++;
+    }
+
+    int shift = contents.length() - old.length();
+    int editEnd = contents.length() - suffix;
+    int lineShift =
+        countLineBreaks(contents, prefix, editEnd)
+            - countLineBreaks(old, prefix, old.length() - suffix);
+
+    return lex(
+        contents,
+        Recognizers.get().lexer(),
+        previous,
+        previous.lastCheckpointBefore(prefix),
+        editEnd,
+        shift,
+        lineShift,
+        Integer.MAX_VALUE);
+  }
+
+  /**
+   * Lexes {@code contents} with {@code lexer}, resuming at checkpoint {@code resume} of {@code
+   * previous} if given. Lexing stops at the first checkpoint at or after {@code editEnd} that
+   * matches a checkpoint of {@code previous} moved by {@code shift} characters and {@code
+   * lineShift} lines, or at the first checkpoint at or after {@code until}.
+   */
+  private LexedDocument lex(
+      String contents,
+      PythonTokenSource lexer,
+      LexedDocument previous,
+      int resume,
+      int editEnd,
+      int shift,
+      int lineShift,
+      int until) {
+    LexedDocument document = new LexedDocument(contents);
+    CharSequenceStream input = new CharSequenceStream(contents);
+    lexer.setInputStream(input);
+    int lookahead = -1;
+
+    if (previous != null) {
+      Checkpoint start = previous.getCheckpoints().get(resume);
+      for (int i = 0; i < start.getTokenIndex(); i++) {
+        document.addToken(previous.getType(i), previous.getStart(i), previous.getStop(i));
+      }
+      for (int i = 0; i < resume; i++) {
+        document.addCheckpoint(previous.getCheckpoints().get(i));
+      }
+      lexer.restoreState(start.getState());
+      lookahead = start.getLookahead();
+    }
+
+    int line = -1;
+    while (true) {
+      if (lexer.getLine() > line) {
+        line = lexer.getLine();
+        Python3Lexer.State state = lexer.saveState();
+        int furthest = Math.max(lookahead, input.getFurthestIndex());
+
+        if (previous != null && state.getIndex() >= editEnd) {
+          int match = previous.findCheckpoint(state.getIndex() - shift);
+          if (match >= 0
+              && previous
+                  .getCheckpoints()
+                  .get(match)
+                  .getState()
+                  .shift(shift, lineShift)
+                  .equals(state)) {
+            appendRemainder(document, previous, match, shift, lineShift, furthest);
+            return document;
+          }
+        }
+
+        document.addCheckpoint(new Checkpoint(state, document.size(), furthest));
+        if (state.getIndex() >= until) {
+          return document;
+        }
+      }
+
+      Token token = lexer.nextToken();
+      if (token.getType() == Token.EOF) {
+        return document;
+      }
+      document.addToken(token.getType(), token.getStartIndex(), token.getStopIndex());
+    }
+  }
+
+  /** Copies the tokens and checkpoints from checkpoint {@code match} onwards. */
+  private static void appendRemainder(
+      LexedDocument document,
+      LexedDocument previous,
+      int match,
+      int shift,
+      int lineShift,
+      int lookahead) {
+    List<Checkpoint> checkpoints = previous.getCheckpoints();
+    int tokenShift = document.size() - checkpoints.get(match).getTokenIndex();
+
+    for (int i = checkpoints.get(match).getTokenIndex(); i < previous.size(); i++) {
+      document.addToken(
+          previous.getType(i), previous.getStart(i) + shift, previous.getStop(i) + shift);
+    }
+    for (int i = match; i < checkpoints.size(); i++) {
+      Checkpoint checkpoint = checkpoints.get(i);
+      document.addCheckpoint(
+          new Checkpoint(
+              checkpoint.getState().shift(shift, lineShift),
+              checkpoint.getTokenIndex() + tokenShift,
+              Math.max(lookahead, checkpoint.getLookahead() + shift)));
+    }
+  }
+
+  private static int countLineBreaks(String text, int from, int to) {
+    int count = 0;
+    for (int i = from; i < to; i++) {
+      // The lexer only counts '\n' as a line break.
+      if (text.charAt(i) == '\n') {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,615 @@
+package monto.service.python;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import monto.service.ast.AST;
+import monto.service.ast.NonTerminal;
+import monto.service.ast.Terminal;
+import monto.service.types.Source;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * Parses successive versions of a document. A new version is lexed completely, but only the
+ * top-level statements whose tokens changed are parsed again, together with the statement in front
+ * of them, whose end may depend on the first changed token. The ASTs of all other top-level
+ * statements are taken over from the previous version, moved by the length of the edit if they
+ * follow it.
+ *
+ * <p>Statements are only taken over from versions without syntax errors, and only if the changed
+ * statements parse without syntax errors on their own. Everything else is parsed as a whole, so
+ * that error recovery sees the whole document.
+ *
+ * <p>If enabled, large documents and regions are split between top-level statements as well, and
+ * the parts are parsed in parallel, again only as long as they contain no syntax errors.
+ *
+ * <p>If enabled, parsing a version of a document is given up as soon as a newer version of the same
+ * document arrives (see {@link #arrived}).
+ *
+ * <p>If enabled, the parts of documents that have to be parsed are split into top-level statements,
+ * and those seen before in any document take over the ASTs from a {@link StatementCache}.
+ */
+class IncrementalParser {
+
+  private static final int MAX_DOCUMENTS = 64;
+
+  // When parsing in parallel, the tokens are split into this many parts per thread of the pool,
+  // so that threads that finish early can take over parts of the others, but into no parts
+  // smaller than MIN_PART_TOKENS.
+  private static final int PARTS_PER_THREAD = 4;
+  private static final int MIN_PART_TOKENS = 2000;
+
+  // Lexing checks whether it should give up whenever it produced this many tokens.
+  private static final int CANCELLATION_CHECK_TOKENS = 1024;
+
+  private static final AtomicLong cancellations = new AtomicLong();
+
+  private final Map<Source, ParsedDocument> documents =
+      Collections.synchronizedMap(
+          new LinkedHashMap<Source, ParsedDocument>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Source, ParsedDocument> eldest) {
+              return size() > MAX_DOCUMENTS;
+            }
+          });
+
+  // The number of the newest version of each document that arrived and is not parsed yet.
+  private final Map<Source, Long> newest = new ConcurrentHashMap<>();
+  private final AtomicLong versions = new AtomicLong();
+
+  private final boolean compact;
+  private final boolean skeleton;
+  private volatile boolean verify = false;
+  private volatile boolean cancel = false;
+
+  private volatile ExecutorService pool = null;
+  private volatile int poolThreads = 1;
+  private volatile int parallelTokens = Integer.MAX_VALUE;
+  private volatile StatementCache statements = null;
+
+  public IncrementalParser() {
+    this(false);
+  }
+
+  /** @param compact whether to build compact ASTs (see {@link AstBuilder#setCompact}) */
+  public IncrementalParser(boolean compact) {
+    this(compact, false);
+  }
+
+  /**
+   * @param compact whether to build compact ASTs (see {@link AstBuilder#setCompact})
+   * @param skeleton whether to leave the suites of functions out of the ASTs (see {@link
+   *     SkeletonTokens})
+   */
+  public IncrementalParser(boolean compact, boolean skeleton) {
+    this.compact = compact;
+    this.skeleton = skeleton;
+  }
+
+  /** Compares every incremental result with a full parse of the document. */
+  public void enableVerification() {
+    verify = true;
+  }
+
+  /**
+   * Makes {@link #parse} give up with a {@link CancellationException} once a newer version of the
+   * same document arrived.
+   */
+  public void enableCancellation() {
+    cancel = true;
+  }
+
+  /** Returns how many parses were given up for a newer version of the same document. */
+  public static long getCancellations() {
+    return cancellations.get();
+  }
+
+  /**
+   * Splits the parts of documents that have to be parsed into top-level statements if they consist
+   * of at least {@code minTokens} tokens, and parses groups of them in parallel on the {@code
+   * threads} threads of {@code pool}.
+   *
+   * <p>The pool must never run a part on the thread that submitted it, like a {@link
+   * java.util.concurrent.ForkJoinPool} may: each part releases the recognizers of the thread it
+   * runs on when it is done, which would reset the ones of the parse that is still going on.
+   */
+  public void enableParallelParsing(ExecutorService pool, int threads, int minTokens) {
+    this.parallelTokens = minTokens;
+    this.poolThreads = threads;
+    this.pool = pool;
+  }
+
+  /**
+   * Takes over the ASTs of top-level statements from any document or version seen before whose
+   * tokens are laid out the same, keeping those of statements of about {@code maxBytes} bytes in
+   * total (see {@link StatementCache}).
+   */
+  public void enableStatementCache(long maxBytes) {
+    statements = new StatementCache(maxBytes);
+  }
+
+  /** Drops the last parsed version of {@code source}, so that the next one is parsed as a whole. */
+  public void forget(Source source) {
+    documents.remove(source);
+  }
+
+  public AST parse(Source source, String contents) {
+    return parseDocument(source, contents).getRoot();
+  }
+
+  /**
+   * Records that a new version of {@code source} arrived, which makes parsing any older version of
+   * it give up if cancellation is enabled, even if the new version waits to be parsed. Returns the
+   * number of the new version for {@link #parseDocument(Source, String, long)}.
+   */
+  public long arrived(Source source) {
+    long version = versions.incrementAndGet();
+    newest.put(source, version);
+    return version;
+  }
+
+  /**
+   * Runs {@code parse} as the version of {@code source} numbered {@code number} by {@link
+   * #arrived}, for versions that another parser parses instead of this one. It gives up like {@link
+   * #parseDocument(Source, String, long)}, if its recognizers are those of {@link Recognizers#get}.
+   */
+  public <T> T parseVersion(Source source, long number, Supplier<T> parse) {
+    Long version = number;
+    if (cancel) {
+      Recognizers.get().cancelWhen(() -> !version.equals(newest.get(source)));
+    }
+    try {
+      return parse.get();
+    } catch (CancellationException e) {
+      cancellations.incrementAndGet();
+      throw e;
+    } finally {
+      newest.remove(source, version);
+      Recognizers.get().release();
+    }
+  }
+
+  /** Parses {@code contents} like {@link #parse}, but returns the whole parsed document. */
+  public ParsedDocument parseDocument(Source source, String contents) {
+    return parseDocument(source, contents, arrived(source));
+  }
+
+  /**
+   * Parses {@code contents} like {@link #parseDocument(Source, String)} as the version of {@code
+   * source} numbered {@code number} by {@link #arrived}.
+   */
+  public ParsedDocument parseDocument(Source source, String contents, long number) {
+    ParsedDocument previous = documents.get(source);
+    ParsedDocument document;
+    Long version = number;
+    if (cancel) {
+      // A newer version that was parsed already removed its number as well.
+      Recognizers.get().cancelWhen(() -> !version.equals(newest.get(source)));
+    }
+    try {
+      List<Token> tokens = lex(contents);
+      if (skeleton) {
+        // Each suite left out is a single token, so only edits that move its end make the
+        // statement around it parse again.
+        tokens = SkeletonTokens.skipFunctionBodies(tokens);
+      }
+      document = null;
+      if (previous != null && previous.isValid()) {
+        document = reparse(previous, contents, tokens);
+      }
+      if (document == null) {
+        // A document that had syntax errors most likely still has them, which only a parse of
+        // the whole document recovers from.
+        document = parseInParts(contents, tokens, previous == null || previous.isValid());
+      }
+      if (document == null) {
+        document = parseAll(contents, tokens);
+      } else if (verify) {
+        ParsedDocument full = parseAll(contents, tokens);
+        if (!sameTree(full.getRoot(), document.getRoot())) {
+          System.err.printf(
+              "parsing of %s differs from a full parse of the document, using the latter%n",
+              source);
+          document = full;
+        }
+      }
+    } catch (CancellationException e) {
+      cancellations.incrementAndGet();
+      throw e;
+    } finally {
+      newest.remove(source, version);
+      Recognizers.get().release();
+    }
+
+    documents.put(source, document);
+    return document;
+  }
+
+  private static List<Token> lex(String contents) {
+    Recognizers recognizers = Recognizers.get();
+    BooleanSupplier cancelled = recognizers.getCancellation();
+    PythonTokenSource lexer = recognizers.lexer(new CharSequenceStream(contents));
+    List<Token> tokens = new ArrayList<>();
+    Token token;
+    do {
+      token = lexer.nextToken();
+      tokens.add(token);
+      if (tokens.size() % CANCELLATION_CHECK_TOKENS == 0 && cancelled.getAsBoolean()) {
+        throw new CancellationException();
+      }
+    } while (token.getType() != Token.EOF);
+    return tokens;
+  }
+
+  /**
+   * Parses all of {@code contents} in parallel if it is large enough, or statement by statement if
+   * statements are cached and {@code cached} is true. Returns null if neither applies, or if it
+   * contains syntax errors.
+   */
+  private ParsedDocument parseInParts(String contents, List<Token> tokens, boolean cached) {
+    boolean parallel = pool != null && tokens.size() >= parallelTokens;
+    if (!parallel && (statements == null || !cached)) {
+      return null;
+    }
+    List<AST> children = new ArrayList<>();
+    List<int[]> ranges = new ArrayList<>();
+    if (!parseValid(tokens, 0, tokens.size(), children, ranges)) {
+      return null;
+    }
+    return document(contents, tokens, children, ranges);
+  }
+
+  private ParsedDocument parseAll(String contents, List<Token> tokens) {
+    Recognizers recognizers = Recognizers.get();
+    AstBuilder ast = recognizers.buildFile(new ListTokenSource(tokens), compact);
+    if (recognizers.getSyntaxErrors() > 0) {
+      return new ParsedDocument(
+          null, ast.getRoot(), null, null, null, false, recognizers.isDegraded());
+    }
+
+    List<AST> children = new ArrayList<>();
+    List<int[]> ranges = new ArrayList<>();
+    addChildren(ast, ast.getChildCount(), 0, children, ranges);
+    return document(contents, tokens, children, ranges);
+  }
+
+  /**
+   * Parses the top-level statements in the tokens from {@code from} to {@code to} and adds them to
+   * {@code children}, and the indexes of their first and last tokens and the number of characters
+   * they moved since they were parsed to {@code ranges}. Returns false if they contain syntax
+   * errors.
+   */
+  private boolean parseValid(
+      List<Token> tokens, int from, int to, List<AST> children, List<int[]> ranges) {
+    if (pool == null || to - from < parallelTokens) {
+      return parseValidPart(tokens, from, to, children, ranges);
+    }
+
+    BooleanSupplier cancelled = Recognizers.get().getCancellation();
+    int size = Math.max(MIN_PART_TOKENS, (to - from) / (poolThreads * PARTS_PER_THREAD));
+    List<Integer> cuts = split(tokens, from, to, size);
+    List<Callable<Boolean>> parts = new ArrayList<>();
+    List<List<AST>> partChildren = new ArrayList<>();
+    List<List<int[]>> partRanges = new ArrayList<>();
+    for (int i = 0; i + 1 < cuts.size(); i++) {
+      int start = cuts.get(i);
+      int end = cuts.get(i + 1);
+      List<AST> c = new ArrayList<>();
+      List<int[]> r = new ArrayList<>();
+      partChildren.add(c);
+      partRanges.add(r);
+      parts.add(
+          () -> {
+            try {
+              Recognizers.get().cancelWhen(cancelled);
+              return parseValidPart(tokens, start, end, c, r);
+            } finally {
+              Recognizers.get().release();
+            }
+          });
+    }
+
+    List<Future<Boolean>> results;
+    try {
+      results = pool.invokeAll(parts);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CancellationException();
+    }
+    boolean valid = true;
+    for (Future<Boolean> part : results) {
+      try {
+        valid &= part.get();
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof CancellationException) {
+          throw (CancellationException) e.getCause();
+        }
+        e.printStackTrace();
+        valid = false;
+      } catch (InterruptedException e) {
+        e.printStackTrace();
+        valid = false;
+      }
+    }
+    if (!valid) {
+      return false;
+    }
+    for (int i = 0; i < partChildren.size(); i++) {
+      children.addAll(partChildren.get(i));
+      ranges.addAll(partRanges.get(i));
+    }
+    return true;
+  }
+
+  private boolean parseValidPart(
+      List<Token> tokens, int from, int to, List<AST> children, List<int[]> ranges) {
+    StatementCache cache = statements;
+    if (cache == null) {
+      return parseValidStatements(tokens, from, to, children, ranges);
+    }
+
+    // The statements missing from the cache are parsed together, as few times as possible.
+    List<Integer> starts = split(tokens, from, to, 1);
+    List<StatementCache.Key> missing = new ArrayList<>();
+    int missingFrom = 0;
+    for (int i = 0; i + 1 < starts.size(); i++) {
+      int start = starts.get(i);
+      StatementCache.Key key = StatementCache.key(tokens, start, starts.get(i + 1));
+      StatementCache.Statement statement = cache.get(key);
+      if (statement == null) {
+        if (missing.isEmpty()) {
+          missingFrom = i;
+        }
+        missing.add(key);
+        continue;
+      }
+      if (!missing.isEmpty()) {
+        if (!parseMissing(
+            cache, missing, starts.subList(missingFrom, i + 1), tokens, children, ranges)) {
+          return false;
+        }
+        missing.clear();
+      }
+
+      int shift = tokens.get(start).getStartIndex() - statement.getOffset();
+      for (int j = 0; j < statement.getChildren().size(); j++) {
+        children.add(statement.getChildren().get(j));
+        ranges.add(
+            new int[] {
+              start + statement.getFirstToken(j), start + statement.getLastToken(j), shift
+            });
+      }
+    }
+    return missing.isEmpty()
+        || parseMissing(
+            cache, missing, starts.subList(missingFrom, starts.size()), tokens, children, ranges);
+  }
+
+  /**
+   * Parses the statements that start at {@code starts}, the last of which is where the last one
+   * ends, and caches each of them under its key in {@code missing}. Returns false if they contain
+   * syntax errors.
+   */
+  private boolean parseMissing(
+      StatementCache cache,
+      List<StatementCache.Key> missing,
+      List<Integer> starts,
+      List<Token> tokens,
+      List<AST> children,
+      List<int[]> ranges) {
+    int first = children.size();
+    if (!parseValidStatements(
+        tokens, starts.get(0), starts.get(starts.size() - 1), children, ranges)) {
+      return false;
+    }
+
+    int child = first;
+    for (int i = 0; i < missing.size(); i++) {
+      int start = starts.get(i);
+      int end = starts.get(i + 1);
+      int from = child;
+      while (child < children.size() && ranges.get(child)[0] < end) {
+        child++;
+      }
+      if (child > from && ranges.get(child - 1)[1] >= end) {
+        // The statement did not end where it was split off from the next one.
+        continue;
+      }
+      int[] firstTokens = new int[child - from];
+      int[] lastTokens = new int[child - from];
+      for (int j = from; j < child; j++) {
+        firstTokens[j - from] = ranges.get(j)[0] - start;
+        lastTokens[j - from] = ranges.get(j)[1] - start;
+      }
+      cache.put(
+          missing.get(i),
+          tokens.get(start).getStartIndex(),
+          new ArrayList<>(children.subList(from, child)),
+          firstTokens,
+          lastTokens);
+    }
+    return true;
+  }
+
+  private boolean parseValidStatements(
+      List<Token> tokens, int from, int to, List<AST> children, List<int[]> ranges) {
+    AstBuilder ast =
+        Recognizers.get().buildValidFile(new ListTokenSource(tokens.subList(from, to)), compact);
+    if (ast == null) {
+      return false;
+    }
+    // Leave out the EOF the token source made up, unless the part reaches the real one.
+    int count = to == tokens.size() ? ast.getChildCount() : ast.getChildCount() - 1;
+    addChildren(ast, count, from, children, ranges);
+    return true;
+  }
+
+  /**
+   * Splits the tokens from {@code from} to {@code to} into parts of at least about {@code size}
+   * tokens, or into single statements for a size of 1, and returns the indexes at which the parts
+   * start, followed by {@code to}. Parts only start at the statements {@link TopLevelStatements}
+   * finds.
+   */
+  private static List<Integer> split(List<Token> tokens, int from, int to, int size) {
+    List<Integer> cuts = new ArrayList<>();
+    cuts.add(from);
+
+    TopLevelStatements statements = new TopLevelStatements();
+    for (int i = from; i < to; i++) {
+      if (statements.starts(tokens.get(i).getType()) && i - cuts.get(cuts.size() - 1) >= size) {
+        cuts.add(i);
+      }
+    }
+
+    if (cuts.size() > 1 && to - cuts.get(cuts.size() - 1) < size / 2) {
+      // Rather make the last part larger than leaving a small one.
+      cuts.remove(cuts.size() - 1);
+    }
+    cuts.add(to);
+    return cuts;
+  }
+
+  /**
+   * Parses only the top-level statements of {@code contents} whose tokens differ from the ones of
+   * {@code previous}. Returns null if they cannot be parsed on their own without syntax errors.
+   */
+  private ParsedDocument reparse(ParsedDocument previous, String contents, List<Token> tokens) {
+    LexedDocument old = previous.getTokens();
+    int shift = contents.length() - old.getContents().length();
+
+    int prefix = 0;
+    int common = Math.min(old.size(), tokens.size());
+    while (prefix < common && sameToken(old, prefix, tokens.get(prefix), 0)) {
+      prefix++;
+    }
+    int suffix = 0;
+    while (suffix < common - prefix
+        && sameToken(old, old.size() - suffix - 1, tokens.get(tokens.size() - suffix - 1), shift)) {
+      suffix++;
+    }
+
+    // The children in front of the edit are kept if the token behind them did not change either,
+    // the children behind it if all their tokens are part of the unchanged suffix.
+    int keepFront = 0;
+    while (keepFront < previous.getChildCount() && previous.getLastToken(keepFront) + 1 < prefix) {
+      keepFront++;
+    }
+    int keepBack = previous.getChildCount();
+    while (keepBack > keepFront && previous.getFirstToken(keepBack - 1) >= old.size() - suffix) {
+      keepBack--;
+    }
+
+    // The EOF is never kept in front, so there is always a child to start from.
+    int tokenShift = tokens.size() - old.size();
+    int from = previous.getFirstToken(keepFront);
+    int to =
+        keepBack < previous.getChildCount()
+            ? previous.getFirstToken(keepBack) + tokenShift
+            : tokens.size();
+
+    List<AST> children = new ArrayList<>();
+    List<int[]> ranges = new ArrayList<>();
+    for (int i = 0; i < keepFront; i++) {
+      children.add(previous.getChild(i));
+      ranges.add(
+          new int[] {previous.getFirstToken(i), previous.getLastToken(i), previous.getShift(i)});
+    }
+
+    if (from < to && !parseValid(tokens, from, to, children, ranges)) {
+      return null;
+    }
+
+    for (int i = keepBack; i < previous.getChildCount(); i++) {
+      children.add(previous.getChild(i));
+      ranges.add(
+          new int[] {
+            previous.getFirstToken(i) + tokenShift,
+            previous.getLastToken(i) + tokenShift,
+            previous.getShift(i) + shift
+          });
+    }
+
+    return document(contents, tokens, children, ranges);
+  }
+
+  private static void addChildren(
+      AstBuilder ast, int count, int firstToken, List<AST> children, List<int[]> ranges) {
+    for (int i = 0; i < count; i++) {
+      children.add(ast.getChild(i));
+      ranges.add(
+          new int[] {ast.getFirstToken(i) + firstToken, ast.getLastToken(i) + firstToken, 0});
+    }
+  }
+
+  private static ParsedDocument document(
+      String contents, List<Token> tokens, List<AST> children, List<int[]> ranges) {
+    int[] firstTokens = new int[ranges.size()];
+    int[] lastTokens = new int[ranges.size()];
+    int[] shifts = null;
+    for (int i = 0; i < ranges.size(); i++) {
+      firstTokens[i] = ranges.get(i)[0];
+      lastTokens[i] = ranges.get(i)[1];
+      if (ranges.get(i)[2] != 0) {
+        if (shifts == null) {
+          shifts = new int[ranges.size()];
+        }
+        shifts[i] = ranges.get(i)[2];
+      }
+    }
+    return new ParsedDocument(
+        toLexedDocument(contents, tokens),
+        new NonTerminal("file_input", children),
+        shifts,
+        firstTokens,
+        lastTokens,
+        true,
+        false);
+  }
+
+  private static LexedDocument toLexedDocument(String contents, List<Token> tokens) {
+    LexedDocument lexed = new LexedDocument(contents);
+    for (Token token : tokens) {
+      lexed.addToken(token.getType(), token.getStartIndex(), token.getStopIndex());
+    }
+    return lexed;
+  }
+
+  private static boolean sameToken(LexedDocument previous, int i, Token token, int shift) {
+    return previous.getType(i) == token.getType()
+        && previous.getStart(i) + shift == token.getStartIndex()
+        && previous.getStop(i) + shift == token.getStopIndex();
+  }
+
+  private static boolean sameTree(AST a, AST b) {
+    if (a instanceof Terminal || b instanceof Terminal) {
+      return a instanceof Terminal
+          && b instanceof Terminal
+          && a.getStartOffset() == b.getStartOffset()
+          && a.getLength() == b.getLength();
+    }
+    List<AST> as = ((NonTerminal) a).getChildren();
+    List<AST> bs = ((NonTerminal) b).getChildren();
+    if (!((NonTerminal) a).getName().equals(((NonTerminal) b).getName())
+        || as.size() != bs.size()) {
+      return false;
+    }
+    for (int i = 0; i < as.size(); i++) {
+      if (!sameTree(as.get(i), bs.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
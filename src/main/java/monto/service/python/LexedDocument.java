@@ -0,0 +1,145 @@
+package monto.service.python;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import monto.service.python.antlr.Python3Lexer;
+
+/**
+ * The tokens of one version of a document together with the lexer checkpoints taken at the start of
+ * each line, which allow lexing the next version from the first changed line onwards.
+ */
+class LexedDocument {
+
+  private final String contents;
+
+  private int[] types = new int[256];
+  private int[] starts = new int[256];
+  private int[] stops = new int[256];
+  private int size = 0;
+
+  private final List<Checkpoint> checkpoints = new ArrayList<>();
+
+  public LexedDocument(String contents) {
+    this.contents = contents;
+  }
+
+  public String getContents() {
+    return contents;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int getType(int i) {
+    return types[i];
+  }
+
+  public int getStart(int i) {
+    return starts[i];
+  }
+
+  public int getStop(int i) {
+    return stops[i];
+  }
+
+  public void addToken(int type, int start, int stop) {
+    if (size == types.length) {
+      types = Arrays.copyOf(types, size * 2);
+      starts = Arrays.copyOf(starts, size * 2);
+      stops = Arrays.copyOf(stops, size * 2);
+    }
+    types[size] = type;
+    starts[size] = start;
+    stops[size] = stop;
+    size++;
+  }
+
+  public List<Checkpoint> getCheckpoints() {
+    return checkpoints;
+  }
+
+  public void addCheckpoint(Checkpoint checkpoint) {
+    checkpoints.add(checkpoint);
+  }
+
+  /**
+   * Returns the index of the last checkpoint from which lexing can be resumed if the document is
+   * changed at {@code offset}, i.e. the last one that does not depend on any character at or after
+   * {@code offset}.
+   */
+  public int lastCheckpointBefore(int offset) {
+    for (int i = checkpoints.size() - 1; i > 0; i--) {
+      Checkpoint checkpoint = checkpoints.get(i);
+      if (checkpoint.getState().getIndex() <= offset && checkpoint.getLookahead() < offset) {
+        return i;
+      }
+    }
+    return 0;
+  }
+
+  /** Returns the index of the checkpoint at {@code offset}, or -1 if there is none. */
+  public int findCheckpoint(int offset) {
+    int low = 0;
+    int high = checkpoints.size() - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int index = checkpoints.get(middle).getState().getIndex();
+      if (index < offset) {
+        low = middle + 1;
+      } else if (index > offset) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -1;
+  }
+
+  /** Returns true if both documents consist of exactly the same tokens. */
+  public boolean sameTokens(LexedDocument other) {
+    if (size != other.size) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (types[i] != other.types[i]
+          || starts[i] != other.starts[i]
+          || stops[i] != other.stops[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** The state of the lexer at the first token boundary of a line. */
+  static class Checkpoint {
+
+    private final Python3Lexer.State state;
+    private final int tokenIndex;
+    private final int lookahead;
+
+    /**
+     * @param state the lexer state at the checkpoint
+     * @param tokenIndex the number of tokens produced before the checkpoint
+     * @param lookahead the furthest character the lexer looked at before the checkpoint
+     */
+    public Checkpoint(Python3Lexer.State state, int tokenIndex, int lookahead) {
+      this.state = state;
+      this.tokenIndex = tokenIndex;
+      this.lookahead = lookahead;
+    }
+
+    public Python3Lexer.State getState() {
+      return state;
+    }
+
+    public int getTokenIndex() {
+      return tokenIndex;
+    }
+
+    public int getLookahead() {
+      return lookahead;
+    }
+  }
+}
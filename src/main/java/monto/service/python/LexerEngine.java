@@ -0,0 +1,23 @@
+package monto.service.python;
+
+/** The lexers the services can be run with. */
+enum LexerEngine {
+
+  /** The lexer generated from the grammar. */
+  ANTLR {
+    @Override
+    PythonTokenSource create() {
+      return new AntlrPythonLexer();
+    }
+  },
+
+  /** A hand-written lexer that produces the same tokens several times faster. */
+  FAST {
+    @Override
+    PythonTokenSource create() {
+      return new FastPythonLexer();
+    }
+  };
+
+  abstract PythonTokenSource create();
+}
@@ -1,7 +1,18 @@
 package monto.service.python;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 import monto.service.MontoService;
 import monto.service.ZMQConfiguration;
 import monto.service.resources.ResourceServer;
@@ -13,7 +24,12 @@ import org.zeromq.ZContext;
 
 public class Main {
 
+  private static final long DFA_SNAPSHOT_MINUTES = 10;
+  private static final String PROFILE_REPORT = "decision-profile.json";
+
   private static ResourceServer resourceServer;
+  private static volatile Path dfaSnapshot;
+  private static volatile Path profileReport;
 
   public static void main(String[] args) throws Exception {
     ZContext context = new ZContext(1);
@@ -34,6 +50,32 @@ public class Main {
                   e.printStackTrace();
                 }
                 context.destroy();
+                System.out.printf(
+                    "parsed %d files, %d of them again with full LL prediction%n",
+                    Recognizers.getParses(), Recognizers.getFallbacks());
+                System.out.printf(
+                    "cancelled %d parses of superseded versions%n",
+                    IncrementalParser.getCancellations());
+                System.out.printf(
+                    "skipped broken code in %d parses after error recovery used up its budget%n",
+                    Recognizers.getDegradedParses());
+                System.out.printf("statement cache: %s%n", StatementCache.report());
+                System.out.printf("DFA caches: %s%n", DfaCache.current().report());
+                if (dfaSnapshot != null) {
+                  try {
+                    DfaCache.current().save(dfaSnapshot);
+                  } catch (Exception e) {
+                    e.printStackTrace();
+                  }
+                }
+                if (profileReport != null) {
+                  System.out.printf("decision profile: %s%n", DecisionProfile.report());
+                  try {
+                    DecisionProfile.write(profileReport);
+                  } catch (Exception e) {
+                    e.printStackTrace();
+                  }
+                }
                 System.out.println("everything terminated, good bye");
               }
             });
@@ -41,14 +83,53 @@ public class Main {
     Options options = new Options();
     options
         .addOption("tokenizer", false, "enable Python tokenizer")
+        .addOption("packedtokenizer", false, "enable Python tokenizer with packed tokens")
+        .addOption("deltatokenizer", false, "enable Python tokenizer with token deltas")
         .addOption("parser", false, "enable Python parser")
+        .addOption(
+            "compactparser", false, "enable Python parser with compact ASTs for the outliner")
+        .addOption(
+            "skeletonparser", false, "enable Python parser with ASTs without function bodies")
+        .addOption("binaryast", false, "also send ASTs in a binary encoding, as separate services")
         .addOption("outliner", false, "enable Python outliner")
         .addOption("identifierfinder", false, "enable Python identifier finder")
         .addOption("codecompletioner", false, "enable Python code completioner")
         .addOption("address", true, "address of services")
         .addOption("registration", true, "address of broker registration")
         .addOption("resources", true, "port for http resource server")
-        .addOption("debug", false, "enable debugging output");
+        .addOption("debug", false, "enable debugging output")
+        .addOption("lexer", true, "lexer to use: antlr (default) or fast")
+        .addOption("verifylexer", false, "check lexing against a full lex with the ANTLR lexer")
+        .addOption("verifyparser", false, "check incremental parsing against a full parse")
+        .addOption("directast", false, "build the AST while parsing instead of from a parse tree")
+        .addOption(
+            "cancelparsing",
+            true,
+            "stop parsing a version once a newer one arrives, waiting this many ms for each AST"
+                + " before receiving the next request")
+        .addOption(
+            "legacyrulenames", false, "build expressions in ASTs the way the old grammar did")
+        .addOption(
+            "maxsyntaxerrors",
+            true,
+            "skip to the next top-level statement on errors after this many syntax errors")
+        .addOption(
+            "maxresynctokens",
+            true,
+            "skip to the next top-level statement on errors after skipping this many tokens")
+        .addOption(
+            "statementcache", true, "reuse ASTs of identical statements, up to this many MiB")
+        .addOption(
+            "streamingparsing",
+            true,
+            "with -binaryast, parse files of at least this many KiB one statement at a time for the"
+                + " binary ASTs")
+        .addOption("parallelparsing", true, "parse files of at least this many tokens in parallel")
+        .addOption("dfacachelimit", true, "reset the DFA caches once they exceed this many MiB")
+        .addOption("dfacacheminutes", true, "reset the DFA caches after this many minutes")
+        .addOption("dfasnapshot", true, "file to restore the DFA caches from and save them to")
+        .addOption("profileparsing", true, "profile the decisions of this fraction of parses")
+        .addOption("warmup", false, "lex and parse a bundled corpus before registering");
 
     CommandLineParser parser = new DefaultParser();
     CommandLine cmd = parser.parse(options, args);
@@ -60,9 +141,42 @@ public class Main {
             cmd.getOptionValue("registration"),
             Integer.parseInt(cmd.getOptionValue("resources")));
 
-    resourceServer =
-        new ResourceServer(
-            Main.class.getResource("/icons").toExternalForm(), zmqConfig.getResourcePort());
+    Recognizers.useLexer(LexerEngine.valueOf(cmd.getOptionValue("lexer", "antlr").toUpperCase()));
+    Recognizers.buildAstWhileParsing(cmd.hasOption("directast"));
+    Recognizers.useLegacyExpressions(cmd.hasOption("legacyrulenames"));
+    Recognizers.limitErrorRecovery(
+        Integer.parseInt(cmd.getOptionValue("maxsyntaxerrors", String.valueOf(Integer.MAX_VALUE))),
+        Integer.parseInt(cmd.getOptionValue("maxresynctokens", String.valueOf(Integer.MAX_VALUE))));
+
+    if (cmd.hasOption("dfasnapshot")) {
+      dfaSnapshot = Paths.get(cmd.getOptionValue("dfasnapshot"));
+      DfaCache.restore(dfaSnapshot);
+      DfaCache.saveEvery(dfaSnapshot, DFA_SNAPSHOT_MINUTES);
+    }
+    if (cmd.hasOption("warmup")) {
+      Warmup.run();
+    }
+    String resources = Main.class.getResource("/icons").toExternalForm();
+    if (cmd.hasOption("profileparsing")) {
+      // The resource server serves a single directory, which holds a copy of the icons next to the
+      // decision profile then.
+      Path directory = Files.createTempDirectory("python-resources");
+      copyIcons(directory);
+      resources = directory.toUri().toString();
+      profileReport = directory.resolve(PROFILE_REPORT);
+      DecisionProfile.write(profileReport);
+      DecisionProfile.writeEveryMinute(profileReport);
+      System.out.printf(
+          "serving the decision profile at http://localhost:%d/%s%n",
+          zmqConfig.getResourcePort(), PROFILE_REPORT);
+      // After the warmup, which would skew the profile.
+      DecisionProfile.sample(Double.parseDouble(cmd.getOptionValue("profileparsing")));
+    }
+    DfaCache.resetWhen(
+        Long.parseLong(cmd.getOptionValue("dfacachelimit", "0")) * 1024 * 1024,
+        Long.parseLong(cmd.getOptionValue("dfacacheminutes", "0")));
+
+    resourceServer = new ResourceServer(resources, zmqConfig.getResourcePort());
     try {
       resourceServer.start();
     } catch (Exception e) {
@@ -70,16 +184,50 @@ public class Main {
     }
 
     if (cmd.hasOption("tokenizer")) {
-      services.add(new PythonTokenizer(zmqConfig));
+      PythonTokenizer tokenizer = new PythonTokenizer(zmqConfig);
+      if (cmd.hasOption("verifylexer")) {
+        tokenizer.enableLexerVerification();
+      }
+      services.add(tokenizer);
+    }
+    if (cmd.hasOption("packedtokenizer")) {
+      PythonPackedTokenizer tokenizer = new PythonPackedTokenizer(zmqConfig);
+      if (cmd.hasOption("verifylexer")) {
+        tokenizer.enableLexerVerification();
+      }
+      services.add(tokenizer);
+    }
+    if (cmd.hasOption("deltatokenizer")) {
+      PythonDeltaTokenizer tokenizer = new PythonDeltaTokenizer(zmqConfig);
+      if (cmd.hasOption("verifylexer")) {
+        tokenizer.enableLexerVerification();
+      }
+      services.add(tokenizer);
     }
     if (cmd.hasOption("parser")) {
-      services.add(new PythonParser(zmqConfig));
+      addParsers(services, zmqConfig, false, false, cmd);
+    }
+    if (cmd.hasOption("compactparser")) {
+      addParsers(services, zmqConfig, true, false, cmd);
+    }
+    if (cmd.hasOption("skeletonparser")) {
+      addParsers(services, zmqConfig, false, true, cmd);
     }
     if (cmd.hasOption("outliner")) {
-      services.add(new PythonOutliner(zmqConfig));
+      services.add(
+          new PythonOutliner(
+              zmqConfig,
+              cmd.hasOption("compactparser"),
+              cmd.hasOption("binaryast"),
+              cmd.hasOption("skeletonparser")));
     }
     if (cmd.hasOption("identifierfinder")) {
-      services.add(new PythonIdentifierFinder(zmqConfig));
+      services.add(
+          new PythonIdentifierFinder(
+              zmqConfig,
+              cmd.hasOption("compactparser"),
+              cmd.hasOption("binaryast"),
+              cmd.hasOption("skeletonparser")));
     }
     if (cmd.hasOption("codecompletioner")) {
       services.add(new PythonCodeCompletioner(zmqConfig));
@@ -96,4 +244,68 @@ public class Main {
       }
     }
   }
+
+  /**
+   * Copies the icons bundled under {@code /icons}, which may be part of a jar, to {@code target}.
+   */
+  private static void copyIcons(Path target) throws IOException, URISyntaxException {
+    URI icons = Main.class.getResource("/icons").toURI();
+    if (!icons.getScheme().equals("jar")) {
+      copy(Paths.get(icons), target);
+      return;
+    }
+    try (FileSystem jar = FileSystems.newFileSystem(icons, Collections.emptyMap())) {
+      copy(jar.getPath("/icons"), target);
+    }
+  }
+
+  private static void copy(Path source, Path target) throws IOException {
+    try (Stream<Path> files = Files.walk(source)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        Path copy = target.resolve(source.relativize(file).toString());
+        if (Files.isDirectory(file)) {
+          Files.createDirectories(copy);
+        } else {
+          Files.copy(file, copy, StandardCopyOption.REPLACE_EXISTING);
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds the parser service of the given kind, and with -binaryast the one that sends the same AST
+   * in the encoding of {@link BinaryAst} next to it.
+   */
+  private static void addParsers(
+      List<MontoService> services,
+      ZMQConfiguration zmqConfig,
+      boolean compact,
+      boolean skeleton,
+      CommandLine cmd) {
+    services.add(configureParser(new PythonParser(zmqConfig, compact, false, skeleton), cmd));
+    if (cmd.hasOption("binaryast")) {
+      services.add(configureParser(new PythonParser(zmqConfig, compact, true, skeleton), cmd));
+    }
+  }
+
+  /** Applies the options every kind of parser service shares to {@code parser}. */
+  private static PythonParser configureParser(PythonParser parser, CommandLine cmd) {
+    if (cmd.hasOption("verifyparser")) {
+      parser.enableParserVerification();
+    }
+    if (cmd.hasOption("cancelparsing")) {
+      parser.enableCancellation(Long.parseLong(cmd.getOptionValue("cancelparsing")));
+    }
+    if (cmd.hasOption("parallelparsing")) {
+      parser.enableParallelParsing(Integer.parseInt(cmd.getOptionValue("parallelparsing")));
+    }
+    if (cmd.hasOption("streamingparsing")) {
+      parser.enableStreaming(Integer.parseInt(cmd.getOptionValue("streamingparsing")) * 1024);
+    }
+    if (cmd.hasOption("statementcache")) {
+      parser.enableStatementCache(
+          Long.parseLong(cmd.getOptionValue("statementcache")) * 1024 * 1024);
+    }
+    return parser;
+  }
 }
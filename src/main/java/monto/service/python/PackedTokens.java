@@ -0,0 +1,78 @@
+package monto.service.python;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.util.Arrays;
+import java.util.Base64;
+import monto.service.gson.GsonMonto;
+import monto.service.highlighting.TokenCategory;
+
+/**
+ * Encodes the tokens of a document into the compact form of the {@link
+ * PythonProducts#PACKED_TOKENS} product:
+ *
+ * <pre>
+ * {
+ *   "fonts": [font of category 0, font of category 1, ...],
+ *   "tokens": base64 encoded varints
+ * }
+ * </pre>
+ *
+ * Every token is encoded as three varints (7 bits per byte, least significant group first, high bit
+ * set on all but the last byte): the difference between its offset and the offset of the previous
+ * token (zigzag encoded, as it can be negative), its length, and the index of its category in the
+ * font table.
+ *
+ * <p>The font table is the same for every product, so it is left out of most of them. Clients keep
+ * the last one they received.
+ */
+class PackedTokens {
+
+  private static final JsonArray FONTS = new JsonArray();
+
+  static {
+    for (TokenCategory category : TokenCategory.values()) {
+      FONTS.add(GsonMonto.toJsonTree(category.getFont()));
+    }
+  }
+
+  private byte[] buffer;
+  private int length = 0;
+
+  private PackedTokens(int tokens) {
+    buffer = new byte[tokens * 3 + 16];
+  }
+
+  /** Encodes the tokens of {@code document}, and the font table if {@code fonts} is true. */
+  public static JsonObject encode(LexedDocument document, boolean fonts) {
+    PackedTokens packed = new PackedTokens(document.size());
+    int previous = 0;
+    for (int i = 0; i < document.size(); i++) {
+      int start = document.getStart(i);
+      int delta = start - previous;
+      packed.writeVarint((delta << 1) ^ (delta >> 31));
+      packed.writeVarint(document.getStop(i) - start + 1);
+      packed.writeVarint(PythonTokenizer.categoryOf(document.getType(i)).ordinal());
+      previous = start;
+    }
+
+    JsonObject product = new JsonObject();
+    if (fonts) {
+      product.add("fonts", FONTS);
+    }
+    product.addProperty(
+        "tokens", Base64.getEncoder().encodeToString(Arrays.copyOf(packed.buffer, packed.length)));
+    return product;
+  }
+
+  private void writeVarint(int value) {
+    if (length + 5 > buffer.length) {
+      buffer = Arrays.copyOf(buffer, buffer.length * 2);
+    }
+    while ((value & ~0x7f) != 0) {
+      buffer[length++] = (byte) ((value & 0x7f) | 0x80);
+      value >>>= 7;
+    }
+    buffer[length++] = (byte) value;
+  }
+}
@@ -0,0 +1,128 @@
+package monto.service.python;
+
+import java.util.ArrayList;
+import java.util.List;
+import monto.service.ast.AST;
+import monto.service.ast.NonTerminal;
+import monto.service.ast.Terminal;
+
+/**
+ * The AST of one version of a document together with its tokens and the range of tokens each
+ * top-level statement covers, which allow reparsing only the statements an edit touched in the next
+ * version.
+ *
+ * <p>The top-level statements that an edit in front of them moved keep the offsets they were parsed
+ * at, together with how far they moved since. They are only moved when the AST is taken with {@link
+ * #getRoot} or encoded with {@link BinaryAst#encode(ParsedDocument)}, so that an edit near the
+ * start of a large document does not copy all statements behind it.
+ */
+class ParsedDocument {
+
+  private final LexedDocument tokens;
+  private final AST root;
+  private final int[] shifts;
+  private final int[] firstTokens;
+  private final int[] lastTokens;
+  private final boolean valid;
+  private final boolean degraded;
+
+  /**
+   * @param tokens the tokens of the document including EOF if the document is valid
+   * @param root the AST of the document
+   * @param shifts the number of characters each child of the root moved since it was parsed if the
+   *     document is valid, or null if none of them moved
+   * @param firstTokens the index of the first token of each child of the root if the document is
+   *     valid: a statement, NEWLINE or EOF
+   * @param lastTokens the index of the last token of each child of the root if the document is
+   *     valid
+   * @param valid whether the document parsed without syntax errors, which is required for reusing
+   *     any of its statements
+   * @param degraded whether error recovery used up its budget and skipped parts of the document
+   *     (see {@link BoundedErrorStrategy})
+   */
+  public ParsedDocument(
+      LexedDocument tokens,
+      AST root,
+      int[] shifts,
+      int[] firstTokens,
+      int[] lastTokens,
+      boolean valid,
+      boolean degraded) {
+    this.tokens = tokens;
+    this.root = root;
+    this.shifts = shifts;
+    this.firstTokens = firstTokens;
+    this.lastTokens = lastTokens;
+    this.valid = valid;
+    this.degraded = degraded;
+  }
+
+  public LexedDocument getTokens() {
+    return tokens;
+  }
+
+  /**
+   * Returns the AST of the document. The children of the root that moved are copied to their
+   * offsets in this document on every call.
+   */
+  public AST getRoot() {
+    if (shifts == null) {
+      return root;
+    }
+    List<AST> children = new ArrayList<>(shifts.length);
+    for (int i = 0; i < shifts.length; i++) {
+      children.add(shift(getChild(i), shifts[i]));
+    }
+    return new NonTerminal(((NonTerminal) root).getName(), children);
+  }
+
+  public int getChildCount() {
+    return firstTokens.length;
+  }
+
+  /**
+   * Returns the {@code i}th child of the root at the offsets it was parsed at, which are {@link
+   * #getShift} characters off.
+   */
+  public AST getChild(int i) {
+    return ((NonTerminal) root).getChildren().get(i);
+  }
+
+  /**
+   * Returns the number of characters the {@code i}th child of the root moved since it was parsed.
+   */
+  public int getShift(int i) {
+    return shifts == null ? 0 : shifts[i];
+  }
+
+  public int getFirstToken(int i) {
+    return firstTokens[i];
+  }
+
+  public int getLastToken(int i) {
+    return lastTokens[i];
+  }
+
+  public boolean isValid() {
+    return valid;
+  }
+
+  public boolean isDegraded() {
+    return degraded;
+  }
+
+  /** Returns a copy of {@code node} with all offsets moved by {@code shift}. */
+  private static AST shift(AST node, int shift) {
+    if (shift == 0) {
+      return node;
+    } else if (node instanceof Terminal) {
+      return new Terminal(node.getStartOffset() + shift, node.getLength());
+    }
+    NonTerminal nonTerminal = (NonTerminal) node;
+    List<AST> children = new ArrayList<>(nonTerminal.getChildren().size());
+    for (AST child : nonTerminal.getChildren()) {
+      children.add(shift(child, shift));
+    }
+    return new NonTerminal(nonTerminal.getName(), children);
+  }
+}
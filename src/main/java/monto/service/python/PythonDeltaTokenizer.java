@@ -0,0 +1,112 @@
+package monto.service.python;
+
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import monto.service.MontoService;
+import monto.service.ZMQConfiguration;
+import monto.service.registration.ProductDescription;
+import monto.service.registration.SourceDependency;
+import monto.service.request.Request;
+import monto.service.source.SourceMessage;
+import monto.service.types.Languages;
+import monto.service.types.LongKey;
+import monto.service.types.Source;
+
+/**
+ * A tokenizer that sends only how the tokens of a source changed since the version it sent last
+ * (see {@link TokenDelta}). After a small edit of a large document, clients that subscribe to it
+ * instead of the tokenizer receive and apply a few tokens instead of all of them.
+ *
+ * <p>Each delta names the version it applies to. A client that does not have the tokens of that
+ * version, because it connected later or missed a product, drops the delta and sends its current
+ * version again. The same version arriving twice makes the tokenizer send all tokens of it, which
+ * every client can take over. All tokens are also sent for sources it has not sent anything for or
+ * forgot about, and every {@value #FULL_EVERY} versions, so that clients catch up even if they
+ * cannot ask.
+ */
+public class PythonDeltaTokenizer extends MontoService {
+
+  private static final int MAX_DOCUMENTS = 64;
+  static final int FULL_EVERY = 100;
+
+  private final IncrementalLexer lexer = new IncrementalLexer();
+
+  // The id and tokens of the last version sent for each source, and how many deltas followed the
+  // last version sent with all tokens.
+  private final Map<Source, Sent> sent =
+      new LinkedHashMap<Source, Sent>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Source, Sent> eldest) {
+          return size() > MAX_DOCUMENTS;
+        }
+      };
+
+  public PythonDeltaTokenizer(ZMQConfiguration zmqConfig) {
+    super(
+        zmqConfig,
+        PythonServices.DELTA_TOKENIZER,
+        "Delta Tokenizer",
+        "A tokenizer for Python that sends the tokens that changed since the last version",
+        productDescriptions(new ProductDescription(PythonProducts.TOKEN_DELTAS, Languages.PYTHON)),
+        options(),
+        dependencies(new SourceDependency(Languages.PYTHON)),
+        commands());
+  }
+
+  @Override
+  public void onRequest(Request request) throws IOException {
+    SourceMessage version =
+        request
+            .getSourceMessage()
+            .orElseThrow(() -> new IllegalArgumentException("No version message in request"));
+
+    LexedDocument document = lexer.lex(version.getSource(), version.getContents());
+
+    // Every delta has to apply to the one sent before it, so computing and sending them must not
+    // interleave.
+    synchronized (sent) {
+      sendProductMessage(
+          version.getId(),
+          version.getSource(),
+          PythonProducts.TOKEN_DELTAS,
+          Languages.PYTHON,
+          delta(version.getId(), version.getSource(), document));
+    }
+  }
+
+  /**
+   * Returns the product for version {@code id} of {@code source}, and remembers it as the last one
+   * sent. This is a delta from the last version sent, or all tokens if there is none, if it is the
+   * same version again, or if {@value #FULL_EVERY} deltas were sent in a row.
+   */
+  JsonObject delta(LongKey id, Source source, LexedDocument document) {
+    synchronized (sent) {
+      Sent previous = sent.get(source);
+      if (previous == null || previous.id.equals(id) || previous.deltas + 1 >= FULL_EVERY) {
+        sent.put(source, new Sent(id, document, 0));
+        return TokenDelta.encode(document);
+      }
+      sent.put(source, new Sent(id, document, previous.deltas + 1));
+      return TokenDelta.encode(previous.id, previous.document, document);
+    }
+  }
+
+  /** Checks every incrementally lexed version against a full lex of the document. */
+  public void enableLexerVerification() {
+    lexer.enableVerification();
+  }
+
+  private static class Sent {
+    private final LongKey id;
+    private final LexedDocument document;
+    private final int deltas;
+
+    Sent(LongKey id, LexedDocument document, int deltas) {
+      this.id = id;
+      this.document = document;
+      this.deltas = deltas;
+    }
+  }
+}
@@ -19,10 +19,26 @@ import monto.service.registration.SourceDependency;
 import monto.service.request.Request;
 import monto.service.source.SourceMessage;
 import monto.service.types.Languages;
+import monto.service.types.Product;
 
 public class PythonIdentifierFinder extends MontoService {
 
+  private final Product astProduct;
+  private final boolean binaryAst;
+
   public PythonIdentifierFinder(ZMQConfiguration zmqConfig) {
+    this(zmqConfig, false, false, false);
+  }
+
+  /**
+   * @param compactAst whether to compute the identifiers from the AST without chains of single
+   *     rules
+   * @param binaryAst whether to receive the AST in the encoding of {@link BinaryAst}
+   * @param skeletonAst whether to compute the identifiers from the AST without the bodies of
+   *     functions, which are parsed here when they are reached
+   */
+  public PythonIdentifierFinder(
+      ZMQConfiguration zmqConfig, boolean compactAst, boolean binaryAst, boolean skeletonAst) {
     super(
         zmqConfig,
         PythonServices.IDENTIFIER_FINDER,
@@ -32,8 +48,13 @@ public class PythonIdentifierFinder extends MontoService {
         options(),
         dependencies(
             new SourceDependency(Languages.PYTHON),
-            new ProductDependency(PythonServices.PARSER, Products.AST, Languages.PYTHON)),
+            new ProductDependency(
+                PythonParser.serviceId(compactAst, binaryAst, skeletonAst),
+                PythonParser.product(compactAst, binaryAst, skeletonAst),
+                Languages.PYTHON)),
         commands());
+    this.astProduct = PythonParser.product(compactAst, binaryAst, skeletonAst);
+    this.binaryAst = binaryAst;
   }
 
   @Override
@@ -44,10 +65,10 @@ public class PythonIdentifierFinder extends MontoService {
             .orElseThrow(() -> new IllegalArgumentException("No version message in request"));
     ProductMessage ast =
         request
-            .getProductMessage(Products.AST, Languages.PYTHON)
+            .getProductMessage(astProduct, Languages.PYTHON)
             .orElseThrow(() -> new IllegalArgumentException("No AST message in request"));
 
-    AST root = GsonMonto.fromJson(ast, AST.class);
+    AST root = PythonParser.readAst(ast, binaryAst);
     IdentifierVisitor completionVisitor = new IdentifierVisitor(version.getContents());
     root.accept(completionVisitor);
     List<Identifier> identifiers = completionVisitor.getIdentifiers();
@@ -65,9 +86,11 @@ public class PythonIdentifierFinder extends MontoService {
     private TreeSet<String> variableNamesAlreadyOutlined = new TreeSet<String>();
     private List<Identifier> identifiers = new ArrayList<>();
     private String content;
+    private FunctionBodies bodies;
 
     public IdentifierVisitor(String content) {
       this.content = content;
+      this.bodies = new FunctionBodies(content, true);
     }
 
     @Override
@@ -90,6 +113,10 @@ public class PythonIdentifierFinder extends MontoService {
           checkExpr_stmt(node, "variable");
           break;
 
+        case SkeletonTokens.SKIPPED_SUITE:
+          bodies.parse(node).accept(this);
+          break;
+
         default:
           node.getChildren().forEach(child -> child.accept(this));
       }
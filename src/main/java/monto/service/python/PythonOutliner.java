@@ -20,10 +20,25 @@ import monto.service.registration.SourceDependency;
 import monto.service.request.Request;
 import monto.service.source.SourceMessage;
 import monto.service.types.Languages;
+import monto.service.types.Product;
 
 public class PythonOutliner extends MontoService {
 
+  private final Product astProduct;
+  private final boolean binaryAst;
+
   public PythonOutliner(ZMQConfiguration zmqConfig) {
+    this(zmqConfig, false, false, false);
+  }
+
+  /**
+   * @param compactAst whether to compute the outline from the AST without chains of single rules
+   * @param binaryAst whether to receive the AST in the encoding of {@link BinaryAst}
+   * @param skeletonAst whether to compute the outline from the AST without the bodies of functions,
+   *     which leaves out everything defined inside of them
+   */
+  public PythonOutliner(
+      ZMQConfiguration zmqConfig, boolean compactAst, boolean binaryAst, boolean skeletonAst) {
     super(
         zmqConfig,
         PythonServices.OUTLINER,
@@ -33,8 +48,13 @@ public class PythonOutliner extends MontoService {
         options(),
         dependencies(
             new SourceDependency(Languages.PYTHON),
-            new ProductDependency(PythonServices.PARSER, Products.AST, Languages.PYTHON)),
+            new ProductDependency(
+                PythonParser.serviceId(compactAst, binaryAst, skeletonAst),
+                PythonParser.product(compactAst, binaryAst, skeletonAst),
+                Languages.PYTHON)),
         commands());
+    this.astProduct = PythonParser.product(compactAst, binaryAst, skeletonAst);
+    this.binaryAst = binaryAst;
   }
 
   @Override
@@ -45,10 +65,10 @@ public class PythonOutliner extends MontoService {
             .orElseThrow(() -> new IllegalArgumentException("No version message in request"));
     ProductMessage ast =
         request
-            .getProductMessage(Products.AST, Languages.PYTHON)
+            .getProductMessage(astProduct, Languages.PYTHON)
             .orElseThrow(() -> new IllegalArgumentException("No AST message in request"));
 
-    NonTerminal root = (NonTerminal) GsonMonto.fromJson(ast, AST.class);
+    NonTerminal root = (NonTerminal) PythonParser.readAst(ast, binaryAst);
 
     OutlineTrimmer trimmer = new OutlineTrimmer(version.getContents());
     root.accept(trimmer);
@@ -0,0 +1,102 @@
+package monto.service.python;
+
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import monto.service.MontoService;
+import monto.service.ZMQConfiguration;
+import monto.service.registration.ProductDescription;
+import monto.service.registration.SourceDependency;
+import monto.service.request.Request;
+import monto.service.source.SourceMessage;
+import monto.service.types.Languages;
+import monto.service.types.LongKey;
+import monto.service.types.Source;
+
+/**
+ * A tokenizer that sends the same tokens as {@link PythonTokenizer}, but packed into a single
+ * string (see {@link PackedTokens}). Clients that subscribe to it instead of the tokenizer receive
+ * much smaller products.
+ *
+ * <p>The font table goes along with the first product for a source, with the same version arriving
+ * again, and with every {@value #FONTS_EVERY}th product, so that clients that connected later pick
+ * it up as well.
+ */
+public class PythonPackedTokenizer extends MontoService {
+
+  private static final int MAX_DOCUMENTS = 64;
+  static final int FONTS_EVERY = 100;
+
+  private final IncrementalLexer lexer = new IncrementalLexer();
+
+  // The id of the last version sent for each source, and how many products without the font
+  // table were sent since the last one with it.
+  private final Map<Source, Sent> sent =
+      new LinkedHashMap<Source, Sent>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Source, Sent> eldest) {
+          return size() > MAX_DOCUMENTS;
+        }
+      };
+
+  public PythonPackedTokenizer(ZMQConfiguration zmqConfig) {
+    super(
+        zmqConfig,
+        PythonServices.PACKED_TOKENIZER,
+        "Packed Tokenizer",
+        "A tokenizer for Python that sends its tokens in a compact encoding",
+        productDescriptions(new ProductDescription(PythonProducts.PACKED_TOKENS, Languages.PYTHON)),
+        options(),
+        dependencies(new SourceDependency(Languages.PYTHON)),
+        commands());
+  }
+
+  @Override
+  public void onRequest(Request request) throws IOException {
+    SourceMessage version =
+        request
+            .getSourceMessage()
+            .orElseThrow(() -> new IllegalArgumentException("No version message in request"));
+
+    LexedDocument document = lexer.lex(version.getSource(), version.getContents());
+
+    sendProductMessage(
+        version.getId(),
+        version.getSource(),
+        PythonProducts.PACKED_TOKENS,
+        Languages.PYTHON,
+        packed(version.getId(), version.getSource(), document));
+  }
+
+  /**
+   * Returns the product for version {@code id} of {@code source}, with the font table if there was
+   * no product for the source yet, if it is the same version again, or if {@value #FONTS_EVERY}
+   * products without it were sent in a row.
+   */
+  JsonObject packed(LongKey id, Source source, LexedDocument document) {
+    boolean fonts;
+    synchronized (sent) {
+      Sent previous = sent.get(source);
+      fonts =
+          previous == null || previous.id.equals(id) || previous.withoutFonts + 1 >= FONTS_EVERY;
+      sent.put(source, new Sent(id, fonts ? 0 : previous.withoutFonts + 1));
+    }
+    return PackedTokens.encode(document, fonts);
+  }
+
+  /** Checks every incrementally lexed version against a full lex of the document. */
+  public void enableLexerVerification() {
+    lexer.enableVerification();
+  }
+
+  private static class Sent {
+    private final LongKey id;
+    private final int withoutFonts;
+
+    Sent(LongKey id, int withoutFonts) {
+      this.id = id;
+      this.withoutFonts = withoutFonts;
+    }
+  }
+}
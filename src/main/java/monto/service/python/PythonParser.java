@@ -1,43 +1,130 @@
 package monto.service.python;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
-import java.util.List;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import monto.service.MontoService;
 import monto.service.ZMQConfiguration;
 import monto.service.ast.AST;
-import monto.service.ast.NonTerminal;
-import monto.service.ast.Terminal;
 import monto.service.gson.GsonMonto;
+import monto.service.product.ProductMessage;
 import monto.service.product.Products;
-import monto.service.python.antlr.Python3Lexer;
-import monto.service.python.antlr.Python3Parser;
 import monto.service.registration.ProductDescription;
 import monto.service.registration.SourceDependency;
 import monto.service.request.Request;
 import monto.service.source.SourceMessage;
 import monto.service.types.Languages;
-import org.antlr.v4.runtime.ANTLRInputStream;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.tree.ErrorNode;
-import org.antlr.v4.runtime.tree.ParseTreeListener;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
-import org.antlr.v4.runtime.tree.TerminalNode;
+import monto.service.types.LongKey;
+import monto.service.types.Product;
+import monto.service.types.ServiceId;
+import monto.service.types.Source;
 
 public class PythonParser extends MontoService {
 
+  // The property of the root of an AST product that flags a degraded parse.
+  private static final String DEGRADED = "degraded";
+
+  // The threads that all parser services parse the parts of large documents on.
+  private static final int PART_THREADS = Runtime.getRuntime().availableProcessors();
+  private static ExecutorService partPool;
+
+  private final Product product;
+  private final boolean compact;
+  private final boolean binary;
+  private final boolean skeleton;
+  private final IncrementalParser parser;
+  private volatile int streamingChars = Integer.MAX_VALUE;
+  // With cancellation, versions are parsed on this thread, so that a newer version can arrive and
+  // make the one being parsed give up.
+  private volatile ExecutorService parsing = null;
+  private volatile long waitMillis;
+  // The versions the parsing thread is done with, in the order they were handed over. Only the
+  // thread that receives the requests sends products, since ZeroMQ sockets must not be used by two
+  // threads at once.
+  private final BlockingQueue<Parsed> parsed = new LinkedBlockingQueue<>();
+  // The numbers of the last version handed over to the parsing thread and of the last one it was
+  // done with, which only the thread that receives the requests uses.
+  private long handedOver;
+  private long done;
+
   public PythonParser(ZMQConfiguration zmqConfig) {
+    this(zmqConfig, false, false, false);
+  }
+
+  /**
+   * @param compact whether to offer an AST that leaves out chains of rules with a single child, as
+   *     a separate service
+   * @param binary whether to send the AST in the encoding of {@link BinaryAst} instead of JSON, as
+   *     a separate service
+   * @param skeleton whether to offer a compact AST without the suites of functions instead (see
+   *     {@link SkeletonTokens}), as a separate service
+   */
+  public PythonParser(
+      ZMQConfiguration zmqConfig, boolean compact, boolean binary, boolean skeleton) {
     super(
         zmqConfig,
-        PythonServices.PARSER,
-        "Parser",
-        "A parser that produces an AST for Python using ANTLR",
-        productDescriptions(new ProductDescription(Products.AST, Languages.PYTHON)),
+        serviceId(compact, binary, skeleton),
+        (binary ? "Binary " : "")
+            + (skeleton ? "Skeleton Parser" : compact ? "Compact Parser" : "Parser"),
+        skeleton
+            ? "A parser that produces an AST for Python without the bodies of functions"
+            : compact
+                ? "A parser that produces an AST for Python without chains of single rules"
+                : "A parser that produces an AST for Python using ANTLR",
+        productDescriptions(
+            new ProductDescription(product(compact, binary, skeleton), Languages.PYTHON)),
         options(),
         dependencies(new SourceDependency(Languages.PYTHON)),
         commands());
+    this.product = product(compact, binary, skeleton);
+    this.compact = compact || skeleton;
+    this.binary = binary;
+    this.skeleton = skeleton;
+    this.parser = new IncrementalParser(compact || skeleton, skeleton);
+  }
+
+  /** Returns the service that offers the AST of the given kind and encoding. */
+  public static ServiceId serviceId(boolean compact, boolean binary, boolean skeleton) {
+    if (skeleton) {
+      return binary ? PythonServices.BINARY_SKELETON_PARSER : PythonServices.SKELETON_PARSER;
+    }
+    if (binary) {
+      return compact ? PythonServices.BINARY_COMPACT_PARSER : PythonServices.BINARY_PARSER;
+    }
+    return compact ? PythonServices.COMPACT_PARSER : PythonServices.PARSER;
+  }
+
+  /** Returns the product of the AST of the given kind and encoding. */
+  public static Product product(boolean compact, boolean binary, boolean skeleton) {
+    if (skeleton) {
+      return binary ? PythonProducts.BINARY_SKELETON_AST : PythonProducts.SKELETON_AST;
+    }
+    if (binary) {
+      return compact ? PythonProducts.BINARY_COMPACT_AST : PythonProducts.BINARY_AST;
+    }
+    return compact ? PythonProducts.COMPACT_AST : Products.AST;
+  }
+
+  /**
+   * Returns whether error recovery gave up on parts of the document of a product of {@link
+   * #product(boolean, boolean, boolean)}, which then leaves them out of the AST (see {@link
+   * Recognizers#limitErrorRecovery}).
+   */
+  public static boolean isDegraded(ProductMessage message) {
+    return message.getContents().getAsJsonObject().has(DEGRADED);
+  }
+
+  /** Reads the AST of a product of {@link #product(boolean, boolean, boolean)}. */
+  public static AST readAst(ProductMessage message, boolean binary) {
+    return binary
+        ? BinaryAst.decode(message.getContents())
+        : GsonMonto.fromJson(message, AST.class);
   }
 
   @Override
@@ -48,79 +135,176 @@ public class PythonParser extends MontoService {
             .getSourceMessage()
             .orElseThrow(() -> new IllegalArgumentException("No version message in request"));
 
-    Python3Lexer lexer = new Python3Lexer(new ANTLRInputStream());
-    lexer.setInputStream(new ANTLRInputStream(version.getContents()));
-    CommonTokenStream tokens = new CommonTokenStream(lexer);
-
-    Python3Parser parser = new Python3Parser(tokens);
-    parser.setTokenStream(tokens);
-    ParserRuleContext root = parser.file_input();
-    ParseTreeWalker walker = new ParseTreeWalker();
-
-    Converter converter = new Converter();
-    walker.walk(converter, root);
-
-    sendProductMessage(
-        version.getId(),
-        version.getSource(),
-        Products.AST,
-        Languages.PYTHON,
-        GsonMonto.toJsonTree(converter.getRoot()));
+    parse(version.getId(), version.getSource(), version.getContents());
   }
 
-  private static class Converter implements ParseTreeListener {
+  /**
+   * Parses a version of a source and sends its AST. With cancellation, this hands the version over
+   * to the parsing thread and waits a while for its AST, sending those of any versions parsed in
+   * the meantime. An AST that takes longer is sent along with the next request.
+   */
+  void parse(LongKey id, Source source, String contents) throws InterruptedException {
+    long number = parser.arrived(source);
+    ExecutorService executor = parsing;
+    if (executor == null) {
+      JsonElement ast = parse(source, contents, number);
+      if (ast != null) {
+        sendAst(id, source, ast);
+      }
+      return;
+    }
+    executor.execute(
+        () -> {
+          JsonElement ast = null;
+          try {
+            ast = parse(source, contents, number);
+          } catch (RuntimeException e) {
+            e.printStackTrace();
+          }
+          parsed.add(new Parsed(id, source, number, ast));
+        });
+    handedOver = number;
+    sendParsed(waitMillis);
+  }
 
-    private Deque<AST> nodes = new ArrayDeque<>();
+  /** Waits for the parsing thread to be done with every version handed over and sends the ASTs. */
+  void flush() throws InterruptedException {
+    sendParsed(Long.MAX_VALUE);
+  }
 
-    @Override
-    public void enterEveryRule(ParserRuleContext context) {
-      if (context.getChildCount() > 0) {
-        String name = monto.service.python.antlr.Python3Parser.ruleNames[context.getRuleIndex()];
-        List<AST> childs = new ArrayList<>(context.getChildCount());
-        NonTerminal node = new NonTerminal(name, childs);
-        addChild(node);
-        nodes.push(node);
+  /**
+   * Sends the ASTs of the versions the parsing thread is done with, waiting at most {@code millis}
+   * ms for it to be done with the last version handed over.
+   */
+  private void sendParsed(long millis) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    while (done != handedOver) {
+      Parsed next = parsed.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+      if (next == null) {
+        return;
+      }
+      done = next.number;
+      if (next.ast != null) {
+        sendAst(next.id, next.source, next.ast);
       }
     }
+  }
 
-    @Override
-    public void exitEveryRule(ParserRuleContext node) {
-      // Keep the last node to return
-      if (nodes.size() > 1) {
-        nodes.pop();
+  /** Returns the AST of a version, or null if a newer version of the source made it obsolete. */
+  private JsonElement parse(Source source, String contents, long number) {
+    if (binary && contents.length() >= streamingChars) {
+      StreamingParser streaming = new StreamingParser(compact, skeleton);
+      parser.forget(source);
+      JsonObject ast;
+      try {
+        ast = parser.parseVersion(source, number, () -> streaming.parse(contents));
+      } catch (CancellationException e) {
+        return null;
       }
+      if (streaming.isDegraded()) {
+        ast.addProperty(DEGRADED, true);
+      }
+      return ast;
     }
 
-    @Override
-    public void visitErrorNode(ErrorNode err) {
-      org.antlr.v4.runtime.Token symbol = err.getSymbol();
-      addChild(
-          new NonTerminal(
-              "error",
-              new Terminal(
-                  symbol.getStartIndex(), symbol.getStopIndex() - symbol.getStartIndex() + 1)));
+    ParsedDocument document;
+    try {
+      document = parser.parseDocument(source, contents, number);
+    } catch (CancellationException e) {
+      // A newer version of the source arrived, which makes this one obsolete.
+      return null;
     }
 
-    @Override
-    public void visitTerminal(TerminalNode terminal) {
-      org.antlr.v4.runtime.Token symbol = terminal.getSymbol();
-      Terminal token =
-          new Terminal(symbol.getStartIndex(), symbol.getStopIndex() - symbol.getStartIndex() + 1);
-      if (nodes.size() == 0) {
-        nodes.push(token);
-      } else {
-        addChild(token);
-      }
+    JsonElement ast =
+        binary ? BinaryAst.encode(document) : GsonMonto.toJsonTree(document.getRoot());
+    if (document.isDegraded()) {
+      ast.getAsJsonObject().addProperty(DEGRADED, true);
     }
+    return ast;
+  }
 
-    private void addChild(AST node) {
-      if (!nodes.isEmpty() && nodes.peek() instanceof NonTerminal) {
-        ((NonTerminal) nodes.peek()).addChild(node);
-      }
+  void sendAst(LongKey id, Source source, JsonElement ast) {
+    sendProductMessage(id, source, product, Languages.PYTHON, ast);
+  }
+
+  /**
+   * Parses documents of at least {@code minChars} characters one top-level statement at a time and
+   * encodes each one right away, which keeps only the largest statement in memory instead of the
+   * whole document (see {@link StreamingParser}). Only applies to binary ASTs, whose encoding takes
+   * a few bytes per token; the JSON of an AST is as large as the AST itself.
+   */
+  public void enableStreaming(int minChars) {
+    streamingChars = minChars;
+  }
+
+  /**
+   * Parses documents of at least {@code minTokens} tokens in parallel, on a pool of one thread per
+   * processor that all parser services share.
+   */
+  public void enableParallelParsing(int minTokens) {
+    parser.enableParallelParsing(partPool(), PART_THREADS, minTokens);
+  }
+
+  private static synchronized ExecutorService partPool() {
+    if (partPool == null) {
+      AtomicInteger threads = new AtomicInteger();
+      partPool =
+          Executors.newFixedThreadPool(
+              PART_THREADS,
+              runnable -> {
+                Thread thread = new Thread(runnable, "parser-part-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              });
     }
+    return partPool;
+  }
+
+  /**
+   * Takes over the ASTs of top-level statements that any source parsed before contained, keeping
+   * those of statements of about {@code maxBytes} bytes in total.
+   */
+  public void enableStatementCache(long maxBytes) {
+    parser.enableStatementCache(maxBytes);
+  }
+
+  /**
+   * Gives up parsing a version of a source without sending a product as soon as a request for a
+   * newer version of the same source arrives. The versions are then parsed one after the other on a
+   * thread of this service, and each request waits at most {@code waitMillis} ms for its AST before
+   * the next one is received.
+   */
+  public synchronized void enableCancellation(long waitMillis) {
+    this.waitMillis = waitMillis;
+    parser.enableCancellation();
+    if (parsing == null) {
+      parsing =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "python-parser");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+  }
+
+  /** Checks every incrementally parsed version against a full parse of the document. */
+  public void enableParserVerification() {
+    parser.enableVerification();
+  }
+
+  /** A version the parsing thread is done with, and its AST unless it was given up. */
+  private static final class Parsed {
+    final LongKey id;
+    final Source source;
+    final long number;
+    final JsonElement ast;
 
-    public AST getRoot() {
-      return nodes.peek();
+    Parsed(LongKey id, Source source, long number, JsonElement ast) {
+      this.id = id;
+      this.source = source;
+      this.number = number;
+      this.ast = ast;
     }
   }
 }
@@ -0,0 +1,16 @@
+package monto.service.python;
+
+import monto.service.types.Product;
+
+/** Products that only the Python services offer, next to the common ones in {@code Products}. */
+public final class PythonProducts {
+  public static final Product PACKED_TOKENS = new Product("packedTokens");
+  public static final Product TOKEN_DELTAS = new Product("tokenDeltas");
+  public static final Product COMPACT_AST = new Product("compactAst");
+  public static final Product BINARY_AST = new Product("binaryAst");
+  public static final Product BINARY_COMPACT_AST = new Product("binaryCompactAst");
+  public static final Product SKELETON_AST = new Product("skeletonAst");
+  public static final Product BINARY_SKELETON_AST = new Product("binarySkeletonAst");
+
+  private PythonProducts() {}
+}
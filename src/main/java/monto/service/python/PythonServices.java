@@ -4,7 +4,15 @@ import monto.service.types.ServiceId;
 
 public final class PythonServices {
   public static final ServiceId TOKENIZER = new ServiceId("pythonTokenizer");
+  public static final ServiceId PACKED_TOKENIZER = new ServiceId("pythonPackedTokenizer");
+  public static final ServiceId DELTA_TOKENIZER = new ServiceId("pythonDeltaTokenizer");
   public static final ServiceId PARSER = new ServiceId("pythonParser");
+  public static final ServiceId COMPACT_PARSER = new ServiceId("pythonCompactParser");
+  public static final ServiceId BINARY_PARSER = new ServiceId("pythonBinaryParser");
+  public static final ServiceId BINARY_COMPACT_PARSER = new ServiceId("pythonBinaryCompactParser");
+  public static final ServiceId SKELETON_PARSER = new ServiceId("pythonSkeletonParser");
+  public static final ServiceId BINARY_SKELETON_PARSER =
+      new ServiceId("pythonBinarySkeletonParser");
   public static final ServiceId OUTLINER = new ServiceId("pythonOutliner");
   public static final ServiceId CODE_COMPLETIONER = new ServiceId("pythonCodeCompletioner");
   public static final ServiceId IDENTIFIER_FINDER = new ServiceId("pythonIdentifierFinder");
@@ -0,0 +1,26 @@
+package monto.service.python;
+
+import monto.service.python.antlr.Python3Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.TokenSource;
+
+/**
+ * A lexer for Python that produces the tokens of {@link Python3Lexer}. It can be stopped in between
+ * two tokens and resumed later on, possibly by a different implementation.
+ */
+interface PythonTokenSource extends TokenSource {
+
+  /**
+   * Resets this lexer and makes it read from the current position of {@code input}, or from nothing
+   * if it is null. Afterwards, the position of {@code input} may or may not follow the lexer.
+   */
+  void setInputStream(CharStream input);
+
+  void setLine(int line);
+
+  /** Captures the state of this lexer in between two calls to {@link #nextToken()}. */
+  Python3Lexer.State saveState();
+
+  /** Puts this lexer back into a state captured by {@link #saveState()}. */
+  void restoreState(Python3Lexer.State state);
+}
@@ -1,11 +1,12 @@
 package monto.service.python;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import monto.service.MontoService;
 import monto.service.ZMQConfiguration;
 import monto.service.gson.GsonMonto;
+import monto.service.highlighting.Font;
 import monto.service.highlighting.Token;
 import monto.service.highlighting.TokenCategory;
 import monto.service.product.Products;
@@ -16,11 +17,27 @@ import monto.service.registration.SourceDependency;
 import monto.service.request.Request;
 import monto.service.source.SourceMessage;
 import monto.service.types.Languages;
-import org.antlr.v4.runtime.ANTLRInputStream;
 
 public class PythonTokenizer extends MontoService {
 
-  private Python3Lexer lexer;
+  // The category and font of every token type, indexed by token type.
+  private static final TokenCategory[] CATEGORIES =
+      new TokenCategory[Python3Parser.VOCABULARY.getMaxTokenType() + 1];
+  private static final Font[] FONTS = new Font[CATEGORIES.length];
+
+  static {
+    for (int type = 0; type < CATEGORIES.length; type++) {
+      CATEGORIES[type] = lookUpCategory(type);
+      FONTS[type] = CATEGORIES[type].getFont();
+    }
+  }
+
+  // Documents of at least this many characters get the tokens of the visible lines first.
+  private static final int PROGRESSIVE_THRESHOLD = 64 * 1024;
+  // The amount of lines an editor shows at once.
+  private static final int VISIBLE_LINES = 60;
+
+  private final IncrementalLexer lexer = new IncrementalLexer();
 
   public PythonTokenizer(ZMQConfiguration zmqConfig) {
     super(
@@ -41,14 +58,33 @@ public class PythonTokenizer extends MontoService {
             .getSourceMessage()
             .orElseThrow(() -> new IllegalArgumentException("No version message in request"));
 
-    lexer = new Python3Lexer(new ANTLRInputStream());
-    lexer.setInputStream(new ANTLRInputStream(version.getContents()));
-    List<Token> tokens =
-        lexer
-            .getAllTokens()
-            .stream()
-            .map(token -> convertToken(token))
-            .collect(Collectors.toList());
+    String contents = version.getContents();
+    if (contents.length() >= PROGRESSIVE_THRESHOLD
+        && version.getSelection().isPresent()
+        && !lexer.contains(version.getSource())) {
+      // There is no previous version to lex incrementally from, so highlight the visible lines
+      // first and follow up with the tokens of the whole document. Source messages only tell
+      // where the selection is, so these are all lines of any view that shows all of it.
+      int start = version.getSelection().get().getStartOffset();
+      int end = start + version.getSelection().get().getLength();
+      int from = moveLines(contents, start, -VISIBLE_LINES);
+      int to = moveLines(contents, end, VISIBLE_LINES);
+      sendTokens(version, lexer.lexUntil(contents, SafeLines.before(contents, from), to), from);
+      sendTokens(version, lexer.lex(version.getSource(), contents), 0);
+      return;
+    }
+
+    sendTokens(version, lexer.lex(version.getSource(), contents), 0);
+  }
+
+  /** Sends the tokens of {@code document} that end at or after {@code from}. */
+  private void sendTokens(SourceMessage version, LexedDocument document, int from) {
+    List<Token> tokens = new ArrayList<>(document.size());
+    for (int i = 0; i < document.size(); i++) {
+      if (document.getStop(i) >= from) {
+        tokens.add(convertToken(document.getType(i), document.getStart(i), document.getStop(i)));
+      }
+    }
 
     sendProductMessage(
         version.getId(),
@@ -58,10 +94,44 @@ public class PythonTokenizer extends MontoService {
         GsonMonto.toJsonTree(tokens));
   }
 
-  private Token convertToken(org.antlr.v4.runtime.Token token) {
+  /**
+   * Returns the start of the line {@code lines} lines below the one of {@code offset}, or above it
+   * if {@code lines} is negative, or the start or end of {@code text} if there are not as many.
+   */
+  private static int moveLines(String text, int offset, int lines) {
+    int position = Math.max(0, Math.min(offset, text.length()));
+    if (lines < 0) {
+      position = text.lastIndexOf('\n', position - 1) + 1;
+      for (int i = 0; i > lines && position > 0; i--) {
+        position = text.lastIndexOf('\n', position - 2) + 1;
+      }
+      return position;
+    }
+    for (int i = 0; i < lines && position < text.length(); i++) {
+      int end = text.indexOf('\n', position);
+      position = end < 0 ? text.length() : end + 1;
+    }
+    return position;
+  }
+
+  /** Checks every incrementally lexed version against a full lex of the document. */
+  public void enableLexerVerification() {
+    lexer.enableVerification();
+  }
+
+  static Token convertToken(int type, int start, int stop) {
+    Font font = type >= 0 && type < FONTS.length ? FONTS[type] : TokenCategory.UNKNOWN.getFont();
+    return new Token(start, stop - start + 1, font);
+  }
+
+  static TokenCategory categoryOf(int type) {
+    return type >= 0 && type < CATEGORIES.length ? CATEGORIES[type] : TokenCategory.UNKNOWN;
+  }
+
+  private static TokenCategory lookUpCategory(int type) {
     TokenCategory category;
 
-    switch (token.getType()) {
+    switch (type) {
 
         //            category = TokenCategory.COMMENT;
         //            break;
@@ -227,8 +297,6 @@ public class PythonTokenizer extends MontoService {
         category = TokenCategory.UNKNOWN;
     }
 
-    int offset = token.getStartIndex();
-    int length = token.getStopIndex() - offset + 1;
-    return new Token(offset, length, category.getFont());
+    return category;
   }
 }
@@ -0,0 +1,424 @@
+package monto.service.python;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import monto.service.python.antlr.Python3Parser;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.atn.ProfilingATNSimulator;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ErrorNodeImpl;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * The lexer, token stream and parser of one thread. They are created once per thread and reset for
+ * every request, so that requests can be handled concurrently without sharing any of them.
+ */
+final class Recognizers {
+
+  // The parser checks whether it should give up whenever it consumed this many tokens.
+  private static final int CANCELLATION_CHECK_TOKENS = 256;
+  private static final BooleanSupplier NEVER = () -> false;
+
+  private static final ThreadLocal<Recognizers> CURRENT = ThreadLocal.withInitial(Recognizers::new);
+
+  private static volatile LexerEngine engine = LexerEngine.ANTLR;
+
+  private static volatile boolean buildAstDirectly = false;
+  private static volatile boolean legacyExpressions = false;
+  private static volatile int maxSyntaxErrors = Integer.MAX_VALUE;
+  private static volatile int maxResyncTokens = Integer.MAX_VALUE;
+
+  private static final AtomicLong parses = new AtomicLong();
+  private static final AtomicLong fallbacks = new AtomicLong();
+  private static final AtomicLong degradedParses = new AtomicLong();
+
+  private final PythonTokenSource lexer = engine.create();
+  private final CommonTokenStream tokens =
+      new CommonTokenStream(lexer) {
+        @Override
+        public void setTokenSource(TokenSource tokenSource) {
+          super.setTokenSource(tokenSource);
+          // The runtime does not reset this itself, which would end the next stream right away.
+          fetchedEOF = false;
+        }
+
+        @Override
+        public void consume() {
+          super.consume();
+          if (++consumed % CANCELLATION_CHECK_TOKENS == 0 && cancelled.getAsBoolean()) {
+            throw new CancellationException();
+          }
+        }
+      };
+  private final Python3Parser parser = new Python3Parser(tokens);
+  private final AstBuilder builder = new AstBuilder();
+  private final BoundedErrorStrategy recovery =
+      new BoundedErrorStrategy(maxSyntaxErrors, maxResyncTokens) {
+        @Override
+        public Token recoverInline(Parser recognizer) throws RecognitionException {
+          Token token = super.recoverInline(recognizer);
+          // The parser adds the tokens made up for missing ones to its parse tree, but does not
+          // tell its listeners about them.
+          if (!recognizer.getBuildParseTree() && token.getTokenIndex() == -1) {
+            builder.visitErrorNode(new ErrorNodeImpl(token));
+          }
+          return token;
+        }
+      };
+  private final BailErrorStrategy bail = new BailErrorStrategy();
+  private DfaCache caches;
+  private BooleanSupplier cancelled = NEVER;
+  private int consumed = 0;
+  private boolean degraded = false;
+
+  private Recognizers() {}
+
+  /** Selects the lexer of all threads that have not used their recognizers yet. */
+  public static void useLexer(LexerEngine engine) {
+    Recognizers.engine = engine;
+  }
+
+  /**
+   * Makes {@link #buildFile} and {@link #buildValidFile} build the AST while parsing if {@code
+   * directly} is true, instead of building a parse tree first and converting it afterwards.
+   */
+  public static void buildAstWhileParsing(boolean directly) {
+    buildAstDirectly = directly;
+  }
+
+  /**
+   * Makes {@link #buildFile} and {@link #buildValidFile} build expressions the way the grammar did
+   * before its expression rules were made left-recursive if {@code legacy} is true (see {@link
+   * AstBuilder#setLegacyShape}).
+   */
+  public static void useLegacyExpressions(boolean legacy) {
+    legacyExpressions = legacy;
+  }
+
+  /**
+   * Limits the error recovery of all threads that have not used their recognizers yet (see {@link
+   * BoundedErrorStrategy}). Once a file has more than {@code maxErrors} syntax errors, or recovery
+   * skipped more than {@code maxResyncTokens} tokens of it, the parser skips to the next top-level
+   * statement on every further error.
+   */
+  public static void limitErrorRecovery(int maxErrors, int maxResyncTokens) {
+    maxSyntaxErrors = maxErrors;
+    Recognizers.maxResyncTokens = maxResyncTokens;
+  }
+
+  /** Returns how many files have been parsed with {@link #parseFile(CharStream)}. */
+  public static long getParses() {
+    return parses.get();
+  }
+
+  /** Returns how many of the parsed files needed a second parse with full LL prediction. */
+  public static long getFallbacks() {
+    return fallbacks.get();
+  }
+
+  /**
+   * Returns how many parses skipped parts of their input once error recovery used up its budget.
+   */
+  public static long getDegradedParses() {
+    return degradedParses.get();
+  }
+
+  /** Returns the recognizers of the current thread. */
+  public static Recognizers get() {
+    return CURRENT.get();
+  }
+
+  /** Returns this thread's lexer. */
+  public PythonTokenSource lexer() {
+    return lexer;
+  }
+
+  /** Returns this thread's lexer, reset to the current position of {@code input}. */
+  public PythonTokenSource lexer(CharStream input) {
+    lexer.setInputStream(input);
+    return lexer;
+  }
+
+  /** Returns this thread's parser, reset to parse the tokens of {@code input}. */
+  public Python3Parser parser(CharStream input) {
+    lexer.setInputStream(input);
+    return parser(lexer);
+  }
+
+  /** Returns this thread's parser, reset to parse the tokens of {@code source}. */
+  public Python3Parser parser(TokenSource source) {
+    endProfile();
+    if (caches != DfaCache.current()) {
+      caches = DfaCache.current();
+      parser.setInterpreter(caches.parserSimulator(parser));
+    }
+    if (DecisionProfile.sampleNext()) {
+      // It shares the DFA of the simulator it replaces.
+      parser.setInterpreter(new ProfilingATNSimulator(parser));
+    }
+    tokens.setTokenSource(source);
+    parser.setTokenStream(tokens);
+    parser.setBuildParseTree(true);
+    parser.removeParseListeners();
+    builder.reset();
+    useFullPrediction();
+    degraded = false;
+    return parser;
+  }
+
+  /**
+   * Parses {@code input} as a file. The parser first tries SLL prediction, which is much faster and
+   * succeeds for nearly all valid code, and stops at the first syntax error. Only then the file is
+   * parsed again from the already lexed tokens with full LL prediction and error recovery, which
+   * produces the same tree for valid code.
+   */
+  public Python3Parser.File_inputContext parseFile(CharStream input) {
+    lexer.setInputStream(input);
+    return parseFile(lexer);
+  }
+
+  /** Parses the tokens of {@code source} as a file, like {@link #parseFile(CharStream)}. */
+  public Python3Parser.File_inputContext parseFile(TokenSource source) {
+    parser(source);
+    return parseFile();
+  }
+
+  /**
+   * Parses the tokens of {@code source} as a file, like {@link #parseFile(CharStream)}, but returns
+   * null instead of recovering from syntax errors.
+   */
+  public Python3Parser.File_inputContext parseValidFile(TokenSource source) {
+    parser(source);
+    return parseValidFile();
+  }
+
+  /**
+   * Parses the tokens of {@code source} as a file, like {@link #parseFile(TokenSource)}, and
+   * returns this thread's AST builder holding its AST, which is compact if {@code compact} is true
+   * (see {@link AstBuilder#setCompact}).
+   */
+  public AstBuilder buildFile(TokenSource source, boolean compact) {
+    builder.setCompact(compact);
+    builder.setLegacyShape(legacyExpressions);
+    if (!buildAstDirectly) {
+      return walk(parseFile(source));
+    }
+    buildDirectly(source);
+    parseFile();
+    return builder;
+  }
+
+  /**
+   * Parses the tokens of {@code source} as a file, like {@link #parseValidFile(TokenSource)}, and
+   * returns this thread's AST builder holding its AST, or null if it contains syntax errors.
+   */
+  public AstBuilder buildValidFile(TokenSource source, boolean compact) {
+    builder.setCompact(compact);
+    builder.setLegacyShape(legacyExpressions);
+    if (!buildAstDirectly) {
+      Python3Parser.File_inputContext root = parseValidFile(source);
+      return root == null ? null : walk(root);
+    }
+    buildDirectly(source);
+    return parseValidFile() == null ? null : builder;
+  }
+
+  /**
+   * Parses the tokens of {@code source} as the suite of a compound statement, which starts with its
+   * NEWLINE and INDENT, like {@link #buildFile}, and returns this thread's AST builder holding its
+   * AST.
+   */
+  public AstBuilder buildSuite(TokenSource source, boolean compact) {
+    builder.setCompact(compact);
+    builder.setLegacyShape(legacyExpressions);
+    if (!buildAstDirectly) {
+      parser(source);
+      return walk(parse(this::suite));
+    }
+    buildDirectly(source);
+    parse(this::suite);
+    return builder;
+  }
+
+  // Parses a suite, or as much of it as error recovery got through before giving up.
+  private Python3Parser.SuiteContext suite() {
+    try {
+      return parser.suite();
+    } catch (BoundedErrorStrategy.Resync e) {
+      degraded = true;
+      degradedParses.incrementAndGet();
+      return (Python3Parser.SuiteContext) e.getRoot();
+    }
+  }
+
+  private Python3Parser.File_inputContext parseFile() {
+    parses.incrementAndGet();
+    return parse(this::fileInput);
+  }
+
+  // Parses a file, and whenever error recovery gives up, the rest of it from where the recovery
+  // skipped to. The statements of the later parses are added to the root of the first one.
+  private Python3Parser.File_inputContext fileInput() {
+    Python3Parser.File_inputContext root = null;
+    while (true) {
+      Python3Parser.File_inputContext part;
+      BoundedErrorStrategy.Resync resync = null;
+      try {
+        part = parser.file_input();
+      } catch (BoundedErrorStrategy.Resync e) {
+        part = (Python3Parser.File_inputContext) e.getRoot();
+        resync = e;
+      }
+      if (root == null) {
+        root = part;
+      } else if (part.children != null) {
+        for (ParseTree child : part.children) {
+          if (child instanceof TerminalNode) {
+            root.addChild((TerminalNode) child);
+          } else {
+            root.addChild((RuleContext) child);
+          }
+        }
+        root.stop = part.stop;
+      }
+      if (resync == null) {
+        return root;
+      }
+
+      if (!degraded) {
+        degraded = true;
+        degradedParses.incrementAndGet();
+      }
+      if (resync.getSkipped() != null && parser.getBuildParseTree()) {
+        root.addErrorNode(resync.getSkipped());
+      }
+      builder.resume(parser.getBuildParseTree() ? null : resync.getSkipped());
+      recovery.resume(parser);
+    }
+  }
+
+  private <T extends ParserRuleContext> T parse(Supplier<T> rule) {
+    parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+    useErrorHandler(bail);
+    parser.removeErrorListeners();
+    try {
+      return rule.get();
+    } catch (ParseCancellationException e) {
+      fallbacks.incrementAndGet();
+      useFullPrediction();
+      parser.reset();
+      builder.reset();
+      return rule.get();
+    }
+  }
+
+  private Python3Parser.File_inputContext parseValidFile() {
+    parses.incrementAndGet();
+
+    parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+    useErrorHandler(bail);
+    parser.removeErrorListeners();
+    try {
+      return parser.file_input();
+    } catch (ParseCancellationException e) {
+      fallbacks.incrementAndGet();
+    }
+
+    parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+    parser.reset();
+    builder.reset();
+    try {
+      return parser.file_input();
+    } catch (ParseCancellationException e) {
+      return null;
+    }
+  }
+
+  private void buildDirectly(TokenSource source) {
+    parser(source);
+    parser.setBuildParseTree(false);
+    parser.addParseListener(builder);
+  }
+
+  private AstBuilder walk(ParserRuleContext root) {
+    builder.reset();
+    ParseTreeWalker.DEFAULT.walk(builder, root);
+    return builder;
+  }
+
+  /**
+   * Makes the parser give up with a {@link CancellationException} once {@code cancelled} returns
+   * true, which it checks every few hundred tokens, until this thread's recognizers are released.
+   */
+  public void cancelWhen(BooleanSupplier cancelled) {
+    this.cancelled = cancelled;
+  }
+
+  /** Returns the condition of {@link #cancelWhen}, which never holds if none was set. */
+  public BooleanSupplier getCancellation() {
+    return cancelled;
+  }
+
+  /**
+   * Returns whether error recovery used up its budget in the last parse and skipped parts of the
+   * input (see {@link #limitErrorRecovery}).
+   */
+  public boolean isDegraded() {
+    return degraded;
+  }
+
+  /** Returns the number of syntax errors the parser reported for the last file it parsed. */
+  public int getSyntaxErrors() {
+    return parser.getNumberOfSyntaxErrors();
+  }
+
+  private void useFullPrediction() {
+    parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+    useErrorHandler(recovery);
+    parser.removeErrorListeners();
+    parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+  }
+
+  private void useErrorHandler(DefaultErrorStrategy handler) {
+    // A strategy stays in error recovery mode until it is reset, and would then turn all tokens of
+    // the next parse into error nodes.
+    handler.reset(parser);
+    parser.setErrorHandler(handler);
+  }
+
+  // Adds the statistics of the last parse to the profile if it was sampled, and goes back to
+  // predicting without them.
+  private void endProfile() {
+    ParserATNSimulator simulator = parser.getInterpreter();
+    if (simulator instanceof ProfilingATNSimulator) {
+      DecisionProfile.add(((ProfilingATNSimulator) simulator).getDecisionInfo());
+      parser.setInterpreter(caches.parserSimulator(parser));
+    }
+  }
+
+  /** Drops all references to the last input, so that it can be garbage collected. */
+  public void release() {
+    endProfile();
+    lexer.setInputStream(null);
+    tokens.setTokenSource(lexer);
+    parser.setTokenStream(tokens);
+    builder.reset();
+    cancelled = NEVER;
+  }
+}
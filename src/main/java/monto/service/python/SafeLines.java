@@ -0,0 +1,99 @@
+package monto.service.python;
+
+/**
+ * Finds lines a lexer can start at without having lexed what comes in front of them: lines at
+ * indentation 0 outside of brackets and strings, where a fresh lexer produces the same tokens as
+ * one that lexed the whole document, apart from the DEDENTs in front of the line (see {@link
+ * IncrementalLexer#lexUntil}).
+ *
+ * <p>The characters in front of the line are scanned instead of lexed, only keeping track of
+ * brackets, comments, strings and line continuations, which takes a fraction of the time lexing
+ * them would.
+ */
+final class SafeLines {
+
+  private SafeLines() {}
+
+  /** Returns the start of the last safe line at or in front of {@code offset}, or 0. */
+  public static int before(String text, int offset) {
+    int end = Math.min(offset, text.length());
+    int safe = 0;
+    int opened = 0;
+    int i = 0;
+    while (i < end) {
+      char c = text.charAt(i);
+      switch (c) {
+        case '(':
+        case '[':
+        case '{':
+          opened++;
+          i++;
+          break;
+        case ')':
+        case ']':
+        case '}':
+          opened--;
+          i++;
+          break;
+        case '#':
+          i = text.indexOf('\n', i);
+          if (i < 0) {
+            return safe;
+          }
+          break;
+        case '\\':
+          // Skips the line break of a line continuation along with the backslash.
+          i += text.startsWith("\r\n", i + 1) ? 3 : 2;
+          break;
+        case '\'':
+        case '"':
+          i = skipString(text, i);
+          break;
+        case '\n':
+          i++;
+          if (opened == 0 && i < text.length() && startsStatement(text.charAt(i))) {
+            safe = i;
+          }
+          break;
+        default:
+          i++;
+      }
+    }
+    return safe;
+  }
+
+  /**
+   * Returns the index behind the string literal whose quotes start at {@code start}, or behind the
+   * quote if the literal does not end before the line does and the lexer does not take it as one.
+   */
+  private static int skipString(String text, int start) {
+    char quote = text.charAt(start);
+    boolean triple =
+        start + 2 < text.length()
+            && text.charAt(start + 1) == quote
+            && text.charAt(start + 2) == quote;
+    int i = start + (triple ? 3 : 1);
+    while (i < text.length()) {
+      char c = text.charAt(i);
+      if (c == '\\') {
+        i += 2;
+      } else if (c == quote
+          && (!triple
+              || i + 2 < text.length()
+                  && text.charAt(i + 1) == quote
+                  && text.charAt(i + 2) == quote)) {
+        return i + (triple ? 3 : 1);
+      } else if (!triple && (c == '\n' || c == '\r')) {
+        return start + 1;
+      } else {
+        i++;
+      }
+    }
+    return triple ? i : start + 1;
+  }
+
+  /** Returns whether a line that starts with {@code c} has a statement at indentation 0. */
+  private static boolean startsStatement(char c) {
+    return c != ' ' && c != '\t' && c != '\r' && c != '\n' && c != '#' && c != '\f';
+  }
+}
@@ -0,0 +1,138 @@
+package monto.service.python;
+
+import java.util.ArrayList;
+import java.util.List;
+import monto.service.python.antlr.Python3Parser;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * Leaves the bodies of functions out of the tokens of a document, so that parsing them yields a
+ * skeleton of the document. The suite of every function definition that starts on a line of its own
+ * is replaced by a {@code pass} statement that covers the statements of the suite, which the AST
+ * shows as a {@link #SKIPPED_SUITE} node with a single token spanning them. {@link FunctionBodies}
+ * parses them on demand.
+ *
+ * <p>The end of such a suite is found by balancing its INDENT against the DEDENTs that follow, so
+ * none of its tokens are looked at more than once.
+ */
+final class SkeletonTokens {
+
+  /** The name of the AST nodes that stand for the suite of a function that was not parsed. */
+  public static final String SKIPPED_SUITE = "skipped_suite";
+
+  private SkeletonTokens() {}
+
+  /** Returns {@code tokens} without the suites of the functions they define. */
+  public static List<Token> skipFunctionBodies(List<Token> tokens) {
+    List<Token> skeleton = new ArrayList<>(tokens.size());
+    int copied = 0;
+    for (int i = 0; i < tokens.size(); i++) {
+      if (tokens.get(i).getType() != Python3Parser.DEF) {
+        continue;
+      }
+      int colon = headerEnd(tokens, i);
+      if (colon < 0
+          || colon + 3 >= tokens.size()
+          || tokens.get(colon + 1).getType() != Python3Parser.NEWLINE
+          || tokens.get(colon + 2).getType() != Python3Parser.INDENT) {
+        continue;
+      }
+      int dedent = matchingDedent(tokens, colon + 2);
+      if (dedent < 0 || dedent == colon + 3) {
+        continue;
+      }
+
+      skeleton.addAll(tokens.subList(copied, colon + 1));
+      Token first = tokens.get(colon + 3);
+      Token last = tokens.get(dedent - 1);
+      skeleton.add(new SkippedSuite(first, last));
+      CommonToken newline = new CommonToken(last);
+      newline.setType(Python3Parser.NEWLINE);
+      newline.setStartIndex(last.getStopIndex() + 1);
+      skeleton.add(newline);
+      copied = dedent + 1;
+      i = dedent;
+    }
+    if (copied == 0) {
+      return tokens;
+    }
+    skeleton.addAll(tokens.subList(copied, tokens.size()));
+    return skeleton;
+  }
+
+  /** Returns whether {@code token} stands for the suite of a function that was left out. */
+  public static boolean isSkippedSuite(Token token) {
+    return token instanceof SkippedSuite;
+  }
+
+  /**
+   * Returns the index of the colon that ends the header of the function definition starting at
+   * {@code def}, or -1 if the header ends before. Colons inside of brackets belong to parameters,
+   * and a colon outside of them may belong to a lambda in the annotation of the result.
+   */
+  private static int headerEnd(List<Token> tokens, int def) {
+    int depth = 0;
+    int lambdas = 0;
+    for (int i = def + 1; i < tokens.size(); i++) {
+      switch (tokens.get(i).getType()) {
+        case Python3Parser.OPEN_PAREN:
+        case Python3Parser.OPEN_BRACK:
+        case Python3Parser.OPEN_BRACE:
+          depth++;
+          break;
+        case Python3Parser.CLOSE_PAREN:
+        case Python3Parser.CLOSE_BRACK:
+        case Python3Parser.CLOSE_BRACE:
+          depth--;
+          break;
+        case Python3Parser.LAMBDA:
+          if (depth == 0) {
+            lambdas++;
+          }
+          break;
+        case Python3Parser.COLON:
+          if (depth == 0) {
+            if (lambdas == 0) {
+              return i;
+            }
+            lambdas--;
+          }
+          break;
+        case Python3Parser.NEWLINE:
+        case Python3Parser.INDENT:
+        case Python3Parser.DEDENT:
+        case Token.EOF:
+          return -1;
+        default:
+          break;
+      }
+    }
+    return -1;
+  }
+
+  /** Returns the index of the DEDENT that closes the INDENT at {@code indent}, or -1. */
+  public static int matchingDedent(List<Token> tokens, int indent) {
+    int depth = 0;
+    for (int i = indent; i < tokens.size(); i++) {
+      int type = tokens.get(i).getType();
+      if (type == Python3Parser.INDENT) {
+        depth++;
+      } else if (type == Python3Parser.DEDENT && --depth == 0) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  // A pass statement that spans the statements of a suite, from the first token behind its INDENT
+  // to the last one in front of its DEDENT.
+  private static final class SkippedSuite extends CommonToken {
+
+    SkippedSuite(Token first, Token last) {
+      super(first);
+      setType(Python3Parser.PASS);
+      setStopIndex(last.getStopIndex());
+    }
+  }
+}
@@ -0,0 +1,203 @@
+package monto.service.python;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import monto.service.ast.AST;
+import monto.service.ast.NonTerminal;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * The ASTs of top-level statements of all documents and versions an {@link IncrementalParser} has
+ * seen, by the tokens they were parsed from. The AST of a statement depends on nothing but the
+ * types of its tokens and their offsets relative to each other, so a statement whose tokens are
+ * laid out the same as those of a cached one, such as an identical import block in another file,
+ * takes over its AST, moved to its own offset, instead of being parsed.
+ *
+ * <p>The cache evicts the statements used least recently once the estimated size of all of them
+ * exceeds a limit.
+ */
+final class StatementCache {
+
+  // Rough sizes of the objects that make up an entry on a 64-bit VM with compressed references,
+  // as in DfaCache.
+  private static final int ENTRY_BYTES = 96;
+  private static final int KEY_BYTES_PER_TOKEN = 12;
+  private static final int TERMINAL_BYTES = 24;
+  private static final int NON_TERMINAL_BYTES = 64;
+  private static final int REFERENCE_BYTES = 4;
+
+  // The type in keys of the tokens that stand for skipped suites, which make different ASTs than
+  // pass statements with the same offsets.
+  private static final int SKIPPED_SUITE_TYPE = -2;
+
+  private static final AtomicLong hits = new AtomicLong();
+  private static final AtomicLong misses = new AtomicLong();
+  private static final AtomicLong evictions = new AtomicLong();
+  private static final AtomicLong totalEntries = new AtomicLong();
+  private static final AtomicLong totalBytes = new AtomicLong();
+
+  private final long maxBytes;
+  private long bytes = 0;
+  private final Map<Key, Statement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+  /** @param maxBytes the estimated size of all cached statements at most */
+  public StatementCache(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  /** Returns the key of the statement made of the tokens from {@code from} to {@code to}. */
+  public static Key key(List<Token> tokens, int from, int to) {
+    int[] layout = new int[(to - from) * 3];
+    int base = tokens.get(from).getStartIndex();
+    for (int i = from, j = 0; i < to; i++, j += 3) {
+      Token token = tokens.get(i);
+      layout[j] = SkeletonTokens.isSkippedSuite(token) ? SKIPPED_SUITE_TYPE : token.getType();
+      layout[j + 1] = token.getStartIndex() - base;
+      layout[j + 2] = token.getStopIndex() - token.getStartIndex();
+    }
+    return new Key(layout);
+  }
+
+  /** Returns the statement cached under {@code key}, or null. */
+  public synchronized Statement get(Key key) {
+    Statement statement = statements.get(key);
+    (statement == null ? misses : hits).incrementAndGet();
+    return statement;
+  }
+
+  /**
+   * Caches the children of the root that the statement under {@code key} was parsed into, unless it
+   * alone would exceed the limit.
+   *
+   * @param offset the offset of the first token of the statement
+   * @param firstTokens the index of the first token of each child, relative to the statement
+   * @param lastTokens the index of the last token of each child, relative to the statement
+   */
+  public synchronized void put(
+      Key key, int offset, List<AST> children, int[] firstTokens, int[] lastTokens) {
+    long size = ENTRY_BYTES + key.layout.length / 3 * KEY_BYTES_PER_TOKEN;
+    for (AST child : children) {
+      size += estimateBytes(child);
+    }
+    if (size > maxBytes) {
+      return;
+    }
+    Statement previous =
+        statements.put(key, new Statement(offset, children, firstTokens, lastTokens, size));
+    if (previous != null) {
+      // Another thread parsed the same statement at the same time.
+      forget(previous);
+    }
+    bytes += size;
+    totalEntries.incrementAndGet();
+    totalBytes.addAndGet(size);
+
+    Iterator<Statement> eldest = statements.values().iterator();
+    while (bytes > maxBytes) {
+      forget(eldest.next());
+      eldest.remove();
+      evictions.incrementAndGet();
+    }
+  }
+
+  private void forget(Statement statement) {
+    bytes -= statement.bytes;
+    totalEntries.decrementAndGet();
+    totalBytes.addAndGet(-statement.bytes);
+  }
+
+  private static long estimateBytes(AST node) {
+    if (!(node instanceof NonTerminal)) {
+      return TERMINAL_BYTES;
+    }
+    List<AST> children = ((NonTerminal) node).getChildren();
+    long bytes = NON_TERMINAL_BYTES + children.size() * REFERENCE_BYTES;
+    for (AST child : children) {
+      bytes += estimateBytes(child);
+    }
+    return bytes;
+  }
+
+  /**
+   * Returns the hits and misses of the caches of all parsers, and the number and estimated size of
+   * the statements they hold, in one line.
+   */
+  public static String report() {
+    long h = hits.get();
+    long m = misses.get();
+    return String.format(
+        "%d hits, %d misses (%.1f%% hits), %d statements, about %d KiB, %d evicted",
+        h,
+        m,
+        h + m == 0 ? 0.0 : 100.0 * h / (h + m),
+        totalEntries.get(),
+        totalBytes.get() / 1024,
+        evictions.get());
+  }
+
+  /** The layout of the tokens of a statement. */
+  public static final class Key {
+
+    private final int[] layout;
+    private final int hash;
+
+    private Key(int[] layout) {
+      this.layout = layout;
+      this.hash = Arrays.hashCode(layout);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Key
+          && hash == ((Key) other).hash
+          && Arrays.equals(layout, ((Key) other).layout);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /** The children of the root a statement was parsed into, at the offset it was first seen at. */
+  public static final class Statement {
+
+    private final int offset;
+    private final List<AST> children;
+    private final int[] firstTokens;
+    private final int[] lastTokens;
+    private final long bytes;
+
+    private Statement(
+        int offset, List<AST> children, int[] firstTokens, int[] lastTokens, long bytes) {
+      this.offset = offset;
+      this.children = children;
+      this.firstTokens = firstTokens;
+      this.lastTokens = lastTokens;
+      this.bytes = bytes;
+    }
+
+    /** Returns the offset of the first token of the statement the children were parsed from. */
+    public int getOffset() {
+      return offset;
+    }
+
+    public List<AST> getChildren() {
+      return children;
+    }
+
+    /** Returns the index of the first token of the {@code i}th child, relative to the statement. */
+    public int getFirstToken(int i) {
+      return firstTokens[i];
+    }
+
+    /** Returns the index of the last token of the {@code i}th child, relative to the statement. */
+    public int getLastToken(int i) {
+      return lastTokens[i];
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package monto.service.python;
+
+import com.google.gson.JsonObject;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import monto.service.ast.AST;
+import monto.service.ast.NonTerminal;
+import monto.service.ast.Terminal;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * Parses a document one top-level statement at a time and encodes the AST of each one as soon as it
+ * is parsed (see {@link BinaryAst#forRoot}), for documents too large to keep all of their tokens,
+ * their parse tree and their AST in memory at the same time, such as generated ones. Besides the
+ * document and the encoded product, only the tokens and the AST of the current statement are kept.
+ *
+ * <p>Statements are split off like the parts of parallel parsing (see {@link TopLevelStatements}),
+ * so the AST of a valid document is the same as the one of a full parse. Error recovery, however,
+ * only sees the statement with the syntax error.
+ */
+final class StreamingParser {
+
+  private final boolean compact;
+  private final boolean skeleton;
+  private boolean degraded = false;
+
+  /**
+   * @param compact whether to build compact ASTs (see {@link AstBuilder#setCompact})
+   * @param skeleton whether to leave the suites of functions out of the ASTs (see {@link
+   *     SkeletonTokens})
+   */
+  public StreamingParser(boolean compact, boolean skeleton) {
+    this.compact = compact;
+    this.skeleton = skeleton;
+  }
+
+  /**
+   * Returns the AST of {@code contents} in the encoding of {@link BinaryAst}. Gives up with a
+   * {@link java.util.concurrent.CancellationException} between statements once the condition of
+   * {@link Recognizers#cancelWhen} holds.
+   */
+  public JsonObject parse(String contents) {
+    BinaryAst ast = BinaryAst.forRoot("file_input");
+    Recognizers recognizers = Recognizers.get();
+    BooleanSupplier cancelled = recognizers.getCancellation();
+    try {
+      PythonTokenSource lexer = recognizers.lexer(new CharSequenceStream(contents));
+      TopLevelStatements statements = new TopLevelStatements();
+      List<Token> statement = new ArrayList<>();
+      Token token;
+      do {
+        token = lexer.nextToken();
+        if (statements.starts(token.getType()) && !statement.isEmpty()) {
+          if (cancelled.getAsBoolean()) {
+            throw new CancellationException();
+          }
+          parseStatement(statement, false, ast);
+          statement = new ArrayList<>();
+        }
+        statement.add(token);
+      } while (token.getType() != Token.EOF);
+      parseStatement(statement, true, ast);
+    } finally {
+      recognizers.release();
+    }
+    return ast.finish();
+  }
+
+  /**
+   * Returns whether error recovery used up its budget in the last parse and skipped parts of a
+   * statement (see {@link Recognizers#limitErrorRecovery}).
+   */
+  public boolean isDegraded() {
+    return degraded;
+  }
+
+  private void parseStatement(List<Token> statement, boolean last, BinaryAst ast) {
+    List<Token> tokens = skeleton ? SkeletonTokens.skipFunctionBodies(statement) : statement;
+    Recognizers recognizers = Recognizers.get();
+    AstBuilder builder = recognizers.buildValidFile(new ListTokenSource(tokens), compact);
+    if (builder == null) {
+      builder = recognizers.buildFile(new ListTokenSource(tokens), compact);
+      degraded |= recognizers.isDegraded();
+    }
+
+    AST root = builder.getRoot();
+    List<AST> children =
+        root instanceof NonTerminal ? ((NonTerminal) root).getChildren() : Collections.emptyList();
+    int count = children.size();
+    // Leave out the EOF the token source made up, unless the statement is the last one.
+    if (!last && count > 0 && children.get(count - 1) instanceof Terminal) {
+      count--;
+    }
+    for (int i = 0; i < count; i++) {
+      ast.addChild(children.get(i));
+    }
+  }
+}
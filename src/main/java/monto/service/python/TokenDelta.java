@@ -0,0 +1,80 @@
+package monto.service.python;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import monto.service.gson.GsonMonto;
+import monto.service.types.LongKey;
+
+/**
+ * Encodes how the tokens of a document changed from one version to the next in the form of the
+ * {@link PythonProducts#TOKEN_DELTAS} product:
+ *
+ * <pre>
+ * {
+ *   "base": id of the version the delta applies to,
+ *   "start": index of the first token that changed,
+ *   "removed": number of tokens of the base version replaced from there on,
+ *   "tokens": [the tokens replacing them, as in the tokens product],
+ *   "shift": offset difference of the tokens behind the replaced ones
+ * }
+ * </pre>
+ *
+ * A delta without a base replaces all tokens the client has for the source. A client that has other
+ * tokens than those of the base version drops the delta and waits for such a full list.
+ */
+class TokenDelta {
+
+  private TokenDelta() {}
+
+  /** Encodes all tokens of {@code document}. */
+  public static JsonObject encode(LexedDocument document) {
+    return encode(null, document, 0, 0, document.size(), 0);
+  }
+
+  /**
+   * Encodes the change from {@code previous}, the version with id {@code base}, to {@code next}.
+   */
+  public static JsonObject encode(LongKey base, LexedDocument previous, LexedDocument next) {
+    int shift = next.getContents().length() - previous.getContents().length();
+
+    int start = 0;
+    int common = Math.min(previous.size(), next.size());
+    while (start < common && sameToken(previous, start, next, start, 0)) {
+      start++;
+    }
+    int tail = 0;
+    while (tail < common - start
+        && sameToken(previous, previous.size() - tail - 1, next, next.size() - tail - 1, shift)) {
+      tail++;
+    }
+
+    return encode(base, next, start, previous.size() - start - tail, next.size() - tail, shift);
+  }
+
+  private static JsonObject encode(
+      LongKey base, LexedDocument next, int start, int removed, int end, int shift) {
+    JsonArray tokens = new JsonArray();
+    for (int i = start; i < end; i++) {
+      tokens.add(
+          GsonMonto.toJsonTree(
+              PythonTokenizer.convertToken(next.getType(i), next.getStart(i), next.getStop(i))));
+    }
+
+    JsonObject product = new JsonObject();
+    if (base != null) {
+      product.add("base", GsonMonto.toJsonTree(base));
+    }
+    product.addProperty("start", start);
+    product.addProperty("removed", removed);
+    product.add("tokens", tokens);
+    product.addProperty("shift", shift);
+    return product;
+  }
+
+  private static boolean sameToken(
+      LexedDocument previous, int i, LexedDocument next, int j, int shift) {
+    return previous.getType(i) == next.getType(j)
+        && previous.getStart(i) + shift == next.getStart(j)
+        && previous.getStop(i) + shift == next.getStop(j);
+  }
+}
@@ -0,0 +1,52 @@
+package monto.service.python;
+
+import monto.service.python.antlr.Python3Parser;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * Finds the top-level statements in a sequence of tokens that can be parsed separately from the
+ * ones in front of them: those that neither continue the statement in front of them ({@code else},
+ * {@code except}, ...) nor are decorated by it. There is no line break inside of brackets, so these
+ * statements are never inside of brackets either.
+ */
+final class TopLevelStatements {
+
+  private int depth = 0;
+  private boolean lineStart = false;
+  private boolean decorated = false;
+
+  /** Takes the type of the next token and returns whether it starts such a statement. */
+  public boolean starts(int type) {
+    boolean starts = false;
+    if (lineStart
+        && depth == 0
+        && type != Python3Parser.NEWLINE
+        && type != Python3Parser.INDENT
+        && type != Token.EOF) {
+      starts = !decorated && !continuesStatement(type);
+      decorated = type == Python3Parser.AT;
+    }
+
+    if (type == Python3Parser.INDENT) {
+      depth++;
+    } else if (type == Python3Parser.DEDENT) {
+      depth--;
+    }
+    lineStart =
+        type == Python3Parser.NEWLINE
+            || (lineStart && (type == Python3Parser.INDENT || type == Python3Parser.DEDENT));
+    return starts;
+  }
+
+  private static boolean continuesStatement(int type) {
+    switch (type) {
+      case Python3Parser.ELIF:
+      case Python3Parser.ELSE:
+      case Python3Parser.EXCEPT:
+      case Python3Parser.FINALLY:
+        return true;
+      default:
+        return false;
+    }
+  }
+}
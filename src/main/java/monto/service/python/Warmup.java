@@ -0,0 +1,125 @@
+package monto.service.python;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Scanner;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * Lexes and parses the Python files bundled under {@code /warmup} until their latency stops
+ * improving. This fills the DFA caches the generated recognizers share between all instances and
+ * gets the hot paths compiled by the JIT before the first request arrives.
+ */
+final class Warmup {
+
+  private static final String[] CORPUS = {
+    "inventory.py", "geometry.py", "textutil.py", "workers.py",
+  };
+
+  // The p99 is taken over the latencies of the last WINDOW files and counts as stable once it
+  // changed by less than TOLERANCE in STABLE_ROUNDS rounds over the corpus in a row.
+  private static final int WINDOW = 200;
+  private static final double TOLERANCE = 0.05;
+  private static final int STABLE_ROUNDS = 5;
+  private static final int MAX_ROUNDS = 2000;
+  private static final long MAX_MILLIS = 60_000;
+
+  private Warmup() {}
+
+  public static void run() {
+    List<String> corpus = new ArrayList<>();
+    for (String name : CORPUS) {
+      try {
+        corpus.add(read("/warmup/" + name));
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+    }
+    if (corpus.isEmpty()) {
+      return;
+    }
+
+    long start = System.nanoTime();
+    long deadline = start + MAX_MILLIS * 1_000_000;
+    long[] latencies = new long[WINDOW];
+    // The latency of each file in the first round, with cold caches, and in the last one.
+    long[] first = new long[corpus.size()];
+    long[] last = new long[corpus.size()];
+    int samples = 0;
+    int rounds = 0;
+    int stable = 0;
+    double p99 = Double.NaN;
+
+    while (stable < STABLE_ROUNDS && rounds < MAX_ROUNDS && System.nanoTime() < deadline) {
+      for (int i = 0; i < corpus.size(); i++) {
+        long before = System.nanoTime();
+        lexAndParse(corpus.get(i));
+        last[i] = System.nanoTime() - before;
+        latencies[samples++ % WINDOW] = last[i];
+      }
+      if (rounds == 0) {
+        first = last.clone();
+      }
+      rounds++;
+
+      if (samples >= WINDOW) {
+        double previous = p99;
+        p99 = percentile(latencies, 0.99) / 1e6;
+        stable = Math.abs(p99 - previous) < previous * TOLERANCE ? stable + 1 : 0;
+      }
+    }
+
+    // A round has too few files for a percentile, so the first and last rounds are compared file by
+    // file.
+    System.out.printf(
+        "warm-up took %d ms, %d rounds over %d files: %s ms in the first round, %s ms in the last,"
+            + " p99 of the last %d files %.2f ms%s%n",
+        (System.nanoTime() - start) / 1_000_000,
+        rounds,
+        corpus.size(),
+        millis(first),
+        millis(last),
+        Math.min(samples, WINDOW),
+        samples >= WINDOW ? p99 : percentile(Arrays.copyOf(latencies, samples), 0.99) / 1e6,
+        stable < STABLE_ROUNDS ? " (not yet stable)" : "");
+    System.out.printf("DFA caches after warm-up: %s%n", DfaCache.current().summary());
+  }
+
+  private static void lexAndParse(String contents) {
+    Recognizers recognizers = Recognizers.get();
+    try {
+      PythonTokenSource lexer = recognizers.lexer(new CharSequenceStream(contents));
+      while (lexer.nextToken().getType() != Token.EOF) {}
+      recognizers.buildFile(recognizers.lexer(new CharSequenceStream(contents)), false);
+    } finally {
+      recognizers.release();
+    }
+  }
+
+  private static String millis(long[] nanos) {
+    StringBuilder text = new StringBuilder();
+    for (long n : nanos) {
+      text.append(text.length() == 0 ? "" : "/").append(String.format("%.2f", n / 1e6));
+    }
+    return text.toString();
+  }
+
+  private static double percentile(long[] values, double p) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    return sorted[(int) Math.ceil(p * sorted.length) - 1];
+  }
+
+  private static String read(String resource) throws IOException {
+    InputStream in = Warmup.class.getResourceAsStream(resource);
+    if (in == null) {
+      throw new IOException("missing warm-up file " + resource);
+    }
+    try (Scanner scanner = new Scanner(in, "UTF-8")) {
+      return scanner.useDelimiter("\\A").hasNext() ? scanner.next() : "";
+    }
+  }
+}
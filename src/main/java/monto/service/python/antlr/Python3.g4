@@ -38,10 +38,15 @@ tokens { INDENT, DEDENT }
 @lexer::members {
 
   // A queue where extra tokens are pushed on (see the NEWLINE lexer rule).
-  private java.util.LinkedList<Token> tokens = new java.util.LinkedList<>();
+  // It is a ring buffer holding `queued` tokens starting at `head`, and its
+  // length is always a power of two.
+  private Token[] tokens = new Token[16];
+  private int head = 0;
+  private int queued = 0;
 
   // The stack that keeps track of the indentation level.
-  private java.util.Stack<Integer> indents = new java.util.Stack<>();
+  private final org.antlr.v4.runtime.misc.IntegerStack indents =
+      new org.antlr.v4.runtime.misc.IntegerStack();
 
   // The amount of opened braces, brackets and parenthesis.
   private int opened = 0;
@@ -52,22 +57,50 @@ tokens { INDENT, DEDENT }
   @Override
   public void emit(Token t) {
     super.setToken(t);
-    tokens.offer(t);
+    offer(t);
+  }
+
+  private void offer(Token t) {
+    if (queued == tokens.length) {
+      Token[] grown = new Token[tokens.length * 2];
+      for (int i = 0; i < queued; i++) {
+        grown[i] = tokens[(head + i) & (tokens.length - 1)];
+      }
+      tokens = grown;
+      head = 0;
+    }
+    tokens[(head + queued) & (tokens.length - 1)] = t;
+    queued++;
+  }
+
+  private Token poll() {
+    Token t = tokens[head];
+    tokens[head] = null;
+    head = (head + 1) & (tokens.length - 1);
+    queued--;
+    return t;
   }
 
   @Override
   public Token nextToken() {
 
+    // Hand out the tokens emitted together with an earlier one before lexing
+    // any further, so that the queue never holds more than a few tokens.
+    if (queued > 0) {
+      return poll();
+    }
+
+    // The indentation at the very start of the input is handled here rather
+    // than by a semantic predicate in the NEWLINE rule: a predicate at the
+    // start of a rule keeps ANTLR from caching the start state of the lexer
+    // DFA, which then has to be recomputed for every single token.
+    if (atStartOfInput()) {
+      indentStartOfInput();
+    }
+
     // Check if the end-of-file is ahead and there are still some DEDENTS expected.
     if (_input.LA(1) == EOF && !this.indents.isEmpty()) {
 
-      // Remove any trailing EOF tokens from our buffer.
-      for (int i = tokens.size() - 1; i >= 0; i--) {
-        if (tokens.get(i).getType() == EOF) {
-          tokens.remove(i);
-        }
-      }
-
       // First emit an extra line break that serves as the end of the statement.
       this.emit(commonToken(Python3Parser.NEWLINE, "\n"));
 
@@ -81,14 +114,30 @@ tokens { INDENT, DEDENT }
       this.emit(commonToken(Python3Parser.EOF, "<EOF>"));
     }
 
-    Token next = super.nextToken();
+    if (queued == 0) {
+      Token next = super.nextToken();
 
-    if (next.getChannel() == Token.DEFAULT_CHANNEL) {
-      // Keep track of the last token on the default channel.
-      this.lastToken = next;
+      if (next.getChannel() == Token.DEFAULT_CHANNEL) {
+        // Keep track of the last token on the default channel.
+        this.lastToken = next;
+      }
+
+      if (next.getType() == EOF && !this.indents.isEmpty()) {
+        // Remove the trailing EOF tokens from our buffer, the DEDENTS that
+        // are still expected come first.
+        while (queued > 0) {
+          int last = (head + queued - 1) & (tokens.length - 1);
+          if (tokens[last].getType() != EOF) {
+            break;
+          }
+          tokens[last] = null;
+          queued--;
+        }
+        return nextToken();
+      }
     }
 
-    return tokens.isEmpty() ? next : tokens.poll();
+    return poll();
   }
 
   private Token createDedent() {
@@ -98,25 +147,50 @@ tokens { INDENT, DEDENT }
   }
 
   private CommonToken commonToken(int type, String text) {
+    return commonToken(type, text.length());
+  }
+
+  private CommonToken commonToken(int type, int length) {
     int stop = this.getCharIndex() - 1;
-    int start = text.isEmpty() ? stop : stop - text.length() + 1;
+    int start = length == 0 ? stop : stop - length + 1;
     return new CommonToken(this._tokenFactorySourcePair, type, DEFAULT_TOKEN_CHANNEL, start, stop);
   }
 
-  // Calculates the indentation of the provided spaces, taking the
-  // following rules into account:
+  // Returns the character at the provided index, which has to lie in front
+  // of the current position, without copying anything out of the input.
+  private int charBefore(int index) {
+    return _input.LA(index - this.getCharIndex());
+  }
+
+  // Returns the amount of line break characters at the start of the
+  // current token.
+  private int getNewLineLength() {
+    int length = 0;
+    int end = this.getCharIndex();
+    for (int i = _tokenStartCharIndex; i < end; i++) {
+      int ch = charBefore(i);
+      if (ch != '\r' && ch != '\n') {
+        break;
+      }
+      length++;
+    }
+    return length;
+  }
+
+  // Calculates the indentation of the spaces between the provided indexes,
+  // taking the following rules into account:
   //
   // "Tabs are replaced (from left to right) by one to eight spaces
   //  such that the total number of characters up to and including
   //  the replacement is a multiple of eight [...]"
   //
   //  -- https://docs.python.org/3.1/reference/lexical_analysis.html#indentation
-  static int getIndentationCount(String spaces) {
+  int getIndentationCount(int start, int end) {
 
     int count = 0;
 
-    for (char ch : spaces.toCharArray()) {
-      switch (ch) {
+    for (int i = start; i < end; i++) {
+      switch (charBefore(i)) {
         case '\t':
           count += 8 - (count % 8);
           break;
@@ -132,6 +206,208 @@ tokens { INDENT, DEDENT }
   boolean atStartOfInput() {
     return super.getCharPositionInLine() == 0 && super.getLine() == 1;
   }
+
+  // Does for the spaces at the start of the input what the NEWLINE rule does
+  // for the spaces after a line break.
+  private void indentStartOfInput() {
+    int next = _input.LA(1);
+    if (next != ' ' && next != '\t') {
+      return;
+    }
+
+    while (next == ' ' || next == '\t') {
+      getInterpreter().consume(_input);
+      next = _input.LA(1);
+    }
+
+    if (next == '\r' || next == '\n' || next == '#') {
+      // A blank line, ignore the indentation.
+      return;
+    }
+
+    int spaces = getCharIndex();
+    emit(commonToken(NEWLINE, 0));
+    indents.push(getIndentationCount(0, spaces));
+    Token indent = commonToken(Python3Parser.INDENT, spaces);
+    emit(indent);
+    lastToken = indent;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    java.util.Arrays.fill(tokens, null);
+    head = 0;
+    queued = 0;
+    indents.clear();
+    opened = 0;
+    lastToken = null;
+  }
+
+  // Captures everything this lexer keeps track of in between two calls to
+  // nextToken, so that lexing can later be resumed at the current position
+  // (see restoreState).
+  public State saveState() {
+    int[] pending = new int[queued * 5];
+    for (int i = 0; i < queued; i++) {
+      Token token = tokens[(head + i) & (tokens.length - 1)];
+      pending[i * 5] = token.getType();
+      pending[i * 5 + 1] = token.getStartIndex();
+      pending[i * 5 + 2] = token.getStopIndex();
+      pending[i * 5 + 3] = token.getLine();
+      pending[i * 5 + 4] = token.getCharPositionInLine();
+    }
+
+    return new State(
+        getCharIndex(),
+        getLine(),
+        getCharPositionInLine(),
+        indents.toArray(),
+        opened,
+        pending,
+        lastToken == null ? -1 : lastToken.getLine());
+  }
+
+  // Puts this lexer back into a state captured by saveState. The current
+  // input only has to match the input the state was saved on from the saved
+  // position onwards.
+  public void restoreState(State state) {
+    reset();
+    _input.seek(state.index);
+    setLine(state.line);
+    setCharPositionInLine(state.charPositionInLine);
+
+    for (int indent : state.indents) {
+      indents.push(indent);
+    }
+
+    opened = state.opened;
+
+    for (int i = 0; i < state.pending.length; i += 5) {
+      CommonToken token =
+          new CommonToken(
+              _tokenFactorySourcePair,
+              state.pending[i],
+              DEFAULT_TOKEN_CHANNEL,
+              state.pending[i + 1],
+              state.pending[i + 2]);
+      token.setLine(state.pending[i + 3]);
+      token.setCharPositionInLine(state.pending[i + 4]);
+      offer(token);
+    }
+
+    if (state.lastTokenLine >= 0) {
+      // Only the line of the last token is ever used (see createDedent).
+      CommonToken last = new CommonToken(Token.INVALID_TYPE);
+      last.setLine(state.lastTokenLine);
+      lastToken = last;
+    }
+  }
+
+  // An immutable snapshot of the lexer state in between two tokens. Other
+  // lexers producing the same tokens can create and restore it as well.
+  public static final class State {
+
+    private final int index;
+    private final int line;
+    private final int charPositionInLine;
+    private final int[] indents;
+    private final int opened;
+    // The type, start, stop, line and column of every token in the queue.
+    private final int[] pending;
+    private final int lastTokenLine;
+
+    public State(
+        int index,
+        int line,
+        int charPositionInLine,
+        int[] indents,
+        int opened,
+        int[] pending,
+        int lastTokenLine) {
+      this.index = index;
+      this.line = line;
+      this.charPositionInLine = charPositionInLine;
+      this.indents = indents;
+      this.opened = opened;
+      this.pending = pending;
+      this.lastTokenLine = lastTokenLine;
+    }
+
+    public int getIndex() {
+      return index;
+    }
+
+    public int getLine() {
+      return line;
+    }
+
+    public int getCharPositionInLine() {
+      return charPositionInLine;
+    }
+
+    // The indentation levels from the outermost one inwards.
+    public int[] getIndents() {
+      return indents.clone();
+    }
+
+    public int getOpened() {
+      return opened;
+    }
+
+    // The type, start, stop, line and column of every pending token.
+    public int[] getPending() {
+      return pending.clone();
+    }
+
+    // The line of the last token produced, or -1 if there is none.
+    public int getLastTokenLine() {
+      return lastTokenLine;
+    }
+
+    // Returns the state the lexer would be in at the same place in the input
+    // after `offset` characters and `lines` line breaks were inserted in
+    // front of it.
+    public State shift(int offset, int lines) {
+      int[] moved = pending.clone();
+      for (int i = 0; i < moved.length; i += 5) {
+        moved[i + 1] += offset;
+        moved[i + 2] += offset;
+        moved[i + 3] += lines;
+      }
+      return new State(
+          index + offset,
+          line + lines,
+          charPositionInLine,
+          indents,
+          opened,
+          moved,
+          lastTokenLine < 0 ? lastTokenLine : lastTokenLine + lines);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof State)) {
+        return false;
+      }
+      State other = (State) obj;
+      return index == other.index
+          && line == other.line
+          && charPositionInLine == other.charPositionInLine
+          && opened == other.opened
+          && lastTokenLine == other.lastTokenLine
+          && java.util.Arrays.equals(indents, other.indents)
+          && java.util.Arrays.equals(pending, other.pending);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * (31 * index + line) + java.util.Arrays.hashCode(pending);
+    }
+  }
 }
 
 /*
@@ -462,24 +738,19 @@ lambdef_nocond
  ;
 
 /// or_test: and_test ('or' and_test)*
-or_test
- : and_test ( OR and_test )*
- ;
-
 /// and_test: not_test ('and' not_test)*
-and_test
- : not_test ( AND not_test )*
- ;
-
 /// not_test: 'not' not_test | comparison
-not_test
- : NOT not_test 
- | comparison
- ;
-
 /// comparison: star_expr (comp_op star_expr)*
-comparison
- : star_expr ( comp_op star_expr )*
+//
+// The levels of boolean operators and comparisons are a single left-recursive rule, in which
+// alternatives that come first bind tighter. The alternatives are labeled with the names of the
+// rules above where possible.
+or_test
+ : star_expr                            # operand
+ | or_test comp_op or_test              # comparison
+ | NOT or_test                          # not_test
+ | or_test AND or_test                  # and_test
+ | or_test OR or_test                   # disjunction
  ;
 
 /// # <> isn't actually a valid comparison operator in Python. It's here for the
@@ -495,8 +766,8 @@ comp_op
  | '!='
  | IN
  | NOT IN
- | IS
  | IS NOT
+ | IS
  ;
 
 /// star_expr: ['*'] expr
@@ -505,55 +776,27 @@ star_expr
  ;
 
 /// expr: xor_expr ('|' xor_expr)*
-expr
- : xor_expr ( '|' xor_expr )*
- ;
-
 /// xor_expr: and_expr ('^' and_expr)*
-xor_expr
- : and_expr ( '^' and_expr )*
- ;
-
 /// and_expr: shift_expr ('&' shift_expr)*
-and_expr
- : shift_expr ( '&' shift_expr )*
- ;
-
 /// shift_expr: arith_expr (('<<'|'>>') arith_expr)*
-shift_expr
- : arith_expr ( '<<' arith_expr 
-              | '>>' arith_expr 
-              )*
- ;
-
 /// arith_expr: term (('+'|'-') term)*
-arith_expr
- : term ( '+' term
-        | '-' term 
-        )*
- ;
-
 /// term: factor (('*'|'/'|'%'|'//') factor)*
-term
- : factor ( '*' factor
-          | '/' factor
-          | '%' factor 
-          | '//' factor 
-          | '@' factor // PEP 465
-          )*
- ;
-
 /// factor: ('+'|'-'|'~') factor | power
-factor
- : '+' factor 
- | '-' factor 
- | '~' factor 
- | power
- ;
-
 /// power: atom trailer* ['**' factor]
-power
- : atom trailer* ( '**' factor )?
+//
+// The levels of arithmetic and bitwise operators are a single left-recursive rule as well. It is
+// separate from or_test, because the targets of for loops and comprehensions are expressions
+// without comparisons: the 'in' in front of the iterable must end them.
+expr
+ : atom trailer*                                    # power
+ | <assoc=right> expr '**' expr                     # exponentiation
+ | ( '+' | '-' | '~' ) expr                         # factor
+ | expr ( '*' | '/' | '%' | '//' | '@' ) expr       # term // '@' from PEP 465
+ | expr ( '+' | '-' ) expr                          # arith_expr
+ | expr ( '<<' | '>>' ) expr                        # shift_expr
+ | expr '&' expr                                    # and_expr
+ | expr '^' expr                                    # xor_expr
+ | expr '|' expr                                    # bitwise_or
  ;
 
 /// atom: ('(' [yield_expr|testlist_comp] ')' |
@@ -732,12 +975,8 @@ CONTINUE : 'continue';
 BREAK : 'break';
 
 NEWLINE
- : ( {atStartOfInput()}?   SPACES
-   | ( '\r'? '\n' | '\r' ) SPACES?
-   )
+ : ( '\r'? '\n' | '\r' ) SPACES?
    {
-     String newLine = getText().replaceAll("[^\r\n]+", "");
-     String spaces = getText().replaceAll("[\r\n]+", "");
      int next = _input.LA(1);
 
      if (opened > 0 || next == '\r' || next == '\n' || next == '#') {
@@ -746,9 +985,14 @@ NEWLINE
        skip();
      }
      else {
+       // Split the line break from the indentation that follows it by
+       // looking at the matched characters in place.
+       int newLine = getNewLineLength();
+       int spaces = getCharIndex() - _tokenStartCharIndex - newLine;
+
        emit(commonToken(NEWLINE, newLine));
 
-       int indent = getIndentationCount(spaces);
+       int indent = getIndentationCount(_tokenStartCharIndex + newLine, getCharIndex());
        int previous = indents.isEmpty() ? 0 : indents.peek();
 
        if (indent == previous) {
@@ -1018,7 +1018,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void enterOr_test(Python3Parser.Or_testContext ctx) {}
+  public void enterComparison(Python3Parser.ComparisonContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1028,7 +1028,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void exitOr_test(Python3Parser.Or_testContext ctx) {}
+  public void exitComparison(Python3Parser.ComparisonContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1038,7 +1038,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void enterAnd_test(Python3Parser.And_testContext ctx) {}
+  public void enterDisjunction(Python3Parser.DisjunctionContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1048,7 +1048,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void exitAnd_test(Python3Parser.And_testContext ctx) {}
+  public void exitDisjunction(Python3Parser.DisjunctionContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1078,7 +1078,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void enterComparison(Python3Parser.ComparisonContext ctx) {}
+  public void enterOperand(Python3Parser.OperandContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1088,7 +1088,27 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void exitComparison(Python3Parser.ComparisonContext ctx) {}
+  public void exitOperand(Python3Parser.OperandContext ctx) {}
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>
+   *
+   * <p>The default implementation does nothing.
+   */
+  @Override
+  public void enterAnd_test(Python3Parser.And_testContext ctx) {}
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>
+   *
+   * <p>The default implementation does nothing.
+   */
+  @Override
+  public void exitAnd_test(Python3Parser.And_testContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1138,7 +1158,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void enterExpr(Python3Parser.ExprContext ctx) {}
+  public void enterExponentiation(Python3Parser.ExponentiationContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1148,7 +1168,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void exitExpr(Python3Parser.ExprContext ctx) {}
+  public void exitExponentiation(Python3Parser.ExponentiationContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1158,7 +1178,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void enterXor_expr(Python3Parser.Xor_exprContext ctx) {}
+  public void enterAnd_expr(Python3Parser.And_exprContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1168,7 +1188,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void exitXor_expr(Python3Parser.Xor_exprContext ctx) {}
+  public void exitAnd_expr(Python3Parser.And_exprContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1178,7 +1198,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void enterAnd_expr(Python3Parser.And_exprContext ctx) {}
+  public void enterArith_expr(Python3Parser.Arith_exprContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1188,7 +1208,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void exitAnd_expr(Python3Parser.And_exprContext ctx) {}
+  public void exitArith_expr(Python3Parser.Arith_exprContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1198,7 +1218,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void enterShift_expr(Python3Parser.Shift_exprContext ctx) {}
+  public void enterTerm(Python3Parser.TermContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1208,7 +1228,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void exitShift_expr(Python3Parser.Shift_exprContext ctx) {}
+  public void exitTerm(Python3Parser.TermContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1218,7 +1238,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void enterArith_expr(Python3Parser.Arith_exprContext ctx) {}
+  public void enterXor_expr(Python3Parser.Xor_exprContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1228,7 +1248,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void exitArith_expr(Python3Parser.Arith_exprContext ctx) {}
+  public void exitXor_expr(Python3Parser.Xor_exprContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1238,7 +1258,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void enterTerm(Python3Parser.TermContext ctx) {}
+  public void enterPower(Python3Parser.PowerContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1248,7 +1268,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void exitTerm(Python3Parser.TermContext ctx) {}
+  public void exitPower(Python3Parser.PowerContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1278,7 +1298,7 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void enterPower(Python3Parser.PowerContext ctx) {}
+  public void enterShift_expr(Python3Parser.Shift_exprContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -1288,7 +1308,27 @@ public class Python3BaseListener implements Python3Listener {
    * <p>The default implementation does nothing.
    */
   @Override
-  public void exitPower(Python3Parser.PowerContext ctx) {}
+  public void exitShift_expr(Python3Parser.Shift_exprContext ctx) {}
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>
+   *
+   * <p>The default implementation does nothing.
+   */
+  @Override
+  public void enterBitwise_or(Python3Parser.Bitwise_orContext ctx) {}
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>
+   *
+   * <p>The default implementation does nothing.
+   */
+  @Override
+  public void exitBitwise_or(Python3Parser.Bitwise_orContext ctx) {}
 
   /**
    * {@inheritDoc}
@@ -708,60 +708,84 @@ public interface Python3Listener extends ParseTreeListener {
   void exitLambdef_nocond(Python3Parser.Lambdef_nocondContext ctx);
 
   /**
-   * Enter a parse tree produced by {@link Python3Parser#or_test}.
+   * Enter a parse tree produced by the {@code comparison} labeled alternative in {@link
+   * Python3Parser#or_test}.
    *
    * @param ctx the parse tree
    */
-  void enterOr_test(Python3Parser.Or_testContext ctx);
+  void enterComparison(Python3Parser.ComparisonContext ctx);
 
   /**
-   * Exit a parse tree produced by {@link Python3Parser#or_test}.
+   * Exit a parse tree produced by the {@code comparison} labeled alternative in {@link
+   * Python3Parser#or_test}.
    *
    * @param ctx the parse tree
    */
-  void exitOr_test(Python3Parser.Or_testContext ctx);
+  void exitComparison(Python3Parser.ComparisonContext ctx);
 
   /**
-   * Enter a parse tree produced by {@link Python3Parser#and_test}.
+   * Enter a parse tree produced by the {@code disjunction} labeled alternative in {@link
+   * Python3Parser#or_test}.
    *
    * @param ctx the parse tree
    */
-  void enterAnd_test(Python3Parser.And_testContext ctx);
+  void enterDisjunction(Python3Parser.DisjunctionContext ctx);
 
   /**
-   * Exit a parse tree produced by {@link Python3Parser#and_test}.
+   * Exit a parse tree produced by the {@code disjunction} labeled alternative in {@link
+   * Python3Parser#or_test}.
    *
    * @param ctx the parse tree
    */
-  void exitAnd_test(Python3Parser.And_testContext ctx);
+  void exitDisjunction(Python3Parser.DisjunctionContext ctx);
 
   /**
-   * Enter a parse tree produced by {@link Python3Parser#not_test}.
+   * Enter a parse tree produced by the {@code not_test} labeled alternative in {@link
+   * Python3Parser#or_test}.
    *
    * @param ctx the parse tree
    */
   void enterNot_test(Python3Parser.Not_testContext ctx);
 
   /**
-   * Exit a parse tree produced by {@link Python3Parser#not_test}.
+   * Exit a parse tree produced by the {@code not_test} labeled alternative in {@link
+   * Python3Parser#or_test}.
    *
    * @param ctx the parse tree
    */
   void exitNot_test(Python3Parser.Not_testContext ctx);
 
   /**
-   * Enter a parse tree produced by {@link Python3Parser#comparison}.
+   * Enter a parse tree produced by the {@code operand} labeled alternative in {@link
+   * Python3Parser#or_test}.
    *
    * @param ctx the parse tree
    */
-  void enterComparison(Python3Parser.ComparisonContext ctx);
+  void enterOperand(Python3Parser.OperandContext ctx);
 
   /**
-   * Exit a parse tree produced by {@link Python3Parser#comparison}.
+   * Exit a parse tree produced by the {@code operand} labeled alternative in {@link
+   * Python3Parser#or_test}.
    *
    * @param ctx the parse tree
    */
-  void exitComparison(Python3Parser.ComparisonContext ctx);
+  void exitOperand(Python3Parser.OperandContext ctx);
+
+  /**
+   * Enter a parse tree produced by the {@code and_test} labeled alternative in {@link
+   * Python3Parser#or_test}.
+   *
+   * @param ctx the parse tree
+   */
+  void enterAnd_test(Python3Parser.And_testContext ctx);
+
+  /**
+   * Exit a parse tree produced by the {@code and_test} labeled alternative in {@link
+   * Python3Parser#or_test}.
+   *
+   * @param ctx the parse tree
+   */
+  void exitAnd_test(Python3Parser.And_testContext ctx);
 
   /**
    * Enter a parse tree produced by {@link Python3Parser#comp_op}.
@@ -792,116 +816,148 @@ public interface Python3Listener extends ParseTreeListener {
   void exitStar_expr(Python3Parser.Star_exprContext ctx);
 
   /**
-   * Enter a parse tree produced by {@link Python3Parser#expr}.
+   * Enter a parse tree produced by the {@code exponentiation} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
-  void enterExpr(Python3Parser.ExprContext ctx);
+  void enterExponentiation(Python3Parser.ExponentiationContext ctx);
 
   /**
-   * Exit a parse tree produced by {@link Python3Parser#expr}.
+   * Exit a parse tree produced by the {@code exponentiation} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
-  void exitExpr(Python3Parser.ExprContext ctx);
+  void exitExponentiation(Python3Parser.ExponentiationContext ctx);
 
   /**
-   * Enter a parse tree produced by {@link Python3Parser#xor_expr}.
+   * Enter a parse tree produced by the {@code and_expr} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
-  void enterXor_expr(Python3Parser.Xor_exprContext ctx);
+  void enterAnd_expr(Python3Parser.And_exprContext ctx);
 
   /**
-   * Exit a parse tree produced by {@link Python3Parser#xor_expr}.
+   * Exit a parse tree produced by the {@code and_expr} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
-  void exitXor_expr(Python3Parser.Xor_exprContext ctx);
+  void exitAnd_expr(Python3Parser.And_exprContext ctx);
 
   /**
-   * Enter a parse tree produced by {@link Python3Parser#and_expr}.
+   * Enter a parse tree produced by the {@code arith_expr} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
-  void enterAnd_expr(Python3Parser.And_exprContext ctx);
+  void enterArith_expr(Python3Parser.Arith_exprContext ctx);
 
   /**
-   * Exit a parse tree produced by {@link Python3Parser#and_expr}.
+   * Exit a parse tree produced by the {@code arith_expr} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
-  void exitAnd_expr(Python3Parser.And_exprContext ctx);
+  void exitArith_expr(Python3Parser.Arith_exprContext ctx);
 
   /**
-   * Enter a parse tree produced by {@link Python3Parser#shift_expr}.
+   * Enter a parse tree produced by the {@code term} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
-  void enterShift_expr(Python3Parser.Shift_exprContext ctx);
+  void enterTerm(Python3Parser.TermContext ctx);
 
   /**
-   * Exit a parse tree produced by {@link Python3Parser#shift_expr}.
+   * Exit a parse tree produced by the {@code term} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
-  void exitShift_expr(Python3Parser.Shift_exprContext ctx);
+  void exitTerm(Python3Parser.TermContext ctx);
 
   /**
-   * Enter a parse tree produced by {@link Python3Parser#arith_expr}.
+   * Enter a parse tree produced by the {@code xor_expr} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
-  void enterArith_expr(Python3Parser.Arith_exprContext ctx);
+  void enterXor_expr(Python3Parser.Xor_exprContext ctx);
 
   /**
-   * Exit a parse tree produced by {@link Python3Parser#arith_expr}.
+   * Exit a parse tree produced by the {@code xor_expr} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
-  void exitArith_expr(Python3Parser.Arith_exprContext ctx);
+  void exitXor_expr(Python3Parser.Xor_exprContext ctx);
 
   /**
-   * Enter a parse tree produced by {@link Python3Parser#term}.
+   * Enter a parse tree produced by the {@code power} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
-  void enterTerm(Python3Parser.TermContext ctx);
+  void enterPower(Python3Parser.PowerContext ctx);
 
   /**
-   * Exit a parse tree produced by {@link Python3Parser#term}.
+   * Exit a parse tree produced by the {@code power} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
-  void exitTerm(Python3Parser.TermContext ctx);
+  void exitPower(Python3Parser.PowerContext ctx);
 
   /**
-   * Enter a parse tree produced by {@link Python3Parser#factor}.
+   * Enter a parse tree produced by the {@code factor} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
   void enterFactor(Python3Parser.FactorContext ctx);
 
   /**
-   * Exit a parse tree produced by {@link Python3Parser#factor}.
+   * Exit a parse tree produced by the {@code factor} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
   void exitFactor(Python3Parser.FactorContext ctx);
 
   /**
-   * Enter a parse tree produced by {@link Python3Parser#power}.
+   * Enter a parse tree produced by the {@code shift_expr} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
-  void enterPower(Python3Parser.PowerContext ctx);
+  void enterShift_expr(Python3Parser.Shift_exprContext ctx);
 
   /**
-   * Exit a parse tree produced by {@link Python3Parser#power}.
+   * Exit a parse tree produced by the {@code shift_expr} labeled alternative in {@link
+   * Python3Parser#expr}.
    *
    * @param ctx the parse tree
    */
-  void exitPower(Python3Parser.PowerContext ctx);
+  void exitShift_expr(Python3Parser.Shift_exprContext ctx);
+
+  /**
+   * Enter a parse tree produced by the {@code bitwise_or} labeled alternative in {@link
+   * Python3Parser#expr}.
+   *
+   * @param ctx the parse tree
+   */
+  void enterBitwise_or(Python3Parser.Bitwise_orContext ctx);
+
+  /**
+   * Exit a parse tree produced by the {@code bitwise_or} labeled alternative in {@link
+   * Python3Parser#expr}.
+   *
+   * @param ctx the parse tree
+   */
+  void exitBitwise_or(Python3Parser.Bitwise_orContext ctx);
 
   /**
    * Enter a parse tree produced by {@link Python3Parser#atom}.
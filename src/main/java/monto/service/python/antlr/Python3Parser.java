@@ -2,10 +2,12 @@ package monto.service.python.antlr;
 // Generated from Python3.g4 by ANTLR 4.5
 
 import java.util.List;
+import org.antlr.v4.runtime.FailedPredicateException;
 import org.antlr.v4.runtime.NoViableAltException;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.RuleContext;
 import org.antlr.v4.runtime.RuntimeMetaData;
 import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.Vocabulary;
@@ -173,39 +175,29 @@ public class Python3Parser extends Parser {
       RULE_lambdef = 48,
       RULE_lambdef_nocond = 49,
       RULE_or_test = 50,
-      RULE_and_test = 51,
-      RULE_not_test = 52,
-      RULE_comparison = 53,
-      RULE_comp_op = 54,
-      RULE_star_expr = 55,
-      RULE_expr = 56,
-      RULE_xor_expr = 57,
-      RULE_and_expr = 58,
-      RULE_shift_expr = 59,
-      RULE_arith_expr = 60,
-      RULE_term = 61,
-      RULE_factor = 62,
-      RULE_power = 63,
-      RULE_atom = 64,
-      RULE_testlist_comp = 65,
-      RULE_trailer = 66,
-      RULE_subscriptlist = 67,
-      RULE_subscript = 68,
-      RULE_sliceop = 69,
-      RULE_exprlist = 70,
-      RULE_testlist = 71,
-      RULE_dictorsetmaker = 72,
-      RULE_classdef = 73,
-      RULE_arglist = 74,
-      RULE_argument = 75,
-      RULE_comp_iter = 76,
-      RULE_comp_for = 77,
-      RULE_comp_if = 78,
-      RULE_yield_expr = 79,
-      RULE_yield_arg = 80,
-      RULE_string = 81,
-      RULE_number = 82,
-      RULE_integer = 83;
+      RULE_comp_op = 51,
+      RULE_star_expr = 52,
+      RULE_expr = 53,
+      RULE_atom = 54,
+      RULE_testlist_comp = 55,
+      RULE_trailer = 56,
+      RULE_subscriptlist = 57,
+      RULE_subscript = 58,
+      RULE_sliceop = 59,
+      RULE_exprlist = 60,
+      RULE_testlist = 61,
+      RULE_dictorsetmaker = 62,
+      RULE_classdef = 63,
+      RULE_arglist = 64,
+      RULE_argument = 65,
+      RULE_comp_iter = 66,
+      RULE_comp_for = 67,
+      RULE_comp_if = 68,
+      RULE_yield_expr = 69,
+      RULE_yield_arg = 70,
+      RULE_string = 71,
+      RULE_number = 72,
+      RULE_integer = 73;
   public static final String[] ruleNames = {
     "single_input",
     "file_input",
@@ -258,19 +250,9 @@ public class Python3Parser extends Parser {
     "lambdef",
     "lambdef_nocond",
     "or_test",
-    "and_test",
-    "not_test",
-    "comparison",
     "comp_op",
     "star_expr",
     "expr",
-    "xor_expr",
-    "and_expr",
-    "shift_expr",
-    "arith_expr",
-    "term",
-    "factor",
-    "power",
     "atom",
     "testlist_comp",
     "trailer",
@@ -579,12 +561,12 @@ public class Python3Parser extends Parser {
     Single_inputContext _localctx = new Single_inputContext(_ctx, getState());
     enterRule(_localctx, 0, RULE_single_input);
     try {
-      setState(173);
+      setState(153);
       switch (_input.LA(1)) {
         case NEWLINE:
           enterOuterAlt(_localctx, 1);
           {
-            setState(168);
+            setState(148);
             match(NEWLINE);
           }
           break;
@@ -624,7 +606,7 @@ public class Python3Parser extends Parser {
         case OPEN_BRACE:
           enterOuterAlt(_localctx, 2);
           {
-            setState(169);
+            setState(149);
             simple_stmt();
           }
           break;
@@ -638,9 +620,9 @@ public class Python3Parser extends Parser {
         case AT:
           enterOuterAlt(_localctx, 3);
           {
-            setState(170);
+            setState(150);
             compound_stmt();
-            setState(171);
+            setState(151);
             match(NEWLINE);
           }
           break;
@@ -709,7 +691,7 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(179);
+        setState(159);
         _errHandler.sync(this);
         _la = _input.LA(1);
         while ((((_la) & ~0x3f) == 0
@@ -760,11 +742,11 @@ public class Python3Parser extends Parser {
                         & ((1L << (NOT_OP - 66)) | (1L << (OPEN_BRACE - 66)) | (1L << (AT - 66))))
                     != 0)) {
           {
-            setState(177);
+            setState(157);
             switch (_input.LA(1)) {
               case NEWLINE:
                 {
-                  setState(175);
+                  setState(155);
                   match(NEWLINE);
                 }
                 break;
@@ -811,7 +793,7 @@ public class Python3Parser extends Parser {
               case OPEN_BRACE:
               case AT:
                 {
-                  setState(176);
+                  setState(156);
                   stmt();
                 }
                 break;
@@ -819,11 +801,11 @@ public class Python3Parser extends Parser {
                 throw new NoViableAltException(this);
             }
           }
-          setState(181);
+          setState(161);
           _errHandler.sync(this);
           _la = _input.LA(1);
         }
-        setState(182);
+        setState(162);
         match(EOF);
       }
     } catch (RecognitionException re) {
@@ -884,23 +866,23 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(184);
+        setState(164);
         testlist();
-        setState(188);
+        setState(168);
         _errHandler.sync(this);
         _la = _input.LA(1);
         while (_la == NEWLINE) {
           {
             {
-              setState(185);
+              setState(165);
               match(NEWLINE);
             }
           }
-          setState(190);
+          setState(170);
           _errHandler.sync(this);
           _la = _input.LA(1);
         }
-        setState(191);
+        setState(171);
         match(EOF);
       }
     } catch (RecognitionException re) {
@@ -957,17 +939,17 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(193);
+        setState(173);
         match(AT);
-        setState(194);
+        setState(174);
         dotted_name();
-        setState(200);
+        setState(180);
         _la = _input.LA(1);
         if (_la == OPEN_PAREN) {
           {
-            setState(195);
+            setState(175);
             match(OPEN_PAREN);
-            setState(197);
+            setState(177);
             _la = _input.LA(1);
             if (((((_la - 20)) & ~0x3f) == 0
                 && ((1L << (_la - 20))
@@ -996,17 +978,17 @@ public class Python3Parser extends Parser {
                             | (1L << (OPEN_BRACE - 20))))
                     != 0)) {
               {
-                setState(196);
+                setState(176);
                 arglist();
               }
             }
 
-            setState(199);
+            setState(179);
             match(CLOSE_PAREN);
           }
         }
 
-        setState(202);
+        setState(182);
         match(NEWLINE);
       }
     } catch (RecognitionException re) {
@@ -1059,17 +1041,17 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(205);
+        setState(185);
         _errHandler.sync(this);
         _la = _input.LA(1);
         do {
           {
             {
-              setState(204);
+              setState(184);
               decorator();
             }
           }
-          setState(207);
+          setState(187);
           _errHandler.sync(this);
           _la = _input.LA(1);
         } while (_la == AT);
@@ -1127,19 +1109,19 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(209);
+        setState(189);
         decorators();
-        setState(212);
+        setState(192);
         switch (_input.LA(1)) {
           case CLASS:
             {
-              setState(210);
+              setState(190);
               classdef();
             }
             break;
           case DEF:
             {
-              setState(211);
+              setState(191);
               funcdef();
             }
             break;
@@ -1209,26 +1191,26 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(214);
+        setState(194);
         match(DEF);
-        setState(215);
+        setState(195);
         match(NAME);
-        setState(216);
+        setState(196);
         parameters();
-        setState(219);
+        setState(199);
         _la = _input.LA(1);
         if (_la == ARROW) {
           {
-            setState(217);
+            setState(197);
             match(ARROW);
-            setState(218);
+            setState(198);
             test();
           }
         }
 
-        setState(221);
+        setState(201);
         match(COLON);
-        setState(222);
+        setState(202);
         suite();
       }
     } catch (RecognitionException re) {
@@ -1277,19 +1259,19 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(224);
+        setState(204);
         match(OPEN_PAREN);
-        setState(226);
+        setState(206);
         _la = _input.LA(1);
         if ((((_la) & ~0x3f) == 0
             && ((1L << _la) & ((1L << NAME) | (1L << STAR) | (1L << POWER))) != 0)) {
           {
-            setState(225);
+            setState(205);
             typedargslist();
           }
         }
 
-        setState(228);
+        setState(208);
         match(CLOSE_PAREN);
       }
     } catch (RecognitionException re) {
@@ -1349,110 +1331,110 @@ public class Python3Parser extends Parser {
     int _la;
     try {
       int _alt;
-      setState(295);
+      setState(275);
       switch (_input.LA(1)) {
         case NAME:
           enterOuterAlt(_localctx, 1);
           {
-            setState(230);
+            setState(210);
             tfpdef();
-            setState(233);
+            setState(213);
             _la = _input.LA(1);
             if (_la == ASSIGN) {
               {
-                setState(231);
+                setState(211);
                 match(ASSIGN);
-                setState(232);
+                setState(212);
                 test();
               }
             }
 
-            setState(243);
+            setState(223);
             _errHandler.sync(this);
             _alt = getInterpreter().adaptivePredict(_input, 12, _ctx);
             while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
               if (_alt == 1) {
                 {
                   {
-                    setState(235);
+                    setState(215);
                     match(COMMA);
-                    setState(236);
+                    setState(216);
                     tfpdef();
-                    setState(239);
+                    setState(219);
                     _la = _input.LA(1);
                     if (_la == ASSIGN) {
                       {
-                        setState(237);
+                        setState(217);
                         match(ASSIGN);
-                        setState(238);
+                        setState(218);
                         test();
                       }
                     }
                   }
                 }
               }
-              setState(245);
+              setState(225);
               _errHandler.sync(this);
               _alt = getInterpreter().adaptivePredict(_input, 12, _ctx);
             }
-            setState(271);
+            setState(251);
             _la = _input.LA(1);
             if (_la == COMMA) {
               {
-                setState(246);
+                setState(226);
                 match(COMMA);
-                setState(269);
+                setState(249);
                 switch (_input.LA(1)) {
                   case STAR:
                     {
-                      setState(247);
+                      setState(227);
                       match(STAR);
-                      setState(249);
+                      setState(229);
                       _la = _input.LA(1);
                       if (_la == NAME) {
                         {
-                          setState(248);
+                          setState(228);
                           tfpdef();
                         }
                       }
 
-                      setState(259);
+                      setState(239);
                       _errHandler.sync(this);
                       _alt = getInterpreter().adaptivePredict(_input, 15, _ctx);
                       while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
                         if (_alt == 1) {
                           {
                             {
-                              setState(251);
+                              setState(231);
                               match(COMMA);
-                              setState(252);
+                              setState(232);
                               tfpdef();
-                              setState(255);
+                              setState(235);
                               _la = _input.LA(1);
                               if (_la == ASSIGN) {
                                 {
-                                  setState(253);
+                                  setState(233);
                                   match(ASSIGN);
-                                  setState(254);
+                                  setState(234);
                                   test();
                                 }
                               }
                             }
                           }
                         }
-                        setState(261);
+                        setState(241);
                         _errHandler.sync(this);
                         _alt = getInterpreter().adaptivePredict(_input, 15, _ctx);
                       }
-                      setState(265);
+                      setState(245);
                       _la = _input.LA(1);
                       if (_la == COMMA) {
                         {
-                          setState(262);
+                          setState(242);
                           match(COMMA);
-                          setState(263);
+                          setState(243);
                           match(POWER);
-                          setState(264);
+                          setState(244);
                           tfpdef();
                         }
                       }
@@ -1460,9 +1442,9 @@ public class Python3Parser extends Parser {
                     break;
                   case POWER:
                     {
-                      setState(267);
+                      setState(247);
                       match(POWER);
-                      setState(268);
+                      setState(248);
                       tfpdef();
                     }
                     break;
@@ -1478,54 +1460,54 @@ public class Python3Parser extends Parser {
         case STAR:
           enterOuterAlt(_localctx, 2);
           {
-            setState(273);
+            setState(253);
             match(STAR);
-            setState(275);
+            setState(255);
             _la = _input.LA(1);
             if (_la == NAME) {
               {
-                setState(274);
+                setState(254);
                 tfpdef();
               }
             }
 
-            setState(285);
+            setState(265);
             _errHandler.sync(this);
             _alt = getInterpreter().adaptivePredict(_input, 21, _ctx);
             while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
               if (_alt == 1) {
                 {
                   {
-                    setState(277);
+                    setState(257);
                     match(COMMA);
-                    setState(278);
+                    setState(258);
                     tfpdef();
-                    setState(281);
+                    setState(261);
                     _la = _input.LA(1);
                     if (_la == ASSIGN) {
                       {
-                        setState(279);
+                        setState(259);
                         match(ASSIGN);
-                        setState(280);
+                        setState(260);
                         test();
                       }
                     }
                   }
                 }
               }
-              setState(287);
+              setState(267);
               _errHandler.sync(this);
               _alt = getInterpreter().adaptivePredict(_input, 21, _ctx);
             }
-            setState(291);
+            setState(271);
             _la = _input.LA(1);
             if (_la == COMMA) {
               {
-                setState(288);
+                setState(268);
                 match(COMMA);
-                setState(289);
+                setState(269);
                 match(POWER);
-                setState(290);
+                setState(270);
                 tfpdef();
               }
             }
@@ -1534,9 +1516,9 @@ public class Python3Parser extends Parser {
         case POWER:
           enterOuterAlt(_localctx, 3);
           {
-            setState(293);
+            setState(273);
             match(POWER);
-            setState(294);
+            setState(274);
             tfpdef();
           }
           break;
@@ -1593,15 +1575,15 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(297);
+        setState(277);
         match(NAME);
-        setState(300);
+        setState(280);
         _la = _input.LA(1);
         if (_la == COLON) {
           {
-            setState(298);
+            setState(278);
             match(COLON);
-            setState(299);
+            setState(279);
             test();
           }
         }
@@ -1663,110 +1645,110 @@ public class Python3Parser extends Parser {
     int _la;
     try {
       int _alt;
-      setState(367);
+      setState(347);
       switch (_input.LA(1)) {
         case NAME:
           enterOuterAlt(_localctx, 1);
           {
-            setState(302);
+            setState(282);
             vfpdef();
-            setState(305);
+            setState(285);
             _la = _input.LA(1);
             if (_la == ASSIGN) {
               {
-                setState(303);
+                setState(283);
                 match(ASSIGN);
-                setState(304);
+                setState(284);
                 test();
               }
             }
 
-            setState(315);
+            setState(295);
             _errHandler.sync(this);
             _alt = getInterpreter().adaptivePredict(_input, 27, _ctx);
             while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
               if (_alt == 1) {
                 {
                   {
-                    setState(307);
+                    setState(287);
                     match(COMMA);
-                    setState(308);
+                    setState(288);
                     vfpdef();
-                    setState(311);
+                    setState(291);
                     _la = _input.LA(1);
                     if (_la == ASSIGN) {
                       {
-                        setState(309);
+                        setState(289);
                         match(ASSIGN);
-                        setState(310);
+                        setState(290);
                         test();
                       }
                     }
                   }
                 }
               }
-              setState(317);
+              setState(297);
               _errHandler.sync(this);
               _alt = getInterpreter().adaptivePredict(_input, 27, _ctx);
             }
-            setState(343);
+            setState(323);
             _la = _input.LA(1);
             if (_la == COMMA) {
               {
-                setState(318);
+                setState(298);
                 match(COMMA);
-                setState(341);
+                setState(321);
                 switch (_input.LA(1)) {
                   case STAR:
                     {
-                      setState(319);
+                      setState(299);
                       match(STAR);
-                      setState(321);
+                      setState(301);
                       _la = _input.LA(1);
                       if (_la == NAME) {
                         {
-                          setState(320);
+                          setState(300);
                           vfpdef();
                         }
                       }
 
-                      setState(331);
+                      setState(311);
                       _errHandler.sync(this);
                       _alt = getInterpreter().adaptivePredict(_input, 30, _ctx);
                       while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
                         if (_alt == 1) {
                           {
                             {
-                              setState(323);
+                              setState(303);
                               match(COMMA);
-                              setState(324);
+                              setState(304);
                               vfpdef();
-                              setState(327);
+                              setState(307);
                               _la = _input.LA(1);
                               if (_la == ASSIGN) {
                                 {
-                                  setState(325);
+                                  setState(305);
                                   match(ASSIGN);
-                                  setState(326);
+                                  setState(306);
                                   test();
                                 }
                               }
                             }
                           }
                         }
-                        setState(333);
+                        setState(313);
                         _errHandler.sync(this);
                         _alt = getInterpreter().adaptivePredict(_input, 30, _ctx);
                       }
-                      setState(337);
+                      setState(317);
                       _la = _input.LA(1);
                       if (_la == COMMA) {
                         {
-                          setState(334);
+                          setState(314);
                           match(COMMA);
-                          setState(335);
+                          setState(315);
                           match(POWER);
-                          setState(336);
+                          setState(316);
                           vfpdef();
                         }
                       }
@@ -1774,9 +1756,9 @@ public class Python3Parser extends Parser {
                     break;
                   case POWER:
                     {
-                      setState(339);
+                      setState(319);
                       match(POWER);
-                      setState(340);
+                      setState(320);
                       vfpdef();
                     }
                     break;
@@ -1792,54 +1774,54 @@ public class Python3Parser extends Parser {
         case STAR:
           enterOuterAlt(_localctx, 2);
           {
-            setState(345);
+            setState(325);
             match(STAR);
-            setState(347);
+            setState(327);
             _la = _input.LA(1);
             if (_la == NAME) {
               {
-                setState(346);
+                setState(326);
                 vfpdef();
               }
             }
 
-            setState(357);
+            setState(337);
             _errHandler.sync(this);
             _alt = getInterpreter().adaptivePredict(_input, 36, _ctx);
             while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
               if (_alt == 1) {
                 {
                   {
-                    setState(349);
+                    setState(329);
                     match(COMMA);
-                    setState(350);
+                    setState(330);
                     vfpdef();
-                    setState(353);
+                    setState(333);
                     _la = _input.LA(1);
                     if (_la == ASSIGN) {
                       {
-                        setState(351);
+                        setState(331);
                         match(ASSIGN);
-                        setState(352);
+                        setState(332);
                         test();
                       }
                     }
                   }
                 }
               }
-              setState(359);
+              setState(339);
               _errHandler.sync(this);
               _alt = getInterpreter().adaptivePredict(_input, 36, _ctx);
             }
-            setState(363);
+            setState(343);
             _la = _input.LA(1);
             if (_la == COMMA) {
               {
-                setState(360);
+                setState(340);
                 match(COMMA);
-                setState(361);
+                setState(341);
                 match(POWER);
-                setState(362);
+                setState(342);
                 vfpdef();
               }
             }
@@ -1848,9 +1830,9 @@ public class Python3Parser extends Parser {
         case POWER:
           enterOuterAlt(_localctx, 3);
           {
-            setState(365);
+            setState(345);
             match(POWER);
-            setState(366);
+            setState(346);
             vfpdef();
           }
           break;
@@ -1902,7 +1884,7 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(369);
+        setState(349);
         match(NAME);
       }
     } catch (RecognitionException re) {
@@ -1952,7 +1934,7 @@ public class Python3Parser extends Parser {
     StmtContext _localctx = new StmtContext(_ctx, getState());
     enterRule(_localctx, 24, RULE_stmt);
     try {
-      setState(373);
+      setState(353);
       switch (_input.LA(1)) {
         case RETURN:
         case RAISE:
@@ -1990,7 +1972,7 @@ public class Python3Parser extends Parser {
         case OPEN_BRACE:
           enterOuterAlt(_localctx, 1);
           {
-            setState(371);
+            setState(351);
             simple_stmt();
           }
           break;
@@ -2004,7 +1986,7 @@ public class Python3Parser extends Parser {
         case AT:
           enterOuterAlt(_localctx, 2);
           {
-            setState(372);
+            setState(352);
             compound_stmt();
           }
           break;
@@ -2066,36 +2048,36 @@ public class Python3Parser extends Parser {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-        setState(375);
+        setState(355);
         small_stmt();
-        setState(380);
+        setState(360);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input, 40, _ctx);
         while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
           if (_alt == 1) {
             {
               {
-                setState(376);
+                setState(356);
                 match(SEMI_COLON);
-                setState(377);
+                setState(357);
                 small_stmt();
               }
             }
           }
-          setState(382);
+          setState(362);
           _errHandler.sync(this);
           _alt = getInterpreter().adaptivePredict(_input, 40, _ctx);
         }
-        setState(384);
+        setState(364);
         _la = _input.LA(1);
         if (_la == SEMI_COLON) {
           {
-            setState(383);
+            setState(363);
             match(SEMI_COLON);
           }
         }
 
-        setState(386);
+        setState(366);
         match(NEWLINE);
       }
     } catch (RecognitionException re) {
@@ -2169,7 +2151,7 @@ public class Python3Parser extends Parser {
     Small_stmtContext _localctx = new Small_stmtContext(_ctx, getState());
     enterRule(_localctx, 28, RULE_small_stmt);
     try {
-      setState(396);
+      setState(376);
       switch (_input.LA(1)) {
         case LAMBDA:
         case NOT:
@@ -2195,21 +2177,21 @@ public class Python3Parser extends Parser {
         case OPEN_BRACE:
           enterOuterAlt(_localctx, 1);
           {
-            setState(388);
+            setState(368);
             expr_stmt();
           }
           break;
         case DEL:
           enterOuterAlt(_localctx, 2);
           {
-            setState(389);
+            setState(369);
             del_stmt();
           }
           break;
         case PASS:
           enterOuterAlt(_localctx, 3);
           {
-            setState(390);
+            setState(370);
             pass_stmt();
           }
           break;
@@ -2220,7 +2202,7 @@ public class Python3Parser extends Parser {
         case BREAK:
           enterOuterAlt(_localctx, 4);
           {
-            setState(391);
+            setState(371);
             flow_stmt();
           }
           break;
@@ -2228,28 +2210,28 @@ public class Python3Parser extends Parser {
         case IMPORT:
           enterOuterAlt(_localctx, 5);
           {
-            setState(392);
+            setState(372);
             import_stmt();
           }
           break;
         case GLOBAL:
           enterOuterAlt(_localctx, 6);
           {
-            setState(393);
+            setState(373);
             global_stmt();
           }
           break;
         case NONLOCAL:
           enterOuterAlt(_localctx, 7);
           {
-            setState(394);
+            setState(374);
             nonlocal_stmt();
           }
           break;
         case ASSERT:
           enterOuterAlt(_localctx, 8);
           {
-            setState(395);
+            setState(375);
             assert_stmt();
           }
           break;
@@ -2322,9 +2304,9 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(398);
+        setState(378);
         testlist_star_expr();
-        setState(414);
+        setState(394);
         switch (_input.LA(1)) {
           case ADD_ASSIGN:
           case SUB_ASSIGN:
@@ -2340,13 +2322,13 @@ public class Python3Parser extends Parser {
           case POWER_ASSIGN:
           case IDIV_ASSIGN:
             {
-              setState(399);
+              setState(379);
               augassign();
-              setState(402);
+              setState(382);
               switch (_input.LA(1)) {
                 case YIELD:
                   {
-                    setState(400);
+                    setState(380);
                     yield_expr();
                   }
                   break;
@@ -2373,7 +2355,7 @@ public class Python3Parser extends Parser {
                 case NOT_OP:
                 case OPEN_BRACE:
                   {
-                    setState(401);
+                    setState(381);
                     testlist();
                   }
                   break;
@@ -2386,19 +2368,19 @@ public class Python3Parser extends Parser {
           case SEMI_COLON:
           case ASSIGN:
             {
-              setState(411);
+              setState(391);
               _errHandler.sync(this);
               _la = _input.LA(1);
               while (_la == ASSIGN) {
                 {
                   {
-                    setState(404);
+                    setState(384);
                     match(ASSIGN);
-                    setState(407);
+                    setState(387);
                     switch (_input.LA(1)) {
                       case YIELD:
                         {
-                          setState(405);
+                          setState(385);
                           yield_expr();
                         }
                         break;
@@ -2425,7 +2407,7 @@ public class Python3Parser extends Parser {
                       case NOT_OP:
                       case OPEN_BRACE:
                         {
-                          setState(406);
+                          setState(386);
                           testlist_star_expr();
                         }
                         break;
@@ -2434,7 +2416,7 @@ public class Python3Parser extends Parser {
                     }
                   }
                 }
-                setState(413);
+                setState(393);
                 _errHandler.sync(this);
                 _la = _input.LA(1);
               }
@@ -2503,41 +2485,41 @@ public class Python3Parser extends Parser {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-        setState(418);
+        setState(398);
         switch (getInterpreter().adaptivePredict(_input, 47, _ctx)) {
           case 1:
             {
-              setState(416);
+              setState(396);
               test();
             }
             break;
           case 2:
             {
-              setState(417);
+              setState(397);
               star_expr();
             }
             break;
         }
-        setState(427);
+        setState(407);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input, 49, _ctx);
         while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
           if (_alt == 1) {
             {
               {
-                setState(420);
+                setState(400);
                 match(COMMA);
-                setState(423);
+                setState(403);
                 switch (getInterpreter().adaptivePredict(_input, 48, _ctx)) {
                   case 1:
                     {
-                      setState(421);
+                      setState(401);
                       test();
                     }
                     break;
                   case 2:
                     {
-                      setState(422);
+                      setState(402);
                       star_expr();
                     }
                     break;
@@ -2545,15 +2527,15 @@ public class Python3Parser extends Parser {
               }
             }
           }
-          setState(429);
+          setState(409);
           _errHandler.sync(this);
           _alt = getInterpreter().adaptivePredict(_input, 49, _ctx);
         }
-        setState(431);
+        setState(411);
         _la = _input.LA(1);
         if (_la == COMMA) {
           {
-            setState(430);
+            setState(410);
             match(COMMA);
           }
         }
@@ -2600,7 +2582,7 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(433);
+        setState(413);
         _la = _input.LA(1);
         if (!(((((_la - 78)) & ~0x3f) == 0
             && ((1L << (_la - 78))
@@ -2672,9 +2654,9 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(435);
+        setState(415);
         match(DEL);
-        setState(436);
+        setState(416);
         exprlist();
       }
     } catch (RecognitionException re) {
@@ -2722,7 +2704,7 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(438);
+        setState(418);
         match(PASS);
       }
     } catch (RecognitionException re) {
@@ -2784,40 +2766,40 @@ public class Python3Parser extends Parser {
     Flow_stmtContext _localctx = new Flow_stmtContext(_ctx, getState());
     enterRule(_localctx, 40, RULE_flow_stmt);
     try {
-      setState(445);
+      setState(425);
       switch (_input.LA(1)) {
         case BREAK:
           enterOuterAlt(_localctx, 1);
           {
-            setState(440);
+            setState(420);
             break_stmt();
           }
           break;
         case CONTINUE:
           enterOuterAlt(_localctx, 2);
           {
-            setState(441);
+            setState(421);
             continue_stmt();
           }
           break;
         case RETURN:
           enterOuterAlt(_localctx, 3);
           {
-            setState(442);
+            setState(422);
             return_stmt();
           }
           break;
         case RAISE:
           enterOuterAlt(_localctx, 4);
           {
-            setState(443);
+            setState(423);
             raise_stmt();
           }
           break;
         case YIELD:
           enterOuterAlt(_localctx, 5);
           {
-            setState(444);
+            setState(424);
             yield_stmt();
           }
           break;
@@ -2869,7 +2851,7 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(447);
+        setState(427);
         match(BREAK);
       }
     } catch (RecognitionException re) {
@@ -2917,7 +2899,7 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(449);
+        setState(429);
         match(CONTINUE);
       }
     } catch (RecognitionException re) {
@@ -2970,9 +2952,9 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(451);
+        setState(431);
         match(RETURN);
-        setState(453);
+        setState(433);
         _la = _input.LA(1);
         if (((((_la - 20)) & ~0x3f) == 0
             && ((1L << (_la - 20))
@@ -3000,7 +2982,7 @@ public class Python3Parser extends Parser {
                         | (1L << (OPEN_BRACE - 20))))
                 != 0)) {
           {
-            setState(452);
+            setState(432);
             testlist();
           }
         }
@@ -3050,7 +3032,7 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(455);
+        setState(435);
         yield_expr();
       }
     } catch (RecognitionException re) {
@@ -3111,9 +3093,9 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(457);
+        setState(437);
         match(RAISE);
-        setState(463);
+        setState(443);
         _la = _input.LA(1);
         if (((((_la - 20)) & ~0x3f) == 0
             && ((1L << (_la - 20))
@@ -3141,15 +3123,15 @@ public class Python3Parser extends Parser {
                         | (1L << (OPEN_BRACE - 20))))
                 != 0)) {
           {
-            setState(458);
+            setState(438);
             test();
-            setState(461);
+            setState(441);
             _la = _input.LA(1);
             if (_la == FROM) {
               {
-                setState(459);
+                setState(439);
                 match(FROM);
-                setState(460);
+                setState(440);
                 test();
               }
             }
@@ -3203,19 +3185,19 @@ public class Python3Parser extends Parser {
     Import_stmtContext _localctx = new Import_stmtContext(_ctx, getState());
     enterRule(_localctx, 52, RULE_import_stmt);
     try {
-      setState(467);
+      setState(447);
       switch (_input.LA(1)) {
         case IMPORT:
           enterOuterAlt(_localctx, 1);
           {
-            setState(465);
+            setState(445);
             import_name();
           }
           break;
         case FROM:
           enterOuterAlt(_localctx, 2);
           {
-            setState(466);
+            setState(446);
             import_from();
           }
           break;
@@ -3271,9 +3253,9 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(469);
+        setState(449);
         match(IMPORT);
-        setState(470);
+        setState(450);
         dotted_as_names();
       }
     } catch (RecognitionException re) {
@@ -3334,19 +3316,19 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(472);
+        setState(452);
         match(FROM);
-        setState(485);
+        setState(465);
         switch (getInterpreter().adaptivePredict(_input, 58, _ctx)) {
           case 1:
             {
-              setState(476);
+              setState(456);
               _errHandler.sync(this);
               _la = _input.LA(1);
               while (_la == DOT || _la == ELLIPSIS) {
                 {
                   {
-                    setState(473);
+                    setState(453);
                     _la = _input.LA(1);
                     if (!(_la == DOT || _la == ELLIPSIS)) {
                       _errHandler.recoverInline(this);
@@ -3355,23 +3337,23 @@ public class Python3Parser extends Parser {
                     }
                   }
                 }
-                setState(478);
+                setState(458);
                 _errHandler.sync(this);
                 _la = _input.LA(1);
               }
-              setState(479);
+              setState(459);
               dotted_name();
             }
             break;
           case 2:
             {
-              setState(481);
+              setState(461);
               _errHandler.sync(this);
               _la = _input.LA(1);
               do {
                 {
                   {
-                    setState(480);
+                    setState(460);
                     _la = _input.LA(1);
                     if (!(_la == DOT || _la == ELLIPSIS)) {
                       _errHandler.recoverInline(this);
@@ -3380,36 +3362,36 @@ public class Python3Parser extends Parser {
                     }
                   }
                 }
-                setState(483);
+                setState(463);
                 _errHandler.sync(this);
                 _la = _input.LA(1);
               } while (_la == DOT || _la == ELLIPSIS);
             }
             break;
         }
-        setState(487);
+        setState(467);
         match(IMPORT);
-        setState(494);
+        setState(474);
         switch (_input.LA(1)) {
           case STAR:
             {
-              setState(488);
+              setState(468);
               match(STAR);
             }
             break;
           case OPEN_PAREN:
             {
-              setState(489);
+              setState(469);
               match(OPEN_PAREN);
-              setState(490);
+              setState(470);
               import_as_names();
-              setState(491);
+              setState(471);
               match(CLOSE_PAREN);
             }
             break;
           case NAME:
             {
-              setState(493);
+              setState(473);
               import_as_names();
             }
             break;
@@ -3471,15 +3453,15 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(496);
+        setState(476);
         match(NAME);
-        setState(499);
+        setState(479);
         _la = _input.LA(1);
         if (_la == AS) {
           {
-            setState(497);
+            setState(477);
             match(AS);
-            setState(498);
+            setState(478);
             match(NAME);
           }
         }
@@ -3538,15 +3520,15 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(501);
+        setState(481);
         dotted_name();
-        setState(504);
+        setState(484);
         _la = _input.LA(1);
         if (_la == AS) {
           {
-            setState(502);
+            setState(482);
             match(AS);
-            setState(503);
+            setState(483);
             match(NAME);
           }
         }
@@ -3602,31 +3584,31 @@ public class Python3Parser extends Parser {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-        setState(506);
+        setState(486);
         import_as_name();
-        setState(511);
+        setState(491);
         _errHandler.sync(this);
         _alt = getInterpreter().adaptivePredict(_input, 62, _ctx);
         while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
           if (_alt == 1) {
             {
               {
-                setState(507);
+                setState(487);
                 match(COMMA);
-                setState(508);
+                setState(488);
                 import_as_name();
               }
             }
           }
-          setState(513);
+          setState(493);
           _errHandler.sync(this);
           _alt = getInterpreter().adaptivePredict(_input, 62, _ctx);
         }
-        setState(515);
+        setState(495);
         _la = _input.LA(1);
         if (_la == COMMA) {
           {
-            setState(514);
+            setState(494);
             match(COMMA);
           }
         }
@@ -3681,21 +3663,21 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(517);
+        setState(497);
         dotted_as_name();
-        setState(522);
+        setState(502);
         _errHandler.sync(this);
         _la = _input.LA(1);
         while (_la == COMMA) {
           {
             {
-              setState(518);
+              setState(498);
               match(COMMA);
-              setState(519);
+              setState(499);
               dotted_as_name();
             }
           }
-          setState(524);
+          setState(504);
           _errHandler.sync(this);
           _la = _input.LA(1);
         }
@@ -3750,21 +3732,21 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(525);
+        setState(505);
         match(NAME);
-        setState(530);
+        setState(510);
         _errHandler.sync(this);
         _la = _input.LA(1);
         while (_la == DOT) {
           {
             {
-              setState(526);
+              setState(506);
               match(DOT);
-              setState(527);
+              setState(507);
               match(NAME);
             }
           }
-          setState(532);
+          setState(512);
           _errHandler.sync(this);
           _la = _input.LA(1);
         }
@@ -3823,23 +3805,23 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(533);
+        setState(513);
         match(GLOBAL);
-        setState(534);
+        setState(514);
         match(NAME);
-        setState(539);
+        setState(519);
         _errHandler.sync(this);
         _la = _input.LA(1);
         while (_la == COMMA) {
           {
             {
-              setState(535);
+              setState(515);
               match(COMMA);
-              setState(536);
+              setState(516);
               match(NAME);
             }
           }
-          setState(541);
+          setState(521);
           _errHandler.sync(this);
           _la = _input.LA(1);
         }
@@ -3898,23 +3880,23 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(542);
+        setState(522);
         match(NONLOCAL);
-        setState(543);
+        setState(523);
         match(NAME);
-        setState(548);
+        setState(528);
         _errHandler.sync(this);
         _la = _input.LA(1);
         while (_la == COMMA) {
           {
             {
-              setState(544);
+              setState(524);
               match(COMMA);
-              setState(545);
+              setState(525);
               match(NAME);
             }
           }
-          setState(550);
+          setState(530);
           _errHandler.sync(this);
           _la = _input.LA(1);
         }
@@ -3973,17 +3955,17 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(551);
+        setState(531);
         match(ASSERT);
-        setState(552);
+        setState(532);
         test();
-        setState(555);
+        setState(535);
         _la = _input.LA(1);
         if (_la == COMMA) {
           {
-            setState(553);
+            setState(533);
             match(COMMA);
-            setState(554);
+            setState(534);
             test();
           }
         }
@@ -4059,61 +4041,61 @@ public class Python3Parser extends Parser {
     Compound_stmtContext _localctx = new Compound_stmtContext(_ctx, getState());
     enterRule(_localctx, 74, RULE_compound_stmt);
     try {
-      setState(565);
+      setState(545);
       switch (_input.LA(1)) {
         case IF:
           enterOuterAlt(_localctx, 1);
           {
-            setState(557);
+            setState(537);
             if_stmt();
           }
           break;
         case WHILE:
           enterOuterAlt(_localctx, 2);
           {
-            setState(558);
+            setState(538);
             while_stmt();
           }
           break;
         case FOR:
           enterOuterAlt(_localctx, 3);
           {
-            setState(559);
+            setState(539);
             for_stmt();
           }
           break;
         case TRY:
           enterOuterAlt(_localctx, 4);
           {
-            setState(560);
+            setState(540);
             try_stmt();
           }
           break;
         case WITH:
           enterOuterAlt(_localctx, 5);
           {
-            setState(561);
+            setState(541);
             with_stmt();
           }
           break;
         case DEF:
           enterOuterAlt(_localctx, 6);
           {
-            setState(562);
+            setState(542);
             funcdef();
           }
           break;
         case CLASS:
           enterOuterAlt(_localctx, 7);
           {
-            setState(563);
+            setState(543);
             classdef();
           }
           break;
         case AT:
           enterOuterAlt(_localctx, 8);
           {
-            setState(564);
+            setState(544);
             decorated();
           }
           break;
@@ -4194,43 +4176,43 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(567);
+        setState(547);
         match(IF);
-        setState(568);
+        setState(548);
         test();
-        setState(569);
+        setState(549);
         match(COLON);
-        setState(570);
+        setState(550);
         suite();
-        setState(578);
+        setState(558);
         _errHandler.sync(this);
         _la = _input.LA(1);
         while (_la == ELIF) {
           {
             {
-              setState(571);
+              setState(551);
               match(ELIF);
-              setState(572);
+              setState(552);
               test();
-              setState(573);
+              setState(553);
               match(COLON);
-              setState(574);
+              setState(554);
               suite();
             }
           }
-          setState(580);
+          setState(560);
           _errHandler.sync(this);
           _la = _input.LA(1);
         }
-        setState(584);
+        setState(564);
         _la = _input.LA(1);
         if (_la == ELSE) {
           {
-            setState(581);
+            setState(561);
             match(ELSE);
-            setState(582);
+            setState(562);
             match(COLON);
-            setState(583);
+            setState(563);
             suite();
           }
         }
@@ -4297,23 +4279,23 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(586);
+        setState(566);
         match(WHILE);
-        setState(587);
+        setState(567);
         test();
-        setState(588);
+        setState(568);
         match(COLON);
-        setState(589);
+        setState(569);
         suite();
-        setState(593);
+        setState(573);
         _la = _input.LA(1);
         if (_la == ELSE) {
           {
-            setState(590);
+            setState(570);
             match(ELSE);
-            setState(591);
+            setState(571);
             match(COLON);
-            setState(592);
+            setState(572);
             suite();
           }
         }
@@ -4388,27 +4370,27 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(595);
+        setState(575);
         match(FOR);
-        setState(596);
+        setState(576);
         exprlist();
-        setState(597);
+        setState(577);
         match(IN);
-        setState(598);
+        setState(578);
         testlist();
-        setState(599);
+        setState(579);
         match(COLON);
-        setState(600);
+        setState(580);
         suite();
-        setState(604);
+        setState(584);
         _la = _input.LA(1);
         if (_la == ELSE) {
           {
-            setState(601);
+            setState(581);
             match(ELSE);
-            setState(602);
+            setState(582);
             match(COLON);
-            setState(603);
+            setState(583);
             suite();
           }
         }
@@ -4483,56 +4465,56 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(606);
+        setState(586);
         match(TRY);
-        setState(607);
+        setState(587);
         match(COLON);
-        setState(608);
+        setState(588);
         suite();
-        setState(630);
+        setState(610);
         switch (_input.LA(1)) {
           case EXCEPT:
             {
-              setState(613);
+              setState(593);
               _errHandler.sync(this);
               _la = _input.LA(1);
               do {
                 {
                   {
-                    setState(609);
+                    setState(589);
                     except_clause();
-                    setState(610);
+                    setState(590);
                     match(COLON);
-                    setState(611);
+                    setState(591);
                     suite();
                   }
                 }
-                setState(615);
+                setState(595);
                 _errHandler.sync(this);
                 _la = _input.LA(1);
               } while (_la == EXCEPT);
-              setState(620);
+              setState(600);
               _la = _input.LA(1);
               if (_la == ELSE) {
                 {
-                  setState(617);
+                  setState(597);
                   match(ELSE);
-                  setState(618);
+                  setState(598);
                   match(COLON);
-                  setState(619);
+                  setState(599);
                   suite();
                 }
               }
 
-              setState(625);
+              setState(605);
               _la = _input.LA(1);
               if (_la == FINALLY) {
                 {
-                  setState(622);
+                  setState(602);
                   match(FINALLY);
-                  setState(623);
+                  setState(603);
                   match(COLON);
-                  setState(624);
+                  setState(604);
                   suite();
                 }
               }
@@ -4540,11 +4522,11 @@ public class Python3Parser extends Parser {
             break;
           case FINALLY:
             {
-              setState(627);
+              setState(607);
               match(FINALLY);
-              setState(628);
+              setState(608);
               match(COLON);
-              setState(629);
+              setState(609);
               suite();
             }
             break;
@@ -4610,29 +4592,29 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(632);
+        setState(612);
         match(WITH);
-        setState(633);
+        setState(613);
         with_item();
-        setState(638);
+        setState(618);
         _errHandler.sync(this);
         _la = _input.LA(1);
         while (_la == COMMA) {
           {
             {
-              setState(634);
+              setState(614);
               match(COMMA);
-              setState(635);
+              setState(615);
               with_item();
             }
           }
-          setState(640);
+          setState(620);
           _errHandler.sync(this);
           _la = _input.LA(1);
         }
-        setState(641);
+        setState(621);
         match(COLON);
-        setState(642);
+        setState(622);
         suite();
       }
     } catch (RecognitionException re) {
@@ -4689,16 +4671,16 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(644);
+        setState(624);
         test();
-        setState(647);
+        setState(627);
         _la = _input.LA(1);
         if (_la == AS) {
           {
-            setState(645);
+            setState(625);
             match(AS);
-            setState(646);
-            expr();
+            setState(626);
+            expr(0);
           }
         }
       }
@@ -4760,9 +4742,9 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(649);
+        setState(629);
         match(EXCEPT);
-        setState(655);
+        setState(635);
         _la = _input.LA(1);
         if (((((_la - 20)) & ~0x3f) == 0
             && ((1L << (_la - 20))
@@ -4790,15 +4772,15 @@ public class Python3Parser extends Parser {
                         | (1L << (OPEN_BRACE - 20))))
                 != 0)) {
           {
-            setState(650);
+            setState(630);
             test();
-            setState(653);
+            setState(633);
             _la = _input.LA(1);
             if (_la == AS) {
               {
-                setState(651);
+                setState(631);
                 match(AS);
-                setState(652);
+                setState(632);
                 match(NAME);
               }
             }
@@ -4869,7 +4851,7 @@ public class Python3Parser extends Parser {
     enterRule(_localctx, 90, RULE_suite);
     int _la;
     try {
-      setState(667);
+      setState(647);
       switch (_input.LA(1)) {
         case RETURN:
         case RAISE:
@@ -4907,28 +4889,28 @@ public class Python3Parser extends Parser {
         case OPEN_BRACE:
           enterOuterAlt(_localctx, 1);
           {
-            setState(657);
+            setState(637);
             simple_stmt();
           }
           break;
         case NEWLINE:
           enterOuterAlt(_localctx, 2);
           {
-            setState(658);
+            setState(638);
             match(NEWLINE);
-            setState(659);
+            setState(639);
             match(INDENT);
-            setState(661);
+            setState(641);
             _errHandler.sync(this);
             _la = _input.LA(1);
             do {
               {
                 {
-                  setState(660);
+                  setState(640);
                   stmt();
                 }
               }
-              setState(663);
+              setState(643);
               _errHandler.sync(this);
               _la = _input.LA(1);
             } while ((((_la) & ~0x3f) == 0
@@ -4979,7 +4961,7 @@ public class Python3Parser extends Parser {
                                 | (1L << (OPEN_BRACE - 66))
                                 | (1L << (AT - 66))))
                         != 0));
-            setState(665);
+            setState(645);
             match(DEDENT);
           }
           break;
@@ -5050,7 +5032,7 @@ public class Python3Parser extends Parser {
     enterRule(_localctx, 92, RULE_test);
     int _la;
     try {
-      setState(678);
+      setState(658);
       switch (_input.LA(1)) {
         case NOT:
         case NONE:
@@ -5075,19 +5057,19 @@ public class Python3Parser extends Parser {
         case OPEN_BRACE:
           enterOuterAlt(_localctx, 1);
           {
-            setState(669);
-            or_test();
-            setState(675);
+            setState(649);
+            or_test(0);
+            setState(655);
             _la = _input.LA(1);
             if (_la == IF) {
               {
-                setState(670);
+                setState(650);
                 match(IF);
-                setState(671);
-                or_test();
-                setState(672);
+                setState(651);
+                or_test(0);
+                setState(652);
                 match(ELSE);
-                setState(673);
+                setState(653);
                 test();
               }
             }
@@ -5096,7 +5078,7 @@ public class Python3Parser extends Parser {
         case LAMBDA:
           enterOuterAlt(_localctx, 2);
           {
-            setState(677);
+            setState(657);
             lambdef();
           }
           break;
@@ -5150,7 +5132,7 @@ public class Python3Parser extends Parser {
     Test_nocondContext _localctx = new Test_nocondContext(_ctx, getState());
     enterRule(_localctx, 94, RULE_test_nocond);
     try {
-      setState(682);
+      setState(662);
       switch (_input.LA(1)) {
         case NOT:
         case NONE:
@@ -5175,14 +5157,14 @@ public class Python3Parser extends Parser {
         case OPEN_BRACE:
           enterOuterAlt(_localctx, 1);
           {
-            setState(680);
-            or_test();
+            setState(660);
+            or_test(0);
           }
           break;
         case LAMBDA:
           enterOuterAlt(_localctx, 2);
           {
-            setState(681);
+            setState(661);
             lambdef_nocond();
           }
           break;
@@ -5243,21 +5225,21 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(684);
+        setState(664);
         match(LAMBDA);
-        setState(686);
+        setState(666);
         _la = _input.LA(1);
         if ((((_la) & ~0x3f) == 0
             && ((1L << _la) & ((1L << NAME) | (1L << STAR) | (1L << POWER))) != 0)) {
           {
-            setState(685);
+            setState(665);
             varargslist();
           }
         }
 
-        setState(688);
+        setState(668);
         match(COLON);
-        setState(689);
+        setState(669);
         test();
       }
     } catch (RecognitionException re) {
@@ -5314,21 +5296,21 @@ public class Python3Parser extends Parser {
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(691);
+        setState(671);
         match(LAMBDA);
-        setState(693);
+        setState(673);
         _la = _input.LA(1);
         if ((((_la) & ~0x3f) == 0
             && ((1L << _la) & ((1L << NAME) | (1L << STAR) | (1L << POWER))) != 0)) {
           {
-            setState(692);
+            setState(672);
             varargslist();
           }
         }
 
-        setState(695);
+        setState(675);
         match(COLON);
-        setState(696);
+        setState(676);
         test_nocond();
       }
     } catch (RecognitionException re) {
@@ -5342,106 +5324,153 @@ public class Python3Parser extends Parser {
   }
 
   public static class Or_testContext extends ParserRuleContext {
-    public List<And_testContext> and_test() {
-      return getRuleContexts(And_testContext.class);
+    public Or_testContext(ParserRuleContext parent, int invokingState) {
+      super(parent, invokingState);
     }
 
-    public And_testContext and_test(int i) {
-      return getRuleContext(And_testContext.class, i);
+    @Override
+    public int getRuleIndex() {
+      return RULE_or_test;
     }
 
-    public List<TerminalNode> OR() {
-      return getTokens(Python3Parser.OR);
+    public Or_testContext() {}
+
+    public void copyFrom(Or_testContext ctx) {
+      super.copyFrom(ctx);
     }
+  }
 
-    public TerminalNode OR(int i) {
-      return getToken(Python3Parser.OR, i);
+  public static class ComparisonContext extends Or_testContext {
+    public List<Or_testContext> or_test() {
+      return getRuleContexts(Or_testContext.class);
     }
 
-    public Or_testContext(ParserRuleContext parent, int invokingState) {
-      super(parent, invokingState);
+    public Or_testContext or_test(int i) {
+      return getRuleContext(Or_testContext.class, i);
     }
 
-    @Override
-    public int getRuleIndex() {
-      return RULE_or_test;
+    public Comp_opContext comp_op() {
+      return getRuleContext(Comp_opContext.class, 0);
+    }
+
+    public ComparisonContext(Or_testContext ctx) {
+      copyFrom(ctx);
     }
 
     @Override
     public void enterRule(ParseTreeListener listener) {
       if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).enterOr_test(this);
+        ((Python3Listener) listener).enterComparison(this);
       }
     }
 
     @Override
     public void exitRule(ParseTreeListener listener) {
       if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).exitOr_test(this);
+        ((Python3Listener) listener).exitComparison(this);
       }
     }
   }
 
-  public final Or_testContext or_test() throws RecognitionException {
-    Or_testContext _localctx = new Or_testContext(_ctx, getState());
-    enterRule(_localctx, 100, RULE_or_test);
-    int _la;
-    try {
-      enterOuterAlt(_localctx, 1);
-      {
-        setState(698);
-        and_test();
-        setState(703);
-        _errHandler.sync(this);
-        _la = _input.LA(1);
-        while (_la == OR) {
-          {
-            {
-              setState(699);
-              match(OR);
-              setState(700);
-              and_test();
-            }
-          }
-          setState(705);
-          _errHandler.sync(this);
-          _la = _input.LA(1);
-        }
+  public static class DisjunctionContext extends Or_testContext {
+    public List<Or_testContext> or_test() {
+      return getRuleContexts(Or_testContext.class);
+    }
+
+    public Or_testContext or_test(int i) {
+      return getRuleContext(Or_testContext.class, i);
+    }
+
+    public TerminalNode OR() {
+      return getToken(Python3Parser.OR, 0);
+    }
+
+    public DisjunctionContext(Or_testContext ctx) {
+      copyFrom(ctx);
+    }
+
+    @Override
+    public void enterRule(ParseTreeListener listener) {
+      if (listener instanceof Python3Listener) {
+        ((Python3Listener) listener).enterDisjunction(this);
+      }
+    }
+
+    @Override
+    public void exitRule(ParseTreeListener listener) {
+      if (listener instanceof Python3Listener) {
+        ((Python3Listener) listener).exitDisjunction(this);
       }
-    } catch (RecognitionException re) {
-      _localctx.exception = re;
-      _errHandler.reportError(this, re);
-      _errHandler.recover(this, re);
-    } finally {
-      exitRule();
     }
-    return _localctx;
   }
 
-  public static class And_testContext extends ParserRuleContext {
-    public List<Not_testContext> not_test() {
-      return getRuleContexts(Not_testContext.class);
+  public static class Not_testContext extends Or_testContext {
+    public TerminalNode NOT() {
+      return getToken(Python3Parser.NOT, 0);
+    }
+
+    public Or_testContext or_test() {
+      return getRuleContext(Or_testContext.class, 0);
     }
 
-    public Not_testContext not_test(int i) {
-      return getRuleContext(Not_testContext.class, i);
+    public Not_testContext(Or_testContext ctx) {
+      copyFrom(ctx);
     }
 
-    public List<TerminalNode> AND() {
-      return getTokens(Python3Parser.AND);
+    @Override
+    public void enterRule(ParseTreeListener listener) {
+      if (listener instanceof Python3Listener) {
+        ((Python3Listener) listener).enterNot_test(this);
+      }
     }
 
-    public TerminalNode AND(int i) {
-      return getToken(Python3Parser.AND, i);
+    @Override
+    public void exitRule(ParseTreeListener listener) {
+      if (listener instanceof Python3Listener) {
+        ((Python3Listener) listener).exitNot_test(this);
+      }
     }
+  }
 
-    public And_testContext(ParserRuleContext parent, int invokingState) {
-      super(parent, invokingState);
+  public static class OperandContext extends Or_testContext {
+    public Star_exprContext star_expr() {
+      return getRuleContext(Star_exprContext.class, 0);
+    }
+
+    public OperandContext(Or_testContext ctx) {
+      copyFrom(ctx);
     }
 
     @Override
-    public int getRuleIndex() {
-      return RULE_and_test;
+    public void enterRule(ParseTreeListener listener) {
+      if (listener instanceof Python3Listener) {
+        ((Python3Listener) listener).enterOperand(this);
+      }
+    }
+
+    @Override
+    public void exitRule(ParseTreeListener listener) {
+      if (listener instanceof Python3Listener) {
+        ((Python3Listener) listener).exitOperand(this);
+      }
+    }
+  }
+
+  public static class And_testContext extends Or_testContext {
+    public List<Or_testContext> or_test() {
+      return getRuleContexts(Or_testContext.class);
+    }
+
+    public Or_testContext or_test(int i) {
+      return getRuleContext(Or_testContext.class, i);
+    }
+
+    public TerminalNode AND() {
+      return getToken(Python3Parser.AND, 0);
+    }
+
+    public And_testContext(Or_testContext ctx) {
+      copyFrom(ctx);
     }
 
     @Override
@@ -5459,30 +5488,123 @@ public class Python3Parser extends Parser {
     }
   }
 
-  public final And_testContext and_test() throws RecognitionException {
-    And_testContext _localctx = new And_testContext(_ctx, getState());
-    enterRule(_localctx, 102, RULE_and_test);
-    int _la;
+  public final Or_testContext or_test() throws RecognitionException {
+    return or_test(0);
+  }
+
+  private Or_testContext or_test(int _p) throws RecognitionException {
+    ParserRuleContext _parentctx = _ctx;
+    int _parentState = getState();
+    Or_testContext _localctx = new Or_testContext(_ctx, _parentState);
+    Or_testContext _prevctx = _localctx;
+    int _startState = 100;
+    enterRecursionRule(_localctx, 100, RULE_or_test, _p);
     try {
+      int _alt;
       enterOuterAlt(_localctx, 1);
       {
-        setState(706);
-        not_test();
-        setState(711);
+        setState(682);
+        switch (_input.LA(1)) {
+          case NOT:
+            {
+              _localctx = new Not_testContext(_localctx);
+              _ctx = _localctx;
+              _prevctx = _localctx;
+
+              setState(679);
+              match(NOT);
+              setState(680);
+              or_test(3);
+            }
+            break;
+          case NONE:
+          case TRUE:
+          case FALSE:
+          case NAME:
+          case STRING_LITERAL:
+          case BYTES_LITERAL:
+          case DECIMAL_INTEGER:
+          case OCT_INTEGER:
+          case HEX_INTEGER:
+          case BIN_INTEGER:
+          case FLOAT_NUMBER:
+          case IMAG_NUMBER:
+          case ELLIPSIS:
+          case STAR:
+          case OPEN_PAREN:
+          case OPEN_BRACK:
+          case ADD:
+          case MINUS:
+          case NOT_OP:
+          case OPEN_BRACE:
+            {
+              _localctx = new OperandContext(_localctx);
+              _ctx = _localctx;
+              _prevctx = _localctx;
+              setState(681);
+              star_expr();
+            }
+            break;
+          default:
+            throw new NoViableAltException(this);
+        }
+        _ctx.stop = _input.LT(-1);
+        setState(696);
         _errHandler.sync(this);
-        _la = _input.LA(1);
-        while (_la == AND) {
-          {
+        _alt = getInterpreter().adaptivePredict(_input, 91, _ctx);
+        while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
+          if (_alt == 1) {
+            if (_parseListeners != null) triggerExitRuleEvent();
+            _prevctx = _localctx;
             {
-              setState(707);
-              match(AND);
-              setState(708);
-              not_test();
+              setState(694);
+              switch (getInterpreter().adaptivePredict(_input, 90, _ctx)) {
+                case 1:
+                  {
+                    _localctx = new ComparisonContext(new Or_testContext(_parentctx, _parentState));
+                    pushNewRecursionContext(_localctx, _startState, RULE_or_test);
+                    setState(684);
+                    if (!(precpred(_ctx, 4)))
+                      throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+                    setState(685);
+                    comp_op();
+                    setState(686);
+                    or_test(5);
+                  }
+                  break;
+                case 2:
+                  {
+                    _localctx = new And_testContext(new Or_testContext(_parentctx, _parentState));
+                    pushNewRecursionContext(_localctx, _startState, RULE_or_test);
+                    setState(688);
+                    if (!(precpred(_ctx, 2)))
+                      throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+                    setState(689);
+                    match(AND);
+                    setState(690);
+                    or_test(3);
+                  }
+                  break;
+                case 3:
+                  {
+                    _localctx =
+                        new DisjunctionContext(new Or_testContext(_parentctx, _parentState));
+                    pushNewRecursionContext(_localctx, _startState, RULE_or_test);
+                    setState(691);
+                    if (!(precpred(_ctx, 1)))
+                      throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+                    setState(692);
+                    match(OR);
+                    setState(693);
+                    or_test(2);
+                  }
+                  break;
+              }
             }
           }
-          setState(713);
+          setState(698);
           _errHandler.sync(this);
-          _la = _input.LA(1);
+          _alt = getInterpreter().adaptivePredict(_input, 91, _ctx);
         }
       }
     } catch (RecognitionException re) {
@@ -5490,313 +5612,133 @@ public class Python3Parser extends Parser {
       _errHandler.reportError(this, re);
       _errHandler.recover(this, re);
     } finally {
-      exitRule();
+      unrollRecursionContexts(_parentctx);
     }
     return _localctx;
   }
 
-  public static class Not_testContext extends ParserRuleContext {
-    public TerminalNode NOT() {
-      return getToken(Python3Parser.NOT, 0);
+  public static class Comp_opContext extends ParserRuleContext {
+    public TerminalNode IN() {
+      return getToken(Python3Parser.IN, 0);
     }
 
-    public Not_testContext not_test() {
-      return getRuleContext(Not_testContext.class, 0);
+    public TerminalNode NOT() {
+      return getToken(Python3Parser.NOT, 0);
     }
 
-    public ComparisonContext comparison() {
-      return getRuleContext(ComparisonContext.class, 0);
+    public TerminalNode IS() {
+      return getToken(Python3Parser.IS, 0);
     }
 
-    public Not_testContext(ParserRuleContext parent, int invokingState) {
+    public Comp_opContext(ParserRuleContext parent, int invokingState) {
       super(parent, invokingState);
     }
 
     @Override
     public int getRuleIndex() {
-      return RULE_not_test;
+      return RULE_comp_op;
     }
 
     @Override
     public void enterRule(ParseTreeListener listener) {
       if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).enterNot_test(this);
+        ((Python3Listener) listener).enterComp_op(this);
       }
     }
 
     @Override
     public void exitRule(ParseTreeListener listener) {
       if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).exitNot_test(this);
+        ((Python3Listener) listener).exitComp_op(this);
       }
     }
   }
 
-  public final Not_testContext not_test() throws RecognitionException {
-    Not_testContext _localctx = new Not_testContext(_ctx, getState());
-    enterRule(_localctx, 104, RULE_not_test);
+  public final Comp_opContext comp_op() throws RecognitionException {
+    Comp_opContext _localctx = new Comp_opContext(_ctx, getState());
+    enterRule(_localctx, 102, RULE_comp_op);
     try {
-      setState(717);
-      switch (_input.LA(1)) {
-        case NOT:
+      setState(712);
+      switch (getInterpreter().adaptivePredict(_input, 92, _ctx)) {
+        case 1:
           enterOuterAlt(_localctx, 1);
           {
-            setState(714);
-            match(NOT);
-            setState(715);
-            not_test();
-          }
-          break;
-        case NONE:
-        case TRUE:
-        case FALSE:
-        case NAME:
-        case STRING_LITERAL:
-        case BYTES_LITERAL:
-        case DECIMAL_INTEGER:
-        case OCT_INTEGER:
-        case HEX_INTEGER:
-        case BIN_INTEGER:
-        case FLOAT_NUMBER:
-        case IMAG_NUMBER:
-        case ELLIPSIS:
-        case STAR:
-        case OPEN_PAREN:
-        case OPEN_BRACK:
-        case ADD:
-        case MINUS:
-        case NOT_OP:
-        case OPEN_BRACE:
-          enterOuterAlt(_localctx, 2);
-          {
-            setState(716);
-            comparison();
-          }
-          break;
-        default:
-          throw new NoViableAltException(this);
-      }
-    } catch (RecognitionException re) {
-      _localctx.exception = re;
-      _errHandler.reportError(this, re);
-      _errHandler.recover(this, re);
-    } finally {
-      exitRule();
-    }
-    return _localctx;
-  }
-
-  public static class ComparisonContext extends ParserRuleContext {
-    public List<Star_exprContext> star_expr() {
-      return getRuleContexts(Star_exprContext.class);
-    }
-
-    public Star_exprContext star_expr(int i) {
-      return getRuleContext(Star_exprContext.class, i);
-    }
-
-    public List<Comp_opContext> comp_op() {
-      return getRuleContexts(Comp_opContext.class);
-    }
-
-    public Comp_opContext comp_op(int i) {
-      return getRuleContext(Comp_opContext.class, i);
-    }
-
-    public ComparisonContext(ParserRuleContext parent, int invokingState) {
-      super(parent, invokingState);
-    }
-
-    @Override
-    public int getRuleIndex() {
-      return RULE_comparison;
-    }
-
-    @Override
-    public void enterRule(ParseTreeListener listener) {
-      if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).enterComparison(this);
-      }
-    }
-
-    @Override
-    public void exitRule(ParseTreeListener listener) {
-      if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).exitComparison(this);
-      }
-    }
-  }
-
-  public final ComparisonContext comparison() throws RecognitionException {
-    ComparisonContext _localctx = new ComparisonContext(_ctx, getState());
-    enterRule(_localctx, 106, RULE_comparison);
-    int _la;
-    try {
-      enterOuterAlt(_localctx, 1);
-      {
-        setState(719);
-        star_expr();
-        setState(725);
-        _errHandler.sync(this);
-        _la = _input.LA(1);
-        while (((((_la - 15)) & ~0x3f) == 0
-            && ((1L << (_la - 15))
-                    & ((1L << (IN - 15))
-                        | (1L << (NOT - 15))
-                        | (1L << (IS - 15))
-                        | (1L << (LESS_THAN - 15))
-                        | (1L << (GREATER_THAN - 15))
-                        | (1L << (EQUALS - 15))
-                        | (1L << (GT_EQ - 15))
-                        | (1L << (LT_EQ - 15))
-                        | (1L << (NOT_EQ_1 - 15))
-                        | (1L << (NOT_EQ_2 - 15))))
-                != 0)) {
-          {
-            {
-              setState(720);
-              comp_op();
-              setState(721);
-              star_expr();
-            }
-          }
-          setState(727);
-          _errHandler.sync(this);
-          _la = _input.LA(1);
-        }
-      }
-    } catch (RecognitionException re) {
-      _localctx.exception = re;
-      _errHandler.reportError(this, re);
-      _errHandler.recover(this, re);
-    } finally {
-      exitRule();
-    }
-    return _localctx;
-  }
-
-  public static class Comp_opContext extends ParserRuleContext {
-    public TerminalNode IN() {
-      return getToken(Python3Parser.IN, 0);
-    }
-
-    public TerminalNode NOT() {
-      return getToken(Python3Parser.NOT, 0);
-    }
-
-    public TerminalNode IS() {
-      return getToken(Python3Parser.IS, 0);
-    }
-
-    public Comp_opContext(ParserRuleContext parent, int invokingState) {
-      super(parent, invokingState);
-    }
-
-    @Override
-    public int getRuleIndex() {
-      return RULE_comp_op;
-    }
-
-    @Override
-    public void enterRule(ParseTreeListener listener) {
-      if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).enterComp_op(this);
-      }
-    }
-
-    @Override
-    public void exitRule(ParseTreeListener listener) {
-      if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).exitComp_op(this);
-      }
-    }
-  }
-
-  public final Comp_opContext comp_op() throws RecognitionException {
-    Comp_opContext _localctx = new Comp_opContext(_ctx, getState());
-    enterRule(_localctx, 108, RULE_comp_op);
-    try {
-      setState(741);
-      switch (getInterpreter().adaptivePredict(_input, 93, _ctx)) {
-        case 1:
-          enterOuterAlt(_localctx, 1);
-          {
-            setState(728);
+            setState(699);
             match(LESS_THAN);
           }
           break;
         case 2:
           enterOuterAlt(_localctx, 2);
           {
-            setState(729);
+            setState(700);
             match(GREATER_THAN);
           }
           break;
         case 3:
           enterOuterAlt(_localctx, 3);
           {
-            setState(730);
+            setState(701);
             match(EQUALS);
           }
           break;
         case 4:
           enterOuterAlt(_localctx, 4);
           {
-            setState(731);
+            setState(702);
             match(GT_EQ);
           }
           break;
         case 5:
           enterOuterAlt(_localctx, 5);
           {
-            setState(732);
+            setState(703);
             match(LT_EQ);
           }
           break;
         case 6:
           enterOuterAlt(_localctx, 6);
           {
-            setState(733);
+            setState(704);
             match(NOT_EQ_1);
           }
           break;
         case 7:
           enterOuterAlt(_localctx, 7);
           {
-            setState(734);
+            setState(705);
             match(NOT_EQ_2);
           }
           break;
         case 8:
           enterOuterAlt(_localctx, 8);
           {
-            setState(735);
+            setState(706);
             match(IN);
           }
           break;
         case 9:
           enterOuterAlt(_localctx, 9);
           {
-            setState(736);
+            setState(707);
             match(NOT);
-            setState(737);
+            setState(708);
             match(IN);
           }
           break;
         case 10:
           enterOuterAlt(_localctx, 10);
           {
-            setState(738);
+            setState(709);
             match(IS);
+            setState(710);
+            match(NOT);
           }
           break;
         case 11:
           enterOuterAlt(_localctx, 11);
           {
-            setState(739);
+            setState(711);
             match(IS);
-            setState(740);
-            match(NOT);
           }
           break;
       }
@@ -5841,22 +5783,22 @@ public class Python3Parser extends Parser {
 
   public final Star_exprContext star_expr() throws RecognitionException {
     Star_exprContext _localctx = new Star_exprContext(_ctx, getState());
-    enterRule(_localctx, 110, RULE_star_expr);
+    enterRule(_localctx, 104, RULE_star_expr);
     int _la;
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(744);
+        setState(715);
         _la = _input.LA(1);
         if (_la == STAR) {
           {
-            setState(743);
+            setState(714);
             match(STAR);
           }
         }
 
-        setState(746);
-        expr();
+        setState(717);
+        expr(0);
       }
     } catch (RecognitionException re) {
       _localctx.exception = re;
@@ -5869,14 +5811,6 @@ public class Python3Parser extends Parser {
   }
 
   public static class ExprContext extends ParserRuleContext {
-    public List<Xor_exprContext> xor_expr() {
-      return getRuleContexts(Xor_exprContext.class);
-    }
-
-    public Xor_exprContext xor_expr(int i) {
-      return getRuleContext(Xor_exprContext.class, i);
-    }
-
     public ExprContext(ParserRuleContext parent, int invokingState) {
       super(parent, invokingState);
     }
@@ -5886,142 +5820,52 @@ public class Python3Parser extends Parser {
       return RULE_expr;
     }
 
-    @Override
-    public void enterRule(ParseTreeListener listener) {
-      if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).enterExpr(this);
-      }
-    }
-
-    @Override
-    public void exitRule(ParseTreeListener listener) {
-      if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).exitExpr(this);
-      }
-    }
-  }
+    public ExprContext() {}
 
-  public final ExprContext expr() throws RecognitionException {
-    ExprContext _localctx = new ExprContext(_ctx, getState());
-    enterRule(_localctx, 112, RULE_expr);
-    int _la;
-    try {
-      enterOuterAlt(_localctx, 1);
-      {
-        setState(748);
-        xor_expr();
-        setState(753);
-        _errHandler.sync(this);
-        _la = _input.LA(1);
-        while (_la == OR_OP) {
-          {
-            {
-              setState(749);
-              match(OR_OP);
-              setState(750);
-              xor_expr();
-            }
-          }
-          setState(755);
-          _errHandler.sync(this);
-          _la = _input.LA(1);
-        }
-      }
-    } catch (RecognitionException re) {
-      _localctx.exception = re;
-      _errHandler.reportError(this, re);
-      _errHandler.recover(this, re);
-    } finally {
-      exitRule();
+    public void copyFrom(ExprContext ctx) {
+      super.copyFrom(ctx);
     }
-    return _localctx;
   }
 
-  public static class Xor_exprContext extends ParserRuleContext {
-    public List<And_exprContext> and_expr() {
-      return getRuleContexts(And_exprContext.class);
+  public static class ExponentiationContext extends ExprContext {
+    public List<ExprContext> expr() {
+      return getRuleContexts(ExprContext.class);
     }
 
-    public And_exprContext and_expr(int i) {
-      return getRuleContext(And_exprContext.class, i);
+    public ExprContext expr(int i) {
+      return getRuleContext(ExprContext.class, i);
     }
 
-    public Xor_exprContext(ParserRuleContext parent, int invokingState) {
-      super(parent, invokingState);
-    }
-
-    @Override
-    public int getRuleIndex() {
-      return RULE_xor_expr;
+    public ExponentiationContext(ExprContext ctx) {
+      copyFrom(ctx);
     }
 
     @Override
     public void enterRule(ParseTreeListener listener) {
       if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).enterXor_expr(this);
+        ((Python3Listener) listener).enterExponentiation(this);
       }
     }
 
     @Override
     public void exitRule(ParseTreeListener listener) {
       if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).exitXor_expr(this);
+        ((Python3Listener) listener).exitExponentiation(this);
       }
     }
   }
 
-  public final Xor_exprContext xor_expr() throws RecognitionException {
-    Xor_exprContext _localctx = new Xor_exprContext(_ctx, getState());
-    enterRule(_localctx, 114, RULE_xor_expr);
-    int _la;
-    try {
-      enterOuterAlt(_localctx, 1);
-      {
-        setState(756);
-        and_expr();
-        setState(761);
-        _errHandler.sync(this);
-        _la = _input.LA(1);
-        while (_la == XOR) {
-          {
-            {
-              setState(757);
-              match(XOR);
-              setState(758);
-              and_expr();
-            }
-          }
-          setState(763);
-          _errHandler.sync(this);
-          _la = _input.LA(1);
-        }
-      }
-    } catch (RecognitionException re) {
-      _localctx.exception = re;
-      _errHandler.reportError(this, re);
-      _errHandler.recover(this, re);
-    } finally {
-      exitRule();
+  public static class And_exprContext extends ExprContext {
+    public List<ExprContext> expr() {
+      return getRuleContexts(ExprContext.class);
     }
-    return _localctx;
-  }
 
-  public static class And_exprContext extends ParserRuleContext {
-    public List<Shift_exprContext> shift_expr() {
-      return getRuleContexts(Shift_exprContext.class);
+    public ExprContext expr(int i) {
+      return getRuleContext(ExprContext.class, i);
     }
 
-    public Shift_exprContext shift_expr(int i) {
-      return getRuleContext(Shift_exprContext.class, i);
-    }
-
-    public And_exprContext(ParserRuleContext parent, int invokingState) {
-      super(parent, invokingState);
-    }
-
-    @Override
-    public int getRuleIndex() {
-      return RULE_and_expr;
+    public And_exprContext(ExprContext ctx) {
+      copyFrom(ctx);
     }
 
     @Override
@@ -6039,142 +5883,17 @@ public class Python3Parser extends Parser {
     }
   }
 
-  public final And_exprContext and_expr() throws RecognitionException {
-    And_exprContext _localctx = new And_exprContext(_ctx, getState());
-    enterRule(_localctx, 116, RULE_and_expr);
-    int _la;
-    try {
-      enterOuterAlt(_localctx, 1);
-      {
-        setState(764);
-        shift_expr();
-        setState(769);
-        _errHandler.sync(this);
-        _la = _input.LA(1);
-        while (_la == AND_OP) {
-          {
-            {
-              setState(765);
-              match(AND_OP);
-              setState(766);
-              shift_expr();
-            }
-          }
-          setState(771);
-          _errHandler.sync(this);
-          _la = _input.LA(1);
-        }
-      }
-    } catch (RecognitionException re) {
-      _localctx.exception = re;
-      _errHandler.reportError(this, re);
-      _errHandler.recover(this, re);
-    } finally {
-      exitRule();
-    }
-    return _localctx;
-  }
-
-  public static class Shift_exprContext extends ParserRuleContext {
-    public List<Arith_exprContext> arith_expr() {
-      return getRuleContexts(Arith_exprContext.class);
-    }
-
-    public Arith_exprContext arith_expr(int i) {
-      return getRuleContext(Arith_exprContext.class, i);
+  public static class Arith_exprContext extends ExprContext {
+    public List<ExprContext> expr() {
+      return getRuleContexts(ExprContext.class);
     }
 
-    public Shift_exprContext(ParserRuleContext parent, int invokingState) {
-      super(parent, invokingState);
+    public ExprContext expr(int i) {
+      return getRuleContext(ExprContext.class, i);
     }
 
-    @Override
-    public int getRuleIndex() {
-      return RULE_shift_expr;
-    }
-
-    @Override
-    public void enterRule(ParseTreeListener listener) {
-      if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).enterShift_expr(this);
-      }
-    }
-
-    @Override
-    public void exitRule(ParseTreeListener listener) {
-      if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).exitShift_expr(this);
-      }
-    }
-  }
-
-  public final Shift_exprContext shift_expr() throws RecognitionException {
-    Shift_exprContext _localctx = new Shift_exprContext(_ctx, getState());
-    enterRule(_localctx, 118, RULE_shift_expr);
-    int _la;
-    try {
-      enterOuterAlt(_localctx, 1);
-      {
-        setState(772);
-        arith_expr();
-        setState(779);
-        _errHandler.sync(this);
-        _la = _input.LA(1);
-        while (_la == LEFT_SHIFT || _la == RIGHT_SHIFT) {
-          {
-            setState(777);
-            switch (_input.LA(1)) {
-              case LEFT_SHIFT:
-                {
-                  setState(773);
-                  match(LEFT_SHIFT);
-                  setState(774);
-                  arith_expr();
-                }
-                break;
-              case RIGHT_SHIFT:
-                {
-                  setState(775);
-                  match(RIGHT_SHIFT);
-                  setState(776);
-                  arith_expr();
-                }
-                break;
-              default:
-                throw new NoViableAltException(this);
-            }
-          }
-          setState(781);
-          _errHandler.sync(this);
-          _la = _input.LA(1);
-        }
-      }
-    } catch (RecognitionException re) {
-      _localctx.exception = re;
-      _errHandler.reportError(this, re);
-      _errHandler.recover(this, re);
-    } finally {
-      exitRule();
-    }
-    return _localctx;
-  }
-
-  public static class Arith_exprContext extends ParserRuleContext {
-    public List<TermContext> term() {
-      return getRuleContexts(TermContext.class);
-    }
-
-    public TermContext term(int i) {
-      return getRuleContext(TermContext.class, i);
-    }
-
-    public Arith_exprContext(ParserRuleContext parent, int invokingState) {
-      super(parent, invokingState);
-    }
-
-    @Override
-    public int getRuleIndex() {
-      return RULE_arith_expr;
+    public Arith_exprContext(ExprContext ctx) {
+      copyFrom(ctx);
     }
 
     @Override
@@ -6192,73 +5911,17 @@ public class Python3Parser extends Parser {
     }
   }
 
-  public final Arith_exprContext arith_expr() throws RecognitionException {
-    Arith_exprContext _localctx = new Arith_exprContext(_ctx, getState());
-    enterRule(_localctx, 120, RULE_arith_expr);
-    int _la;
-    try {
-      enterOuterAlt(_localctx, 1);
-      {
-        setState(782);
-        term();
-        setState(789);
-        _errHandler.sync(this);
-        _la = _input.LA(1);
-        while (_la == ADD || _la == MINUS) {
-          {
-            setState(787);
-            switch (_input.LA(1)) {
-              case ADD:
-                {
-                  setState(783);
-                  match(ADD);
-                  setState(784);
-                  term();
-                }
-                break;
-              case MINUS:
-                {
-                  setState(785);
-                  match(MINUS);
-                  setState(786);
-                  term();
-                }
-                break;
-              default:
-                throw new NoViableAltException(this);
-            }
-          }
-          setState(791);
-          _errHandler.sync(this);
-          _la = _input.LA(1);
-        }
-      }
-    } catch (RecognitionException re) {
-      _localctx.exception = re;
-      _errHandler.reportError(this, re);
-      _errHandler.recover(this, re);
-    } finally {
-      exitRule();
-    }
-    return _localctx;
-  }
-
-  public static class TermContext extends ParserRuleContext {
-    public List<FactorContext> factor() {
-      return getRuleContexts(FactorContext.class);
+  public static class TermContext extends ExprContext {
+    public List<ExprContext> expr() {
+      return getRuleContexts(ExprContext.class);
     }
 
-    public FactorContext factor(int i) {
-      return getRuleContext(FactorContext.class, i);
+    public ExprContext expr(int i) {
+      return getRuleContext(ExprContext.class, i);
     }
 
-    public TermContext(ParserRuleContext parent, int invokingState) {
-      super(parent, invokingState);
-    }
-
-    @Override
-    public int getRuleIndex() {
-      return RULE_term;
+    public TermContext(ExprContext ctx) {
+      copyFrom(ctx);
     }
 
     @Override
@@ -6276,104 +5939,73 @@ public class Python3Parser extends Parser {
     }
   }
 
-  public final TermContext term() throws RecognitionException {
-    TermContext _localctx = new TermContext(_ctx, getState());
-    enterRule(_localctx, 122, RULE_term);
-    int _la;
-    try {
-      enterOuterAlt(_localctx, 1);
-      {
-        setState(792);
-        factor();
-        setState(805);
-        _errHandler.sync(this);
-        _la = _input.LA(1);
-        while (((((_la - 46)) & ~0x3f) == 0
-            && ((1L << (_la - 46))
-                    & ((1L << (STAR - 46))
-                        | (1L << (DIV - 46))
-                        | (1L << (MOD - 46))
-                        | (1L << (IDIV - 46))
-                        | (1L << (AT - 46))))
-                != 0)) {
-          {
-            setState(803);
-            switch (_input.LA(1)) {
-              case STAR:
-                {
-                  setState(793);
-                  match(STAR);
-                  setState(794);
-                  factor();
-                }
-                break;
-              case DIV:
-                {
-                  setState(795);
-                  match(DIV);
-                  setState(796);
-                  factor();
-                }
-                break;
-              case MOD:
-                {
-                  setState(797);
-                  match(MOD);
-                  setState(798);
-                  factor();
-                }
-                break;
-              case IDIV:
-                {
-                  setState(799);
-                  match(IDIV);
-                  setState(800);
-                  factor();
-                }
-                break;
-              case AT:
-                {
-                  setState(801);
-                  match(AT);
-                  setState(802);
-                  factor();
-                }
-                break;
-              default:
-                throw new NoViableAltException(this);
-            }
-          }
-          setState(807);
-          _errHandler.sync(this);
-          _la = _input.LA(1);
-        }
+  public static class Xor_exprContext extends ExprContext {
+    public List<ExprContext> expr() {
+      return getRuleContexts(ExprContext.class);
+    }
+
+    public ExprContext expr(int i) {
+      return getRuleContext(ExprContext.class, i);
+    }
+
+    public Xor_exprContext(ExprContext ctx) {
+      copyFrom(ctx);
+    }
+
+    @Override
+    public void enterRule(ParseTreeListener listener) {
+      if (listener instanceof Python3Listener) {
+        ((Python3Listener) listener).enterXor_expr(this);
+      }
+    }
+
+    @Override
+    public void exitRule(ParseTreeListener listener) {
+      if (listener instanceof Python3Listener) {
+        ((Python3Listener) listener).exitXor_expr(this);
       }
-    } catch (RecognitionException re) {
-      _localctx.exception = re;
-      _errHandler.reportError(this, re);
-      _errHandler.recover(this, re);
-    } finally {
-      exitRule();
     }
-    return _localctx;
   }
 
-  public static class FactorContext extends ParserRuleContext {
-    public FactorContext factor() {
-      return getRuleContext(FactorContext.class, 0);
+  public static class PowerContext extends ExprContext {
+    public AtomContext atom() {
+      return getRuleContext(AtomContext.class, 0);
+    }
+
+    public List<TrailerContext> trailer() {
+      return getRuleContexts(TrailerContext.class);
     }
 
-    public PowerContext power() {
-      return getRuleContext(PowerContext.class, 0);
+    public TrailerContext trailer(int i) {
+      return getRuleContext(TrailerContext.class, i);
     }
 
-    public FactorContext(ParserRuleContext parent, int invokingState) {
-      super(parent, invokingState);
+    public PowerContext(ExprContext ctx) {
+      copyFrom(ctx);
     }
 
     @Override
-    public int getRuleIndex() {
-      return RULE_factor;
+    public void enterRule(ParseTreeListener listener) {
+      if (listener instanceof Python3Listener) {
+        ((Python3Listener) listener).enterPower(this);
+      }
+    }
+
+    @Override
+    public void exitRule(ParseTreeListener listener) {
+      if (listener instanceof Python3Listener) {
+        ((Python3Listener) listener).exitPower(this);
+      }
+    }
+  }
+
+  public static class FactorContext extends ExprContext {
+    public ExprContext expr() {
+      return getRuleContext(ExprContext.class, 0);
+    }
+
+    public FactorContext(ExprContext ctx) {
+      copyFrom(ctx);
     }
 
     @Override
@@ -6391,148 +6023,276 @@ public class Python3Parser extends Parser {
     }
   }
 
-  public final FactorContext factor() throws RecognitionException {
-    FactorContext _localctx = new FactorContext(_ctx, getState());
-    enterRule(_localctx, 124, RULE_factor);
-    try {
-      setState(815);
-      switch (_input.LA(1)) {
-        case ADD:
-          enterOuterAlt(_localctx, 1);
-          {
-            setState(808);
-            match(ADD);
-            setState(809);
-            factor();
-          }
-          break;
-        case MINUS:
-          enterOuterAlt(_localctx, 2);
-          {
-            setState(810);
-            match(MINUS);
-            setState(811);
-            factor();
-          }
-          break;
-        case NOT_OP:
-          enterOuterAlt(_localctx, 3);
-          {
-            setState(812);
-            match(NOT_OP);
-            setState(813);
-            factor();
-          }
-          break;
-        case NONE:
-        case TRUE:
-        case FALSE:
-        case NAME:
-        case STRING_LITERAL:
-        case BYTES_LITERAL:
-        case DECIMAL_INTEGER:
-        case OCT_INTEGER:
-        case HEX_INTEGER:
-        case BIN_INTEGER:
-        case FLOAT_NUMBER:
-        case IMAG_NUMBER:
-        case ELLIPSIS:
-        case OPEN_PAREN:
-        case OPEN_BRACK:
-        case OPEN_BRACE:
-          enterOuterAlt(_localctx, 4);
-          {
-            setState(814);
-            power();
-          }
-          break;
-        default:
-          throw new NoViableAltException(this);
-      }
-    } catch (RecognitionException re) {
-      _localctx.exception = re;
-      _errHandler.reportError(this, re);
-      _errHandler.recover(this, re);
-    } finally {
-      exitRule();
+  public static class Shift_exprContext extends ExprContext {
+    public List<ExprContext> expr() {
+      return getRuleContexts(ExprContext.class);
     }
-    return _localctx;
-  }
 
-  public static class PowerContext extends ParserRuleContext {
-    public AtomContext atom() {
-      return getRuleContext(AtomContext.class, 0);
+    public ExprContext expr(int i) {
+      return getRuleContext(ExprContext.class, i);
     }
 
-    public List<TrailerContext> trailer() {
-      return getRuleContexts(TrailerContext.class);
+    public Shift_exprContext(ExprContext ctx) {
+      copyFrom(ctx);
     }
 
-    public TrailerContext trailer(int i) {
-      return getRuleContext(TrailerContext.class, i);
+    @Override
+    public void enterRule(ParseTreeListener listener) {
+      if (listener instanceof Python3Listener) {
+        ((Python3Listener) listener).enterShift_expr(this);
+      }
+    }
+
+    @Override
+    public void exitRule(ParseTreeListener listener) {
+      if (listener instanceof Python3Listener) {
+        ((Python3Listener) listener).exitShift_expr(this);
+      }
     }
+  }
 
-    public FactorContext factor() {
-      return getRuleContext(FactorContext.class, 0);
+  public static class Bitwise_orContext extends ExprContext {
+    public List<ExprContext> expr() {
+      return getRuleContexts(ExprContext.class);
     }
 
-    public PowerContext(ParserRuleContext parent, int invokingState) {
-      super(parent, invokingState);
+    public ExprContext expr(int i) {
+      return getRuleContext(ExprContext.class, i);
     }
 
-    @Override
-    public int getRuleIndex() {
-      return RULE_power;
+    public Bitwise_orContext(ExprContext ctx) {
+      copyFrom(ctx);
     }
 
     @Override
     public void enterRule(ParseTreeListener listener) {
       if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).enterPower(this);
+        ((Python3Listener) listener).enterBitwise_or(this);
       }
     }
 
     @Override
     public void exitRule(ParseTreeListener listener) {
       if (listener instanceof Python3Listener) {
-        ((Python3Listener) listener).exitPower(this);
+        ((Python3Listener) listener).exitBitwise_or(this);
       }
     }
   }
 
-  public final PowerContext power() throws RecognitionException {
-    PowerContext _localctx = new PowerContext(_ctx, getState());
-    enterRule(_localctx, 126, RULE_power);
+  public final ExprContext expr() throws RecognitionException {
+    return expr(0);
+  }
+
+  private ExprContext expr(int _p) throws RecognitionException {
+    ParserRuleContext _parentctx = _ctx;
+    int _parentState = getState();
+    ExprContext _localctx = new ExprContext(_ctx, _parentState);
+    ExprContext _prevctx = _localctx;
+    int _startState = 106;
+    enterRecursionRule(_localctx, 106, RULE_expr, _p);
     int _la;
     try {
+      int _alt;
       enterOuterAlt(_localctx, 1);
       {
-        setState(817);
-        atom();
-        setState(821);
+        setState(729);
+        switch (_input.LA(1)) {
+          case ADD:
+          case MINUS:
+          case NOT_OP:
+            {
+              _localctx = new FactorContext(_localctx);
+              _ctx = _localctx;
+              _prevctx = _localctx;
+
+              setState(720);
+              _la = _input.LA(1);
+              if (!(((((_la - 61)) & ~0x3f) == 0
+                  && ((1L << (_la - 61))
+                          & ((1L << (ADD - 61)) | (1L << (MINUS - 61)) | (1L << (NOT_OP - 61))))
+                      != 0))) {
+                _errHandler.recoverInline(this);
+              } else {
+                consume();
+              }
+              setState(721);
+              expr(7);
+            }
+            break;
+          case NONE:
+          case TRUE:
+          case FALSE:
+          case NAME:
+          case STRING_LITERAL:
+          case BYTES_LITERAL:
+          case DECIMAL_INTEGER:
+          case OCT_INTEGER:
+          case HEX_INTEGER:
+          case BIN_INTEGER:
+          case FLOAT_NUMBER:
+          case IMAG_NUMBER:
+          case ELLIPSIS:
+          case OPEN_PAREN:
+          case OPEN_BRACK:
+          case OPEN_BRACE:
+            {
+              _localctx = new PowerContext(_localctx);
+              _ctx = _localctx;
+              _prevctx = _localctx;
+              setState(722);
+              atom();
+              setState(726);
+              _errHandler.sync(this);
+              _alt = getInterpreter().adaptivePredict(_input, 94, _ctx);
+              while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
+                if (_alt == 1) {
+                  {
+                    {
+                      setState(723);
+                      trailer();
+                    }
+                  }
+                }
+                setState(728);
+                _errHandler.sync(this);
+                _alt = getInterpreter().adaptivePredict(_input, 94, _ctx);
+              }
+            }
+            break;
+          default:
+            throw new NoViableAltException(this);
+        }
+        _ctx.stop = _input.LT(-1);
+        setState(754);
         _errHandler.sync(this);
-        _la = _input.LA(1);
-        while ((((_la) & ~0x3f) == 0
-            && ((1L << _la) & ((1L << DOT) | (1L << OPEN_PAREN) | (1L << OPEN_BRACK))) != 0)) {
-          {
+        _alt = getInterpreter().adaptivePredict(_input, 97, _ctx);
+        while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
+          if (_alt == 1) {
+            if (_parseListeners != null) triggerExitRuleEvent();
+            _prevctx = _localctx;
             {
-              setState(818);
-              trailer();
+              setState(752);
+              switch (getInterpreter().adaptivePredict(_input, 96, _ctx)) {
+                case 1:
+                  {
+                    _localctx =
+                        new ExponentiationContext(new ExprContext(_parentctx, _parentState));
+                    pushNewRecursionContext(_localctx, _startState, RULE_expr);
+                    setState(731);
+                    if (!(precpred(_ctx, 8)))
+                      throw new FailedPredicateException(this, "precpred(_ctx, 8)");
+                    setState(732);
+                    match(POWER);
+                    setState(733);
+                    expr(8);
+                  }
+                  break;
+                case 2:
+                  {
+                    _localctx = new TermContext(new ExprContext(_parentctx, _parentState));
+                    pushNewRecursionContext(_localctx, _startState, RULE_expr);
+                    setState(734);
+                    if (!(precpred(_ctx, 6)))
+                      throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+                    setState(735);
+                    _la = _input.LA(1);
+                    if (!(((((_la - 46)) & ~0x3f) == 0
+                        && ((1L << (_la - 46))
+                                & ((1L << (STAR - 46))
+                                    | (1L << (DIV - 46))
+                                    | (1L << (MOD - 46))
+                                    | (1L << (IDIV - 46))
+                                    | (1L << (AT - 46))))
+                            != 0))) {
+                      _errHandler.recoverInline(this);
+                    } else {
+                      consume();
+                    }
+                    setState(736);
+                    expr(7);
+                  }
+                  break;
+                case 3:
+                  {
+                    _localctx = new Arith_exprContext(new ExprContext(_parentctx, _parentState));
+                    pushNewRecursionContext(_localctx, _startState, RULE_expr);
+                    setState(737);
+                    if (!(precpred(_ctx, 5)))
+                      throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+                    setState(738);
+                    _la = _input.LA(1);
+                    if (!(_la == ADD || _la == MINUS)) {
+                      _errHandler.recoverInline(this);
+                    } else {
+                      consume();
+                    }
+                    setState(739);
+                    expr(6);
+                  }
+                  break;
+                case 4:
+                  {
+                    _localctx = new Shift_exprContext(new ExprContext(_parentctx, _parentState));
+                    pushNewRecursionContext(_localctx, _startState, RULE_expr);
+                    setState(740);
+                    if (!(precpred(_ctx, 4)))
+                      throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+                    setState(741);
+                    _la = _input.LA(1);
+                    if (!(_la == LEFT_SHIFT || _la == RIGHT_SHIFT)) {
+                      _errHandler.recoverInline(this);
+                    } else {
+                      consume();
+                    }
+                    setState(742);
+                    expr(5);
+                  }
+                  break;
+                case 5:
+                  {
+                    _localctx = new And_exprContext(new ExprContext(_parentctx, _parentState));
+                    pushNewRecursionContext(_localctx, _startState, RULE_expr);
+                    setState(743);
+                    if (!(precpred(_ctx, 3)))
+                      throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+                    setState(744);
+                    match(AND_OP);
+                    setState(745);
+                    expr(4);
+                  }
+                  break;
+                case 6:
+                  {
+                    _localctx = new Xor_exprContext(new ExprContext(_parentctx, _parentState));
+                    pushNewRecursionContext(_localctx, _startState, RULE_expr);
+                    setState(746);
+                    if (!(precpred(_ctx, 2)))
+                      throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+                    setState(747);
+                    match(XOR);
+                    setState(748);
+                    expr(3);
+                  }
+                  break;
+                case 7:
+                  {
+                    _localctx = new Bitwise_orContext(new ExprContext(_parentctx, _parentState));
+                    pushNewRecursionContext(_localctx, _startState, RULE_expr);
+                    setState(749);
+                    if (!(precpred(_ctx, 1)))
+                      throw new FailedPredicateException(this, "precpred(_ctx, 1)");
+                    setState(750);
+                    match(OR_OP);
+                    setState(751);
+                    expr(2);
+                  }
+                  break;
+              }
             }
           }
-          setState(823);
+          setState(756);
           _errHandler.sync(this);
-          _la = _input.LA(1);
-        }
-        setState(826);
-        _la = _input.LA(1);
-        if (_la == POWER) {
-          {
-            setState(824);
-            match(POWER);
-            setState(825);
-            factor();
-          }
+          _alt = getInterpreter().adaptivePredict(_input, 97, _ctx);
         }
       }
     } catch (RecognitionException re) {
@@ -6540,7 +6300,7 @@ public class Python3Parser extends Parser {
       _errHandler.reportError(this, re);
       _errHandler.recover(this, re);
     } finally {
-      exitRule();
+      unrollRecursionContexts(_parentctx);
     }
     return _localctx;
   }
@@ -6612,21 +6372,22 @@ public class Python3Parser extends Parser {
 
   public final AtomContext atom() throws RecognitionException {
     AtomContext _localctx = new AtomContext(_ctx, getState());
-    enterRule(_localctx, 128, RULE_atom);
+    enterRule(_localctx, 108, RULE_atom);
     int _la;
     try {
-      setState(855);
+      int _alt;
+      setState(784);
       switch (_input.LA(1)) {
         case OPEN_PAREN:
           enterOuterAlt(_localctx, 1);
           {
-            setState(828);
+            setState(757);
             match(OPEN_PAREN);
-            setState(831);
+            setState(760);
             switch (_input.LA(1)) {
               case YIELD:
                 {
-                  setState(829);
+                  setState(758);
                   yield_expr();
                 }
                 break;
@@ -6653,7 +6414,7 @@ public class Python3Parser extends Parser {
               case NOT_OP:
               case OPEN_BRACE:
                 {
-                  setState(830);
+                  setState(759);
                   testlist_comp();
                 }
                 break;
@@ -6662,16 +6423,16 @@ public class Python3Parser extends Parser {
               default:
                 throw new NoViableAltException(this);
             }
-            setState(833);
+            setState(762);
             match(CLOSE_PAREN);
           }
           break;
         case OPEN_BRACK:
           enterOuterAlt(_localctx, 2);
           {
-            setState(834);
+            setState(763);
             match(OPEN_BRACK);
-            setState(836);
+            setState(765);
             _la = _input.LA(1);
             if (((((_la - 20)) & ~0x3f) == 0
                 && ((1L << (_la - 20))
@@ -6699,21 +6460,21 @@ public class Python3Parser extends Parser {
                             | (1L << (OPEN_BRACE - 20))))
                     != 0)) {
               {
-                setState(835);
+                setState(764);
                 testlist_comp();
               }
             }
 
-            setState(838);
+            setState(767);
             match(CLOSE_BRACK);
           }
           break;
         case OPEN_BRACE:
           enterOuterAlt(_localctx, 3);
           {
-            setState(839);
+            setState(768);
             match(OPEN_BRACE);
-            setState(841);
+            setState(770);
             _la = _input.LA(1);
             if (((((_la - 20)) & ~0x3f) == 0
                 && ((1L << (_la - 20))
@@ -6741,19 +6502,19 @@ public class Python3Parser extends Parser {
                             | (1L << (OPEN_BRACE - 20))))
                     != 0)) {
               {
-                setState(840);
+                setState(769);
                 dictorsetmaker();
               }
             }
 
-            setState(843);
+            setState(772);
             match(CLOSE_BRACE);
           }
           break;
         case NAME:
           enterOuterAlt(_localctx, 4);
           {
-            setState(844);
+            setState(773);
             match(NAME);
           }
           break;
@@ -6765,7 +6526,7 @@ public class Python3Parser extends Parser {
         case IMAG_NUMBER:
           enterOuterAlt(_localctx, 5);
           {
-            setState(845);
+            setState(774);
             number();
           }
           break;
@@ -6773,47 +6534,53 @@ public class Python3Parser extends Parser {
         case BYTES_LITERAL:
           enterOuterAlt(_localctx, 6);
           {
-            setState(847);
+            setState(776);
             _errHandler.sync(this);
-            _la = _input.LA(1);
+            _alt = 1;
             do {
-              {
-                {
-                  setState(846);
-                  string();
-                }
+              switch (_alt) {
+                case 1:
+                  {
+                    {
+                      setState(775);
+                      string();
+                    }
+                  }
+                  break;
+                default:
+                  throw new NoViableAltException(this);
               }
-              setState(849);
+              setState(778);
               _errHandler.sync(this);
-              _la = _input.LA(1);
-            } while (_la == STRING_LITERAL || _la == BYTES_LITERAL);
+              _alt = getInterpreter().adaptivePredict(_input, 101, _ctx);
+            } while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER);
           }
           break;
         case ELLIPSIS:
           enterOuterAlt(_localctx, 7);
           {
-            setState(851);
+            setState(780);
             match(ELLIPSIS);
           }
           break;
         case NONE:
           enterOuterAlt(_localctx, 8);
           {
-            setState(852);
+            setState(781);
             match(NONE);
           }
           break;
         case TRUE:
           enterOuterAlt(_localctx, 9);
           {
-            setState(853);
+            setState(782);
             match(TRUE);
           }
           break;
         case FALSE:
           enterOuterAlt(_localctx, 10);
           {
-            setState(854);
+            setState(783);
             match(FALSE);
           }
           break;
@@ -6869,19 +6636,19 @@ public class Python3Parser extends Parser {
 
   public final Testlist_compContext testlist_comp() throws RecognitionException {
     Testlist_compContext _localctx = new Testlist_compContext(_ctx, getState());
-    enterRule(_localctx, 130, RULE_testlist_comp);
+    enterRule(_localctx, 110, RULE_testlist_comp);
     int _la;
     try {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-        setState(857);
+        setState(786);
         test();
-        setState(869);
+        setState(798);
         switch (_input.LA(1)) {
           case FOR:
             {
-              setState(858);
+              setState(787);
               comp_for();
             }
             break;
@@ -6889,29 +6656,29 @@ public class Python3Parser extends Parser {
           case COMMA:
           case CLOSE_BRACK:
             {
-              setState(863);
+              setState(792);
               _errHandler.sync(this);
-              _alt = getInterpreter().adaptivePredict(_input, 112, _ctx);
+              _alt = getInterpreter().adaptivePredict(_input, 103, _ctx);
               while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
                 if (_alt == 1) {
                   {
                     {
-                      setState(859);
+                      setState(788);
                       match(COMMA);
-                      setState(860);
+                      setState(789);
                       test();
                     }
                   }
                 }
-                setState(865);
+                setState(794);
                 _errHandler.sync(this);
-                _alt = getInterpreter().adaptivePredict(_input, 112, _ctx);
+                _alt = getInterpreter().adaptivePredict(_input, 103, _ctx);
               }
-              setState(867);
+              setState(796);
               _la = _input.LA(1);
               if (_la == COMMA) {
                 {
-                  setState(866);
+                  setState(795);
                   match(COMMA);
                 }
               }
@@ -6970,17 +6737,17 @@ public class Python3Parser extends Parser {
 
   public final TrailerContext trailer() throws RecognitionException {
     TrailerContext _localctx = new TrailerContext(_ctx, getState());
-    enterRule(_localctx, 132, RULE_trailer);
+    enterRule(_localctx, 112, RULE_trailer);
     int _la;
     try {
-      setState(882);
+      setState(811);
       switch (_input.LA(1)) {
         case OPEN_PAREN:
           enterOuterAlt(_localctx, 1);
           {
-            setState(871);
+            setState(800);
             match(OPEN_PAREN);
-            setState(873);
+            setState(802);
             _la = _input.LA(1);
             if (((((_la - 20)) & ~0x3f) == 0
                 && ((1L << (_la - 20))
@@ -7009,32 +6776,32 @@ public class Python3Parser extends Parser {
                             | (1L << (OPEN_BRACE - 20))))
                     != 0)) {
               {
-                setState(872);
+                setState(801);
                 arglist();
               }
             }
 
-            setState(875);
+            setState(804);
             match(CLOSE_PAREN);
           }
           break;
         case OPEN_BRACK:
           enterOuterAlt(_localctx, 2);
           {
-            setState(876);
+            setState(805);
             match(OPEN_BRACK);
-            setState(877);
+            setState(806);
             subscriptlist();
-            setState(878);
+            setState(807);
             match(CLOSE_BRACK);
           }
           break;
         case DOT:
           enterOuterAlt(_localctx, 3);
           {
-            setState(880);
+            setState(809);
             match(DOT);
-            setState(881);
+            setState(810);
             match(NAME);
           }
           break;
@@ -7086,37 +6853,37 @@ public class Python3Parser extends Parser {
 
   public final SubscriptlistContext subscriptlist() throws RecognitionException {
     SubscriptlistContext _localctx = new SubscriptlistContext(_ctx, getState());
-    enterRule(_localctx, 134, RULE_subscriptlist);
+    enterRule(_localctx, 114, RULE_subscriptlist);
     int _la;
     try {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-        setState(884);
+        setState(813);
         subscript();
-        setState(889);
+        setState(818);
         _errHandler.sync(this);
-        _alt = getInterpreter().adaptivePredict(_input, 117, _ctx);
+        _alt = getInterpreter().adaptivePredict(_input, 108, _ctx);
         while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
           if (_alt == 1) {
             {
               {
-                setState(885);
+                setState(814);
                 match(COMMA);
-                setState(886);
+                setState(815);
                 subscript();
               }
             }
           }
-          setState(891);
+          setState(820);
           _errHandler.sync(this);
-          _alt = getInterpreter().adaptivePredict(_input, 117, _ctx);
+          _alt = getInterpreter().adaptivePredict(_input, 108, _ctx);
         }
-        setState(893);
+        setState(822);
         _la = _input.LA(1);
         if (_la == COMMA) {
           {
-            setState(892);
+            setState(821);
             match(COMMA);
           }
         }
@@ -7170,22 +6937,22 @@ public class Python3Parser extends Parser {
 
   public final SubscriptContext subscript() throws RecognitionException {
     SubscriptContext _localctx = new SubscriptContext(_ctx, getState());
-    enterRule(_localctx, 136, RULE_subscript);
+    enterRule(_localctx, 116, RULE_subscript);
     int _la;
     try {
-      setState(906);
-      switch (getInterpreter().adaptivePredict(_input, 122, _ctx)) {
+      setState(835);
+      switch (getInterpreter().adaptivePredict(_input, 113, _ctx)) {
         case 1:
           enterOuterAlt(_localctx, 1);
           {
-            setState(895);
+            setState(824);
             test();
           }
           break;
         case 2:
           enterOuterAlt(_localctx, 2);
           {
-            setState(897);
+            setState(826);
             _la = _input.LA(1);
             if (((((_la - 20)) & ~0x3f) == 0
                 && ((1L << (_la - 20))
@@ -7213,14 +6980,14 @@ public class Python3Parser extends Parser {
                             | (1L << (OPEN_BRACE - 20))))
                     != 0)) {
               {
-                setState(896);
+                setState(825);
                 test();
               }
             }
 
-            setState(899);
+            setState(828);
             match(COLON);
-            setState(901);
+            setState(830);
             _la = _input.LA(1);
             if (((((_la - 20)) & ~0x3f) == 0
                 && ((1L << (_la - 20))
@@ -7248,16 +7015,16 @@ public class Python3Parser extends Parser {
                             | (1L << (OPEN_BRACE - 20))))
                     != 0)) {
               {
-                setState(900);
+                setState(829);
                 test();
               }
             }
 
-            setState(904);
+            setState(833);
             _la = _input.LA(1);
             if (_la == COLON) {
               {
-                setState(903);
+                setState(832);
                 sliceop();
               }
             }
@@ -7305,14 +7072,14 @@ public class Python3Parser extends Parser {
 
   public final SliceopContext sliceop() throws RecognitionException {
     SliceopContext _localctx = new SliceopContext(_ctx, getState());
-    enterRule(_localctx, 138, RULE_sliceop);
+    enterRule(_localctx, 118, RULE_sliceop);
     int _la;
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(908);
+        setState(837);
         match(COLON);
-        setState(910);
+        setState(839);
         _la = _input.LA(1);
         if (((((_la - 20)) & ~0x3f) == 0
             && ((1L << (_la - 20))
@@ -7340,7 +7107,7 @@ public class Python3Parser extends Parser {
                         | (1L << (OPEN_BRACE - 20))))
                 != 0)) {
           {
-            setState(909);
+            setState(838);
             test();
           }
         }
@@ -7390,37 +7157,37 @@ public class Python3Parser extends Parser {
 
   public final ExprlistContext exprlist() throws RecognitionException {
     ExprlistContext _localctx = new ExprlistContext(_ctx, getState());
-    enterRule(_localctx, 140, RULE_exprlist);
+    enterRule(_localctx, 120, RULE_exprlist);
     int _la;
     try {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-        setState(912);
+        setState(841);
         star_expr();
-        setState(917);
+        setState(846);
         _errHandler.sync(this);
-        _alt = getInterpreter().adaptivePredict(_input, 124, _ctx);
+        _alt = getInterpreter().adaptivePredict(_input, 115, _ctx);
         while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
           if (_alt == 1) {
             {
               {
-                setState(913);
+                setState(842);
                 match(COMMA);
-                setState(914);
+                setState(843);
                 star_expr();
               }
             }
           }
-          setState(919);
+          setState(848);
           _errHandler.sync(this);
-          _alt = getInterpreter().adaptivePredict(_input, 124, _ctx);
+          _alt = getInterpreter().adaptivePredict(_input, 115, _ctx);
         }
-        setState(921);
+        setState(850);
         _la = _input.LA(1);
         if (_la == COMMA) {
           {
-            setState(920);
+            setState(849);
             match(COMMA);
           }
         }
@@ -7470,37 +7237,37 @@ public class Python3Parser extends Parser {
 
   public final TestlistContext testlist() throws RecognitionException {
     TestlistContext _localctx = new TestlistContext(_ctx, getState());
-    enterRule(_localctx, 142, RULE_testlist);
+    enterRule(_localctx, 122, RULE_testlist);
     int _la;
     try {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-        setState(923);
+        setState(852);
         test();
-        setState(928);
+        setState(857);
         _errHandler.sync(this);
-        _alt = getInterpreter().adaptivePredict(_input, 126, _ctx);
+        _alt = getInterpreter().adaptivePredict(_input, 117, _ctx);
         while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
           if (_alt == 1) {
             {
               {
-                setState(924);
+                setState(853);
                 match(COMMA);
-                setState(925);
+                setState(854);
                 test();
               }
             }
           }
-          setState(930);
+          setState(859);
           _errHandler.sync(this);
-          _alt = getInterpreter().adaptivePredict(_input, 126, _ctx);
+          _alt = getInterpreter().adaptivePredict(_input, 117, _ctx);
         }
-        setState(932);
+        setState(861);
         _la = _input.LA(1);
         if (_la == COMMA) {
           {
-            setState(931);
+            setState(860);
             match(COMMA);
           }
         }
@@ -7554,59 +7321,59 @@ public class Python3Parser extends Parser {
 
   public final DictorsetmakerContext dictorsetmaker() throws RecognitionException {
     DictorsetmakerContext _localctx = new DictorsetmakerContext(_ctx, getState());
-    enterRule(_localctx, 144, RULE_dictorsetmaker);
+    enterRule(_localctx, 124, RULE_dictorsetmaker);
     int _la;
     try {
       int _alt;
-      setState(967);
-      switch (getInterpreter().adaptivePredict(_input, 134, _ctx)) {
+      setState(896);
+      switch (getInterpreter().adaptivePredict(_input, 125, _ctx)) {
         case 1:
           enterOuterAlt(_localctx, 1);
           {
-            setState(934);
+            setState(863);
             test();
-            setState(935);
+            setState(864);
             match(COLON);
-            setState(936);
+            setState(865);
             test();
-            setState(951);
+            setState(880);
             switch (_input.LA(1)) {
               case FOR:
                 {
-                  setState(937);
+                  setState(866);
                   comp_for();
                 }
                 break;
               case COMMA:
               case CLOSE_BRACE:
                 {
-                  setState(945);
+                  setState(874);
                   _errHandler.sync(this);
-                  _alt = getInterpreter().adaptivePredict(_input, 128, _ctx);
+                  _alt = getInterpreter().adaptivePredict(_input, 119, _ctx);
                   while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
                     if (_alt == 1) {
                       {
                         {
-                          setState(938);
+                          setState(867);
                           match(COMMA);
-                          setState(939);
+                          setState(868);
                           test();
-                          setState(940);
+                          setState(869);
                           match(COLON);
-                          setState(941);
+                          setState(870);
                           test();
                         }
                       }
                     }
-                    setState(947);
+                    setState(876);
                     _errHandler.sync(this);
-                    _alt = getInterpreter().adaptivePredict(_input, 128, _ctx);
+                    _alt = getInterpreter().adaptivePredict(_input, 119, _ctx);
                   }
-                  setState(949);
+                  setState(878);
                   _la = _input.LA(1);
                   if (_la == COMMA) {
                     {
-                      setState(948);
+                      setState(877);
                       match(COMMA);
                     }
                   }
@@ -7620,42 +7387,42 @@ public class Python3Parser extends Parser {
         case 2:
           enterOuterAlt(_localctx, 2);
           {
-            setState(953);
+            setState(882);
             test();
-            setState(965);
+            setState(894);
             switch (_input.LA(1)) {
               case FOR:
                 {
-                  setState(954);
+                  setState(883);
                   comp_for();
                 }
                 break;
               case COMMA:
               case CLOSE_BRACE:
                 {
-                  setState(959);
+                  setState(888);
                   _errHandler.sync(this);
-                  _alt = getInterpreter().adaptivePredict(_input, 131, _ctx);
+                  _alt = getInterpreter().adaptivePredict(_input, 122, _ctx);
                   while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
                     if (_alt == 1) {
                       {
                         {
-                          setState(955);
+                          setState(884);
                           match(COMMA);
-                          setState(956);
+                          setState(885);
                           test();
                         }
                       }
                     }
-                    setState(961);
+                    setState(890);
                     _errHandler.sync(this);
-                    _alt = getInterpreter().adaptivePredict(_input, 131, _ctx);
+                    _alt = getInterpreter().adaptivePredict(_input, 122, _ctx);
                   }
-                  setState(963);
+                  setState(892);
                   _la = _input.LA(1);
                   if (_la == COMMA) {
                     {
-                      setState(962);
+                      setState(891);
                       match(COMMA);
                     }
                   }
@@ -7720,22 +7487,22 @@ public class Python3Parser extends Parser {
 
   public final ClassdefContext classdef() throws RecognitionException {
     ClassdefContext _localctx = new ClassdefContext(_ctx, getState());
-    enterRule(_localctx, 146, RULE_classdef);
+    enterRule(_localctx, 126, RULE_classdef);
     int _la;
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(969);
+        setState(898);
         match(CLASS);
-        setState(970);
+        setState(899);
         match(NAME);
-        setState(976);
+        setState(905);
         _la = _input.LA(1);
         if (_la == OPEN_PAREN) {
           {
-            setState(971);
+            setState(900);
             match(OPEN_PAREN);
-            setState(973);
+            setState(902);
             _la = _input.LA(1);
             if (((((_la - 20)) & ~0x3f) == 0
                 && ((1L << (_la - 20))
@@ -7764,19 +7531,19 @@ public class Python3Parser extends Parser {
                             | (1L << (OPEN_BRACE - 20))))
                     != 0)) {
               {
-                setState(972);
+                setState(901);
                 arglist();
               }
             }
 
-            setState(975);
+            setState(904);
             match(CLOSE_PAREN);
           }
         }
 
-        setState(978);
+        setState(907);
         match(COLON);
-        setState(979);
+        setState(908);
         suite();
       }
     } catch (RecognitionException re) {
@@ -7832,41 +7599,41 @@ public class Python3Parser extends Parser {
 
   public final ArglistContext arglist() throws RecognitionException {
     ArglistContext _localctx = new ArglistContext(_ctx, getState());
-    enterRule(_localctx, 148, RULE_arglist);
+    enterRule(_localctx, 128, RULE_arglist);
     int _la;
     try {
       int _alt;
       enterOuterAlt(_localctx, 1);
       {
-        setState(986);
+        setState(915);
         _errHandler.sync(this);
-        _alt = getInterpreter().adaptivePredict(_input, 137, _ctx);
+        _alt = getInterpreter().adaptivePredict(_input, 128, _ctx);
         while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
           if (_alt == 1) {
             {
               {
-                setState(981);
+                setState(910);
                 argument();
-                setState(982);
+                setState(911);
                 match(COMMA);
               }
             }
           }
-          setState(988);
+          setState(917);
           _errHandler.sync(this);
-          _alt = getInterpreter().adaptivePredict(_input, 137, _ctx);
+          _alt = getInterpreter().adaptivePredict(_input, 128, _ctx);
         }
-        setState(1009);
-        switch (getInterpreter().adaptivePredict(_input, 141, _ctx)) {
+        setState(938);
+        switch (getInterpreter().adaptivePredict(_input, 132, _ctx)) {
           case 1:
             {
-              setState(989);
+              setState(918);
               argument();
-              setState(991);
+              setState(920);
               _la = _input.LA(1);
               if (_la == COMMA) {
                 {
-                  setState(990);
+                  setState(919);
                   match(COMMA);
                 }
               }
@@ -7874,37 +7641,37 @@ public class Python3Parser extends Parser {
             break;
           case 2:
             {
-              setState(993);
+              setState(922);
               match(STAR);
-              setState(994);
+              setState(923);
               test();
-              setState(999);
+              setState(928);
               _errHandler.sync(this);
-              _alt = getInterpreter().adaptivePredict(_input, 139, _ctx);
+              _alt = getInterpreter().adaptivePredict(_input, 130, _ctx);
               while (_alt != 2 && _alt != org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER) {
                 if (_alt == 1) {
                   {
                     {
-                      setState(995);
+                      setState(924);
                       match(COMMA);
-                      setState(996);
+                      setState(925);
                       argument();
                     }
                   }
                 }
-                setState(1001);
+                setState(930);
                 _errHandler.sync(this);
-                _alt = getInterpreter().adaptivePredict(_input, 139, _ctx);
+                _alt = getInterpreter().adaptivePredict(_input, 130, _ctx);
               }
-              setState(1005);
+              setState(934);
               _la = _input.LA(1);
               if (_la == COMMA) {
                 {
-                  setState(1002);
+                  setState(931);
                   match(COMMA);
-                  setState(1003);
+                  setState(932);
                   match(POWER);
-                  setState(1004);
+                  setState(933);
                   test();
                 }
               }
@@ -7912,9 +7679,9 @@ public class Python3Parser extends Parser {
             break;
           case 3:
             {
-              setState(1007);
+              setState(936);
               match(POWER);
-              setState(1008);
+              setState(937);
               test();
             }
             break;
@@ -7969,21 +7736,21 @@ public class Python3Parser extends Parser {
 
   public final ArgumentContext argument() throws RecognitionException {
     ArgumentContext _localctx = new ArgumentContext(_ctx, getState());
-    enterRule(_localctx, 150, RULE_argument);
+    enterRule(_localctx, 130, RULE_argument);
     int _la;
     try {
-      setState(1019);
-      switch (getInterpreter().adaptivePredict(_input, 143, _ctx)) {
+      setState(948);
+      switch (getInterpreter().adaptivePredict(_input, 134, _ctx)) {
         case 1:
           enterOuterAlt(_localctx, 1);
           {
-            setState(1011);
+            setState(940);
             test();
-            setState(1013);
+            setState(942);
             _la = _input.LA(1);
             if (_la == FOR) {
               {
-                setState(1012);
+                setState(941);
                 comp_for();
               }
             }
@@ -7992,11 +7759,11 @@ public class Python3Parser extends Parser {
         case 2:
           enterOuterAlt(_localctx, 2);
           {
-            setState(1015);
+            setState(944);
             test();
-            setState(1016);
+            setState(945);
             match(ASSIGN);
-            setState(1017);
+            setState(946);
             test();
           }
           break;
@@ -8046,21 +7813,21 @@ public class Python3Parser extends Parser {
 
   public final Comp_iterContext comp_iter() throws RecognitionException {
     Comp_iterContext _localctx = new Comp_iterContext(_ctx, getState());
-    enterRule(_localctx, 152, RULE_comp_iter);
+    enterRule(_localctx, 132, RULE_comp_iter);
     try {
-      setState(1023);
+      setState(952);
       switch (_input.LA(1)) {
         case FOR:
           enterOuterAlt(_localctx, 1);
           {
-            setState(1021);
+            setState(950);
             comp_for();
           }
           break;
         case IF:
           enterOuterAlt(_localctx, 2);
           {
-            setState(1022);
+            setState(951);
             comp_if();
           }
           break;
@@ -8124,24 +7891,24 @@ public class Python3Parser extends Parser {
 
   public final Comp_forContext comp_for() throws RecognitionException {
     Comp_forContext _localctx = new Comp_forContext(_ctx, getState());
-    enterRule(_localctx, 154, RULE_comp_for);
+    enterRule(_localctx, 134, RULE_comp_for);
     int _la;
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(1025);
+        setState(954);
         match(FOR);
-        setState(1026);
+        setState(955);
         exprlist();
-        setState(1027);
+        setState(956);
         match(IN);
-        setState(1028);
-        or_test();
-        setState(1030);
+        setState(957);
+        or_test(0);
+        setState(959);
         _la = _input.LA(1);
         if (_la == IF || _la == FOR) {
           {
-            setState(1029);
+            setState(958);
             comp_iter();
           }
         }
@@ -8195,20 +7962,20 @@ public class Python3Parser extends Parser {
 
   public final Comp_ifContext comp_if() throws RecognitionException {
     Comp_ifContext _localctx = new Comp_ifContext(_ctx, getState());
-    enterRule(_localctx, 156, RULE_comp_if);
+    enterRule(_localctx, 136, RULE_comp_if);
     int _la;
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(1032);
+        setState(961);
         match(IF);
-        setState(1033);
+        setState(962);
         test_nocond();
-        setState(1035);
+        setState(964);
         _la = _input.LA(1);
         if (_la == IF || _la == FOR) {
           {
-            setState(1034);
+            setState(963);
             comp_iter();
           }
         }
@@ -8258,14 +8025,14 @@ public class Python3Parser extends Parser {
 
   public final Yield_exprContext yield_expr() throws RecognitionException {
     Yield_exprContext _localctx = new Yield_exprContext(_ctx, getState());
-    enterRule(_localctx, 158, RULE_yield_expr);
+    enterRule(_localctx, 138, RULE_yield_expr);
     int _la;
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(1037);
+        setState(966);
         match(YIELD);
-        setState(1039);
+        setState(968);
         _la = _input.LA(1);
         if (((((_la - 4)) & ~0x3f) == 0
             && ((1L << (_la - 4))
@@ -8294,7 +8061,7 @@ public class Python3Parser extends Parser {
                         | (1L << (OPEN_BRACE - 4))))
                 != 0)) {
           {
-            setState(1038);
+            setState(967);
             yield_arg();
           }
         }
@@ -8348,16 +8115,16 @@ public class Python3Parser extends Parser {
 
   public final Yield_argContext yield_arg() throws RecognitionException {
     Yield_argContext _localctx = new Yield_argContext(_ctx, getState());
-    enterRule(_localctx, 160, RULE_yield_arg);
+    enterRule(_localctx, 140, RULE_yield_arg);
     try {
-      setState(1044);
+      setState(973);
       switch (_input.LA(1)) {
         case FROM:
           enterOuterAlt(_localctx, 1);
           {
-            setState(1041);
+            setState(970);
             match(FROM);
-            setState(1042);
+            setState(971);
             test();
           }
           break;
@@ -8385,7 +8152,7 @@ public class Python3Parser extends Parser {
         case OPEN_BRACE:
           enterOuterAlt(_localctx, 2);
           {
-            setState(1043);
+            setState(972);
             testlist();
           }
           break;
@@ -8437,12 +8204,12 @@ public class Python3Parser extends Parser {
 
   public final StringContext string() throws RecognitionException {
     StringContext _localctx = new StringContext(_ctx, getState());
-    enterRule(_localctx, 162, RULE_string);
+    enterRule(_localctx, 142, RULE_string);
     int _la;
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(1046);
+        setState(975);
         _la = _input.LA(1);
         if (!(_la == STRING_LITERAL || _la == BYTES_LITERAL)) {
           _errHandler.recoverInline(this);
@@ -8499,9 +8266,9 @@ public class Python3Parser extends Parser {
 
   public final NumberContext number() throws RecognitionException {
     NumberContext _localctx = new NumberContext(_ctx, getState());
-    enterRule(_localctx, 164, RULE_number);
+    enterRule(_localctx, 144, RULE_number);
     try {
-      setState(1051);
+      setState(980);
       switch (_input.LA(1)) {
         case DECIMAL_INTEGER:
         case OCT_INTEGER:
@@ -8509,21 +8276,21 @@ public class Python3Parser extends Parser {
         case BIN_INTEGER:
           enterOuterAlt(_localctx, 1);
           {
-            setState(1048);
+            setState(977);
             integer();
           }
           break;
         case FLOAT_NUMBER:
           enterOuterAlt(_localctx, 2);
           {
-            setState(1049);
+            setState(978);
             match(FLOAT_NUMBER);
           }
           break;
         case IMAG_NUMBER:
           enterOuterAlt(_localctx, 3);
           {
-            setState(1050);
+            setState(979);
             match(IMAG_NUMBER);
           }
           break;
@@ -8583,12 +8350,12 @@ public class Python3Parser extends Parser {
 
   public final IntegerContext integer() throws RecognitionException {
     IntegerContext _localctx = new IntegerContext(_ctx, getState());
-    enterRule(_localctx, 166, RULE_integer);
+    enterRule(_localctx, 146, RULE_integer);
     int _la;
     try {
       enterOuterAlt(_localctx, 1);
       {
-        setState(1053);
+        setState(982);
         _la = _input.LA(1);
         if (!((((_la) & ~0x3f) == 0
             && ((1L << _la)
@@ -8612,8 +8379,50 @@ public class Python3Parser extends Parser {
     return _localctx;
   }
 
+  public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+    switch (ruleIndex) {
+      case 50:
+        return or_test_sempred((Or_testContext) _localctx, predIndex);
+      case 53:
+        return expr_sempred((ExprContext) _localctx, predIndex);
+    }
+    return true;
+  }
+
+  private boolean or_test_sempred(Or_testContext _localctx, int predIndex) {
+    switch (predIndex) {
+      case 0:
+        return precpred(_ctx, 4);
+      case 1:
+        return precpred(_ctx, 2);
+      case 2:
+        return precpred(_ctx, 1);
+    }
+    return true;
+  }
+
+  private boolean expr_sempred(ExprContext _localctx, int predIndex) {
+    switch (predIndex) {
+      case 3:
+        return precpred(_ctx, 8);
+      case 4:
+        return precpred(_ctx, 6);
+      case 5:
+        return precpred(_ctx, 5);
+      case 6:
+        return precpred(_ctx, 4);
+      case 7:
+        return precpred(_ctx, 3);
+      case 8:
+        return precpred(_ctx, 2);
+      case 9:
+        return precpred(_ctx, 1);
+    }
+    return true;
+  }
+
   public static final String _serializedATN =
-      "\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3`\u0422\4\2\t\2\4"
+      "\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3`\u03db\4\2\t\2\4"
           + "\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"
           + "\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"
           + "\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"
@@ -8622,411 +8431,388 @@ public class Python3Parser extends Parser {
           + ",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"
           + "\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="
           + "\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"
-          + "\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"
-          + "\4U\tU\3\2\3\2\3\2\3\2\3\2\5\2\u00b0\n\2\3\3\3\3\7\3\u00b4\n\3\f\3\16"
-          + "\3\u00b7\13\3\3\3\3\3\3\4\3\4\7\4\u00bd\n\4\f\4\16\4\u00c0\13\4\3\4\3"
-          + "\4\3\5\3\5\3\5\3\5\5\5\u00c8\n\5\3\5\5\5\u00cb\n\5\3\5\3\5\3\6\6\6\u00d0"
-          + "\n\6\r\6\16\6\u00d1\3\7\3\7\3\7\5\7\u00d7\n\7\3\b\3\b\3\b\3\b\3\b\5\b"
-          + "\u00de\n\b\3\b\3\b\3\b\3\t\3\t\5\t\u00e5\n\t\3\t\3\t\3\n\3\n\3\n\5\n\u00ec"
-          + "\n\n\3\n\3\n\3\n\3\n\5\n\u00f2\n\n\7\n\u00f4\n\n\f\n\16\n\u00f7\13\n\3"
-          + "\n\3\n\3\n\5\n\u00fc\n\n\3\n\3\n\3\n\3\n\5\n\u0102\n\n\7\n\u0104\n\n\f"
-          + "\n\16\n\u0107\13\n\3\n\3\n\3\n\5\n\u010c\n\n\3\n\3\n\5\n\u0110\n\n\5\n"
-          + "\u0112\n\n\3\n\3\n\5\n\u0116\n\n\3\n\3\n\3\n\3\n\5\n\u011c\n\n\7\n\u011e"
-          + "\n\n\f\n\16\n\u0121\13\n\3\n\3\n\3\n\5\n\u0126\n\n\3\n\3\n\5\n\u012a\n"
-          + "\n\3\13\3\13\3\13\5\13\u012f\n\13\3\f\3\f\3\f\5\f\u0134\n\f\3\f\3\f\3"
-          + "\f\3\f\5\f\u013a\n\f\7\f\u013c\n\f\f\f\16\f\u013f\13\f\3\f\3\f\3\f\5\f"
-          + "\u0144\n\f\3\f\3\f\3\f\3\f\5\f\u014a\n\f\7\f\u014c\n\f\f\f\16\f\u014f"
-          + "\13\f\3\f\3\f\3\f\5\f\u0154\n\f\3\f\3\f\5\f\u0158\n\f\5\f\u015a\n\f\3"
-          + "\f\3\f\5\f\u015e\n\f\3\f\3\f\3\f\3\f\5\f\u0164\n\f\7\f\u0166\n\f\f\f\16"
-          + "\f\u0169\13\f\3\f\3\f\3\f\5\f\u016e\n\f\3\f\3\f\5\f\u0172\n\f\3\r\3\r"
-          + "\3\16\3\16\5\16\u0178\n\16\3\17\3\17\3\17\7\17\u017d\n\17\f\17\16\17\u0180"
-          + "\13\17\3\17\5\17\u0183\n\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20\3"
-          + "\20\3\20\5\20\u018f\n\20\3\21\3\21\3\21\3\21\5\21\u0195\n\21\3\21\3\21"
-          + "\3\21\5\21\u019a\n\21\7\21\u019c\n\21\f\21\16\21\u019f\13\21\5\21\u01a1"
-          + "\n\21\3\22\3\22\5\22\u01a5\n\22\3\22\3\22\3\22\5\22\u01aa\n\22\7\22\u01ac"
-          + "\n\22\f\22\16\22\u01af\13\22\3\22\5\22\u01b2\n\22\3\23\3\23\3\24\3\24"
-          + "\3\24\3\25\3\25\3\26\3\26\3\26\3\26\3\26\5\26\u01c0\n\26\3\27\3\27\3\30"
-          + "\3\30\3\31\3\31\5\31\u01c8\n\31\3\32\3\32\3\33\3\33\3\33\3\33\5\33\u01d0"
-          + "\n\33\5\33\u01d2\n\33\3\34\3\34\5\34\u01d6\n\34\3\35\3\35\3\35\3\36\3"
-          + "\36\7\36\u01dd\n\36\f\36\16\36\u01e0\13\36\3\36\3\36\6\36\u01e4\n\36\r"
-          + "\36\16\36\u01e5\5\36\u01e8\n\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\5\36"
-          + "\u01f1\n\36\3\37\3\37\3\37\5\37\u01f6\n\37\3 \3 \3 \5 \u01fb\n \3!\3!"
-          + "\3!\7!\u0200\n!\f!\16!\u0203\13!\3!\5!\u0206\n!\3\"\3\"\3\"\7\"\u020b"
-          + "\n\"\f\"\16\"\u020e\13\"\3#\3#\3#\7#\u0213\n#\f#\16#\u0216\13#\3$\3$\3"
-          + "$\3$\7$\u021c\n$\f$\16$\u021f\13$\3%\3%\3%\3%\7%\u0225\n%\f%\16%\u0228"
-          + "\13%\3&\3&\3&\3&\5&\u022e\n&\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\5\'\u0238"
-          + "\n\'\3(\3(\3(\3(\3(\3(\3(\3(\3(\7(\u0243\n(\f(\16(\u0246\13(\3(\3(\3("
-          + "\5(\u024b\n(\3)\3)\3)\3)\3)\3)\3)\5)\u0254\n)\3*\3*\3*\3*\3*\3*\3*\3*"
-          + "\3*\5*\u025f\n*\3+\3+\3+\3+\3+\3+\3+\6+\u0268\n+\r+\16+\u0269\3+\3+\3"
-          + "+\5+\u026f\n+\3+\3+\3+\5+\u0274\n+\3+\3+\3+\5+\u0279\n+\3,\3,\3,\3,\7"
-          + ",\u027f\n,\f,\16,\u0282\13,\3,\3,\3,\3-\3-\3-\5-\u028a\n-\3.\3.\3.\3."
-          + "\5.\u0290\n.\5.\u0292\n.\3/\3/\3/\3/\6/\u0298\n/\r/\16/\u0299\3/\3/\5"
-          + "/\u029e\n/\3\60\3\60\3\60\3\60\3\60\3\60\5\60\u02a6\n\60\3\60\5\60\u02a9"
-          + "\n\60\3\61\3\61\5\61\u02ad\n\61\3\62\3\62\5\62\u02b1\n\62\3\62\3\62\3"
-          + "\62\3\63\3\63\5\63\u02b8\n\63\3\63\3\63\3\63\3\64\3\64\3\64\7\64\u02c0"
-          + "\n\64\f\64\16\64\u02c3\13\64\3\65\3\65\3\65\7\65\u02c8\n\65\f\65\16\65"
-          + "\u02cb\13\65\3\66\3\66\3\66\5\66\u02d0\n\66\3\67\3\67\3\67\3\67\7\67\u02d6"
-          + "\n\67\f\67\16\67\u02d9\13\67\38\38\38\38\38\38\38\38\38\38\38\38\38\5"
-          + "8\u02e8\n8\39\59\u02eb\n9\39\39\3:\3:\3:\7:\u02f2\n:\f:\16:\u02f5\13:"
-          + "\3;\3;\3;\7;\u02fa\n;\f;\16;\u02fd\13;\3<\3<\3<\7<\u0302\n<\f<\16<\u0305"
-          + "\13<\3=\3=\3=\3=\3=\7=\u030c\n=\f=\16=\u030f\13=\3>\3>\3>\3>\3>\7>\u0316"
-          + "\n>\f>\16>\u0319\13>\3?\3?\3?\3?\3?\3?\3?\3?\3?\3?\3?\7?\u0326\n?\f?\16"
-          + "?\u0329\13?\3@\3@\3@\3@\3@\3@\3@\5@\u0332\n@\3A\3A\7A\u0336\nA\fA\16A"
-          + "\u0339\13A\3A\3A\5A\u033d\nA\3B\3B\3B\5B\u0342\nB\3B\3B\3B\5B\u0347\n"
-          + "B\3B\3B\3B\5B\u034c\nB\3B\3B\3B\3B\6B\u0352\nB\rB\16B\u0353\3B\3B\3B\3"
-          + "B\5B\u035a\nB\3C\3C\3C\3C\7C\u0360\nC\fC\16C\u0363\13C\3C\5C\u0366\nC"
-          + "\5C\u0368\nC\3D\3D\5D\u036c\nD\3D\3D\3D\3D\3D\3D\3D\5D\u0375\nD\3E\3E"
-          + "\3E\7E\u037a\nE\fE\16E\u037d\13E\3E\5E\u0380\nE\3F\3F\5F\u0384\nF\3F\3"
-          + "F\5F\u0388\nF\3F\5F\u038b\nF\5F\u038d\nF\3G\3G\5G\u0391\nG\3H\3H\3H\7"
-          + "H\u0396\nH\fH\16H\u0399\13H\3H\5H\u039c\nH\3I\3I\3I\7I\u03a1\nI\fI\16"
-          + "I\u03a4\13I\3I\5I\u03a7\nI\3J\3J\3J\3J\3J\3J\3J\3J\3J\7J\u03b2\nJ\fJ\16"
-          + "J\u03b5\13J\3J\5J\u03b8\nJ\5J\u03ba\nJ\3J\3J\3J\3J\7J\u03c0\nJ\fJ\16J"
-          + "\u03c3\13J\3J\5J\u03c6\nJ\5J\u03c8\nJ\5J\u03ca\nJ\3K\3K\3K\3K\5K\u03d0"
-          + "\nK\3K\5K\u03d3\nK\3K\3K\3K\3L\3L\3L\7L\u03db\nL\fL\16L\u03de\13L\3L\3"
-          + "L\5L\u03e2\nL\3L\3L\3L\3L\7L\u03e8\nL\fL\16L\u03eb\13L\3L\3L\3L\5L\u03f0"
-          + "\nL\3L\3L\5L\u03f4\nL\3M\3M\5M\u03f8\nM\3M\3M\3M\3M\5M\u03fe\nM\3N\3N"
-          + "\5N\u0402\nN\3O\3O\3O\3O\3O\5O\u0409\nO\3P\3P\3P\5P\u040e\nP\3Q\3Q\5Q"
-          + "\u0412\nQ\3R\3R\3R\5R\u0417\nR\3S\3S\3T\3T\3T\5T\u041e\nT\3U\3U\3U\2\2"
-          + "V\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDF"
-          + "HJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086\u0088\u008a\u008c"
-          + "\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u009c\u009e\u00a0\u00a2\u00a4"
-          + "\u00a6\u00a8\2\6\3\2P\\\3\2./\3\2&\'\3\2(+\u0492\2\u00af\3\2\2\2\4\u00b5"
-          + "\3\2\2\2\6\u00ba\3\2\2\2\b\u00c3\3\2\2\2\n\u00cf\3\2\2\2\f\u00d3\3\2\2"
-          + "\2\16\u00d8\3\2\2\2\20\u00e2\3\2\2\2\22\u0129\3\2\2\2\24\u012b\3\2\2\2"
-          + "\26\u0171\3\2\2\2\30\u0173\3\2\2\2\32\u0177\3\2\2\2\34\u0179\3\2\2\2\36"
-          + "\u018e\3\2\2\2 \u0190\3\2\2\2\"\u01a4\3\2\2\2$\u01b3\3\2\2\2&\u01b5\3"
-          + "\2\2\2(\u01b8\3\2\2\2*\u01bf\3\2\2\2,\u01c1\3\2\2\2.\u01c3\3\2\2\2\60"
-          + "\u01c5\3\2\2\2\62\u01c9\3\2\2\2\64\u01cb\3\2\2\2\66\u01d5\3\2\2\28\u01d7"
-          + "\3\2\2\2:\u01da\3\2\2\2<\u01f2\3\2\2\2>\u01f7\3\2\2\2@\u01fc\3\2\2\2B"
-          + "\u0207\3\2\2\2D\u020f\3\2\2\2F\u0217\3\2\2\2H\u0220\3\2\2\2J\u0229\3\2"
-          + "\2\2L\u0237\3\2\2\2N\u0239\3\2\2\2P\u024c\3\2\2\2R\u0255\3\2\2\2T\u0260"
-          + "\3\2\2\2V\u027a\3\2\2\2X\u0286\3\2\2\2Z\u028b\3\2\2\2\\\u029d\3\2\2\2"
-          + "^\u02a8\3\2\2\2`\u02ac\3\2\2\2b\u02ae\3\2\2\2d\u02b5\3\2\2\2f\u02bc\3"
-          + "\2\2\2h\u02c4\3\2\2\2j\u02cf\3\2\2\2l\u02d1\3\2\2\2n\u02e7\3\2\2\2p\u02ea"
-          + "\3\2\2\2r\u02ee\3\2\2\2t\u02f6\3\2\2\2v\u02fe\3\2\2\2x\u0306\3\2\2\2z"
-          + "\u0310\3\2\2\2|\u031a\3\2\2\2~\u0331\3\2\2\2\u0080\u0333\3\2\2\2\u0082"
-          + "\u0359\3\2\2\2\u0084\u035b\3\2\2\2\u0086\u0374\3\2\2\2\u0088\u0376\3\2"
-          + "\2\2\u008a\u038c\3\2\2\2\u008c\u038e\3\2\2\2\u008e\u0392\3\2\2\2\u0090"
-          + "\u039d\3\2\2\2\u0092\u03c9\3\2\2\2\u0094\u03cb\3\2\2\2\u0096\u03dc\3\2"
-          + "\2\2\u0098\u03fd\3\2\2\2\u009a\u0401\3\2\2\2\u009c\u0403\3\2\2\2\u009e"
-          + "\u040a\3\2\2\2\u00a0\u040f\3\2\2\2\u00a2\u0416\3\2\2\2\u00a4\u0418\3\2"
-          + "\2\2\u00a6\u041d\3\2\2\2\u00a8\u041f\3\2\2\2\u00aa\u00b0\7$\2\2\u00ab"
-          + "\u00b0\5\34\17\2\u00ac\u00ad\5L\'\2\u00ad\u00ae\7$\2\2\u00ae\u00b0\3\2"
-          + "\2\2\u00af\u00aa\3\2\2\2\u00af\u00ab\3\2\2\2\u00af\u00ac\3\2\2\2\u00b0"
-          + "\3\3\2\2\2\u00b1\u00b4\7$\2\2\u00b2\u00b4\5\32\16\2\u00b3\u00b1\3\2\2"
-          + "\2\u00b3\u00b2\3\2\2\2\u00b4\u00b7\3\2\2\2\u00b5\u00b3\3\2\2\2\u00b5\u00b6"
-          + "\3\2\2\2\u00b6\u00b8\3\2\2\2\u00b7\u00b5\3\2\2\2\u00b8\u00b9\7\2\2\3\u00b9"
-          + "\5\3\2\2\2\u00ba\u00be\5\u0090I\2\u00bb\u00bd\7$\2\2\u00bc\u00bb\3\2\2"
-          + "\2\u00bd\u00c0\3\2\2\2\u00be\u00bc\3\2\2\2\u00be\u00bf\3\2\2\2\u00bf\u00c1"
-          + "\3\2\2\2\u00c0\u00be\3\2\2\2\u00c1\u00c2\7\2\2\3\u00c2\7\3\2\2\2\u00c3"
-          + "\u00c4\7N\2\2\u00c4\u00ca\5D#\2\u00c5\u00c7\7\61\2\2\u00c6\u00c8\5\u0096"
-          + "L\2\u00c7\u00c6\3\2\2\2\u00c7\u00c8\3\2\2\2\u00c8\u00c9\3\2\2\2\u00c9"
-          + "\u00cb\7\62\2\2\u00ca\u00c5\3\2\2\2\u00ca\u00cb\3\2\2\2\u00cb\u00cc\3"
-          + "\2\2\2\u00cc\u00cd\7$\2\2\u00cd\t\3\2\2\2\u00ce\u00d0\5\b\5\2\u00cf\u00ce"
-          + "\3\2\2\2\u00d0\u00d1\3\2\2\2\u00d1\u00cf\3\2\2\2\u00d1\u00d2\3\2\2\2\u00d2"
-          + "\13\3\2\2\2\u00d3\u00d6\5\n\6\2\u00d4\u00d7\5\u0094K\2\u00d5\u00d7\5\16"
-          + "\b\2\u00d6\u00d4\3\2\2\2\u00d6\u00d5\3\2\2\2\u00d7\r\3\2\2\2\u00d8\u00d9"
-          + "\7\3\2\2\u00d9\u00da\7%\2\2\u00da\u00dd\5\20\t\2\u00db\u00dc\7O\2\2\u00dc"
-          + "\u00de\5^\60\2\u00dd\u00db\3\2\2\2\u00dd\u00de\3\2\2\2\u00de\u00df\3\2"
-          + "\2\2\u00df\u00e0\7\64\2\2\u00e0\u00e1\5\\/\2\u00e1\17\3\2\2\2\u00e2\u00e4"
-          + "\7\61\2\2\u00e3\u00e5\5\22\n\2\u00e4\u00e3\3\2\2\2\u00e4\u00e5\3\2\2\2"
-          + "\u00e5\u00e6\3\2\2\2\u00e6\u00e7\7\62\2\2\u00e7\21\3\2\2\2\u00e8\u00eb"
-          + "\5\24\13\2\u00e9\u00ea\7\67\2\2\u00ea\u00ec\5^\60\2\u00eb\u00e9\3\2\2"
-          + "\2\u00eb\u00ec\3\2\2\2\u00ec\u00f5\3\2\2\2\u00ed\u00ee\7\63\2\2\u00ee"
-          + "\u00f1\5\24\13\2\u00ef\u00f0\7\67\2\2\u00f0\u00f2\5^\60\2\u00f1\u00ef"
-          + "\3\2\2\2\u00f1\u00f2\3\2\2\2\u00f2\u00f4\3\2\2\2\u00f3\u00ed\3\2\2\2\u00f4"
-          + "\u00f7\3\2\2\2\u00f5\u00f3\3\2\2\2\u00f5\u00f6\3\2\2\2\u00f6\u0111\3\2"
-          + "\2\2\u00f7\u00f5\3\2\2\2\u00f8\u010f\7\63\2\2\u00f9\u00fb\7\60\2\2\u00fa"
-          + "\u00fc\5\24\13\2\u00fb\u00fa\3\2\2\2\u00fb\u00fc\3\2\2\2\u00fc\u0105\3"
-          + "\2\2\2\u00fd\u00fe\7\63\2\2\u00fe\u0101\5\24\13\2\u00ff\u0100\7\67\2\2"
-          + "\u0100\u0102\5^\60\2\u0101\u00ff\3\2\2\2\u0101\u0102\3\2\2\2\u0102\u0104"
-          + "\3\2\2\2\u0103\u00fd\3\2\2\2\u0104\u0107\3\2\2\2\u0105\u0103\3\2\2\2\u0105"
-          + "\u0106\3\2\2\2\u0106\u010b\3\2\2\2\u0107\u0105\3\2\2\2\u0108\u0109\7\63"
-          + "\2\2\u0109\u010a\7\66\2\2\u010a\u010c\5\24\13\2\u010b\u0108\3\2\2\2\u010b"
-          + "\u010c\3\2\2\2\u010c\u0110\3\2\2\2\u010d\u010e\7\66\2\2\u010e\u0110\5"
-          + "\24\13\2\u010f\u00f9\3\2\2\2\u010f\u010d\3\2\2\2\u010f\u0110\3\2\2\2\u0110"
-          + "\u0112\3\2\2\2\u0111\u00f8\3\2\2\2\u0111\u0112\3\2\2\2\u0112\u012a\3\2"
-          + "\2\2\u0113\u0115\7\60\2\2\u0114\u0116\5\24\13\2\u0115\u0114\3\2\2\2\u0115"
-          + "\u0116\3\2\2\2\u0116\u011f\3\2\2\2\u0117\u0118\7\63\2\2\u0118\u011b\5"
-          + "\24\13\2\u0119\u011a\7\67\2\2\u011a\u011c\5^\60\2\u011b\u0119\3\2\2\2"
-          + "\u011b\u011c\3\2\2\2\u011c\u011e\3\2\2\2\u011d\u0117\3\2\2\2\u011e\u0121"
-          + "\3\2\2\2\u011f\u011d\3\2\2\2\u011f\u0120\3\2\2\2\u0120\u0125\3\2\2\2\u0121"
-          + "\u011f\3\2\2\2\u0122\u0123\7\63\2\2\u0123\u0124\7\66\2\2\u0124\u0126\5"
-          + "\24\13\2\u0125\u0122\3\2\2\2\u0125\u0126\3\2\2\2\u0126\u012a\3\2\2\2\u0127"
-          + "\u0128\7\66\2\2\u0128\u012a\5\24\13\2\u0129\u00e8\3\2\2\2\u0129\u0113"
-          + "\3\2\2\2\u0129\u0127\3\2\2\2\u012a\23\3\2\2\2\u012b\u012e\7%\2\2\u012c"
-          + "\u012d\7\64\2\2\u012d\u012f\5^\60\2\u012e\u012c\3\2\2\2\u012e\u012f\3"
-          + "\2\2\2\u012f\25\3\2\2\2\u0130\u0133\5\30\r\2\u0131\u0132\7\67\2\2\u0132"
-          + "\u0134\5^\60\2\u0133\u0131\3\2\2\2\u0133\u0134\3\2\2\2\u0134\u013d\3\2"
-          + "\2\2\u0135\u0136\7\63\2\2\u0136\u0139\5\30\r\2\u0137\u0138\7\67\2\2\u0138"
-          + "\u013a\5^\60\2\u0139\u0137\3\2\2\2\u0139\u013a\3\2\2\2\u013a\u013c\3\2"
-          + "\2\2\u013b\u0135\3\2\2\2\u013c\u013f\3\2\2\2\u013d\u013b\3\2\2\2\u013d"
-          + "\u013e\3\2\2\2\u013e\u0159\3\2\2\2\u013f\u013d\3\2\2\2\u0140\u0157\7\63"
-          + "\2\2\u0141\u0143\7\60\2\2\u0142\u0144\5\30\r\2\u0143\u0142\3\2\2\2\u0143"
-          + "\u0144\3\2\2\2\u0144\u014d\3\2\2\2\u0145\u0146\7\63\2\2\u0146\u0149\5"
-          + "\30\r\2\u0147\u0148\7\67\2\2\u0148\u014a\5^\60\2\u0149\u0147\3\2\2\2\u0149"
-          + "\u014a\3\2\2\2\u014a\u014c\3\2\2\2\u014b\u0145\3\2\2\2\u014c\u014f\3\2"
-          + "\2\2\u014d\u014b\3\2\2\2\u014d\u014e\3\2\2\2\u014e\u0153\3\2\2\2\u014f"
-          + "\u014d\3\2\2\2\u0150\u0151\7\63\2\2\u0151\u0152\7\66\2\2\u0152\u0154\5"
-          + "\30\r\2\u0153\u0150\3\2\2\2\u0153\u0154\3\2\2\2\u0154\u0158\3\2\2\2\u0155"
-          + "\u0156\7\66\2\2\u0156\u0158\5\30\r\2\u0157\u0141\3\2\2\2\u0157\u0155\3"
-          + "\2\2\2\u0157\u0158\3\2\2\2\u0158\u015a\3\2\2\2\u0159\u0140\3\2\2\2\u0159"
-          + "\u015a\3\2\2\2\u015a\u0172\3\2\2\2\u015b\u015d\7\60\2\2\u015c\u015e\5"
-          + "\30\r\2\u015d\u015c\3\2\2\2\u015d\u015e\3\2\2\2\u015e\u0167\3\2\2\2\u015f"
-          + "\u0160\7\63\2\2\u0160\u0163\5\30\r\2\u0161\u0162\7\67\2\2\u0162\u0164"
-          + "\5^\60\2\u0163\u0161\3\2\2\2\u0163\u0164\3\2\2\2\u0164\u0166\3\2\2\2\u0165"
-          + "\u015f\3\2\2\2\u0166\u0169\3\2\2\2\u0167\u0165\3\2\2\2\u0167\u0168\3\2"
-          + "\2\2\u0168\u016d\3\2\2\2\u0169\u0167\3\2\2\2\u016a\u016b\7\63\2\2\u016b"
-          + "\u016c\7\66\2\2\u016c\u016e\5\30\r\2\u016d\u016a\3\2\2\2\u016d\u016e\3"
-          + "\2\2\2\u016e\u0172\3\2\2\2\u016f\u0170\7\66\2\2\u0170\u0172\5\30\r\2\u0171"
-          + "\u0130\3\2\2\2\u0171\u015b\3\2\2\2\u0171\u016f\3\2\2\2\u0172\27\3\2\2"
-          + "\2\u0173\u0174\7%\2\2\u0174\31\3\2\2\2\u0175\u0178\5\34\17\2\u0176\u0178"
-          + "\5L\'\2\u0177\u0175\3\2\2\2\u0177\u0176\3\2\2\2\u0178\33\3\2\2\2\u0179"
-          + "\u017e\5\36\20\2\u017a\u017b\7\65\2\2\u017b\u017d\5\36\20\2\u017c\u017a"
-          + "\3\2\2\2\u017d\u0180\3\2\2\2\u017e\u017c\3\2\2\2\u017e\u017f\3\2\2\2\u017f"
-          + "\u0182\3\2\2\2\u0180\u017e\3\2\2\2\u0181\u0183\7\65\2\2\u0182\u0181\3"
-          + "\2\2\2\u0182\u0183\3\2\2\2\u0183\u0184\3\2\2\2\u0184\u0185\7$\2\2\u0185"
-          + "\35\3\2\2\2\u0186\u018f\5 \21\2\u0187\u018f\5&\24\2\u0188\u018f\5(\25"
-          + "\2\u0189\u018f\5*\26\2\u018a\u018f\5\66\34\2\u018b\u018f\5F$\2\u018c\u018f"
-          + "\5H%\2\u018d\u018f\5J&\2\u018e\u0186\3\2\2\2\u018e\u0187\3\2\2\2\u018e"
-          + "\u0188\3\2\2\2\u018e\u0189\3\2\2\2\u018e\u018a\3\2\2\2\u018e\u018b\3\2"
-          + "\2\2\u018e\u018c\3\2\2\2\u018e\u018d\3\2\2\2\u018f\37\3\2\2\2\u0190\u01a0"
-          + "\5\"\22\2\u0191\u0194\5$\23\2\u0192\u0195\5\u00a0Q\2\u0193\u0195\5\u0090"
-          + "I\2\u0194\u0192\3\2\2\2\u0194\u0193\3\2\2\2\u0195\u01a1\3\2\2\2\u0196"
-          + "\u0199\7\67\2\2\u0197\u019a\5\u00a0Q\2\u0198\u019a\5\"\22\2\u0199\u0197"
-          + "\3\2\2\2\u0199\u0198\3\2\2\2\u019a\u019c\3\2\2\2\u019b\u0196\3\2\2\2\u019c"
-          + "\u019f\3\2\2\2\u019d\u019b\3\2\2\2\u019d\u019e\3\2\2\2\u019e\u01a1\3\2"
-          + "\2\2\u019f\u019d\3\2\2\2\u01a0\u0191\3\2\2\2\u01a0\u019d\3\2\2\2\u01a1"
-          + "!\3\2\2\2\u01a2\u01a5\5^\60\2\u01a3\u01a5\5p9\2\u01a4\u01a2\3\2\2\2\u01a4"
-          + "\u01a3\3\2\2\2\u01a5\u01ad\3\2\2\2\u01a6\u01a9\7\63\2\2\u01a7\u01aa\5"
-          + "^\60\2\u01a8\u01aa\5p9\2\u01a9\u01a7\3\2\2\2\u01a9\u01a8\3\2\2\2\u01aa"
-          + "\u01ac\3\2\2\2\u01ab\u01a6\3\2\2\2\u01ac\u01af\3\2\2\2\u01ad\u01ab\3\2"
-          + "\2\2\u01ad\u01ae\3\2\2\2\u01ae\u01b1\3\2\2\2\u01af\u01ad\3\2\2\2\u01b0"
-          + "\u01b2\7\63\2\2\u01b1\u01b0\3\2\2\2\u01b1\u01b2\3\2\2\2\u01b2#\3\2\2\2"
-          + "\u01b3\u01b4\t\2\2\2\u01b4%\3\2\2\2\u01b5\u01b6\7 \2\2\u01b6\u01b7\5\u008e"
-          + "H\2\u01b7\'\3\2\2\2\u01b8\u01b9\7!\2\2\u01b9)\3\2\2\2\u01ba\u01c0\5,\27"
-          + "\2\u01bb\u01c0\5.\30\2\u01bc\u01c0\5\60\31\2\u01bd\u01c0\5\64\33\2\u01be"
-          + "\u01c0\5\62\32\2\u01bf\u01ba\3\2\2\2\u01bf\u01bb\3\2\2\2\u01bf\u01bc\3"
-          + "\2\2\2\u01bf\u01bd\3\2\2\2\u01bf\u01be\3\2\2\2\u01c0+\3\2\2\2\u01c1\u01c2"
-          + "\7#\2\2\u01c2-\3\2\2\2\u01c3\u01c4\7\"\2\2\u01c4/\3\2\2\2\u01c5\u01c7"
-          + "\7\4\2\2\u01c6\u01c8\5\u0090I\2\u01c7\u01c6\3\2\2\2\u01c7\u01c8\3\2\2"
-          + "\2\u01c8\61\3\2\2\2\u01c9\u01ca\5\u00a0Q\2\u01ca\63\3\2\2\2\u01cb\u01d1"
-          + "\7\5\2\2\u01cc\u01cf\5^\60\2\u01cd\u01ce\7\6\2\2\u01ce\u01d0\5^\60\2\u01cf"
-          + "\u01cd\3\2\2\2\u01cf\u01d0\3\2\2\2\u01d0\u01d2\3\2\2\2\u01d1\u01cc\3\2"
-          + "\2\2\u01d1\u01d2\3\2\2\2\u01d2\65\3\2\2\2\u01d3\u01d6\58\35\2\u01d4\u01d6"
-          + "\5:\36\2\u01d5\u01d3\3\2\2\2\u01d5\u01d4\3\2\2\2\u01d6\67\3\2\2\2\u01d7"
-          + "\u01d8\7\7\2\2\u01d8\u01d9\5B\"\2\u01d99\3\2\2\2\u01da\u01e7\7\6\2\2\u01db"
-          + "\u01dd\t\3\2\2\u01dc\u01db\3\2\2\2\u01dd\u01e0\3\2\2\2\u01de\u01dc\3\2"
-          + "\2\2\u01de\u01df\3\2\2\2\u01df\u01e1\3\2\2\2\u01e0\u01de\3\2\2\2\u01e1"
-          + "\u01e8\5D#\2\u01e2\u01e4\t\3\2\2\u01e3\u01e2\3\2\2\2\u01e4\u01e5\3\2\2"
-          + "\2\u01e5\u01e3\3\2\2\2\u01e5\u01e6\3\2\2\2\u01e6\u01e8\3\2\2\2\u01e7\u01de"
-          + "\3\2\2\2\u01e7\u01e3\3\2\2\2\u01e8\u01e9\3\2\2\2\u01e9\u01f0\7\7\2\2\u01ea"
-          + "\u01f1\7\60\2\2\u01eb\u01ec\7\61\2\2\u01ec\u01ed\5@!\2\u01ed\u01ee\7\62"
-          + "\2\2\u01ee\u01f1\3\2\2\2\u01ef\u01f1\5@!\2\u01f0\u01ea\3\2\2\2\u01f0\u01eb"
-          + "\3\2\2\2\u01f0\u01ef\3\2\2\2\u01f1;\3\2\2\2\u01f2\u01f5\7%\2\2\u01f3\u01f4"
-          + "\7\b\2\2\u01f4\u01f6\7%\2\2\u01f5\u01f3\3\2\2\2\u01f5\u01f6\3\2\2\2\u01f6"
-          + "=\3\2\2\2\u01f7\u01fa\5D#\2\u01f8\u01f9\7\b\2\2\u01f9\u01fb\7%\2\2\u01fa"
-          + "\u01f8\3\2\2\2\u01fa\u01fb\3\2\2\2\u01fb?\3\2\2\2\u01fc\u0201\5<\37\2"
-          + "\u01fd\u01fe\7\63\2\2\u01fe\u0200\5<\37\2\u01ff\u01fd\3\2\2\2\u0200\u0203"
-          + "\3\2\2\2\u0201\u01ff\3\2\2\2\u0201\u0202\3\2\2\2\u0202\u0205\3\2\2\2\u0203"
-          + "\u0201\3\2\2\2\u0204\u0206\7\63\2\2\u0205\u0204\3\2\2\2\u0205\u0206\3"
-          + "\2\2\2\u0206A\3\2\2\2\u0207\u020c\5> \2\u0208\u0209\7\63\2\2\u0209\u020b"
-          + "\5> \2\u020a\u0208\3\2\2\2\u020b\u020e\3\2\2\2\u020c\u020a\3\2\2\2\u020c"
-          + "\u020d\3\2\2\2\u020dC\3\2\2\2\u020e\u020c\3\2\2\2\u020f\u0214\7%\2\2\u0210"
-          + "\u0211\7.\2\2\u0211\u0213\7%\2\2\u0212\u0210\3\2\2\2\u0213\u0216\3\2\2"
-          + "\2\u0214\u0212\3\2\2\2\u0214\u0215\3\2\2\2\u0215E\3\2\2\2\u0216\u0214"
-          + "\3\2\2\2\u0217\u0218\7\t\2\2\u0218\u021d\7%\2\2\u0219\u021a\7\63\2\2\u021a"
-          + "\u021c\7%\2\2\u021b\u0219\3\2\2\2\u021c\u021f\3\2\2\2\u021d\u021b\3\2"
-          + "\2\2\u021d\u021e\3\2\2\2\u021eG\3\2\2\2\u021f\u021d\3\2\2\2\u0220\u0221"
-          + "\7\n\2\2\u0221\u0226\7%\2\2\u0222\u0223\7\63\2\2\u0223\u0225\7%\2\2\u0224"
-          + "\u0222\3\2\2\2\u0225\u0228\3\2\2\2\u0226\u0224\3\2\2\2\u0226\u0227\3\2"
-          + "\2\2\u0227I\3\2\2\2\u0228\u0226\3\2\2\2\u0229\u022a\7\13\2\2\u022a\u022d"
-          + "\5^\60\2\u022b\u022c\7\63\2\2\u022c\u022e\5^\60\2\u022d\u022b\3\2\2\2"
-          + "\u022d\u022e\3\2\2\2\u022eK\3\2\2\2\u022f\u0238\5N(\2\u0230\u0238\5P)"
-          + "\2\u0231\u0238\5R*\2\u0232\u0238\5T+\2\u0233\u0238\5V,\2\u0234\u0238\5"
-          + "\16\b\2\u0235\u0238\5\u0094K\2\u0236\u0238\5\f\7\2\u0237\u022f\3\2\2\2"
-          + "\u0237\u0230\3\2\2\2\u0237\u0231\3\2\2\2\u0237\u0232\3\2\2\2\u0237\u0233"
-          + "\3\2\2\2\u0237\u0234\3\2\2\2\u0237\u0235\3\2\2\2\u0237\u0236\3\2\2\2\u0238"
-          + "M\3\2\2\2\u0239\u023a\7\f\2\2\u023a\u023b\5^\60\2\u023b\u023c\7\64\2\2"
-          + "\u023c\u0244\5\\/\2\u023d\u023e\7\r\2\2\u023e\u023f\5^\60\2\u023f\u0240"
-          + "\7\64\2\2\u0240\u0241\5\\/\2\u0241\u0243\3\2\2\2\u0242\u023d\3\2\2\2\u0243"
-          + "\u0246\3\2\2\2\u0244\u0242\3\2\2\2\u0244\u0245\3\2\2\2\u0245\u024a\3\2"
-          + "\2\2\u0246\u0244\3\2\2\2\u0247\u0248\7\16\2\2\u0248\u0249\7\64\2\2\u0249"
-          + "\u024b\5\\/\2\u024a\u0247\3\2\2\2\u024a\u024b\3\2\2\2\u024bO\3\2\2\2\u024c"
-          + "\u024d\7\17\2\2\u024d\u024e\5^\60\2\u024e\u024f\7\64\2\2\u024f\u0253\5"
-          + "\\/\2\u0250\u0251\7\16\2\2\u0251\u0252\7\64\2\2\u0252\u0254\5\\/\2\u0253"
-          + "\u0250\3\2\2\2\u0253\u0254\3\2\2\2\u0254Q\3\2\2\2\u0255\u0256\7\20\2\2"
-          + "\u0256\u0257\5\u008eH\2\u0257\u0258\7\21\2\2\u0258\u0259\5\u0090I\2\u0259"
-          + "\u025a\7\64\2\2\u025a\u025e\5\\/\2\u025b\u025c\7\16\2\2\u025c\u025d\7"
-          + "\64\2\2\u025d\u025f\5\\/\2\u025e\u025b\3\2\2\2\u025e\u025f\3\2\2\2\u025f"
-          + "S\3\2\2\2\u0260\u0261\7\22\2\2\u0261\u0262\7\64\2\2\u0262\u0278\5\\/\2"
-          + "\u0263\u0264\5Z.\2\u0264\u0265\7\64\2\2\u0265\u0266\5\\/\2\u0266\u0268"
-          + "\3\2\2\2\u0267\u0263\3\2\2\2\u0268\u0269\3\2\2\2\u0269\u0267\3\2\2\2\u0269"
-          + "\u026a\3\2\2\2\u026a\u026e\3\2\2\2\u026b\u026c\7\16\2\2\u026c\u026d\7"
-          + "\64\2\2\u026d\u026f\5\\/\2\u026e\u026b\3\2\2\2\u026e\u026f\3\2\2\2\u026f"
-          + "\u0273\3\2\2\2\u0270\u0271\7\23\2\2\u0271\u0272\7\64\2\2\u0272\u0274\5"
-          + "\\/\2\u0273\u0270\3\2\2\2\u0273\u0274\3\2\2\2\u0274\u0279\3\2\2\2\u0275"
-          + "\u0276\7\23\2\2\u0276\u0277\7\64\2\2\u0277\u0279\5\\/\2\u0278\u0267\3"
-          + "\2\2\2\u0278\u0275\3\2\2\2\u0279U\3\2\2\2\u027a\u027b\7\24\2\2\u027b\u0280"
-          + "\5X-\2\u027c\u027d\7\63\2\2\u027d\u027f\5X-\2\u027e\u027c\3\2\2\2\u027f"
-          + "\u0282\3\2\2\2\u0280\u027e\3\2\2\2\u0280\u0281\3\2\2\2\u0281\u0283\3\2"
-          + "\2\2\u0282\u0280\3\2\2\2\u0283\u0284\7\64\2\2\u0284\u0285\5\\/\2\u0285"
-          + "W\3\2\2\2\u0286\u0289\5^\60\2\u0287\u0288\7\b\2\2\u0288\u028a\5r:\2\u0289"
-          + "\u0287\3\2\2\2\u0289\u028a\3\2\2\2\u028aY\3\2\2\2\u028b\u0291\7\25\2\2"
-          + "\u028c\u028f\5^\60\2\u028d\u028e\7\b\2\2\u028e\u0290\7%\2\2\u028f\u028d"
-          + "\3\2\2\2\u028f\u0290\3\2\2\2\u0290\u0292\3\2\2\2\u0291\u028c\3\2\2\2\u0291"
-          + "\u0292\3\2\2\2\u0292[\3\2\2\2\u0293\u029e\5\34\17\2\u0294\u0295\7$\2\2"
-          + "\u0295\u0297\7_\2\2\u0296\u0298\5\32\16\2\u0297\u0296\3\2\2\2\u0298\u0299"
-          + "\3\2\2\2\u0299\u0297\3\2\2\2\u0299\u029a\3\2\2\2\u029a\u029b\3\2\2\2\u029b"
-          + "\u029c\7`\2\2\u029c\u029e\3\2\2\2\u029d\u0293\3\2\2\2\u029d\u0294\3\2"
-          + "\2\2\u029e]\3\2\2\2\u029f\u02a5\5f\64\2\u02a0\u02a1\7\f\2\2\u02a1\u02a2"
-          + "\5f\64\2\u02a2\u02a3\7\16\2\2\u02a3\u02a4\5^\60\2\u02a4\u02a6\3\2\2\2"
-          + "\u02a5\u02a0\3\2\2\2\u02a5\u02a6\3\2\2\2\u02a6\u02a9\3\2\2\2\u02a7\u02a9"
-          + "\5b\62\2\u02a8\u029f\3\2\2\2\u02a8\u02a7\3\2\2\2\u02a9_\3\2\2\2\u02aa"
-          + "\u02ad\5f\64\2\u02ab\u02ad\5d\63\2\u02ac\u02aa\3\2\2\2\u02ac\u02ab\3\2"
-          + "\2\2\u02ada\3\2\2\2\u02ae\u02b0\7\26\2\2\u02af\u02b1\5\26\f\2\u02b0\u02af"
-          + "\3\2\2\2\u02b0\u02b1\3\2\2\2\u02b1\u02b2\3\2\2\2\u02b2\u02b3\7\64\2\2"
-          + "\u02b3\u02b4\5^\60\2\u02b4c\3\2\2\2\u02b5\u02b7\7\26\2\2\u02b6\u02b8\5"
-          + "\26\f\2\u02b7\u02b6\3\2\2\2\u02b7\u02b8\3\2\2\2\u02b8\u02b9\3\2\2\2\u02b9"
-          + "\u02ba\7\64\2\2\u02ba\u02bb\5`\61\2\u02bbe\3\2\2\2\u02bc\u02c1\5h\65\2"
-          + "\u02bd\u02be\7\27\2\2\u02be\u02c0\5h\65\2\u02bf\u02bd\3\2\2\2\u02c0\u02c3"
-          + "\3\2\2\2\u02c1\u02bf\3\2\2\2\u02c1\u02c2\3\2\2\2\u02c2g\3\2\2\2\u02c3"
-          + "\u02c1\3\2\2\2\u02c4\u02c9\5j\66\2\u02c5\u02c6\7\30\2\2\u02c6\u02c8\5"
-          + "j\66\2\u02c7\u02c5\3\2\2\2\u02c8\u02cb\3\2\2\2\u02c9\u02c7\3\2\2\2\u02c9"
-          + "\u02ca\3\2\2\2\u02cai\3\2\2\2\u02cb\u02c9\3\2\2\2\u02cc\u02cd\7\31\2\2"
-          + "\u02cd\u02d0\5j\66\2\u02ce\u02d0\5l\67\2\u02cf\u02cc\3\2\2\2\u02cf\u02ce"
-          + "\3\2\2\2\u02d0k\3\2\2\2\u02d1\u02d7\5p9\2\u02d2\u02d3\5n8\2\u02d3\u02d4"
-          + "\5p9\2\u02d4\u02d6\3\2\2\2\u02d5\u02d2\3\2\2\2\u02d6\u02d9\3\2\2\2\u02d7"
-          + "\u02d5\3\2\2\2\u02d7\u02d8\3\2\2\2\u02d8m\3\2\2\2\u02d9\u02d7\3\2\2\2"
-          + "\u02da\u02e8\7G\2\2\u02db\u02e8\7H\2\2\u02dc\u02e8\7I\2\2\u02dd\u02e8"
-          + "\7J\2\2\u02de\u02e8\7K\2\2\u02df\u02e8\7L\2\2\u02e0\u02e8\7M\2\2\u02e1"
-          + "\u02e8\7\21\2\2\u02e2\u02e3\7\31\2\2\u02e3\u02e8\7\21\2\2\u02e4\u02e8"
-          + "\7\32\2\2\u02e5\u02e6\7\32\2\2\u02e6\u02e8\7\31\2\2\u02e7\u02da\3\2\2"
-          + "\2\u02e7\u02db\3\2\2\2\u02e7\u02dc\3\2\2\2\u02e7\u02dd\3\2\2\2\u02e7\u02de"
-          + "\3\2\2\2\u02e7\u02df\3\2\2\2\u02e7\u02e0\3\2\2\2\u02e7\u02e1\3\2\2\2\u02e7"
-          + "\u02e2\3\2\2\2\u02e7\u02e4\3\2\2\2\u02e7\u02e5\3\2\2\2\u02e8o\3\2\2\2"
-          + "\u02e9\u02eb\7\60\2\2\u02ea\u02e9\3\2\2\2\u02ea\u02eb\3\2\2\2\u02eb\u02ec"
-          + "\3\2\2\2\u02ec\u02ed\5r:\2\u02edq\3\2\2\2\u02ee\u02f3\5t;\2\u02ef\u02f0"
-          + "\7:\2\2\u02f0\u02f2\5t;\2\u02f1\u02ef\3\2\2\2\u02f2\u02f5\3\2\2\2\u02f3"
-          + "\u02f1\3\2\2\2\u02f3\u02f4\3\2\2\2\u02f4s\3\2\2\2\u02f5\u02f3\3\2\2\2"
-          + "\u02f6\u02fb\5v<\2\u02f7\u02f8\7;\2\2\u02f8\u02fa\5v<\2\u02f9\u02f7\3"
-          + "\2\2\2\u02fa\u02fd\3\2\2\2\u02fb\u02f9\3\2\2\2\u02fb\u02fc\3\2\2\2\u02fc"
-          + "u\3\2\2\2\u02fd\u02fb\3\2\2\2\u02fe\u0303\5x=\2\u02ff\u0300\7<\2\2\u0300"
-          + "\u0302\5x=\2\u0301\u02ff\3\2\2\2\u0302\u0305\3\2\2\2\u0303\u0301\3\2\2"
-          + "\2\u0303\u0304\3\2\2\2\u0304w\3\2\2\2\u0305\u0303\3\2\2\2\u0306\u030d"
-          + "\5z>\2\u0307\u0308\7=\2\2\u0308\u030c\5z>\2\u0309\u030a\7>\2\2\u030a\u030c"
-          + "\5z>\2\u030b\u0307\3\2\2\2\u030b\u0309\3\2\2\2\u030c\u030f\3\2\2\2\u030d"
-          + "\u030b\3\2\2\2\u030d\u030e\3\2\2\2\u030ey\3\2\2\2\u030f\u030d\3\2\2\2"
-          + "\u0310\u0317\5|?\2\u0311\u0312\7?\2\2\u0312\u0316\5|?\2\u0313\u0314\7"
-          + "@\2\2\u0314\u0316\5|?\2\u0315\u0311\3\2\2\2\u0315\u0313\3\2\2\2\u0316"
-          + "\u0319\3\2\2\2\u0317\u0315\3\2\2\2\u0317\u0318\3\2\2\2\u0318{\3\2\2\2"
-          + "\u0319\u0317\3\2\2\2\u031a\u0327\5~@\2\u031b\u031c\7\60\2\2\u031c\u0326"
-          + "\5~@\2\u031d\u031e\7A\2\2\u031e\u0326\5~@\2\u031f\u0320\7B\2\2\u0320\u0326"
-          + "\5~@\2\u0321\u0322\7C\2\2\u0322\u0326\5~@\2\u0323\u0324\7N\2\2\u0324\u0326"
-          + "\5~@\2\u0325\u031b\3\2\2\2\u0325\u031d\3\2\2\2\u0325\u031f\3\2\2\2\u0325"
-          + "\u0321\3\2\2\2\u0325\u0323\3\2\2\2\u0326\u0329\3\2\2\2\u0327\u0325\3\2"
-          + "\2\2\u0327\u0328\3\2\2\2\u0328}\3\2\2\2\u0329\u0327\3\2\2\2\u032a\u032b"
-          + "\7?\2\2\u032b\u0332\5~@\2\u032c\u032d\7@\2\2\u032d\u0332\5~@\2\u032e\u032f"
-          + "\7D\2\2\u032f\u0332\5~@\2\u0330\u0332\5\u0080A\2\u0331\u032a\3\2\2\2\u0331"
-          + "\u032c\3\2\2\2\u0331\u032e\3\2\2\2\u0331\u0330\3\2\2\2\u0332\177\3\2\2"
-          + "\2\u0333\u0337\5\u0082B\2\u0334\u0336\5\u0086D\2\u0335\u0334\3\2\2\2\u0336"
-          + "\u0339\3\2\2\2\u0337\u0335\3\2\2\2\u0337\u0338\3\2\2\2\u0338\u033c\3\2"
-          + "\2\2\u0339\u0337\3\2\2\2\u033a\u033b\7\66\2\2\u033b\u033d\5~@\2\u033c"
-          + "\u033a\3\2\2\2\u033c\u033d\3\2\2\2\u033d\u0081\3\2\2\2\u033e\u0341\7\61"
-          + "\2\2\u033f\u0342\5\u00a0Q\2\u0340\u0342\5\u0084C\2\u0341\u033f\3\2\2\2"
-          + "\u0341\u0340\3\2\2\2\u0341\u0342\3\2\2\2\u0342\u0343\3\2\2\2\u0343\u035a"
-          + "\7\62\2\2\u0344\u0346\78\2\2\u0345\u0347\5\u0084C\2\u0346\u0345\3\2\2"
-          + "\2\u0346\u0347\3\2\2\2\u0347\u0348\3\2\2\2\u0348\u035a\79\2\2\u0349\u034b"
-          + "\7E\2\2\u034a\u034c\5\u0092J\2\u034b\u034a\3\2\2\2\u034b\u034c\3\2\2\2"
-          + "\u034c\u034d\3\2\2\2\u034d\u035a\7F\2\2\u034e\u035a\7%\2\2\u034f\u035a"
-          + "\5\u00a6T\2\u0350\u0352\5\u00a4S\2\u0351\u0350\3\2\2\2\u0352\u0353\3\2"
-          + "\2\2\u0353\u0351\3\2\2\2\u0353\u0354\3\2\2\2\u0354\u035a\3\2\2\2\u0355"
-          + "\u035a\7/\2\2\u0356\u035a\7\33\2\2\u0357\u035a\7\34\2\2\u0358\u035a\7"
-          + "\35\2\2\u0359\u033e\3\2\2\2\u0359\u0344\3\2\2\2\u0359\u0349\3\2\2\2\u0359"
-          + "\u034e\3\2\2\2\u0359\u034f\3\2\2\2\u0359\u0351\3\2\2\2\u0359\u0355\3\2"
-          + "\2\2\u0359\u0356\3\2\2\2\u0359\u0357\3\2\2\2\u0359\u0358\3\2\2\2\u035a"
-          + "\u0083\3\2\2\2\u035b\u0367\5^\60\2\u035c\u0368\5\u009cO\2\u035d\u035e"
-          + "\7\63\2\2\u035e\u0360\5^\60\2\u035f\u035d\3\2\2\2\u0360\u0363\3\2\2\2"
-          + "\u0361\u035f\3\2\2\2\u0361\u0362\3\2\2\2\u0362\u0365\3\2\2\2\u0363\u0361"
-          + "\3\2\2\2\u0364\u0366\7\63\2\2\u0365\u0364\3\2\2\2\u0365\u0366\3\2\2\2"
-          + "\u0366\u0368\3\2\2\2\u0367\u035c\3\2\2\2\u0367\u0361\3\2\2\2\u0368\u0085"
-          + "\3\2\2\2\u0369\u036b\7\61\2\2\u036a\u036c\5\u0096L\2\u036b\u036a\3\2\2"
-          + "\2\u036b\u036c\3\2\2\2\u036c\u036d\3\2\2\2\u036d\u0375\7\62\2\2\u036e"
-          + "\u036f\78\2\2\u036f\u0370\5\u0088E\2\u0370\u0371\79\2\2\u0371\u0375\3"
-          + "\2\2\2\u0372\u0373\7.\2\2\u0373\u0375\7%\2\2\u0374\u0369\3\2\2\2\u0374"
-          + "\u036e\3\2\2\2\u0374\u0372\3\2\2\2\u0375\u0087\3\2\2\2\u0376\u037b\5\u008a"
-          + "F\2\u0377\u0378\7\63\2\2\u0378\u037a\5\u008aF\2\u0379\u0377\3\2\2\2\u037a"
-          + "\u037d\3\2\2\2\u037b\u0379\3\2\2\2\u037b\u037c\3\2\2\2\u037c\u037f\3\2"
-          + "\2\2\u037d\u037b\3\2\2\2\u037e\u0380\7\63\2\2\u037f\u037e\3\2\2\2\u037f"
-          + "\u0380\3\2\2\2\u0380\u0089\3\2\2\2\u0381\u038d\5^\60\2\u0382\u0384\5^"
-          + "\60\2\u0383\u0382\3\2\2\2\u0383\u0384\3\2\2\2\u0384\u0385\3\2\2\2\u0385"
-          + "\u0387\7\64\2\2\u0386\u0388\5^\60\2\u0387\u0386\3\2\2\2\u0387\u0388\3"
-          + "\2\2\2\u0388\u038a\3\2\2\2\u0389\u038b\5\u008cG\2\u038a\u0389\3\2\2\2"
-          + "\u038a\u038b\3\2\2\2\u038b\u038d\3\2\2\2\u038c\u0381\3\2\2\2\u038c\u0383"
-          + "\3\2\2\2\u038d\u008b\3\2\2\2\u038e\u0390\7\64\2\2\u038f\u0391\5^\60\2"
-          + "\u0390\u038f\3\2\2\2\u0390\u0391\3\2\2\2\u0391\u008d\3\2\2\2\u0392\u0397"
-          + "\5p9\2\u0393\u0394\7\63\2\2\u0394\u0396\5p9\2\u0395\u0393\3\2\2\2\u0396"
-          + "\u0399\3\2\2\2\u0397\u0395\3\2\2\2\u0397\u0398\3\2\2\2\u0398\u039b\3\2"
-          + "\2\2\u0399\u0397\3\2\2\2\u039a\u039c\7\63\2\2\u039b\u039a\3\2\2\2\u039b"
-          + "\u039c\3\2\2\2\u039c\u008f\3\2\2\2\u039d\u03a2\5^\60\2\u039e\u039f\7\63"
-          + "\2\2\u039f\u03a1\5^\60\2\u03a0\u039e\3\2\2\2\u03a1\u03a4\3\2\2\2\u03a2"
-          + "\u03a0\3\2\2\2\u03a2\u03a3\3\2\2\2\u03a3\u03a6\3\2\2\2\u03a4\u03a2\3\2"
-          + "\2\2\u03a5\u03a7\7\63\2\2\u03a6\u03a5\3\2\2\2\u03a6\u03a7\3\2\2\2\u03a7"
-          + "\u0091\3\2\2\2\u03a8\u03a9\5^\60\2\u03a9\u03aa\7\64\2\2\u03aa\u03b9\5"
-          + "^\60\2\u03ab\u03ba\5\u009cO\2\u03ac\u03ad\7\63\2\2\u03ad\u03ae\5^\60\2"
-          + "\u03ae\u03af\7\64\2\2\u03af\u03b0\5^\60\2\u03b0\u03b2\3\2\2\2\u03b1\u03ac"
-          + "\3\2\2\2\u03b2\u03b5\3\2\2\2\u03b3\u03b1\3\2\2\2\u03b3\u03b4\3\2\2\2\u03b4"
-          + "\u03b7\3\2\2\2\u03b5\u03b3\3\2\2\2\u03b6\u03b8\7\63\2\2\u03b7\u03b6\3"
-          + "\2\2\2\u03b7\u03b8\3\2\2\2\u03b8\u03ba\3\2\2\2\u03b9\u03ab\3\2\2\2\u03b9"
-          + "\u03b3\3\2\2\2\u03ba\u03ca\3\2\2\2\u03bb\u03c7\5^\60\2\u03bc\u03c8\5\u009c"
-          + "O\2\u03bd\u03be\7\63\2\2\u03be\u03c0\5^\60\2\u03bf\u03bd\3\2\2\2\u03c0"
-          + "\u03c3\3\2\2\2\u03c1\u03bf\3\2\2\2\u03c1\u03c2\3\2\2\2\u03c2\u03c5\3\2"
-          + "\2\2\u03c3\u03c1\3\2\2\2\u03c4\u03c6\7\63\2\2\u03c5\u03c4\3\2\2\2\u03c5"
-          + "\u03c6\3\2\2\2\u03c6\u03c8\3\2\2\2\u03c7\u03bc\3\2\2\2\u03c7\u03c1\3\2"
-          + "\2\2\u03c8\u03ca\3\2\2\2\u03c9\u03a8\3\2\2\2\u03c9\u03bb\3\2\2\2\u03ca"
-          + "\u0093\3\2\2\2\u03cb\u03cc\7\36\2\2\u03cc\u03d2\7%\2\2\u03cd\u03cf\7\61"
-          + "\2\2\u03ce\u03d0\5\u0096L\2\u03cf\u03ce\3\2\2\2\u03cf\u03d0\3\2\2\2\u03d0"
-          + "\u03d1\3\2\2\2\u03d1\u03d3\7\62\2\2\u03d2\u03cd\3\2\2\2\u03d2\u03d3\3"
-          + "\2\2\2\u03d3\u03d4\3\2\2\2\u03d4\u03d5\7\64\2\2\u03d5\u03d6\5\\/\2\u03d6"
-          + "\u0095\3\2\2\2\u03d7\u03d8\5\u0098M\2\u03d8\u03d9\7\63\2\2\u03d9\u03db"
-          + "\3\2\2\2\u03da\u03d7\3\2\2\2\u03db\u03de\3\2\2\2\u03dc\u03da\3\2\2\2\u03dc"
-          + "\u03dd\3\2\2\2\u03dd\u03f3\3\2\2\2\u03de\u03dc\3\2\2\2\u03df\u03e1\5\u0098"
-          + "M\2\u03e0\u03e2\7\63\2\2\u03e1\u03e0\3\2\2\2\u03e1\u03e2\3\2\2\2\u03e2"
-          + "\u03f4\3\2\2\2\u03e3\u03e4\7\60\2\2\u03e4\u03e9\5^\60\2\u03e5\u03e6\7"
-          + "\63\2\2\u03e6\u03e8\5\u0098M\2\u03e7\u03e5\3\2\2\2\u03e8\u03eb\3\2\2\2"
-          + "\u03e9\u03e7\3\2\2\2\u03e9\u03ea\3\2\2\2\u03ea\u03ef\3\2\2\2\u03eb\u03e9"
-          + "\3\2\2\2\u03ec\u03ed\7\63\2\2\u03ed\u03ee\7\66\2\2\u03ee\u03f0\5^\60\2"
-          + "\u03ef\u03ec\3\2\2\2\u03ef\u03f0\3\2\2\2\u03f0\u03f4\3\2\2\2\u03f1\u03f2"
-          + "\7\66\2\2\u03f2\u03f4\5^\60\2\u03f3\u03df\3\2\2\2\u03f3\u03e3\3\2\2\2"
-          + "\u03f3\u03f1\3\2\2\2\u03f4\u0097\3\2\2\2\u03f5\u03f7\5^\60\2\u03f6\u03f8"
-          + "\5\u009cO\2\u03f7\u03f6\3\2\2\2\u03f7\u03f8\3\2\2\2\u03f8\u03fe\3\2\2"
-          + "\2\u03f9\u03fa\5^\60\2\u03fa\u03fb\7\67\2\2\u03fb\u03fc\5^\60\2\u03fc"
-          + "\u03fe\3\2\2\2\u03fd\u03f5\3\2\2\2\u03fd\u03f9\3\2\2\2\u03fe\u0099\3\2"
-          + "\2\2\u03ff\u0402\5\u009cO\2\u0400\u0402\5\u009eP\2\u0401\u03ff\3\2\2\2"
-          + "\u0401\u0400\3\2\2\2\u0402\u009b\3\2\2\2\u0403\u0404\7\20\2\2\u0404\u0405"
-          + "\5\u008eH\2\u0405\u0406\7\21\2\2\u0406\u0408\5f\64\2\u0407\u0409\5\u009a"
-          + "N\2\u0408\u0407\3\2\2\2\u0408\u0409\3\2\2\2\u0409\u009d\3\2\2\2\u040a"
-          + "\u040b\7\f\2\2\u040b\u040d\5`\61\2\u040c\u040e\5\u009aN\2\u040d\u040c"
-          + "\3\2\2\2\u040d\u040e\3\2\2\2\u040e\u009f\3\2\2\2\u040f\u0411\7\37\2\2"
-          + "\u0410\u0412\5\u00a2R\2\u0411\u0410\3\2\2\2\u0411\u0412\3\2\2\2\u0412"
-          + "\u00a1\3\2\2\2\u0413\u0414\7\6\2\2\u0414\u0417\5^\60\2\u0415\u0417\5\u0090"
-          + "I\2\u0416\u0413\3\2\2\2\u0416\u0415\3\2\2\2\u0417\u00a3\3\2\2\2\u0418"
-          + "\u0419\t\4\2\2\u0419\u00a5\3\2\2\2\u041a\u041e\5\u00a8U\2\u041b\u041e"
-          + "\7,\2\2\u041c\u041e\7-\2\2\u041d\u041a\3\2\2\2\u041d\u041b\3\2\2\2\u041d"
-          + "\u041c\3\2\2\2\u041e\u00a7\3\2\2\2\u041f\u0420\t\5\2\2\u0420\u00a9\3\2"
-          + "\2\2\u0098\u00af\u00b3\u00b5\u00be\u00c7\u00ca\u00d1\u00d6\u00dd\u00e4"
-          + "\u00eb\u00f1\u00f5\u00fb\u0101\u0105\u010b\u010f\u0111\u0115\u011b\u011f"
-          + "\u0125\u0129\u012e\u0133\u0139\u013d\u0143\u0149\u014d\u0153\u0157\u0159"
-          + "\u015d\u0163\u0167\u016d\u0171\u0177\u017e\u0182\u018e\u0194\u0199\u019d"
-          + "\u01a0\u01a4\u01a9\u01ad\u01b1\u01bf\u01c7\u01cf\u01d1\u01d5\u01de\u01e5"
-          + "\u01e7\u01f0\u01f5\u01fa\u0201\u0205\u020c\u0214\u021d\u0226\u022d\u0237"
-          + "\u0244\u024a\u0253\u025e\u0269\u026e\u0273\u0278\u0280\u0289\u028f\u0291"
-          + "\u0299\u029d\u02a5\u02a8\u02ac\u02b0\u02b7\u02c1\u02c9\u02cf\u02d7\u02e7"
-          + "\u02ea\u02f3\u02fb\u0303\u030b\u030d\u0315\u0317\u0325\u0327\u0331\u0337"
-          + "\u033c\u0341\u0346\u034b\u0353\u0359\u0361\u0365\u0367\u036b\u0374\u037b"
-          + "\u037f\u0383\u0387\u038a\u038c\u0390\u0397\u039b\u03a2\u03a6\u03b3\u03b7"
-          + "\u03b9\u03c1\u03c5\u03c7\u03c9\u03cf\u03d2\u03dc\u03e1\u03e9\u03ef\u03f3"
-          + "\u03f7\u03fd\u0401\u0408\u040d\u0411\u0416\u041d";
+          + "\tI\4J\tJ\4K\tK\3\2\3\2\3\2\3\2\3\2\5\2\u009c\n\2\3\3\3\3\7\3\u00a0\n"
+          + "\3\f\3\16\3\u00a3\13\3\3\3\3\3\3\4\3\4\7\4\u00a9\n\4\f\4\16\4\u00ac\13"
+          + "\4\3\4\3\4\3\5\3\5\3\5\3\5\5\5\u00b4\n\5\3\5\5\5\u00b7\n\5\3\5\3\5\3\6"
+          + "\6\6\u00bc\n\6\r\6\16\6\u00bd\3\7\3\7\3\7\5\7\u00c3\n\7\3\b\3\b\3\b\3"
+          + "\b\3\b\5\b\u00ca\n\b\3\b\3\b\3\b\3\t\3\t\5\t\u00d1\n\t\3\t\3\t\3\n\3\n"
+          + "\3\n\5\n\u00d8\n\n\3\n\3\n\3\n\3\n\5\n\u00de\n\n\7\n\u00e0\n\n\f\n\16"
+          + "\n\u00e3\13\n\3\n\3\n\3\n\5\n\u00e8\n\n\3\n\3\n\3\n\3\n\5\n\u00ee\n\n"
+          + "\7\n\u00f0\n\n\f\n\16\n\u00f3\13\n\3\n\3\n\3\n\5\n\u00f8\n\n\3\n\3\n\5"
+          + "\n\u00fc\n\n\5\n\u00fe\n\n\3\n\3\n\5\n\u0102\n\n\3\n\3\n\3\n\3\n\5\n\u0108"
+          + "\n\n\7\n\u010a\n\n\f\n\16\n\u010d\13\n\3\n\3\n\3\n\5\n\u0112\n\n\3\n\3"
+          + "\n\5\n\u0116\n\n\3\13\3\13\3\13\5\13\u011b\n\13\3\f\3\f\3\f\5\f\u0120"
+          + "\n\f\3\f\3\f\3\f\3\f\5\f\u0126\n\f\7\f\u0128\n\f\f\f\16\f\u012b\13\f\3"
+          + "\f\3\f\3\f\5\f\u0130\n\f\3\f\3\f\3\f\3\f\5\f\u0136\n\f\7\f\u0138\n\f\f"
+          + "\f\16\f\u013b\13\f\3\f\3\f\3\f\5\f\u0140\n\f\3\f\3\f\5\f\u0144\n\f\5\f"
+          + "\u0146\n\f\3\f\3\f\5\f\u014a\n\f\3\f\3\f\3\f\3\f\5\f\u0150\n\f\7\f\u0152"
+          + "\n\f\f\f\16\f\u0155\13\f\3\f\3\f\3\f\5\f\u015a\n\f\3\f\3\f\5\f\u015e\n"
+          + "\f\3\r\3\r\3\16\3\16\5\16\u0164\n\16\3\17\3\17\3\17\7\17\u0169\n\17\f"
+          + "\17\16\17\u016c\13\17\3\17\5\17\u016f\n\17\3\17\3\17\3\20\3\20\3\20\3"
+          + "\20\3\20\3\20\3\20\3\20\5\20\u017b\n\20\3\21\3\21\3\21\3\21\5\21\u0181"
+          + "\n\21\3\21\3\21\3\21\5\21\u0186\n\21\7\21\u0188\n\21\f\21\16\21\u018b"
+          + "\13\21\5\21\u018d\n\21\3\22\3\22\5\22\u0191\n\22\3\22\3\22\3\22\5\22\u0196"
+          + "\n\22\7\22\u0198\n\22\f\22\16\22\u019b\13\22\3\22\5\22\u019e\n\22\3\23"
+          + "\3\23\3\24\3\24\3\24\3\25\3\25\3\26\3\26\3\26\3\26\3\26\5\26\u01ac\n\26"
+          + "\3\27\3\27\3\30\3\30\3\31\3\31\5\31\u01b4\n\31\3\32\3\32\3\33\3\33\3\33"
+          + "\3\33\5\33\u01bc\n\33\5\33\u01be\n\33\3\34\3\34\5\34\u01c2\n\34\3\35\3"
+          + "\35\3\35\3\36\3\36\7\36\u01c9\n\36\f\36\16\36\u01cc\13\36\3\36\3\36\6"
+          + "\36\u01d0\n\36\r\36\16\36\u01d1\5\36\u01d4\n\36\3\36\3\36\3\36\3\36\3"
+          + "\36\3\36\3\36\5\36\u01dd\n\36\3\37\3\37\3\37\5\37\u01e2\n\37\3 \3 \3 "
+          + "\5 \u01e7\n \3!\3!\3!\7!\u01ec\n!\f!\16!\u01ef\13!\3!\5!\u01f2\n!\3\""
+          + "\3\"\3\"\7\"\u01f7\n\"\f\"\16\"\u01fa\13\"\3#\3#\3#\7#\u01ff\n#\f#\16"
+          + "#\u0202\13#\3$\3$\3$\3$\7$\u0208\n$\f$\16$\u020b\13$\3%\3%\3%\3%\7%\u0211"
+          + "\n%\f%\16%\u0214\13%\3&\3&\3&\3&\5&\u021a\n&\3\'\3\'\3\'\3\'\3\'\3\'\3"
+          + "\'\3\'\5\'\u0224\n\'\3(\3(\3(\3(\3(\3(\3(\3(\3(\7(\u022f\n(\f(\16(\u0232"
+          + "\13(\3(\3(\3(\5(\u0237\n(\3)\3)\3)\3)\3)\3)\3)\5)\u0240\n)\3*\3*\3*\3"
+          + "*\3*\3*\3*\3*\3*\5*\u024b\n*\3+\3+\3+\3+\3+\3+\3+\6+\u0254\n+\r+\16+\u0255"
+          + "\3+\3+\3+\5+\u025b\n+\3+\3+\3+\5+\u0260\n+\3+\3+\3+\5+\u0265\n+\3,\3,"
+          + "\3,\3,\7,\u026b\n,\f,\16,\u026e\13,\3,\3,\3,\3-\3-\3-\5-\u0276\n-\3.\3"
+          + ".\3.\3.\5.\u027c\n.\5.\u027e\n.\3/\3/\3/\3/\6/\u0284\n/\r/\16/\u0285\3"
+          + "/\3/\5/\u028a\n/\3\60\3\60\3\60\3\60\3\60\3\60\5\60\u0292\n\60\3\60\5"
+          + "\60\u0295\n\60\3\61\3\61\5\61\u0299\n\61\3\62\3\62\5\62\u029d\n\62\3\62"
+          + "\3\62\3\62\3\63\3\63\5\63\u02a4\n\63\3\63\3\63\3\63\3\64\3\64\3\64\3\64"
+          + "\5\64\u02ad\n\64\3\64\3\64\3\64\3\64\3\64\3\64\3\64\3\64\3\64\3\64\7\64"
+          + "\u02b9\n\64\f\64\16\64\u02bc\13\64\3\65\3\65\3\65\3\65\3\65\3\65\3\65"
+          + "\3\65\3\65\3\65\3\65\3\65\3\65\5\65\u02cb\n\65\3\66\5\66\u02ce\n\66\3"
+          + "\66\3\66\3\67\3\67\3\67\3\67\3\67\7\67\u02d7\n\67\f\67\16\67\u02da\13"
+          + "\67\5\67\u02dc\n\67\3\67\3\67\3\67\3\67\3\67\3\67\3\67\3\67\3\67\3\67"
+          + "\3\67\3\67\3\67\3\67\3\67\3\67\3\67\3\67\3\67\3\67\3\67\7\67\u02f3\n\67"
+          + "\f\67\16\67\u02f6\13\67\38\38\38\58\u02fb\n8\38\38\38\58\u0300\n8\38\3"
+          + "8\38\58\u0305\n8\38\38\38\38\68\u030b\n8\r8\168\u030c\38\38\38\38\58\u0313"
+          + "\n8\39\39\39\39\79\u0319\n9\f9\169\u031c\139\39\59\u031f\n9\59\u0321\n"
+          + "9\3:\3:\5:\u0325\n:\3:\3:\3:\3:\3:\3:\3:\5:\u032e\n:\3;\3;\3;\7;\u0333"
+          + "\n;\f;\16;\u0336\13;\3;\5;\u0339\n;\3<\3<\5<\u033d\n<\3<\3<\5<\u0341\n"
+          + "<\3<\5<\u0344\n<\5<\u0346\n<\3=\3=\5=\u034a\n=\3>\3>\3>\7>\u034f\n>\f"
+          + ">\16>\u0352\13>\3>\5>\u0355\n>\3?\3?\3?\7?\u035a\n?\f?\16?\u035d\13?\3"
+          + "?\5?\u0360\n?\3@\3@\3@\3@\3@\3@\3@\3@\3@\7@\u036b\n@\f@\16@\u036e\13@"
+          + "\3@\5@\u0371\n@\5@\u0373\n@\3@\3@\3@\3@\7@\u0379\n@\f@\16@\u037c\13@\3"
+          + "@\5@\u037f\n@\5@\u0381\n@\5@\u0383\n@\3A\3A\3A\3A\5A\u0389\nA\3A\5A\u038c"
+          + "\nA\3A\3A\3A\3B\3B\3B\7B\u0394\nB\fB\16B\u0397\13B\3B\3B\5B\u039b\nB\3"
+          + "B\3B\3B\3B\7B\u03a1\nB\fB\16B\u03a4\13B\3B\3B\3B\5B\u03a9\nB\3B\3B\5B"
+          + "\u03ad\nB\3C\3C\5C\u03b1\nC\3C\3C\3C\3C\5C\u03b7\nC\3D\3D\5D\u03bb\nD"
+          + "\3E\3E\3E\3E\3E\5E\u03c2\nE\3F\3F\3F\5F\u03c7\nF\3G\3G\5G\u03cb\nG\3H"
+          + "\3H\3H\5H\u03d0\nH\3I\3I\3J\3J\3J\5J\u03d7\nJ\3K\3K\3K\2\4flL\2\4\6\b"
+          + "\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVX"
+          + "Z\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086\u0088\u008a\u008c\u008e\u0090"
+          + "\u0092\u0094\2\n\3\2P\\\3\2./\4\2?@DD\5\2\60\60ACNN\3\2?@\3\2=>\3\2&\'"
+          + "\3\2(+\u044d\2\u009b\3\2\2\2\4\u00a1\3\2\2\2\6\u00a6\3\2\2\2\b\u00af\3"
+          + "\2\2\2\n\u00bb\3\2\2\2\f\u00bf\3\2\2\2\16\u00c4\3\2\2\2\20\u00ce\3\2\2"
+          + "\2\22\u0115\3\2\2\2\24\u0117\3\2\2\2\26\u015d\3\2\2\2\30\u015f\3\2\2\2"
+          + "\32\u0163\3\2\2\2\34\u0165\3\2\2\2\36\u017a\3\2\2\2 \u017c\3\2\2\2\"\u0190"
+          + "\3\2\2\2$\u019f\3\2\2\2&\u01a1\3\2\2\2(\u01a4\3\2\2\2*\u01ab\3\2\2\2,"
+          + "\u01ad\3\2\2\2.\u01af\3\2\2\2\60\u01b1\3\2\2\2\62\u01b5\3\2\2\2\64\u01b7"
+          + "\3\2\2\2\66\u01c1\3\2\2\28\u01c3\3\2\2\2:\u01c6\3\2\2\2<\u01de\3\2\2\2"
+          + ">\u01e3\3\2\2\2@\u01e8\3\2\2\2B\u01f3\3\2\2\2D\u01fb\3\2\2\2F\u0203\3"
+          + "\2\2\2H\u020c\3\2\2\2J\u0215\3\2\2\2L\u0223\3\2\2\2N\u0225\3\2\2\2P\u0238"
+          + "\3\2\2\2R\u0241\3\2\2\2T\u024c\3\2\2\2V\u0266\3\2\2\2X\u0272\3\2\2\2Z"
+          + "\u0277\3\2\2\2\\\u0289\3\2\2\2^\u0294\3\2\2\2`\u0298\3\2\2\2b\u029a\3"
+          + "\2\2\2d\u02a1\3\2\2\2f\u02ac\3\2\2\2h\u02ca\3\2\2\2j\u02cd\3\2\2\2l\u02db"
+          + "\3\2\2\2n\u0312\3\2\2\2p\u0314\3\2\2\2r\u032d\3\2\2\2t\u032f\3\2\2\2v"
+          + "\u0345\3\2\2\2x\u0347\3\2\2\2z\u034b\3\2\2\2|\u0356\3\2\2\2~\u0382\3\2"
+          + "\2\2\u0080\u0384\3\2\2\2\u0082\u0395\3\2\2\2\u0084\u03b6\3\2\2\2\u0086"
+          + "\u03ba\3\2\2\2\u0088\u03bc\3\2\2\2\u008a\u03c3\3\2\2\2\u008c\u03c8\3\2"
+          + "\2\2\u008e\u03cf\3\2\2\2\u0090\u03d1\3\2\2\2\u0092\u03d6\3\2\2\2\u0094"
+          + "\u03d8\3\2\2\2\u0096\u009c\7$\2\2\u0097\u009c\5\34\17\2\u0098\u0099\5"
+          + "L\'\2\u0099\u009a\7$\2\2\u009a\u009c\3\2\2\2\u009b\u0096\3\2\2\2\u009b"
+          + "\u0097\3\2\2\2\u009b\u0098\3\2\2\2\u009c\3\3\2\2\2\u009d\u00a0\7$\2\2"
+          + "\u009e\u00a0\5\32\16\2\u009f\u009d\3\2\2\2\u009f\u009e\3\2\2\2\u00a0\u00a3"
+          + "\3\2\2\2\u00a1\u009f\3\2\2\2\u00a1\u00a2\3\2\2\2\u00a2\u00a4\3\2\2\2\u00a3"
+          + "\u00a1\3\2\2\2\u00a4\u00a5\7\2\2\3\u00a5\5\3\2\2\2\u00a6\u00aa\5|?\2\u00a7"
+          + "\u00a9\7$\2\2\u00a8\u00a7\3\2\2\2\u00a9\u00ac\3\2\2\2\u00aa\u00a8\3\2"
+          + "\2\2\u00aa\u00ab\3\2\2\2\u00ab\u00ad\3\2\2\2\u00ac\u00aa\3\2\2\2\u00ad"
+          + "\u00ae\7\2\2\3\u00ae\7\3\2\2\2\u00af\u00b0\7N\2\2\u00b0\u00b6\5D#\2\u00b1"
+          + "\u00b3\7\61\2\2\u00b2\u00b4\5\u0082B\2\u00b3\u00b2\3\2\2\2\u00b3\u00b4"
+          + "\3\2\2\2\u00b4\u00b5\3\2\2\2\u00b5\u00b7\7\62\2\2\u00b6\u00b1\3\2\2\2"
+          + "\u00b6\u00b7\3\2\2\2\u00b7\u00b8\3\2\2\2\u00b8\u00b9\7$\2\2\u00b9\t\3"
+          + "\2\2\2\u00ba\u00bc\5\b\5\2\u00bb\u00ba\3\2\2\2\u00bc\u00bd\3\2\2\2\u00bd"
+          + "\u00bb\3\2\2\2\u00bd\u00be\3\2\2\2\u00be\13\3\2\2\2\u00bf\u00c2\5\n\6"
+          + "\2\u00c0\u00c3\5\u0080A\2\u00c1\u00c3\5\16\b\2\u00c2\u00c0\3\2\2\2\u00c2"
+          + "\u00c1\3\2\2\2\u00c3\r\3\2\2\2\u00c4\u00c5\7\3\2\2\u00c5\u00c6\7%\2\2"
+          + "\u00c6\u00c9\5\20\t\2\u00c7\u00c8\7O\2\2\u00c8\u00ca\5^\60\2\u00c9\u00c7"
+          + "\3\2\2\2\u00c9\u00ca\3\2\2\2\u00ca\u00cb\3\2\2\2\u00cb\u00cc\7\64\2\2"
+          + "\u00cc\u00cd\5\\/\2\u00cd\17\3\2\2\2\u00ce\u00d0\7\61\2\2\u00cf\u00d1"
+          + "\5\22\n\2\u00d0\u00cf\3\2\2\2\u00d0\u00d1\3\2\2\2\u00d1\u00d2\3\2\2\2"
+          + "\u00d2\u00d3\7\62\2\2\u00d3\21\3\2\2\2\u00d4\u00d7\5\24\13\2\u00d5\u00d6"
+          + "\7\67\2\2\u00d6\u00d8\5^\60\2\u00d7\u00d5\3\2\2\2\u00d7\u00d8\3\2\2\2"
+          + "\u00d8\u00e1\3\2\2\2\u00d9\u00da\7\63\2\2\u00da\u00dd\5\24\13\2\u00db"
+          + "\u00dc\7\67\2\2\u00dc\u00de\5^\60\2\u00dd\u00db\3\2\2\2\u00dd\u00de\3"
+          + "\2\2\2\u00de\u00e0\3\2\2\2\u00df\u00d9\3\2\2\2\u00e0\u00e3\3\2\2\2\u00e1"
+          + "\u00df\3\2\2\2\u00e1\u00e2\3\2\2\2\u00e2\u00fd\3\2\2\2\u00e3\u00e1\3\2"
+          + "\2\2\u00e4\u00fb\7\63\2\2\u00e5\u00e7\7\60\2\2\u00e6\u00e8\5\24\13\2\u00e7"
+          + "\u00e6\3\2\2\2\u00e7\u00e8\3\2\2\2\u00e8\u00f1\3\2\2\2\u00e9\u00ea\7\63"
+          + "\2\2\u00ea\u00ed\5\24\13\2\u00eb\u00ec\7\67\2\2\u00ec\u00ee\5^\60\2\u00ed"
+          + "\u00eb\3\2\2\2\u00ed\u00ee\3\2\2\2\u00ee\u00f0\3\2\2\2\u00ef\u00e9\3\2"
+          + "\2\2\u00f0\u00f3\3\2\2\2\u00f1\u00ef\3\2\2\2\u00f1\u00f2\3\2\2\2\u00f2"
+          + "\u00f7\3\2\2\2\u00f3\u00f1\3\2\2\2\u00f4\u00f5\7\63\2\2\u00f5\u00f6\7"
+          + "\66\2\2\u00f6\u00f8\5\24\13\2\u00f7\u00f4\3\2\2\2\u00f7\u00f8\3\2\2\2"
+          + "\u00f8\u00fc\3\2\2\2\u00f9\u00fa\7\66\2\2\u00fa\u00fc\5\24\13\2\u00fb"
+          + "\u00e5\3\2\2\2\u00fb\u00f9\3\2\2\2\u00fb\u00fc\3\2\2\2\u00fc\u00fe\3\2"
+          + "\2\2\u00fd\u00e4\3\2\2\2\u00fd\u00fe\3\2\2\2\u00fe\u0116\3\2\2\2\u00ff"
+          + "\u0101\7\60\2\2\u0100\u0102\5\24\13\2\u0101\u0100\3\2\2\2\u0101\u0102"
+          + "\3\2\2\2\u0102\u010b\3\2\2\2\u0103\u0104\7\63\2\2\u0104\u0107\5\24\13"
+          + "\2\u0105\u0106\7\67\2\2\u0106\u0108\5^\60\2\u0107\u0105\3\2\2\2\u0107"
+          + "\u0108\3\2\2\2\u0108\u010a\3\2\2\2\u0109\u0103\3\2\2\2\u010a\u010d\3\2"
+          + "\2\2\u010b\u0109\3\2\2\2\u010b\u010c\3\2\2\2\u010c\u0111\3\2\2\2\u010d"
+          + "\u010b\3\2\2\2\u010e\u010f\7\63\2\2\u010f\u0110\7\66\2\2\u0110\u0112\5"
+          + "\24\13\2\u0111\u010e\3\2\2\2\u0111\u0112\3\2\2\2\u0112\u0116\3\2\2\2\u0113"
+          + "\u0114\7\66\2\2\u0114\u0116\5\24\13\2\u0115\u00d4\3\2\2\2\u0115\u00ff"
+          + "\3\2\2\2\u0115\u0113\3\2\2\2\u0116\23\3\2\2\2\u0117\u011a\7%\2\2\u0118"
+          + "\u0119\7\64\2\2\u0119\u011b\5^\60\2\u011a\u0118\3\2\2\2\u011a\u011b\3"
+          + "\2\2\2\u011b\25\3\2\2\2\u011c\u011f\5\30\r\2\u011d\u011e\7\67\2\2\u011e"
+          + "\u0120\5^\60\2\u011f\u011d\3\2\2\2\u011f\u0120\3\2\2\2\u0120\u0129\3\2"
+          + "\2\2\u0121\u0122\7\63\2\2\u0122\u0125\5\30\r\2\u0123\u0124\7\67\2\2\u0124"
+          + "\u0126\5^\60\2\u0125\u0123\3\2\2\2\u0125\u0126\3\2\2\2\u0126\u0128\3\2"
+          + "\2\2\u0127\u0121\3\2\2\2\u0128\u012b\3\2\2\2\u0129\u0127\3\2\2\2\u0129"
+          + "\u012a\3\2\2\2\u012a\u0145\3\2\2\2\u012b\u0129\3\2\2\2\u012c\u0143\7\63"
+          + "\2\2\u012d\u012f\7\60\2\2\u012e\u0130\5\30\r\2\u012f\u012e\3\2\2\2\u012f"
+          + "\u0130\3\2\2\2\u0130\u0139\3\2\2\2\u0131\u0132\7\63\2\2\u0132\u0135\5"
+          + "\30\r\2\u0133\u0134\7\67\2\2\u0134\u0136\5^\60\2\u0135\u0133\3\2\2\2\u0135"
+          + "\u0136\3\2\2\2\u0136\u0138\3\2\2\2\u0137\u0131\3\2\2\2\u0138\u013b\3\2"
+          + "\2\2\u0139\u0137\3\2\2\2\u0139\u013a\3\2\2\2\u013a\u013f\3\2\2\2\u013b"
+          + "\u0139\3\2\2\2\u013c\u013d\7\63\2\2\u013d\u013e\7\66\2\2\u013e\u0140\5"
+          + "\30\r\2\u013f\u013c\3\2\2\2\u013f\u0140\3\2\2\2\u0140\u0144\3\2\2\2\u0141"
+          + "\u0142\7\66\2\2\u0142\u0144\5\30\r\2\u0143\u012d\3\2\2\2\u0143\u0141\3"
+          + "\2\2\2\u0143\u0144\3\2\2\2\u0144\u0146\3\2\2\2\u0145\u012c\3\2\2\2\u0145"
+          + "\u0146\3\2\2\2\u0146\u015e\3\2\2\2\u0147\u0149\7\60\2\2\u0148\u014a\5"
+          + "\30\r\2\u0149\u0148\3\2\2\2\u0149\u014a\3\2\2\2\u014a\u0153\3\2\2\2\u014b"
+          + "\u014c\7\63\2\2\u014c\u014f\5\30\r\2\u014d\u014e\7\67\2\2\u014e\u0150"
+          + "\5^\60\2\u014f\u014d\3\2\2\2\u014f\u0150\3\2\2\2\u0150\u0152\3\2\2\2\u0151"
+          + "\u014b\3\2\2\2\u0152\u0155\3\2\2\2\u0153\u0151\3\2\2\2\u0153\u0154\3\2"
+          + "\2\2\u0154\u0159\3\2\2\2\u0155\u0153\3\2\2\2\u0156\u0157\7\63\2\2\u0157"
+          + "\u0158\7\66\2\2\u0158\u015a\5\30\r\2\u0159\u0156\3\2\2\2\u0159\u015a\3"
+          + "\2\2\2\u015a\u015e\3\2\2\2\u015b\u015c\7\66\2\2\u015c\u015e\5\30\r\2\u015d"
+          + "\u011c\3\2\2\2\u015d\u0147\3\2\2\2\u015d\u015b\3\2\2\2\u015e\27\3\2\2"
+          + "\2\u015f\u0160\7%\2\2\u0160\31\3\2\2\2\u0161\u0164\5\34\17\2\u0162\u0164"
+          + "\5L\'\2\u0163\u0161\3\2\2\2\u0163\u0162\3\2\2\2\u0164\33\3\2\2\2\u0165"
+          + "\u016a\5\36\20\2\u0166\u0167\7\65\2\2\u0167\u0169\5\36\20\2\u0168\u0166"
+          + "\3\2\2\2\u0169\u016c\3\2\2\2\u016a\u0168\3\2\2\2\u016a\u016b\3\2\2\2\u016b"
+          + "\u016e\3\2\2\2\u016c\u016a\3\2\2\2\u016d\u016f\7\65\2\2\u016e\u016d\3"
+          + "\2\2\2\u016e\u016f\3\2\2\2\u016f\u0170\3\2\2\2\u0170\u0171\7$\2\2\u0171"
+          + "\35\3\2\2\2\u0172\u017b\5 \21\2\u0173\u017b\5&\24\2\u0174\u017b\5(\25"
+          + "\2\u0175\u017b\5*\26\2\u0176\u017b\5\66\34\2\u0177\u017b\5F$\2\u0178\u017b"
+          + "\5H%\2\u0179\u017b\5J&\2\u017a\u0172\3\2\2\2\u017a\u0173\3\2\2\2\u017a"
+          + "\u0174\3\2\2\2\u017a\u0175\3\2\2\2\u017a\u0176\3\2\2\2\u017a\u0177\3\2"
+          + "\2\2\u017a\u0178\3\2\2\2\u017a\u0179\3\2\2\2\u017b\37\3\2\2\2\u017c\u018c"
+          + "\5\"\22\2\u017d\u0180\5$\23\2\u017e\u0181\5\u008cG\2\u017f\u0181\5|?\2"
+          + "\u0180\u017e\3\2\2\2\u0180\u017f\3\2\2\2\u0181\u018d\3\2\2\2\u0182\u0185"
+          + "\7\67\2\2\u0183\u0186\5\u008cG\2\u0184\u0186\5\"\22\2\u0185\u0183\3\2"
+          + "\2\2\u0185\u0184\3\2\2\2\u0186\u0188\3\2\2\2\u0187\u0182\3\2\2\2\u0188"
+          + "\u018b\3\2\2\2\u0189\u0187\3\2\2\2\u0189\u018a\3\2\2\2\u018a\u018d\3\2"
+          + "\2\2\u018b\u0189\3\2\2\2\u018c\u017d\3\2\2\2\u018c\u0189\3\2\2\2\u018d"
+          + "!\3\2\2\2\u018e\u0191\5^\60\2\u018f\u0191\5j\66\2\u0190\u018e\3\2\2\2"
+          + "\u0190\u018f\3\2\2\2\u0191\u0199\3\2\2\2\u0192\u0195\7\63\2\2\u0193\u0196"
+          + "\5^\60\2\u0194\u0196\5j\66\2\u0195\u0193\3\2\2\2\u0195\u0194\3\2\2\2\u0196"
+          + "\u0198\3\2\2\2\u0197\u0192\3\2\2\2\u0198\u019b\3\2\2\2\u0199\u0197\3\2"
+          + "\2\2\u0199\u019a\3\2\2\2\u019a\u019d\3\2\2\2\u019b\u0199\3\2\2\2\u019c"
+          + "\u019e\7\63\2\2\u019d\u019c\3\2\2\2\u019d\u019e\3\2\2\2\u019e#\3\2\2\2"
+          + "\u019f\u01a0\t\2\2\2\u01a0%\3\2\2\2\u01a1\u01a2\7 \2\2\u01a2\u01a3\5z"
+          + ">\2\u01a3\'\3\2\2\2\u01a4\u01a5\7!\2\2\u01a5)\3\2\2\2\u01a6\u01ac\5,\27"
+          + "\2\u01a7\u01ac\5.\30\2\u01a8\u01ac\5\60\31\2\u01a9\u01ac\5\64\33\2\u01aa"
+          + "\u01ac\5\62\32\2\u01ab\u01a6\3\2\2\2\u01ab\u01a7\3\2\2\2\u01ab\u01a8\3"
+          + "\2\2\2\u01ab\u01a9\3\2\2\2\u01ab\u01aa\3\2\2\2\u01ac+\3\2\2\2\u01ad\u01ae"
+          + "\7#\2\2\u01ae-\3\2\2\2\u01af\u01b0\7\"\2\2\u01b0/\3\2\2\2\u01b1\u01b3"
+          + "\7\4\2\2\u01b2\u01b4\5|?\2\u01b3\u01b2\3\2\2\2\u01b3\u01b4\3\2\2\2\u01b4"
+          + "\61\3\2\2\2\u01b5\u01b6\5\u008cG\2\u01b6\63\3\2\2\2\u01b7\u01bd\7\5\2"
+          + "\2\u01b8\u01bb\5^\60\2\u01b9\u01ba\7\6\2\2\u01ba\u01bc\5^\60\2\u01bb\u01b9"
+          + "\3\2\2\2\u01bb\u01bc\3\2\2\2\u01bc\u01be\3\2\2\2\u01bd\u01b8\3\2\2\2\u01bd"
+          + "\u01be\3\2\2\2\u01be\65\3\2\2\2\u01bf\u01c2\58\35\2\u01c0\u01c2\5:\36"
+          + "\2\u01c1\u01bf\3\2\2\2\u01c1\u01c0\3\2\2\2\u01c2\67\3\2\2\2\u01c3\u01c4"
+          + "\7\7\2\2\u01c4\u01c5\5B\"\2\u01c59\3\2\2\2\u01c6\u01d3\7\6\2\2\u01c7\u01c9"
+          + "\t\3\2\2\u01c8\u01c7\3\2\2\2\u01c9\u01cc\3\2\2\2\u01ca\u01c8\3\2\2\2\u01ca"
+          + "\u01cb\3\2\2\2\u01cb\u01cd\3\2\2\2\u01cc\u01ca\3\2\2\2\u01cd\u01d4\5D"
+          + "#\2\u01ce\u01d0\t\3\2\2\u01cf\u01ce\3\2\2\2\u01d0\u01d1\3\2\2\2\u01d1"
+          + "\u01cf\3\2\2\2\u01d1\u01d2\3\2\2\2\u01d2\u01d4\3\2\2\2\u01d3\u01ca\3\2"
+          + "\2\2\u01d3\u01cf\3\2\2\2\u01d4\u01d5\3\2\2\2\u01d5\u01dc\7\7\2\2\u01d6"
+          + "\u01dd\7\60\2\2\u01d7\u01d8\7\61\2\2\u01d8\u01d9\5@!\2\u01d9\u01da\7\62"
+          + "\2\2\u01da\u01dd\3\2\2\2\u01db\u01dd\5@!\2\u01dc\u01d6\3\2\2\2\u01dc\u01d7"
+          + "\3\2\2\2\u01dc\u01db\3\2\2\2\u01dd;\3\2\2\2\u01de\u01e1\7%\2\2\u01df\u01e0"
+          + "\7\b\2\2\u01e0\u01e2\7%\2\2\u01e1\u01df\3\2\2\2\u01e1\u01e2\3\2\2\2\u01e2"
+          + "=\3\2\2\2\u01e3\u01e6\5D#\2\u01e4\u01e5\7\b\2\2\u01e5\u01e7\7%\2\2\u01e6"
+          + "\u01e4\3\2\2\2\u01e6\u01e7\3\2\2\2\u01e7?\3\2\2\2\u01e8\u01ed\5<\37\2"
+          + "\u01e9\u01ea\7\63\2\2\u01ea\u01ec\5<\37\2\u01eb\u01e9\3\2\2\2\u01ec\u01ef"
+          + "\3\2\2\2\u01ed\u01eb\3\2\2\2\u01ed\u01ee\3\2\2\2\u01ee\u01f1\3\2\2\2\u01ef"
+          + "\u01ed\3\2\2\2\u01f0\u01f2\7\63\2\2\u01f1\u01f0\3\2\2\2\u01f1\u01f2\3"
+          + "\2\2\2\u01f2A\3\2\2\2\u01f3\u01f8\5> \2\u01f4\u01f5\7\63\2\2\u01f5\u01f7"
+          + "\5> \2\u01f6\u01f4\3\2\2\2\u01f7\u01fa\3\2\2\2\u01f8\u01f6\3\2\2\2\u01f8"
+          + "\u01f9\3\2\2\2\u01f9C\3\2\2\2\u01fa\u01f8\3\2\2\2\u01fb\u0200\7%\2\2\u01fc"
+          + "\u01fd\7.\2\2\u01fd\u01ff\7%\2\2\u01fe\u01fc\3\2\2\2\u01ff\u0202\3\2\2"
+          + "\2\u0200\u01fe\3\2\2\2\u0200\u0201\3\2\2\2\u0201E\3\2\2\2\u0202\u0200"
+          + "\3\2\2\2\u0203\u0204\7\t\2\2\u0204\u0209\7%\2\2\u0205\u0206\7\63\2\2\u0206"
+          + "\u0208\7%\2\2\u0207\u0205\3\2\2\2\u0208\u020b\3\2\2\2\u0209\u0207\3\2"
+          + "\2\2\u0209\u020a\3\2\2\2\u020aG\3\2\2\2\u020b\u0209\3\2\2\2\u020c\u020d"
+          + "\7\n\2\2\u020d\u0212\7%\2\2\u020e\u020f\7\63\2\2\u020f\u0211\7%\2\2\u0210"
+          + "\u020e\3\2\2\2\u0211\u0214\3\2\2\2\u0212\u0210\3\2\2\2\u0212\u0213\3\2"
+          + "\2\2\u0213I\3\2\2\2\u0214\u0212\3\2\2\2\u0215\u0216\7\13\2\2\u0216\u0219"
+          + "\5^\60\2\u0217\u0218\7\63\2\2\u0218\u021a\5^\60\2\u0219\u0217\3\2\2\2"
+          + "\u0219\u021a\3\2\2\2\u021aK\3\2\2\2\u021b\u0224\5N(\2\u021c\u0224\5P)"
+          + "\2\u021d\u0224\5R*\2\u021e\u0224\5T+\2\u021f\u0224\5V,\2\u0220\u0224\5"
+          + "\16\b\2\u0221\u0224\5\u0080A\2\u0222\u0224\5\f\7\2\u0223\u021b\3\2\2\2"
+          + "\u0223\u021c\3\2\2\2\u0223\u021d\3\2\2\2\u0223\u021e\3\2\2\2\u0223\u021f"
+          + "\3\2\2\2\u0223\u0220\3\2\2\2\u0223\u0221\3\2\2\2\u0223\u0222\3\2\2\2\u0224"
+          + "M\3\2\2\2\u0225\u0226\7\f\2\2\u0226\u0227\5^\60\2\u0227\u0228\7\64\2\2"
+          + "\u0228\u0230\5\\/\2\u0229\u022a\7\r\2\2\u022a\u022b\5^\60\2\u022b\u022c"
+          + "\7\64\2\2\u022c\u022d\5\\/\2\u022d\u022f\3\2\2\2\u022e\u0229\3\2\2\2\u022f"
+          + "\u0232\3\2\2\2\u0230\u022e\3\2\2\2\u0230\u0231\3\2\2\2\u0231\u0236\3\2"
+          + "\2\2\u0232\u0230\3\2\2\2\u0233\u0234\7\16\2\2\u0234\u0235\7\64\2\2\u0235"
+          + "\u0237\5\\/\2\u0236\u0233\3\2\2\2\u0236\u0237\3\2\2\2\u0237O\3\2\2\2\u0238"
+          + "\u0239\7\17\2\2\u0239\u023a\5^\60\2\u023a\u023b\7\64\2\2\u023b\u023f\5"
+          + "\\/\2\u023c\u023d\7\16\2\2\u023d\u023e\7\64\2\2\u023e\u0240\5\\/\2\u023f"
+          + "\u023c\3\2\2\2\u023f\u0240\3\2\2\2\u0240Q\3\2\2\2\u0241\u0242\7\20\2\2"
+          + "\u0242\u0243\5z>\2\u0243\u0244\7\21\2\2\u0244\u0245\5|?\2\u0245\u0246"
+          + "\7\64\2\2\u0246\u024a\5\\/\2\u0247\u0248\7\16\2\2\u0248\u0249\7\64\2\2"
+          + "\u0249\u024b\5\\/\2\u024a\u0247\3\2\2\2\u024a\u024b\3\2\2\2\u024bS\3\2"
+          + "\2\2\u024c\u024d\7\22\2\2\u024d\u024e\7\64\2\2\u024e\u0264\5\\/\2\u024f"
+          + "\u0250\5Z.\2\u0250\u0251\7\64\2\2\u0251\u0252\5\\/\2\u0252\u0254\3\2\2"
+          + "\2\u0253\u024f\3\2\2\2\u0254\u0255\3\2\2\2\u0255\u0253\3\2\2\2\u0255\u0256"
+          + "\3\2\2\2\u0256\u025a\3\2\2\2\u0257\u0258\7\16\2\2\u0258\u0259\7\64\2\2"
+          + "\u0259\u025b\5\\/\2\u025a\u0257\3\2\2\2\u025a\u025b\3\2\2\2\u025b\u025f"
+          + "\3\2\2\2\u025c\u025d\7\23\2\2\u025d\u025e\7\64\2\2\u025e\u0260\5\\/\2"
+          + "\u025f\u025c\3\2\2\2\u025f\u0260\3\2\2\2\u0260\u0265\3\2\2\2\u0261\u0262"
+          + "\7\23\2\2\u0262\u0263\7\64\2\2\u0263\u0265\5\\/\2\u0264\u0253\3\2\2\2"
+          + "\u0264\u0261\3\2\2\2\u0265U\3\2\2\2\u0266\u0267\7\24\2\2\u0267\u026c\5"
+          + "X-\2\u0268\u0269\7\63\2\2\u0269\u026b\5X-\2\u026a\u0268\3\2\2\2\u026b"
+          + "\u026e\3\2\2\2\u026c\u026a\3\2\2\2\u026c\u026d\3\2\2\2\u026d\u026f\3\2"
+          + "\2\2\u026e\u026c\3\2\2\2\u026f\u0270\7\64\2\2\u0270\u0271\5\\/\2\u0271"
+          + "W\3\2\2\2\u0272\u0275\5^\60\2\u0273\u0274\7\b\2\2\u0274\u0276\5l\67\2"
+          + "\u0275\u0273\3\2\2\2\u0275\u0276\3\2\2\2\u0276Y\3\2\2\2\u0277\u027d\7"
+          + "\25\2\2\u0278\u027b\5^\60\2\u0279\u027a\7\b\2\2\u027a\u027c\7%\2\2\u027b"
+          + "\u0279\3\2\2\2\u027b\u027c\3\2\2\2\u027c\u027e\3\2\2\2\u027d\u0278\3\2"
+          + "\2\2\u027d\u027e\3\2\2\2\u027e[\3\2\2\2\u027f\u028a\5\34\17\2\u0280\u0281"
+          + "\7$\2\2\u0281\u0283\7_\2\2\u0282\u0284\5\32\16\2\u0283\u0282\3\2\2\2\u0284"
+          + "\u0285\3\2\2\2\u0285\u0283\3\2\2\2\u0285\u0286\3\2\2\2\u0286\u0287\3\2"
+          + "\2\2\u0287\u0288\7`\2\2\u0288\u028a\3\2\2\2\u0289\u027f\3\2\2\2\u0289"
+          + "\u0280\3\2\2\2\u028a]\3\2\2\2\u028b\u0291\5f\64\2\u028c\u028d\7\f\2\2"
+          + "\u028d\u028e\5f\64\2\u028e\u028f\7\16\2\2\u028f\u0290\5^\60\2\u0290\u0292"
+          + "\3\2\2\2\u0291\u028c\3\2\2\2\u0291\u0292\3\2\2\2\u0292\u0295\3\2\2\2\u0293"
+          + "\u0295\5b\62\2\u0294\u028b\3\2\2\2\u0294\u0293\3\2\2\2\u0295_\3\2\2\2"
+          + "\u0296\u0299\5f\64\2\u0297\u0299\5d\63\2\u0298\u0296\3\2\2\2\u0298\u0297"
+          + "\3\2\2\2\u0299a\3\2\2\2\u029a\u029c\7\26\2\2\u029b\u029d\5\26\f\2\u029c"
+          + "\u029b\3\2\2\2\u029c\u029d\3\2\2\2\u029d\u029e\3\2\2\2\u029e\u029f\7\64"
+          + "\2\2\u029f\u02a0\5^\60\2\u02a0c\3\2\2\2\u02a1\u02a3\7\26\2\2\u02a2\u02a4"
+          + "\5\26\f\2\u02a3\u02a2\3\2\2\2\u02a3\u02a4\3\2\2\2\u02a4\u02a5\3\2\2\2"
+          + "\u02a5\u02a6\7\64\2\2\u02a6\u02a7\5`\61\2\u02a7e\3\2\2\2\u02a8\u02a9\b"
+          + "\64\1\2\u02a9\u02aa\7\31\2\2\u02aa\u02ad\5f\64\5\u02ab\u02ad\5j\66\2\u02ac"
+          + "\u02a8\3\2\2\2\u02ac\u02ab\3\2\2\2\u02ad\u02ba\3\2\2\2\u02ae\u02af\f\6"
+          + "\2\2\u02af\u02b0\5h\65\2\u02b0\u02b1\5f\64\7\u02b1\u02b9\3\2\2\2\u02b2"
+          + "\u02b3\f\4\2\2\u02b3\u02b4\7\30\2\2\u02b4\u02b9\5f\64\5\u02b5\u02b6\f"
+          + "\3\2\2\u02b6\u02b7\7\27\2\2\u02b7\u02b9\5f\64\4\u02b8\u02ae\3\2\2\2\u02b8"
+          + "\u02b2\3\2\2\2\u02b8\u02b5\3\2\2\2\u02b9\u02bc\3\2\2\2\u02ba\u02b8\3\2"
+          + "\2\2\u02ba\u02bb\3\2\2\2\u02bbg\3\2\2\2\u02bc\u02ba\3\2\2\2\u02bd\u02cb"
+          + "\7G\2\2\u02be\u02cb\7H\2\2\u02bf\u02cb\7I\2\2\u02c0\u02cb\7J\2\2\u02c1"
+          + "\u02cb\7K\2\2\u02c2\u02cb\7L\2\2\u02c3\u02cb\7M\2\2\u02c4\u02cb\7\21\2"
+          + "\2\u02c5\u02c6\7\31\2\2\u02c6\u02cb\7\21\2\2\u02c7\u02c8\7\32\2\2\u02c8"
+          + "\u02cb\7\31\2\2\u02c9\u02cb\7\32\2\2\u02ca\u02bd\3\2\2\2\u02ca\u02be\3"
+          + "\2\2\2\u02ca\u02bf\3\2\2\2\u02ca\u02c0\3\2\2\2\u02ca\u02c1\3\2\2\2\u02ca"
+          + "\u02c2\3\2\2\2\u02ca\u02c3\3\2\2\2\u02ca\u02c4\3\2\2\2\u02ca\u02c5\3\2"
+          + "\2\2\u02ca\u02c7\3\2\2\2\u02ca\u02c9\3\2\2\2\u02cbi\3\2\2\2\u02cc\u02ce"
+          + "\7\60\2\2\u02cd\u02cc\3\2\2\2\u02cd\u02ce\3\2\2\2\u02ce\u02cf\3\2\2\2"
+          + "\u02cf\u02d0\5l\67\2\u02d0k\3\2\2\2\u02d1\u02d2\b\67\1\2\u02d2\u02d3\t"
+          + "\4\2\2\u02d3\u02dc\5l\67\t\u02d4\u02d8\5n8\2\u02d5\u02d7\5r:\2\u02d6\u02d5"
+          + "\3\2\2\2\u02d7\u02da\3\2\2\2\u02d8\u02d6\3\2\2\2\u02d8\u02d9\3\2\2\2\u02d9"
+          + "\u02dc\3\2\2\2\u02da\u02d8\3\2\2\2\u02db\u02d1\3\2\2\2\u02db\u02d4\3\2"
+          + "\2\2\u02dc\u02f4\3\2\2\2\u02dd\u02de\f\n\2\2\u02de\u02df\7\66\2\2\u02df"
+          + "\u02f3\5l\67\n\u02e0\u02e1\f\b\2\2\u02e1\u02e2\t\5\2\2\u02e2\u02f3\5l"
+          + "\67\t\u02e3\u02e4\f\7\2\2\u02e4\u02e5\t\6\2\2\u02e5\u02f3\5l\67\b\u02e6"
+          + "\u02e7\f\6\2\2\u02e7\u02e8\t\7\2\2\u02e8\u02f3\5l\67\7\u02e9\u02ea\f\5"
+          + "\2\2\u02ea\u02eb\7<\2\2\u02eb\u02f3\5l\67\6\u02ec\u02ed\f\4\2\2\u02ed"
+          + "\u02ee\7;\2\2\u02ee\u02f3\5l\67\5\u02ef\u02f0\f\3\2\2\u02f0\u02f1\7:\2"
+          + "\2\u02f1\u02f3\5l\67\4\u02f2\u02dd\3\2\2\2\u02f2\u02e0\3\2\2\2\u02f2\u02e3"
+          + "\3\2\2\2\u02f2\u02e6\3\2\2\2\u02f2\u02e9\3\2\2\2\u02f2\u02ec\3\2\2\2\u02f2"
+          + "\u02ef\3\2\2\2\u02f3\u02f6\3\2\2\2\u02f4\u02f2\3\2\2\2\u02f4\u02f5\3\2"
+          + "\2\2\u02f5m\3\2\2\2\u02f6\u02f4\3\2\2\2\u02f7\u02fa\7\61\2\2\u02f8\u02fb"
+          + "\5\u008cG\2\u02f9\u02fb\5p9\2\u02fa\u02f8\3\2\2\2\u02fa\u02f9\3\2\2\2"
+          + "\u02fa\u02fb\3\2\2\2\u02fb\u02fc\3\2\2\2\u02fc\u0313\7\62\2\2\u02fd\u02ff"
+          + "\78\2\2\u02fe\u0300\5p9\2\u02ff\u02fe\3\2\2\2\u02ff\u0300\3\2\2\2\u0300"
+          + "\u0301\3\2\2\2\u0301\u0313\79\2\2\u0302\u0304\7E\2\2\u0303\u0305\5~@\2"
+          + "\u0304\u0303\3\2\2\2\u0304\u0305\3\2\2\2\u0305\u0306\3\2\2\2\u0306\u0313"
+          + "\7F\2\2\u0307\u0313\7%\2\2\u0308\u0313\5\u0092J\2\u0309\u030b\5\u0090"
+          + "I\2\u030a\u0309\3\2\2\2\u030b\u030c\3\2\2\2\u030c\u030a\3\2\2\2\u030c"
+          + "\u030d\3\2\2\2\u030d\u0313\3\2\2\2\u030e\u0313\7/\2\2\u030f\u0313\7\33"
+          + "\2\2\u0310\u0313\7\34\2\2\u0311\u0313\7\35\2\2\u0312\u02f7\3\2\2\2\u0312"
+          + "\u02fd\3\2\2\2\u0312\u0302\3\2\2\2\u0312\u0307\3\2\2\2\u0312\u0308\3\2"
+          + "\2\2\u0312\u030a\3\2\2\2\u0312\u030e\3\2\2\2\u0312\u030f\3\2\2\2\u0312"
+          + "\u0310\3\2\2\2\u0312\u0311\3\2\2\2\u0313o\3\2\2\2\u0314\u0320\5^\60\2"
+          + "\u0315\u0321\5\u0088E\2\u0316\u0317\7\63\2\2\u0317\u0319\5^\60\2\u0318"
+          + "\u0316\3\2\2\2\u0319\u031c\3\2\2\2\u031a\u0318\3\2\2\2\u031a\u031b\3\2"
+          + "\2\2\u031b\u031e\3\2\2\2\u031c\u031a\3\2\2\2\u031d\u031f\7\63\2\2\u031e"
+          + "\u031d\3\2\2\2\u031e\u031f\3\2\2\2\u031f\u0321\3\2\2\2\u0320\u0315\3\2"
+          + "\2\2\u0320\u031a\3\2\2\2\u0321q\3\2\2\2\u0322\u0324\7\61\2\2\u0323\u0325"
+          + "\5\u0082B\2\u0324\u0323\3\2\2\2\u0324\u0325\3\2\2\2\u0325\u0326\3\2\2"
+          + "\2\u0326\u032e\7\62\2\2\u0327\u0328\78\2\2\u0328\u0329\5t;\2\u0329\u032a"
+          + "\79\2\2\u032a\u032e\3\2\2\2\u032b\u032c\7.\2\2\u032c\u032e\7%\2\2\u032d"
+          + "\u0322\3\2\2\2\u032d\u0327\3\2\2\2\u032d\u032b\3\2\2\2\u032es\3\2\2\2"
+          + "\u032f\u0334\5v<\2\u0330\u0331\7\63\2\2\u0331\u0333\5v<\2\u0332\u0330"
+          + "\3\2\2\2\u0333\u0336\3\2\2\2\u0334\u0332\3\2\2\2\u0334\u0335\3\2\2\2\u0335"
+          + "\u0338\3\2\2\2\u0336\u0334\3\2\2\2\u0337\u0339\7\63\2\2\u0338\u0337\3"
+          + "\2\2\2\u0338\u0339\3\2\2\2\u0339u\3\2\2\2\u033a\u0346\5^\60\2\u033b\u033d"
+          + "\5^\60\2\u033c\u033b\3\2\2\2\u033c\u033d\3\2\2\2\u033d\u033e\3\2\2\2\u033e"
+          + "\u0340\7\64\2\2\u033f\u0341\5^\60\2\u0340\u033f\3\2\2\2\u0340\u0341\3"
+          + "\2\2\2\u0341\u0343\3\2\2\2\u0342\u0344\5x=\2\u0343\u0342\3\2\2\2\u0343"
+          + "\u0344\3\2\2\2\u0344\u0346\3\2\2\2\u0345\u033a\3\2\2\2\u0345\u033c\3\2"
+          + "\2\2\u0346w\3\2\2\2\u0347\u0349\7\64\2\2\u0348\u034a\5^\60\2\u0349\u0348"
+          + "\3\2\2\2\u0349\u034a\3\2\2\2\u034ay\3\2\2\2\u034b\u0350\5j\66\2\u034c"
+          + "\u034d\7\63\2\2\u034d\u034f\5j\66\2\u034e\u034c\3\2\2\2\u034f\u0352\3"
+          + "\2\2\2\u0350\u034e\3\2\2\2\u0350\u0351\3\2\2\2\u0351\u0354\3\2\2\2\u0352"
+          + "\u0350\3\2\2\2\u0353\u0355\7\63\2\2\u0354\u0353\3\2\2\2\u0354\u0355\3"
+          + "\2\2\2\u0355{\3\2\2\2\u0356\u035b\5^\60\2\u0357\u0358\7\63\2\2\u0358\u035a"
+          + "\5^\60\2\u0359\u0357\3\2\2\2\u035a\u035d\3\2\2\2\u035b\u0359\3\2\2\2\u035b"
+          + "\u035c\3\2\2\2\u035c\u035f\3\2\2\2\u035d\u035b\3\2\2\2\u035e\u0360\7\63"
+          + "\2\2\u035f\u035e\3\2\2\2\u035f\u0360\3\2\2\2\u0360}\3\2\2\2\u0361\u0362"
+          + "\5^\60\2\u0362\u0363\7\64\2\2\u0363\u0372\5^\60\2\u0364\u0373\5\u0088"
+          + "E\2\u0365\u0366\7\63\2\2\u0366\u0367\5^\60\2\u0367\u0368\7\64\2\2\u0368"
+          + "\u0369\5^\60\2\u0369\u036b\3\2\2\2\u036a\u0365\3\2\2\2\u036b\u036e\3\2"
+          + "\2\2\u036c\u036a\3\2\2\2\u036c\u036d\3\2\2\2\u036d\u0370\3\2\2\2\u036e"
+          + "\u036c\3\2\2\2\u036f\u0371\7\63\2\2\u0370\u036f\3\2\2\2\u0370\u0371\3"
+          + "\2\2\2\u0371\u0373\3\2\2\2\u0372\u0364\3\2\2\2\u0372\u036c\3\2\2\2\u0373"
+          + "\u0383\3\2\2\2\u0374\u0380\5^\60\2\u0375\u0381\5\u0088E\2\u0376\u0377"
+          + "\7\63\2\2\u0377\u0379\5^\60\2\u0378\u0376\3\2\2\2\u0379\u037c\3\2\2\2"
+          + "\u037a\u0378\3\2\2\2\u037a\u037b\3\2\2\2\u037b\u037e\3\2\2\2\u037c\u037a"
+          + "\3\2\2\2\u037d\u037f\7\63\2\2\u037e\u037d\3\2\2\2\u037e\u037f\3\2\2\2"
+          + "\u037f\u0381\3\2\2\2\u0380\u0375\3\2\2\2\u0380\u037a\3\2\2\2\u0381\u0383"
+          + "\3\2\2\2\u0382\u0361\3\2\2\2\u0382\u0374\3\2\2\2\u0383\177\3\2\2\2\u0384"
+          + "\u0385\7\36\2\2\u0385\u038b\7%\2\2\u0386\u0388\7\61\2\2\u0387\u0389\5"
+          + "\u0082B\2\u0388\u0387\3\2\2\2\u0388\u0389\3\2\2\2\u0389\u038a\3\2\2\2"
+          + "\u038a\u038c\7\62\2\2\u038b\u0386\3\2\2\2\u038b\u038c\3\2\2\2\u038c\u038d"
+          + "\3\2\2\2\u038d\u038e\7\64\2\2\u038e\u038f\5\\/\2\u038f\u0081\3\2\2\2\u0390"
+          + "\u0391\5\u0084C\2\u0391\u0392\7\63\2\2\u0392\u0394\3\2\2\2\u0393\u0390"
+          + "\3\2\2\2\u0394\u0397\3\2\2\2\u0395\u0393\3\2\2\2\u0395\u0396\3\2\2\2\u0396"
+          + "\u03ac\3\2\2\2\u0397\u0395\3\2\2\2\u0398\u039a\5\u0084C\2\u0399\u039b"
+          + "\7\63\2\2\u039a\u0399\3\2\2\2\u039a\u039b\3\2\2\2\u039b\u03ad\3\2\2\2"
+          + "\u039c\u039d\7\60\2\2\u039d\u03a2\5^\60\2\u039e\u039f\7\63\2\2\u039f\u03a1"
+          + "\5\u0084C\2\u03a0\u039e\3\2\2\2\u03a1\u03a4\3\2\2\2\u03a2\u03a0\3\2\2"
+          + "\2\u03a2\u03a3\3\2\2\2\u03a3\u03a8\3\2\2\2\u03a4\u03a2\3\2\2\2\u03a5\u03a6"
+          + "\7\63\2\2\u03a6\u03a7\7\66\2\2\u03a7\u03a9\5^\60\2\u03a8\u03a5\3\2\2\2"
+          + "\u03a8\u03a9\3\2\2\2\u03a9\u03ad\3\2\2\2\u03aa\u03ab\7\66\2\2\u03ab\u03ad"
+          + "\5^\60\2\u03ac\u0398\3\2\2\2\u03ac\u039c\3\2\2\2\u03ac\u03aa\3\2\2\2\u03ad"
+          + "\u0083\3\2\2\2\u03ae\u03b0\5^\60\2\u03af\u03b1\5\u0088E\2\u03b0\u03af"
+          + "\3\2\2\2\u03b0\u03b1\3\2\2\2\u03b1\u03b7\3\2\2\2\u03b2\u03b3\5^\60\2\u03b3"
+          + "\u03b4\7\67\2\2\u03b4\u03b5\5^\60\2\u03b5\u03b7\3\2\2\2\u03b6\u03ae\3"
+          + "\2\2\2\u03b6\u03b2\3\2\2\2\u03b7\u0085\3\2\2\2\u03b8\u03bb\5\u0088E\2"
+          + "\u03b9\u03bb\5\u008aF\2\u03ba\u03b8\3\2\2\2\u03ba\u03b9\3\2\2\2\u03bb"
+          + "\u0087\3\2\2\2\u03bc\u03bd\7\20\2\2\u03bd\u03be\5z>\2\u03be\u03bf\7\21"
+          + "\2\2\u03bf\u03c1\5f\64\2\u03c0\u03c2\5\u0086D\2\u03c1\u03c0\3\2\2\2\u03c1"
+          + "\u03c2\3\2\2\2\u03c2\u0089\3\2\2\2\u03c3\u03c4\7\f\2\2\u03c4\u03c6\5`"
+          + "\61\2\u03c5\u03c7\5\u0086D\2\u03c6\u03c5\3\2\2\2\u03c6\u03c7\3\2\2\2\u03c7"
+          + "\u008b\3\2\2\2\u03c8\u03ca\7\37\2\2\u03c9\u03cb\5\u008eH\2\u03ca\u03c9"
+          + "\3\2\2\2\u03ca\u03cb\3\2\2\2\u03cb\u008d\3\2\2\2\u03cc\u03cd\7\6\2\2\u03cd"
+          + "\u03d0\5^\60\2\u03ce\u03d0\5|?\2\u03cf\u03cc\3\2\2\2\u03cf\u03ce\3\2\2"
+          + "\2\u03d0\u008f\3\2\2\2\u03d1\u03d2\t\b\2\2\u03d2\u0091\3\2\2\2\u03d3\u03d7"
+          + "\5\u0094K\2\u03d4\u03d7\7,\2\2\u03d5\u03d7\7-\2\2\u03d6\u03d3\3\2\2\2"
+          + "\u03d6\u03d4\3\2\2\2\u03d6\u03d5\3\2\2\2\u03d7\u0093\3\2\2\2\u03d8\u03d9"
+          + "\t\t\2\2\u03d9\u0095\3\2\2\2\u008f\u009b\u009f\u00a1\u00aa\u00b3\u00b6"
+          + "\u00bd\u00c2\u00c9\u00d0\u00d7\u00dd\u00e1\u00e7\u00ed\u00f1\u00f7\u00fb"
+          + "\u00fd\u0101\u0107\u010b\u0111\u0115\u011a\u011f\u0125\u0129\u012f\u0135"
+          + "\u0139\u013f\u0143\u0145\u0149\u014f\u0153\u0159\u015d\u0163\u016a\u016e"
+          + "\u017a\u0180\u0185\u0189\u018c\u0190\u0195\u0199\u019d\u01ab\u01b3\u01bb"
+          + "\u01bd\u01c1\u01ca\u01d1\u01d3\u01dc\u01e1\u01e6\u01ed\u01f1\u01f8\u0200"
+          + "\u0209\u0212\u0219\u0223\u0230\u0236\u023f\u024a\u0255\u025a\u025f\u0264"
+          + "\u026c\u0275\u027b\u027d\u0285\u0289\u0291\u0294\u0298\u029c\u02a3\u02ac"
+          + "\u02b8\u02ba\u02ca\u02cd\u02d8\u02db\u02f2\u02f4\u02fa\u02ff\u0304\u030c"
+          + "\u0312\u031a\u031e\u0320\u0324\u032d\u0334\u0338\u033c\u0340\u0343\u0345"
+          + "\u0349\u0350\u0354\u035b\u035f\u036c\u0370\u0372\u037a\u037e\u0380\u0382"
+          + "\u0388\u038b\u0395\u039a\u03a2\u03a8\u03ac\u03b0\u03b6\u03ba\u03c1\u03c6"
+          + "\u03ca\u03cf\u03d6";
   public static final ATN _ATN = new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 
   static {
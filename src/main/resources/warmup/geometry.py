@@ -0,0 +1,170 @@
+# Vectors, matrices and a few shapes, written without any dependencies.
+
+import math
+import operator
+from itertools import chain, combinations, product
+
+
+class Vector(tuple):
+
+    def __new__(cls, *components):
+        return super(Vector, cls).__new__(cls, components)
+
+    def __add__(self, other):
+        return Vector(*map(operator.add, self, other))
+
+    def __sub__(self, other):
+        return Vector(*(a - b for a, b in zip(self, other)))
+
+    def __mul__(self, scalar):
+        return Vector(*[c * scalar for c in self])
+
+    __rmul__ = __mul__
+
+    def __truediv__(self, scalar):
+        return self * (1.0 / scalar)
+
+    def __neg__(self):
+        return self * -1
+
+    def __matmul__(self, other):
+        return sum(a * b for a, b in zip(self, other))
+
+    def __abs__(self):
+        return math.sqrt(self @ self)
+
+    def normalized(self):
+        length = abs(self)
+        if length == 0:
+            raise ZeroDivisionError('cannot normalize the zero vector')
+        return self / length
+
+    def cross(self, other):
+        ax, ay, az = self
+        bx, by, bz = other
+        return Vector(ay * bz - az * by, az * bx - ax * bz, ax * by - ay * bx)
+
+    def __repr__(self):
+        return 'Vector(%s)' % ', '.join(map(repr, self))
+
+
+class Matrix:
+
+    def __init__(self, rows):
+        self.rows = [list(row) for row in rows]
+        widths = {len(row) for row in self.rows}
+        assert len(widths) <= 1, 'rows of different lengths'
+
+    @staticmethod
+    def identity(n):
+        return Matrix([[1 if i == j else 0 for j in range(n)] for i in range(n)])
+
+    @property
+    def shape(self):
+        return len(self.rows), len(self.rows[0]) if self.rows else 0
+
+    def transpose(self):
+        return Matrix(zip(*self.rows))
+
+    def __getitem__(self, index):
+        i, j = index
+        return self.rows[i][j]
+
+    def __matmul__(self, other):
+        if isinstance(other, Vector):
+            return Vector(*(Vector(*row) @ other for row in self.rows))
+        columns = list(zip(*other.rows))
+        return Matrix([[sum(a * b for a, b in zip(row, col)) for col in columns]
+                       for row in self.rows])
+
+    def determinant(self):
+        n, m = self.shape
+        if n != m:
+            raise ValueError('not a square matrix')
+        if n == 1:
+            return self.rows[0][0]
+        if n == 2:
+            (a, b), (c, d) = self.rows
+            return a * d - b * c
+        total = 0
+        for j in range(n):
+            minor = Matrix(row[:j] + row[j + 1:] for row in self.rows[1:])
+            total += (-1) ** j * self.rows[0][j] * minor.determinant()
+        return total
+
+    def __str__(self):
+        width = max(len(str(x)) for x in chain.from_iterable(self.rows))
+        return '\n'.join(' '.join(str(x).rjust(width) for x in row) for row in self.rows)
+
+
+def rotation(angle, axis='z'):
+    c, s = math.cos(angle), math.sin(angle)
+    if axis == 'x':
+        return Matrix([[1, 0, 0], [0, c, -s], [0, s, c]])
+    elif axis == 'y':
+        return Matrix([[c, 0, s], [0, 1, 0], [-s, 0, c]])
+    elif axis == 'z':
+        return Matrix([[c, -s, 0], [s, c, 0], [0, 0, 1]])
+    else:
+        raise ValueError("axis must be one of 'x', 'y' or 'z', not %r" % (axis,))
+
+
+class Polygon:
+    sides = None
+
+    def __init__(self, *points):
+        if self.sides is not None and len(points) != self.sides:
+            raise ValueError('expected {} points, got {}'.format(self.sides, len(points)))
+        self.points = [Vector(*p) for p in points]
+
+    def edges(self):
+        pts = self.points
+        return [(pts[i], pts[(i + 1) % len(pts)]) for i in range(len(pts))]
+
+    def perimeter(self):
+        return sum(abs(b - a) for a, b in self.edges())
+
+    def area(self):
+        # shoelace formula
+        twice = sum(a[0] * b[1] - b[0] * a[1] for a, b in self.edges())
+        return abs(twice) / 2.0
+
+    def centroid(self):
+        n = len(self.points)
+        return sum(self.points[1:], self.points[0]) / n
+
+    def diameter(self):
+        return max((abs(a - b) for a, b in combinations(self.points, 2)), default=0.0)
+
+
+class Triangle(Polygon):
+    sides = 3
+
+    def is_right(self, tolerance=1e-9):
+        a, b, c = sorted(abs(q - p) for p, q in self.edges())
+        return abs(a ** 2 + b ** 2 - c ** 2) < tolerance
+
+
+class Rectangle(Polygon):
+    sides = 4
+
+    @classmethod
+    def from_size(cls, width, height, origin=(0, 0)):
+        x, y = origin
+        return cls((x, y), (x + width, y), (x + width, y + height), (x, y + height))
+
+
+def grid(width, height, step=1):
+    return [Vector(x, y) for x, y in product(range(0, width, step), range(0, height, step))]
+
+
+def bounding_box(points):
+    xs, ys = zip(*points)
+    return Rectangle.from_size(max(xs) - min(xs), max(ys) - min(ys), (min(xs), min(ys)))
+
+
+CONSTANTS = {
+    'pi': math.pi, 'tau': 2 * math.pi, 'e': math.e,
+    'golden': (1 + 5 ** 0.5) / 2, 'tiny': 1e-12, 'huge': 1.5E+300,
+    'hex': 0xFF, 'oct': 0o755, 'bin': 0b1010, 'imag': 3.5j, 'long': 12345678901234567890,
+}
@@ -0,0 +1,167 @@
+"""A small inventory of items, kept in memory and persisted as JSON."""
+
+import json
+import os.path
+from collections import defaultdict, namedtuple
+from functools import total_ordering
+
+__all__ = ['Item', 'Inventory', 'InventoryError']
+
+Location = namedtuple('Location', 'shelf row')
+
+DEFAULT_PATH = os.path.join(os.path.expanduser('~'), '.inventory.json')
+
+
+class InventoryError(Exception):
+    """Raised for operations that would leave the inventory inconsistent."""
+
+    def __init__(self, message, item=None):
+        super().__init__(message)
+        self.item = item
+
+
+@total_ordering
+class Item(object):
+    __slots__ = ('name', 'price', 'quantity', 'tags', 'location')
+
+    def __init__(self, name: str, price: float, quantity: int = 0, *tags, location=None):
+        if price < 0:
+            raise InventoryError('negative price for %r' % name)
+        self.name = name
+        self.price = price
+        self.quantity = quantity
+        self.tags = frozenset(tags)
+        self.location = location
+
+    @property
+    def value(self) -> float:
+        return self.price * self.quantity
+
+    def __eq__(self, other):
+        if not isinstance(other, Item):
+            return NotImplemented
+        return (self.name, self.price) == (other.name, other.price)
+
+    def __lt__(self, other):
+        return (self.name, self.price) < (other.name, other.price)
+
+    def __hash__(self):
+        return hash((self.name, self.price))
+
+    def __repr__(self):
+        return '{}({!r}, {:.2f}, {})'.format(type(self).__name__, self.name, self.price,
+                                             self.quantity)
+
+
+class Inventory:
+
+    def __init__(self, items=(), **options):
+        self._items = {}
+        self._by_tag = defaultdict(set)
+        self.strict = options.pop('strict', False)
+        if options:
+            raise TypeError('unexpected options: ' + ', '.join(sorted(options)))
+        for item in items:
+            self.add(item)
+
+    def __len__(self):
+        return len(self._items)
+
+    def __iter__(self):
+        yield from sorted(self._items.values())
+
+    def __contains__(self, name):
+        return name in self._items
+
+    def __getitem__(self, name):
+        try:
+            return self._items[name]
+        except KeyError:
+            raise InventoryError('no such item: ' + name) from None
+
+    def add(self, item):
+        if item.name in self._items and self.strict:
+            raise InventoryError('duplicate item', item)
+        self._items[item.name] = item
+        for tag in item.tags:
+            self._by_tag[tag].add(item.name)
+        return self
+
+    def remove(self, name, quantity=None):
+        item = self[name]
+        if quantity is None or quantity >= item.quantity:
+            del self._items[name]
+            for tag in item.tags:
+                self._by_tag[tag].discard(name)
+                if not self._by_tag[tag]:
+                    del self._by_tag[tag]
+        else:
+            item.quantity -= quantity
+        return item
+
+    def tagged(self, *tags, match_all=True):
+        sets = [self._by_tag.get(tag, set()) for tag in tags]
+        if not sets:
+            return []
+        names = set.intersection(*sets) if match_all else set.union(*sets)
+        return [self._items[name] for name in sorted(names)]
+
+    def total_value(self):
+        return sum(item.value for item in self._items.values())
+
+    def cheapest(self, n=1):
+        return sorted(self._items.values(), key=lambda item: (item.price, item.name))[:n]
+
+    def restock(self, threshold=5, amount=10):
+        restocked = {}
+        for name, item in self._items.items():
+            if item.quantity < threshold:
+                item.quantity += amount
+                restocked[name] = item.quantity
+        return restocked
+
+    def by_shelf(self):
+        shelves = {}
+        for item in self:
+            if item.location is not None:
+                shelves.setdefault(item.location.shelf, []).append(item)
+        return {shelf: [i.name for i in items] for shelf, items in shelves.items()}
+
+    def save(self, path=DEFAULT_PATH):
+        data = [{'name': i.name, 'price': i.price, 'quantity': i.quantity,
+                 'tags': sorted(i.tags),
+                 'location': list(i.location) if i.location else None}
+                for i in self]
+        with open(path, 'w') as f:
+            json.dump(data, f, indent=2, sort_keys=True)
+
+    @classmethod
+    def load(cls, path=DEFAULT_PATH, **options):
+        if not os.path.exists(path):
+            return cls(**options)
+        with open(path) as f:
+            data = json.load(f)
+        items = []
+        for entry in data:
+            location = entry.get('location')
+            items.append(Item(entry['name'], entry['price'], entry.get('quantity', 0),
+                              *entry.get('tags', ()),
+                              location=Location(*location) if location else None))
+        return cls(items, **options)
+
+
+def report(inventory, out=None):
+    lines = ['%-20s %8s %5s' % ('name', 'price', 'qty')]
+    lines += ['%-20s %8.2f %5d' % (i.name, i.price, i.quantity) for i in inventory]
+    lines.append('-' * 35)
+    lines.append('%-20s %8.2f' % ('total', inventory.total_value()))
+    text = '\n'.join(lines)
+    if out is not None:
+        print(text, file=out)
+    return text
+
+
+if __name__ == '__main__':
+    import sys
+    inv = Inventory.load(sys.argv[1] if len(sys.argv) > 1 else DEFAULT_PATH)
+    report(inv, sys.stdout)
@@ -0,0 +1,168 @@
+#!/usr/bin/env python3
+# -*- coding: utf-8 -*-
+"""
+Helpers for working with text: wrapping, tokenizing, templating and
+some escaping.  The module is deliberately written in several styles.
+"""
+
+import re
+import string
+import unicodedata
+
+WORD = re.compile(r"[\w'-]+", re.UNICODE)
+SENTENCE_END = re.compile(r'(?<=[.!?])\s+')
+ESCAPES = {'&': '&amp;', '<': '&lt;', '>': '&gt;', '"': '&quot;', "'": '&#39;'}
+
+RAW_BYTES = br'\x00\xff'
+BYTES = b'plain bytes'
+RAW = R'C:\path\to\file'
+UNICODE = u'caf\u00e9'
+MULTILINE = '''first line
+second line with a 'quote'
+'''
+DOC = """Another \"\"\" block
+that spans
+lines."""
+CONCATENATED = ('part one, '
+                "part two, "
+                'part three')
+
+
+def words(text):
+    return WORD.findall(text.lower())
+
+
+def sentences(text):
+    return [s.strip() for s in SENTENCE_END.split(text) if s.strip()]
+
+
+def wrap(text, width=72, indent='', first_indent=None):
+    if first_indent is None:
+        first_indent = indent
+    lines, line = [], first_indent
+    for word in text.split():
+        candidate = line + (' ' if line.strip() else '') + word
+        if len(candidate) > width and line.strip():
+            lines.append(line)
+            line = indent + word
+        else:
+            line = candidate
+    if line.strip():
+        lines.append(line)
+    return '\n'.join(lines)
+
+
+def strip_accents(text):
+    return ''.join(c for c in unicodedata.normalize('NFD', text)
+                   if unicodedata.category(c) != 'Mn')
+
+
+def slugify(text, separator='-'):
+    text = strip_accents(text).lower()
+    text = re.sub(r'[^a-z0-9]+', separator, text)
+    return text.strip(separator)
+
+
+def escape_html(text):
+    return ''.join(ESCAPES.get(c, c) for c in text)
+
+
+def frequencies(text, top=None):
+    counts = {}
+    for word in words(text):
+        counts[word] = counts.get(word, 0) + 1
+    ranked = sorted(counts.items(), key=lambda kv: (-kv[1], kv[0]))
+    return ranked if top is None else ranked[:top]
+
+
+class Template(string.Template):
+    delimiter = '%'
+    idpattern = r'[a-z][_a-z0-9]*'
+
+    def render(self, context=None, **kwargs):
+        values = dict(context or {}, **kwargs)
+        return self.safe_substitute(values)
+
+
+def tokenize(source):
+    """Splits arithmetic expressions into numbers, names and operators."""
+    pos = 0
+    spec = [
+        ('NUMBER', r'\d+(?:\.\d*)?'),
+        ('NAME', r'[A-Za-z_]\w*'),
+        ('OP', r'[-+*/%()^=<>!]=?'),
+        ('SKIP', r'[ \t]+'),
+        ('MISMATCH', r'.'),
+    ]
+    pattern = re.compile('|'.join('(?P<%s>%s)' % pair for pair in spec))
+    while pos < len(source):
+        match = pattern.match(source, pos)
+        kind, value = match.lastgroup, match.group()
+        pos = match.end()
+        if kind == 'SKIP':
+            continue
+        elif kind == 'MISMATCH':
+            raise SyntaxError('unexpected %r at %d' % (value, pos - 1))
+        yield kind, float(value) if kind == 'NUMBER' else value
+
+
+def evaluate(source, variables=None):
+    variables = variables or {}
+    tokens = list(tokenize(source))
+    index = 0
+
+    def peek():
+        return tokens[index][1] if index < len(tokens) else None
+
+    def advance():
+        nonlocal index
+        index += 1
+        return tokens[index - 1]
+
+    def atom():
+        kind, value = advance()
+        if value == '(':
+            result = expression()
+            advance()
+            return result
+        if value == '-':
+            return -atom()
+        if kind == 'NAME':
+            return variables[value]
+        return value
+
+    def power():
+        base = atom()
+        while peek() == '^':
+            advance()
+            base = base ** atom()
+        return base
+
+    def term():
+        result = power()
+        while peek() in ('*', '/', '%'):
+            op = advance()[1]
+            rhs = power()
+            result = result * rhs if op == '*' else result / rhs if op == '/' else result % rhs
+        return result
+
+    def expression():
+        result = term()
+        while peek() in ('+', '-'):
+            op = advance()[1]
+            result = result + term() if op == '+' else result - term()
+        return result
+
+    return expression()
+
+
+def columns(rows, sep=' | '):
+    rows = [[str(cell) for cell in row] for row in rows]
+    widths = [max(map(len, col)) for col in zip(*rows)]
+    return '\n'.join(sep.join(cell.ljust(w) for cell, w in zip(row, widths)) for row in rows)
+
+
+if __name__ == "__main__":
+    print(wrap(__doc__, 40, '  '))
+    print(evaluate('2 ^ 3 * (x + 1) - 4 / 2', {'x': 1.5}))
+    print(columns([('word', 'count')] + frequencies(__doc__, 5)))
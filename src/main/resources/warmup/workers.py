@@ -0,0 +1,199 @@
+import contextlib
+import logging
+import queue
+import threading
+import time
+
+log = logging.getLogger(__name__)
+
+_sentinel = object()
+
+
+class Cancelled(Exception):
+    pass
+
+
+class Future:
+
+    def __init__(self):
+        self._done = threading.Event()
+        self._result = self._error = None
+        self._callbacks = []
+        self._lock = threading.Lock()
+
+    def set_result(self, result):
+        with self._lock:
+            self._result = result
+            self._done.set()
+            callbacks, self._callbacks = self._callbacks, []
+        for callback in callbacks:
+            callback(self)
+
+    def set_exception(self, error):
+        with self._lock:
+            self._error = error
+            self._done.set()
+            callbacks, self._callbacks = self._callbacks, []
+        for callback in callbacks:
+            callback(self)
+
+    def add_done_callback(self, callback):
+        with self._lock:
+            if not self._done.is_set():
+                self._callbacks.append(callback)
+                return
+        callback(self)
+
+    def result(self, timeout=None):
+        if not self._done.wait(timeout):
+            raise TimeoutError('no result after %s seconds' % timeout)
+        if self._error is not None:
+            raise self._error
+        return self._result
+
+
+class Pool:
+
+    def __init__(self, workers=4, name='worker'):
+        self._tasks = queue.Queue()
+        self._threads = []
+        self._closed = False
+        for i in range(workers):
+            thread = threading.Thread(target=self._run, name='%s-%d' % (name, i), daemon=True)
+            thread.start()
+            self._threads.append(thread)
+
+    def _run(self):
+        while True:
+            task = self._tasks.get()
+            try:
+                if task is _sentinel:
+                    return
+                future, fn, args, kwargs = task
+                try:
+                    result = fn(*args, **kwargs)
+                except BaseException as e:
+                    log.debug('task %r failed', fn, exc_info=True)
+                    future.set_exception(e)
+                else:
+                    future.set_result(result)
+            finally:
+                self._tasks.task_done()
+
+    def submit(self, fn, *args, **kwargs):
+        if self._closed:
+            raise RuntimeError('pool is closed')
+        future = Future()
+        self._tasks.put((future, fn, args, kwargs))
+        return future
+
+    def map(self, fn, *iterables, timeout=None):
+        futures = [self.submit(fn, *args) for args in zip(*iterables)]
+        deadline = None if timeout is None else time.monotonic() + timeout
+        for future in futures:
+            remaining = None if deadline is None else max(0, deadline - time.monotonic())
+            yield future.result(remaining)
+
+    def close(self, wait=True):
+        if self._closed:
+            return
+        self._closed = True
+        for _ in self._threads:
+            self._tasks.put(_sentinel)
+        if wait:
+            for thread in self._threads:
+                thread.join()
+
+    def __enter__(self):
+        return self
+
+    def __exit__(self, *exc_info):
+        self.close()
+        return False
+
+
+@contextlib.contextmanager
+def timed(label, sink=print):
+    start = time.perf_counter()
+    try:
+        yield
+    finally:
+        elapsed = time.perf_counter() - start
+        sink('%s took %.3f ms' % (label, elapsed * 1000))
+
+
+def retry(times=3, delay=0.1, exceptions=(Exception,)):
+    def decorate(fn):
+        def wrapper(*args, **kwargs):
+            last = None
+            for attempt in range(1, times + 1):
+                try:
+                    return fn(*args, **kwargs)
+                except exceptions as e:
+                    last = e
+                    log.warning('attempt %d of %d failed: %s', attempt, times, e)
+                    time.sleep(delay * 2 ** (attempt - 1))
+            raise last
+        wrapper.__name__ = fn.__name__
+        wrapper.__doc__ = fn.__doc__
+        return wrapper
+    return decorate
+
+
+class RateLimiter:
+    """Allows at most `rate` calls per `period` seconds."""
+
+    def __init__(self, rate, period=1.0):
+        self.rate, self.period = rate, period
+        self._allowance = float(rate)
+        self._last = time.monotonic()
+        self._lock = threading.Lock()
+
+    def acquire(self, blocking=True):
+        while True:
+            with self._lock:
+                now = time.monotonic()
+                self._allowance = min(self.rate,
+                                      self._allowance + (now - self._last) * self.rate / self.period)
+                self._last = now
+                if self._allowance >= 1:
+                    self._allowance -= 1
+                    return True
+                wait = (1 - self._allowance) * self.period / self.rate
+            if not blocking:
+                return False
+            time.sleep(wait)
+
+
+def chunks(iterable, size):
+    chunk = []
+    for element in iterable:
+        chunk.append(element)
+        if len(chunk) == size:
+            yield chunk
+            chunk = []
+    if chunk:
+        yield chunk
+
+
+def main():
+    global log
+    logging.basicConfig(level=logging.INFO)
+    with Pool(8) as pool, timed('squares'):
+        squares = list(pool.map(lambda x: x * x, range(1000)))
+    assert squares[-1] == 999 ** 2, squares[-1]
+    limiter = RateLimiter(100)
+    for batch in chunks(range(10), 3):
+        limiter.acquire()
+        log.info('batch %s', batch)
+    del limiter
+    try:
+        pool.submit(print, 'too late')
+    except RuntimeError as e:
+        log.info('expected: %s', e)
+    finally:
+        pass
+
+
+if __name__ == '__main__':
+    main()
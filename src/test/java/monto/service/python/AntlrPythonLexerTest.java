@@ -0,0 +1,69 @@
+package monto.service.python;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+import monto.service.python.antlr.Python3Parser;
+import org.antlr.v4.runtime.Token;
+import org.junit.Test;
+
+/**
+ * Compares the tokens of the generated lexer with the ones it produced for the corpus before it
+ * handled NEWLINE, INDENT and DEDENT without allocating. The files under {@code /tokens} hold those
+ * tokens, one per line, with their type, their first and last character and their line and column.
+ */
+public class AntlrPythonLexerTest {
+
+  @Test
+  public void producesTheTokensOfTheAllocatingLexer() throws Exception {
+    for (Map.Entry<String, String> file : Corpus.files().entrySet()) {
+      assertEquals(
+          file.getKey(),
+          Corpus.read("/tokens/" + file.getKey() + ".tokens"),
+          tokens(new AntlrPythonLexer(), file.getValue()));
+    }
+  }
+
+  @Test
+  public void resetsTheIndentationForTheNextInput() throws Exception {
+    AntlrPythonLexer lexer = new AntlrPythonLexer();
+    String indented = Corpus.read("/corpus/indentation.py");
+    tokens(lexer, Corpus.read("/corpus/no_trailing_newline.py"));
+    assertEquals(Corpus.read("/tokens/indentation.tokens"), tokens(lexer, indented));
+  }
+
+  /** Lexes {@code contents} with {@code lexer} and lists the tokens like the files do. */
+  static String tokens(PythonTokenSource lexer, String contents) {
+    return tokens(lexer, contents, true);
+  }
+
+  /**
+   * Lists the tokens of {@code contents} like {@link #tokens(PythonTokenSource, String)}, but
+   * continues from the current state of {@code lexer} unless {@code reset} is true.
+   */
+  static String tokens(PythonTokenSource lexer, String contents, boolean reset) {
+    if (reset) {
+      lexer.setInputStream(new CharSequenceStream(contents));
+    }
+    StringBuilder tokens = new StringBuilder();
+    Token token;
+    do {
+      token = lexer.nextToken();
+      tokens
+          .append(
+              token.getType() == Token.EOF
+                  ? "EOF"
+                  : Python3Parser.VOCABULARY.getSymbolicName(token.getType()))
+          .append(' ')
+          .append(token.getStartIndex())
+          .append(' ')
+          .append(token.getStopIndex())
+          .append(' ')
+          .append(token.getLine())
+          .append(':')
+          .append(token.getCharPositionInLine())
+          .append('\n');
+    } while (token.getType() != Token.EOF);
+    return tokens.toString();
+  }
+}
@@ -0,0 +1,136 @@
+package monto.service.python;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+import monto.service.ast.AST;
+import monto.service.ast.NonTerminal;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Compares the ASTs the builder builds while parsing with the ones it builds by walking a parse
+ * tree, together with the token ranges of their top-level statements.
+ */
+public class AstBuilderTest {
+
+  @After
+  public void buildFromParseTrees() {
+    Recognizers.buildAstWhileParsing(false);
+    Recognizers.useLegacyExpressions(false);
+  }
+
+  @Test
+  public void buildsTheSameAstWhileParsing() throws Exception {
+    for (boolean compact : new boolean[] {false, true}) {
+      for (Map.Entry<String, String> file : Corpus.files().entrySet()) {
+        String message = file.getKey() + (compact ? " (compact)" : "");
+        Recognizers.buildAstWhileParsing(false);
+        String walked = build(file.getValue(), compact, false);
+        Recognizers.buildAstWhileParsing(true);
+        assertEquals(message, walked, build(file.getValue(), compact, false));
+      }
+    }
+  }
+
+  @Test
+  public void buildsTheSameAstOfValidFilesWhileParsing() throws Exception {
+    for (Map.Entry<String, String> file : Corpus.files().entrySet()) {
+      Recognizers.buildAstWhileParsing(false);
+      String walked = build(file.getValue(), false, true);
+      Recognizers.buildAstWhileParsing(true);
+      assertEquals(file.getKey(), walked, build(file.getValue(), false, true));
+    }
+  }
+
+  @Test
+  public void buildsTheSameAstAfterErrorRecoveryGaveUp() throws Exception {
+    String contents = Corpus.read("/corpus/syntax_errors.py");
+    Recognizers.limitErrorRecovery(1, 1);
+    try {
+      Recognizers.buildAstWhileParsing(false);
+      // The token ranges are only kept for files without syntax errors.
+      String walked = build(contents, false, false);
+      Recognizers.buildAstWhileParsing(true);
+      String built = build(contents, false, false);
+      assertEquals(
+          walked.substring(0, walked.indexOf('\n')), built.substring(0, built.indexOf('\n')));
+    } finally {
+      Recognizers.limitErrorRecovery(Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+  }
+
+  /**
+   * Compares the legacy shape of expressions with the ASTs the parser of the grammar before its
+   * expression rules were made left-recursive gave, under {@code /ast}, which exist for the files
+   * that grammar accepted.
+   */
+  @Test
+  public void buildsExpressionsInTheLegacyShape() throws Exception {
+    Recognizers.useLegacyExpressions(true);
+    for (boolean compact : new boolean[] {false, true}) {
+      for (Map.Entry<String, String> file : Corpus.files().entrySet()) {
+        String expected = file.getKey() + (compact ? ".compact.ast" : ".ast");
+        if (AstBuilderTest.class.getResource("/ast/" + expected) == null) {
+          continue;
+        }
+        String legacy = Corpus.read("/ast/" + expected).trim();
+        for (boolean directly : new boolean[] {false, true}) {
+          Recognizers.buildAstWhileParsing(directly);
+          String built = build(file.getValue(), compact, true);
+          assertEquals(expected, legacy, built.substring(0, built.indexOf('\n')));
+        }
+      }
+    }
+  }
+
+  /**
+   * Builds the AST of {@code contents} on a thread of its own, whose recognizers take over the
+   * current settings, and describes it together with the token range of each top-level node, or
+   * returns "invalid" if {@code valid} is true and it contains syntax errors.
+   */
+  private static String build(String contents, boolean compact, boolean valid) throws Exception {
+    String[] description = new String[1];
+    Thread thread =
+        new Thread(
+            () -> {
+              Recognizers recognizers = Recognizers.get();
+              try {
+                CharSequenceStream input = new CharSequenceStream(contents);
+                AstBuilder ast =
+                    valid
+                        ? recognizers.buildValidFile(recognizers.lexer(input), compact)
+                        : recognizers.buildFile(recognizers.lexer(input), compact);
+                if (ast == null) {
+                  description[0] = "invalid";
+                  return;
+                }
+                StringBuilder text = new StringBuilder();
+                describe(ast.getRoot(), text);
+                for (int i = 0; i < ast.getChildCount(); i++) {
+                  text.append('\n').append(ast.getFirstToken(i)).append('-');
+                  text.append(ast.getLastToken(i));
+                }
+                description[0] = text.toString();
+              } finally {
+                recognizers.release();
+              }
+            });
+    thread.start();
+    thread.join();
+    return description[0];
+  }
+
+  private static void describe(AST node, StringBuilder text) {
+    if (!(node instanceof NonTerminal)) {
+      text.append(node.getStartOffset()).append('+').append(node.getLength());
+      return;
+    }
+    text.append('(').append(((NonTerminal) node).getName());
+    for (AST child : ((NonTerminal) node).getChildren()) {
+      text.append(' ');
+      describe(child, text);
+    }
+    text.append(')');
+  }
+}
@@ -0,0 +1,51 @@
+package monto.service.python;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Scanner;
+
+/**
+ * The Python files the tests run over: the warm-up corpus, which is valid code, and hand-written
+ * files under {@code /corpus} for the corner cases of indentation, strings, expressions and syntax
+ * errors.
+ */
+final class Corpus {
+
+  private static final String[] FILES = {
+    "/warmup/inventory.py",
+    "/warmup/geometry.py",
+    "/warmup/textutil.py",
+    "/warmup/workers.py",
+    "/corpus/indentation.py",
+    "/corpus/leading_indent.py",
+    "/corpus/no_trailing_newline.py",
+    "/corpus/crlf.py",
+    "/corpus/strings.py",
+    "/corpus/expressions.py",
+    "/corpus/syntax_errors.py",
+  };
+
+  private Corpus() {}
+
+  /** Returns the contents of every file by its name without the extension. */
+  static Map<String, String> files() throws IOException {
+    Map<String, String> files = new LinkedHashMap<>();
+    for (String file : FILES) {
+      String name = file.substring(file.lastIndexOf('/') + 1, file.lastIndexOf('.'));
+      files.put(name, read(file));
+    }
+    return files;
+  }
+
+  static String read(String resource) throws IOException {
+    InputStream in = Corpus.class.getResourceAsStream(resource);
+    if (in == null) {
+      throw new IOException("missing test file " + resource);
+    }
+    try (Scanner scanner = new Scanner(in, "UTF-8")) {
+      return scanner.useDelimiter("\\A").hasNext() ? scanner.next() : "";
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package monto.service.python;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import monto.service.python.antlr.Python3Lexer;
+import org.antlr.v4.runtime.Token;
+import org.junit.Test;
+
+/** Compares the tokens of the hand-written lexer with the ones of the generated lexer. */
+public class FastPythonLexerTest {
+
+  // The characters random inputs are made of, weighted towards the ones that change the state of
+  // the lexer: line breaks, indentation, brackets, quotes, prefixes and escapes.
+  private static final String ALPHABET =
+      "\n\n\n\r    \t\t\\#'''\"\"\"(())[]{}:;,.=+-*/%<>!&|^~@ rRbBuU0xo9e_jJ aefz\u00e9\u540d\f";
+
+  @Test
+  public void lexesTheCorpusLikeTheGeneratedLexer() throws Exception {
+    for (Map.Entry<String, String> file : Corpus.files().entrySet()) {
+      assertEquals(
+          file.getKey(),
+          AntlrPythonLexerTest.tokens(new AntlrPythonLexer(), file.getValue()),
+          AntlrPythonLexerTest.tokens(new FastPythonLexer(), file.getValue()));
+    }
+  }
+
+  @Test
+  public void lexesRandomInputLikeTheGeneratedLexer() {
+    Random random = new Random(42);
+    AntlrPythonLexer antlr = new AntlrPythonLexer();
+    FastPythonLexer fast = new FastPythonLexer();
+    for (int i = 0; i < 20000; i++) {
+      StringBuilder input = new StringBuilder();
+      int length = random.nextInt(40);
+      for (int j = 0; j < length; j++) {
+        input.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+      }
+      String contents = input.toString();
+      assertEquals(
+          contents,
+          AntlrPythonLexerTest.tokens(antlr, contents),
+          AntlrPythonLexerTest.tokens(fast, contents));
+    }
+  }
+
+  @Test
+  public void resumesFromTheStatesOfTheGeneratedLexer() throws Exception {
+    for (Map.Entry<String, String> file : Corpus.files().entrySet()) {
+      String contents = file.getValue();
+      List<Python3Lexer.State> states = new ArrayList<>();
+      List<Integer> tokenCounts = new ArrayList<>();
+      List<String> tokens = lines(AntlrPythonLexerTest.tokens(new AntlrPythonLexer(), contents));
+
+      // Record the state of the generated lexer at the start of every line, like the checkpoints
+      // of IncrementalLexer.
+      AntlrPythonLexer antlr = new AntlrPythonLexer();
+      antlr.setInputStream(new CharSequenceStream(contents));
+      int line = -1;
+      int count = 0;
+      Token token;
+      do {
+        if (antlr.getLine() > line) {
+          line = antlr.getLine();
+          states.add(antlr.saveState());
+          tokenCounts.add(count);
+        }
+        token = antlr.nextToken();
+        count++;
+      } while (token.getType() != Token.EOF);
+
+      for (int i = 0; i < states.size(); i++) {
+        FastPythonLexer fast = new FastPythonLexer();
+        fast.setInputStream(new CharSequenceStream(contents));
+        fast.restoreState(states.get(i));
+        String rest = AntlrPythonLexerTest.tokens(fast, contents, false);
+        assertEquals(
+            file.getKey() + " from line " + (i + 1),
+            String.join("", tokens.subList(tokenCounts.get(i), tokens.size())),
+            rest);
+      }
+    }
+  }
+
+  private static List<String> lines(String text) {
+    List<String> lines = new ArrayList<>();
+    int start = 0;
+    for (int end = text.indexOf('\n'); end >= 0; end = text.indexOf('\n', start)) {
+      lines.add(text.substring(start, end + 1));
+      start = end + 1;
+    }
+    return lines;
+  }
+}
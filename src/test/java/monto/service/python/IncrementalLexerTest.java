@@ -0,0 +1,93 @@
+package monto.service.python;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import monto.service.types.Source;
+import org.junit.Test;
+
+/** Compares documents lexed in parts or incrementally with full lexes of the same documents. */
+public class IncrementalLexerTest {
+
+  @Test
+  public void lexesTheVisiblePartFromASafeLine() throws Exception {
+    for (Map.Entry<String, String> file : Corpus.files().entrySet()) {
+      String contents = file.getValue();
+      LexedDocument full = new IncrementalLexer().lex(new Source(file.getKey()), contents);
+      for (int offset = 0; offset <= contents.length(); offset = nextLine(contents, offset)) {
+        int start = SafeLines.before(contents, offset);
+        LexedDocument part = new IncrementalLexer().lexUntil(contents, start, offset);
+        String message = file.getKey() + " from " + start + " up to " + offset;
+        int first = 0;
+        while (first < full.size() && full.getStart(first) < start) {
+          first++;
+        }
+        for (int i = 0; i < part.size(); i++) {
+          assertEquals(message, full.getType(first + i), part.getType(i));
+          assertEquals(message, full.getStart(first + i), part.getStart(i));
+          assertEquals(message, full.getStop(first + i), part.getStop(i));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void startsTheVisiblePartCloseToIt() throws Exception {
+    String contents = Corpus.read("/warmup/inventory.py");
+    int offset = contents.length() - 1;
+    assertTrue(offset - SafeLines.before(contents, offset) < contents.length() / 2);
+  }
+
+  @Test
+  public void relexesEditsLikeAFullLex() throws Exception {
+    for (Map.Entry<String, String> file : Corpus.files().entrySet()) {
+      String contents = file.getValue();
+      List<String> versions = new ArrayList<>();
+      for (int i = 0; i < contents.length(); i++) {
+        char c = contents.charAt(i);
+        if (c == '(' || c == '[' || c == '{') {
+          // Edits inside of brackets, including a line break that must not end the statement.
+          versions.add(insert(contents, i + 1, "\n  x, "));
+          versions.add(contents.substring(0, i) + contents.substring(i + 1));
+        } else if (contents.startsWith("\"\"\"", i) || contents.startsWith("'''", i)) {
+          // Edits inside of triple-quoted strings, and ends them early.
+          versions.add(insert(contents, i + 3, "\n  if x:\n"));
+          versions.add(insert(contents, i + 3, contents.substring(i, i + 3)));
+        } else if (c == '\n' && i + 1 < contents.length()) {
+          // Changes the indentation of the next line.
+          versions.add(insert(contents, i + 1, "    "));
+          if (contents.charAt(i + 1) == ' ') {
+            versions.add(contents.substring(0, i + 1) + contents.substring(i + 2));
+          }
+        }
+      }
+
+      for (String version : versions) {
+        IncrementalLexer lexer = new IncrementalLexer();
+        Source source = new Source(file.getKey());
+        lexer.lex(source, contents);
+        LexedDocument relexed = lexer.lex(source, version);
+        LexedDocument full = fullLex(version);
+        assertTrue(file.getKey() + ":\n" + version, full.sameTokens(relexed));
+        // And back again, from the checkpoints of the edited version.
+        assertTrue(file.getKey(), lexer.lex(source, contents).sameTokens(fullLex(contents)));
+      }
+    }
+  }
+
+  private static String insert(String text, int offset, String inserted) {
+    return text.substring(0, offset) + inserted + text.substring(offset);
+  }
+
+  private static LexedDocument fullLex(String contents) {
+    return new IncrementalLexer().lex(new Source("full.py"), contents);
+  }
+
+  private static int nextLine(String text, int offset) {
+    int end = text.indexOf('\n', offset);
+    return end < 0 ? text.length() + 1 : end + 1;
+  }
+}
@@ -0,0 +1,65 @@
+package monto.service.python;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import monto.service.ast.AST;
+import monto.service.ast.NonTerminal;
+import monto.service.types.Source;
+import org.junit.Test;
+
+/**
+ * Edits the start of a document and compares the ASTs of the incremental parser with the ones of a
+ * parse of the whole document.
+ */
+public class IncrementalParserTest {
+
+  private static final Source SOURCE = new Source("edited.py");
+
+  @Test
+  public void movesTheStatementsBehindAnEditWithoutCopyingThem() throws Exception {
+    check(new IncrementalParser());
+  }
+
+  @Test
+  public void movesCachedStatementsWithoutCopyingThem() throws Exception {
+    IncrementalParser parser = new IncrementalParser();
+    parser.enableStatementCache(16 * 1024 * 1024);
+    check(parser);
+  }
+
+  private static void check(IncrementalParser parser) throws Exception {
+    String contents = Corpus.read("/warmup/inventory.py");
+    ParsedDocument previous = parser.parseDocument(SOURCE, contents);
+    for (String edit : new String[] {"x = 1\n", "y = 22\n", "", "import os\n"}) {
+      contents = edit + contents;
+      ParsedDocument document = parser.parseDocument(SOURCE, contents);
+      int last = document.getChildCount() - 1;
+      assertSame(previous.getChild(previous.getChildCount() - 2), document.getChild(last - 1));
+
+      String full = describe(new IncrementalParser().parseDocument(SOURCE, contents).getRoot());
+      assertEquals(full, describe(document.getRoot()));
+      assertEquals(full, describe(BinaryAst.decode(BinaryAst.encode(document))));
+      previous = document;
+    }
+  }
+
+  private static String describe(AST node) {
+    StringBuilder text = new StringBuilder();
+    describe(node, text);
+    return text.toString();
+  }
+
+  private static void describe(AST node, StringBuilder text) {
+    if (!(node instanceof NonTerminal)) {
+      text.append(node.getStartOffset()).append('+').append(node.getLength());
+      return;
+    }
+    text.append('(').append(((NonTerminal) node).getName());
+    for (AST child : ((NonTerminal) node).getChildren()) {
+      text.append(' ');
+      describe(child, text);
+    }
+    text.append(')');
+  }
+}
@@ -0,0 +1,132 @@
+package monto.service.python;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import monto.service.ZMQConfiguration;
+import monto.service.types.LongKey;
+import monto.service.types.Source;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.zeromq.ZContext;
+
+/** Checks the deltas of the delta tokenizer and when it sends all tokens instead. */
+public class PythonDeltaTokenizerTest {
+
+  private ZContext context;
+  private PythonDeltaTokenizer tokenizer;
+  private IncrementalLexer lexer;
+  private Source source;
+
+  @Before
+  public void createTokenizer() {
+    context = new ZContext(1);
+    tokenizer =
+        new PythonDeltaTokenizer(new ZMQConfiguration(context, "tcp://*", "tcp://*:5002", 5052));
+    lexer = new IncrementalLexer();
+    source = new Source("a.py");
+  }
+
+  @After
+  public void destroyContext() {
+    context.destroy();
+  }
+
+  private JsonObject send(long id, String contents) {
+    return tokenizer.delta(new LongKey(id), source, lexer.lex(source, contents));
+  }
+
+  @Test
+  public void sendsDeltasFromTheLastVersionSent() {
+    assertFalse(send(1, "x = 1\n").has("base"));
+    assertTrue(send(2, "x = 12\n").has("base"));
+  }
+
+  @Test
+  public void sendsAllTokensWhenTheSameVersionArrivesAgain() {
+    JsonObject all = send(1, "x = 1\n");
+    send(2, "x = 12\n");
+    JsonObject again = send(2, "x = 12\n");
+    assertFalse(again.has("base"));
+    assertEquals(all.getAsJsonArray("tokens").size(), again.getAsJsonArray("tokens").size());
+    assertTrue(send(3, "x = 123\n").has("base"));
+  }
+
+  @Test
+  public void sendsAllTokensRegularly() {
+    send(0, "x = 0\n");
+    for (int i = 1; i < PythonDeltaTokenizer.FULL_EVERY; i++) {
+      assertTrue(send(i, "x = " + i + "\n").has("base"));
+    }
+    assertFalse(send(PythonDeltaTokenizer.FULL_EVERY, "x = 0\n").has("base"));
+  }
+
+  @Test
+  public void appliesDeltasToTheTokensOfTheLastVersion() throws Exception {
+    long id = 0;
+    List<JsonElement> tokens = new ArrayList<>();
+    for (Map.Entry<String, String> file : Corpus.files().entrySet()) {
+      String contents = file.getValue();
+      int middle = contents.lastIndexOf('\n', contents.length() / 2) + 1;
+      int next = contents.indexOf('\n', middle) + 1;
+      if (next == 0) {
+        // The document does not have a whole line in its second half.
+        continue;
+      }
+      String[] versions = {
+        contents,
+        // Inserts lines, some of them inside of brackets.
+        contents.substring(0, middle) + "x = (1,\n     2)\n" + contents.substring(middle),
+        // Deletes a line.
+        contents.substring(0, middle) + contents.substring(next),
+        // Edits a line in place.
+        contents.substring(0, middle) + "y = 0" + contents.substring(middle),
+        // Opens a string that swallows the lines behind it.
+        contents.substring(0, middle) + "'''" + contents.substring(middle),
+        // Joins two lines.
+        contents.substring(0, next - 1) + " " + contents.substring(next),
+        contents
+      };
+
+      for (String version : versions) {
+        tokens = apply(tokens, send(++id, version));
+        LexedDocument full = new IncrementalLexer().lex(source, version);
+        assertEquals(file.getKey(), list(TokenDelta.encode(full)), tokens);
+      }
+    }
+  }
+
+  /** Applies {@code delta} to {@code tokens} the way a client does. */
+  private static List<JsonElement> apply(List<JsonElement> tokens, JsonObject delta) {
+    if (!delta.has("base")) {
+      return list(delta);
+    }
+    int start = delta.get("start").getAsInt();
+    int removed = delta.get("removed").getAsInt();
+    int shift = delta.get("shift").getAsInt();
+    List<JsonElement> applied = new ArrayList<>(tokens.subList(0, start));
+    applied.addAll(list(delta));
+    for (JsonElement token : tokens.subList(start + removed, tokens.size())) {
+      JsonObject moved = new JsonObject();
+      for (Map.Entry<String, JsonElement> property : token.getAsJsonObject().entrySet()) {
+        moved.add(property.getKey(), property.getValue());
+      }
+      moved.addProperty("offset", moved.get("offset").getAsInt() + shift);
+      applied.add(moved);
+    }
+    return applied;
+  }
+
+  private static List<JsonElement> list(JsonObject delta) {
+    List<JsonElement> tokens = new ArrayList<>();
+    delta.getAsJsonArray("tokens").forEach(tokens::add);
+    return tokens;
+  }
+}
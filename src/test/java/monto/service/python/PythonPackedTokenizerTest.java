@@ -0,0 +1,98 @@
+package monto.service.python;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+import java.util.Base64;
+import java.util.Map;
+import monto.service.ZMQConfiguration;
+import monto.service.types.LongKey;
+import monto.service.types.Source;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.zeromq.ZContext;
+
+/** Decodes the products of the packed tokenizer and checks when they carry the font table. */
+public class PythonPackedTokenizerTest {
+
+  private ZContext context;
+  private PythonPackedTokenizer tokenizer;
+  private IncrementalLexer lexer;
+  private Source source;
+
+  @Before
+  public void createTokenizer() {
+    context = new ZContext(1);
+    tokenizer =
+        new PythonPackedTokenizer(new ZMQConfiguration(context, "tcp://*", "tcp://*:5002", 5052));
+    lexer = new IncrementalLexer();
+    source = new Source("a.py");
+  }
+
+  @After
+  public void destroyContext() {
+    context.destroy();
+  }
+
+  private JsonObject send(long id, String contents) {
+    return tokenizer.packed(new LongKey(id), source, lexer.lex(source, contents));
+  }
+
+  @Test
+  public void decodesToTheTokensOfTheDocument() throws Exception {
+    long id = 0;
+    for (Map.Entry<String, String> file : Corpus.files().entrySet()) {
+      LexedDocument document = lexer.lex(source, file.getValue());
+      byte[] packed =
+          Base64.getDecoder().decode(send(++id, file.getValue()).get("tokens").getAsString());
+
+      int[] position = {0};
+      int offset = 0;
+      for (int i = 0; i < document.size(); i++) {
+        int delta = readVarint(packed, position);
+        offset += (delta >>> 1) ^ -(delta & 1);
+        assertEquals(file.getKey(), document.getStart(i), offset);
+        assertEquals(
+            file.getKey(),
+            document.getStop(i) - document.getStart(i) + 1,
+            readVarint(packed, position));
+        assertEquals(
+            file.getKey(),
+            PythonTokenizer.categoryOf(document.getType(i)).ordinal(),
+            readVarint(packed, position));
+      }
+      assertEquals(file.getKey(), packed.length, position[0]);
+    }
+  }
+
+  @Test
+  public void sendsTheFontsWithTheFirstProductAndRegularly() {
+    assertTrue(send(0, "x = 0\n").has("fonts"));
+    for (int i = 1; i < PythonPackedTokenizer.FONTS_EVERY; i++) {
+      assertFalse(send(i, "x = " + i + "\n").has("fonts"));
+    }
+    assertTrue(send(PythonPackedTokenizer.FONTS_EVERY, "x = 0\n").has("fonts"));
+  }
+
+  @Test
+  public void sendsTheFontsWhenTheSameVersionArrivesAgain() {
+    send(1, "x = 1\n");
+    assertFalse(send(2, "x = 12\n").has("fonts"));
+    assertTrue(send(2, "x = 12\n").has("fonts"));
+  }
+
+  private static int readVarint(byte[] bytes, int[] position) {
+    int value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = bytes[position[0]++];
+      value |= (b & 0x7f) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+}
@@ -0,0 +1,123 @@
+package monto.service.python;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.google.gson.JsonElement;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import monto.service.ZMQConfiguration;
+import monto.service.types.LongKey;
+import monto.service.types.Source;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.zeromq.ZContext;
+
+/** Sends versions of a source through the requests path of the parser service. */
+public class PythonParserTest {
+
+  private ZContext context;
+  private BlockingQueue<LongKey> sent;
+  private BlockingQueue<Thread> senders;
+  private PythonParser parser;
+  private String large;
+
+  @Before
+  public void createParser() throws Exception {
+    context = new ZContext(1);
+    sent = new LinkedBlockingQueue<>();
+    senders = new LinkedBlockingQueue<>();
+    parser = parser(false);
+
+    StringBuilder contents = new StringBuilder();
+    while (contents.length() < 128 * 1024) {
+      contents.append(Corpus.read("/warmup/inventory.py"));
+    }
+    large = contents.toString();
+  }
+
+  private PythonParser parser(boolean binary) {
+    return new PythonParser(
+        new ZMQConfiguration(context, "tcp://*", "tcp://*:5002", 5052), false, binary, false) {
+      @Override
+      void sendAst(LongKey id, Source source, JsonElement ast) {
+        sent.add(id);
+        senders.add(Thread.currentThread());
+      }
+    };
+  }
+
+  @After
+  public void destroyContext() {
+    context.destroy();
+  }
+
+  @Test
+  public void givesUpVersionsANewerOneArrivedFor() throws Exception {
+    parser.enableCancellation(0);
+    Source source = new Source("large.py");
+    long cancellations = IncrementalParser.getCancellations();
+
+    parser.parse(new LongKey(1), source, large);
+    parser.parse(new LongKey(2), source, large + "x = 1\n");
+    parser.flush();
+
+    assertEquals(new LongKey(2), sent.poll());
+    assertNull(sent.poll());
+    assertEquals(cancellations + 1, IncrementalParser.getCancellations());
+  }
+
+  @Test
+  public void givesUpStreamedVersionsANewerOneArrivedFor() throws Exception {
+    parser = parser(true);
+    parser.enableStreaming(1024);
+    parser.enableCancellation(0);
+    Source source = new Source("large.py");
+    long cancellations = IncrementalParser.getCancellations();
+
+    parser.parse(new LongKey(1), source, large);
+    parser.parse(new LongKey(2), source, large + "x = 1\n");
+    parser.flush();
+
+    assertEquals(new LongKey(2), sent.poll());
+    assertNull(sent.poll());
+    assertEquals(cancellations + 1, IncrementalParser.getCancellations());
+  }
+
+  @Test
+  public void parsesVersionsOfOtherSources() throws Exception {
+    parser.enableCancellation(0);
+
+    parser.parse(new LongKey(1), new Source("a.py"), large);
+    parser.parse(new LongKey(2), new Source("b.py"), large);
+    parser.flush();
+
+    assertEquals(new LongKey(1), sent.poll());
+    assertEquals(new LongKey(2), sent.poll());
+  }
+
+  @Test
+  public void sendsFromTheThreadThatReceivesTheRequests() throws Exception {
+    parser.enableCancellation(60_000);
+
+    parser.parse(new LongKey(1), new Source("a.py"), large);
+    parser.parse(new LongKey(2), new Source("b.py"), "x = 1\n");
+
+    assertEquals(new LongKey(1), sent.poll());
+    assertEquals(new LongKey(2), sent.poll());
+    assertEquals(Thread.currentThread(), senders.poll());
+    assertEquals(Thread.currentThread(), senders.poll());
+  }
+
+  @Test
+  public void parsesEveryVersionWithoutCancellation() throws Exception {
+    Source source = new Source("large.py");
+
+    parser.parse(new LongKey(1), source, large);
+    parser.parse(new LongKey(2), source, large + "x = 1\n");
+
+    assertEquals(new LongKey(1), sent.poll());
+    assertEquals(new LongKey(2), sent.poll());
+  }
+}
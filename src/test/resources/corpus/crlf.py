@@ -0,0 +1,5 @@
+def crlf():
+    return 1
+
+if crlf():
+    pass
@@ -0,0 +1,28 @@
+# Every level of operators, alone and mixed, as the old expression rules nested them.
+a = b
+a = not b
+a = not not b
+a = b or c or d
+a = b and c and d
+a = b or c and d or e
+a = not b and c or not d
+a = b < c <= d == e != f > g >= h
+a = b in c and d not in e and f is g and h is not i
+a = not b < c
+a = b | c | d ^ e ^ f & g & h
+a = b << c >> d + e - f * g / h // i % j @ k
+a = -b + +c - ~d
+a = - - b
+a = b ** c ** d
+a = -b ** -c
+a = b.c(d)[e] ** f.g
+a = (b + c) * (d or e)
+a = [b * c for b in d if not b or c]
+a = {b: c | d for b, c in e}
+a = lambda b, c=d + e: b if c < d else -b
+a, *b = c, *d
+f(*b, **c)
+a += b ** 2 - c % 3
+del a[b + 1], c.d
+assert a >= b, "a" + "b"
+return_value = yield_value = a if b else c
@@ -0,0 +1,43 @@
+  # a comment indented before the first statement
+import os
+
+
+class Outer:
+    """A class whose methods nest several levels deep."""
+
+    def method(self, values):
+        for value in values:
+            if value:
+                while value > 0:
+                    value -= 1
+        # a comment at a shallower indentation than the statement above
+                # and one deeper than the next statement
+        return values
+
+	# a tab after the spaces above
+
+    def tabs(self):
+	    return 1
+
+    def continued(self, a,
+                  b):
+        total = a + \
+            b
+        items = [
+    1,
+            2,
+  3]
+        mapping = {'a': (1,
+2), 'b': [x
+ for x in range(3)]}
+        return total, items, mapping
+    
+def after_blank_line_with_spaces():
+    pass
+if True: pass
+while False:
+  if False:
+        pass
+  else:
+   pass
+x = 1; y = 2;
@@ -0,0 +1,3 @@
+def no_trailing_newline():
+    if True:
+        return 1
\ No newline at end of file
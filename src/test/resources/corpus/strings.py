@@ -0,0 +1,24 @@
+SQL = """
+def not_a_function():
+    class NotAClass:
+        pass
+"""
+PATTERN = r'\d+\.\d*'
+RAW = R"\n stays"
+BYTES = b'\x00\xff' + B"bytes"
+RAW_BYTES = rb'\w' + Br"\s" + bR'\b'
+SINGLE = '''one
+  two
+three'''
+ESCAPED = "quote \" inside" + 'and \' here' + "line \
+continued"
+EMPTY = '' + "" + '''''' + """"""
+UNICODE = u'unicode' + 'ünïcödé' + "名前"
+名前 = 1
+_private, __dunder__ = 2, 3
+numbers = [0, 00, 7, 0o17, 0O17, 0x1f, 0XAB, 0b101, 0B11, 1.5, .5, 5., 1e10, 1.5E-3, 3j, 2.5J]
+ops = 1 ** 2 // 3 << 4 >> 5 & 6 | 7 ^ ~8 != 9 <= 10 >= 11 == 12 < 13 > 14 -> 15
+x = y = z = 0
+x += 1; x -= 1; x *= 1; x /= 1; x //= 1; x %= 1; x **= 1
+x >>= 1; x <<= 1; x &= 1; x |= 1; x ^= 1; x @= m @ n
+lambda *args, **kwargs: ...
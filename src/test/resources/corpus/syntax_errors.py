@@ -0,0 +1,24 @@
+def broken(:
+    return 1
+
+class Missing
+    def method(self):
+        return self.value +
+
+x = [1, 2, 3
+y = (4, 5)
+
+def fine():
+    return 2
+
+if x = 1:
+    pass
+else
+    pass
+
+for in range(3):
+    print(i)
+
+def also_fine(a, b=1, *args, **kwargs):
+    return a
+)
@@ -11,10 +11,13 @@ fi
 
 java -jar "$gradle_shadow_jar" \
      -tokenizer \
+     -packedtokenizer \
+     -deltatokenizer \
      -parser \
      -outliner \
      -identifierfinder \
      -codecompletioner \
+     -dfasnapshot "$DIR/build/dfa.snapshot" \
      -address tcp://* \
      -registration tcp://*:5002 \
      -resources 5052